@@ -40,12 +40,30 @@ configurations {
 	"integrationTestRuntimeOnly" { extendsFrom(configurations.testRuntimeOnly.get()) }
 }
 
+// JMH 벤치마크 SourceSet (src/jmh, ./gradlew jmh 로 실행)
+if (!sourceSets.names.contains("jmh")) {
+	sourceSets {
+		create("jmh") {
+			compileClasspath += sourceSets.main.get().output
+			runtimeClasspath += sourceSets.main.get().output
+		}
+	}
+}
+
+configurations {
+	"jmhImplementation" { extendsFrom(configurations.implementation.get()) }
+	"jmhCompileOnly" { extendsFrom(configurations.compileOnly.get()) }
+	"jmhRuntimeOnly" { extendsFrom(configurations.runtimeOnly.get()) }
+}
+
 dependencies {
 	// Spring AI BOM을 통한 버전 관리 (Spring Boot 4.x 호환 버전)
 	implementation(platform("org.springframework.ai:spring-ai-bom:2.0.0-M2"))
 
 	// Spring AI OpenAI 스타터
 	implementation("org.springframework.ai:spring-ai-starter-model-openai")
+	// OpenAI 호출용 커넥션 풀·HTTP/2 전송 계층 (RestClient·WebClient 공용)
+	implementation("io.projectreactor.netty:reactor-netty-http")
 
 	implementation("org.springframework.boot:spring-boot-starter-actuator")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
@@ -54,10 +72,12 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-webmvc")
 	implementation("org.flywaydb:flyway-mysql")
 	implementation("io.github.cdimascio:dotenv-java:3.0.0")
+	implementation("com.github.ben-manes.caffeine:caffeine")
 	compileOnly("org.projectlombok:lombok")
 	developmentOnly("org.springframework.boot:spring-boot-devtools")
 	developmentOnly("org.springframework.boot:spring-boot-docker-compose")
 	runtimeOnly("com.mysql:mysql-connector-j")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 	annotationProcessor("org.projectlombok:lombok")
 	annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
@@ -72,6 +92,8 @@ dependencies {
 	testImplementation("org.testcontainers:testcontainers-junit-jupiter")
 	testImplementation("org.testcontainers:testcontainers-mysql")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+	"jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+	"jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks.register<Test>("integrationTest") {
@@ -89,6 +111,16 @@ tasks.register<Test>("integrationTest") {
 
 tasks.check { dependsOn(tasks.named("integrationTest")) }
 
+// 예: ./gradlew jmh -PjmhArgs="BlockingChatCallThreadBenchmark -prof gc"
+tasks.register<JavaExec>("jmh") {
+	description = "Runs JMH benchmarks."
+	group = "verification"
+
+	classpath = sourceSets["jmh"].runtimeClasspath
+	mainClass = "org.openjdk.jmh.Main"
+	args((findProperty("jmhArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList())
+}
+
 tasks.named<Test>("test") {
 	useJUnitPlatform()
 	failOnNoDiscoveredTests = false
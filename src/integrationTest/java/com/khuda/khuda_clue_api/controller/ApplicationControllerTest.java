@@ -3,6 +3,9 @@ package com.khuda.khuda_clue_api.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.khuda.khuda_clue_api.domain.ApplicationStatus;
+import com.khuda.khuda_clue_api.domain.ClaimStage;
+import com.khuda.khuda_clue_api.domain.JobStatus;
+import com.khuda.khuda_clue_api.domain.PipelineStage;
 import com.khuda.khuda_clue_api.domain.QuestionType;
 import com.khuda.khuda_clue_api.dto.request.AnswerItem;
 import com.khuda.khuda_clue_api.dto.request.FollowupAnswersRequest;
@@ -14,13 +17,26 @@ import com.khuda.khuda_clue_api.dto.response.SubmitResponse;
 import com.khuda.khuda_clue_api.entity.Experience;
 import com.khuda.khuda_clue_api.entity.FollowupAnswer;
 import com.khuda.khuda_clue_api.entity.FollowupQuestion;
+import com.khuda.khuda_clue_api.entity.PipelineJob;
+import com.khuda.khuda_clue_api.entity.StageClaim;
+import com.khuda.khuda_clue_api.entity.StageClaimResult;
+import com.khuda.khuda_clue_api.llm.LlmUnavailableException;
 import com.khuda.khuda_clue_api.repository.ApplicationRepository;
 import com.khuda.khuda_clue_api.repository.ExperienceRepository;
 import com.khuda.khuda_clue_api.repository.FollowupAnswerRepository;
 import com.khuda.khuda_clue_api.repository.FollowupQuestionRepository;
+import com.khuda.khuda_clue_api.repository.PipelineJobRepository;
+import com.khuda.khuda_clue_api.repository.StageClaimRepository;
+import com.khuda.khuda_clue_api.repository.StageClaimResultRepository;
+import com.khuda.khuda_clue_api.service.BulkPipelineRunner;
 import com.khuda.khuda_clue_api.service.ExperienceExtractionService;
 import com.khuda.khuda_clue_api.service.FollowupQuestionGenerationService;
 import com.khuda.khuda_clue_api.service.InterviewRecommendationService;
+import com.khuda.khuda_clue_api.service.PipelineJobService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,16 +49,27 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.mysql.MySQLContainer;
 import org.testcontainers.utility.DockerImageName;
 
+import javax.sql.DataSource;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import com.khuda.khuda_clue_api.dto.response.ApplicationListResponse;
 import com.khuda.khuda_clue_api.dto.response.RecommendInterviewQuestionsResponse;
@@ -91,6 +118,8 @@ class ApplicationControllerTest {
         // Spring AI auto-configuration이 API 키를 검증하므로 테스트용 플레이스홀더 설정
         // (ExperienceExtractionService, FollowupQuestionGenerationService는 @MockitoBean으로 모킹)
         registry.add("spring.ai.openai.api-key", () -> "test-placeholder-not-used");
+        // 기동 워밍업의 OpenAI 연결 예열은 외부 네트워크를 타므로 테스트에서는 생략
+        registry.add("clue.warmup.transport", () -> "false");
     }
 
     @Autowired
@@ -108,6 +137,30 @@ class ApplicationControllerTest {
     @Autowired
     private FollowupAnswerRepository followupAnswerRepository;
 
+    @Autowired
+    private PipelineJobRepository pipelineJobRepository;
+
+    @Autowired
+    private PipelineJobService pipelineJobService;
+
+    @Autowired
+    private BulkPipelineRunner bulkPipelineRunner;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private StageClaimRepository stageClaimRepository;
+
+    @Autowired
+    private StageClaimResultRepository stageClaimResultRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @MockitoBean
     private ExperienceExtractionService experienceExtractionService;
 
@@ -189,6 +242,215 @@ class ApplicationControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("같은 Idempotency-Key로 다시 제출하면 지원서를 새로 만들지 않고 처음 응답을 돌려준다")
+    void submitApplication_withSameIdempotencyKey_shouldReplayFirstResponse() throws Exception {
+        // Given
+        SubmitRequest request = loadExampleRequest();
+        String idempotencyKey = UUID.randomUUID().toString();
+        long before = applicationRepository.count();
+
+        // When
+        MvcResult first = mockMvc.perform(post("/api/v1/applications")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn();
+        MvcResult retried = mockMvc.perform(post("/api/v1/applications")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andReturn();
+
+        // Then - 같은 지원서 ID, 지원서는 1건만 생성
+        SubmitResponse firstResponse = objectMapper.readValue(
+                first.getResponse().getContentAsString(), SubmitResponse.class);
+        SubmitResponse retriedResponse = objectMapper.readValue(
+                retried.getResponse().getContentAsString(), SubmitResponse.class);
+        assertThat(retriedResponse.applicationId()).isEqualTo(firstResponse.applicationId());
+        assertThat(applicationRepository.count()).isEqualTo(before + 1);
+
+        // 같은 키를 다른 본문에 재사용하면 422
+        mockMvc.perform(post("/api/v1/applications")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SubmitRequest("other", "다른 자기소개서"))))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key를 다른 엔드포인트에 쓰면 키가 경로별로 구분되어 독립적으로 실행된다")
+    void idempotencyKey_reusedOnDifferentEndpoint_shouldExecuteIndependently() throws Exception {
+        // Given - 지원서 제출에 사용한 키
+        String idempotencyKey = UUID.randomUUID().toString();
+        MvcResult submitResult = mockMvc.perform(post("/api/v1/applications")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loadExampleRequest())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long applicationId = objectMapper.readValue(
+                submitResult.getResponse().getContentAsString(), SubmitResponse.class).applicationId();
+        Mockito.when(experienceExtractionService.extractExperiences(Mockito.eq(applicationId), Mockito.anyString()))
+                .thenReturn(List.of(Experience.createCandidate(applicationId, "브랜드 론칭 및 매출 신장", 946, 1290, 0.85)));
+
+        // When - 같은 키로 경험 선택 (scope가 다르므로 제출 응답을 재생하지 않고 실행)
+        mockMvc.perform(post("/api/v1/applications/{applicationId}/select-experience", applicationId)
+                        .header("Idempotency-Key", idempotencyKey))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+
+        // Then - 경험 선택은 실행되었고, 같은 경로의 재요청은 경험 선택 응답을 재생
+        assertThat(applicationRepository.findById(applicationId).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.EXPERIENCE_SELECTED);
+        mockMvc.perform(post("/api/v1/applications/{applicationId}/select-experience", applicationId)
+                        .header("Idempotency-Key", idempotencyKey))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"));
+        Mockito.verify(experienceExtractionService, Mockito.times(1))
+                .extractExperiences(Mockito.eq(applicationId), Mockito.anyString());
+    }
+
+    @Test
+    @DisplayName("4xx로 끝난 요청은 같은 키로 재요청하면 상태가 바뀌었어도 다시 실행하지 않고 같은 오류를 돌려준다")
+    void idempotencyKey_withClientError_shouldReplayErrorWithoutExecuting() throws Exception {
+        // Given - SUBMITTED 상태에서 질문 생성 요청 (409)
+        long applicationId = submitApplications(1).get(0);
+        String idempotencyKey = UUID.randomUUID().toString();
+        mockMvc.perform(post("/api/v1/applications/{applicationId}/generate-followup-questions", applicationId)
+                        .header("Idempotency-Key", idempotencyKey))
+                .andExpect(status().isConflict());
+
+        // 이후 경험 선택으로 질문 생성이 가능한 상태가 됨
+        long experienceId = selectExperience(applicationId);
+        givenFollowupQuestions(experienceId);
+
+        // When & Then - 같은 키는 보관된 409를 그대로 반환
+        mockMvc.perform(post("/api/v1/applications/{applicationId}/generate-followup-questions", applicationId)
+                        .header("Idempotency-Key", idempotencyKey))
+                .andExpect(status().isConflict());
+        Mockito.verify(followupQuestionGenerationService, Mockito.never()).generateFollowupQuestions(
+                Mockito.eq(experienceId), Mockito.anyString(), Mockito.anyString());
+        assertThat(applicationRepository.findById(applicationId).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.EXPERIENCE_SELECTED);
+
+        // 새 키는 다시 실행
+        mockMvc.perform(post("/api/v1/applications/{applicationId}/generate-followup-questions", applicationId)
+                        .header("Idempotency-Key", UUID.randomUUID().toString()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("503으로 끝난 요청은 키 선점을 풀어 같은 키로 재요청하면 다시 실행한다")
+    void idempotencyKey_withServiceUnavailable_shouldReleaseKey() throws Exception {
+        // Given - 첫 호출은 LLM 한도로 503, 두 번째 호출은 성공
+        long applicationId = submitApplications(1).get(0);
+        long experienceId = selectExperience(applicationId);
+        Mockito.when(followupQuestionGenerationService.generateFollowupQuestions(
+                        Mockito.eq(experienceId), Mockito.anyString(), Mockito.anyString()))
+                .thenThrow(new LlmUnavailableException("LLM concurrency limit reached", Duration.ofSeconds(1)))
+                .thenReturn(followupQuestions(experienceId));
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        // When
+        mockMvc.perform(post("/api/v1/applications/{applicationId}/generate-followup-questions", applicationId)
+                        .header("Idempotency-Key", idempotencyKey))
+                .andExpect(status().isServiceUnavailable());
+        mockMvc.perform(post("/api/v1/applications/{applicationId}/generate-followup-questions", applicationId)
+                        .header("Idempotency-Key", idempotencyKey))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+
+        // Then - 두 번 모두 실행, 두 번째 응답은 보관되어 이후 재요청에 재생
+        Mockito.verify(followupQuestionGenerationService, Mockito.times(2)).generateFollowupQuestions(
+                Mockito.eq(experienceId), Mockito.anyString(), Mockito.anyString());
+        assertThat(applicationRepository.findById(applicationId).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.QUESTIONS_SENT);
+        mockMvc.perform(post("/api/v1/applications/{applicationId}/generate-followup-questions", applicationId)
+                        .header("Idempotency-Key", idempotencyKey))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"));
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key의 지원서 제출이 동시에 들어오면 한 번만 실행되고 모두 같은 응답을 받는다")
+    void submitApplication_withConcurrentSameIdempotencyKey_shouldExecuteOnce() throws Exception {
+        // Given
+        int concurrency = 4;
+        String idempotencyKey = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(loadExampleRequest());
+        long before = applicationRepository.count();
+
+        // When - 같은 키·본문으로 동시에 제출
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch start = new CountDownLatch(1);
+        List<MvcResult> results = new ArrayList<>();
+        try {
+            List<Future<MvcResult>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(post("/api/v1/applications")
+                                    .header("Idempotency-Key", idempotencyKey)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(body))
+                            .andReturn();
+                }));
+            }
+            start.countDown();
+            for (Future<MvcResult> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then - 지원서는 1건만 생성, 모든 응답이 201 + 같은 지원서 ID, 실행하지 않은 요청은 재생 표시
+        assertThat(applicationRepository.count()).isEqualTo(before + 1);
+        assertThat(results).allSatisfy(result -> assertThat(result.getResponse().getStatus()).isEqualTo(201));
+        List<Long> applicationIds = new ArrayList<>();
+        for (MvcResult result : results) {
+            applicationIds.add(objectMapper.readValue(
+                    result.getResponse().getContentAsString(), SubmitResponse.class).applicationId());
+        }
+        assertThat(applicationIds).containsOnly(applicationIds.get(0));
+        assertThat(results)
+                .filteredOn(result -> "true".equals(result.getResponse().getHeader("Idempotent-Replayed")))
+                .hasSize(concurrency - 1);
+    }
+
+    /**
+     * 경험 추출을 모킹하고 경험 선택을 실행해 선택된 경험 ID를 반환
+     */
+    private long selectExperience(long applicationId) throws Exception {
+        Mockito.when(experienceExtractionService.extractExperiences(Mockito.eq(applicationId), Mockito.anyString()))
+                .thenReturn(List.of(Experience.createCandidate(applicationId, "브랜드 론칭 및 매출 신장", 946, 1290, 0.85)));
+        MvcResult selectResult = mockMvc.perform(post("/api/v1/applications/{applicationId}/select-experience", applicationId))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(selectResult.getResponse().getContentAsString(), SelectExperienceResponse.class)
+                .selectedExperience().experienceId();
+    }
+
+    private void givenFollowupQuestions(long experienceId) {
+        Mockito.when(followupQuestionGenerationService.generateFollowupQuestions(
+                        Mockito.eq(experienceId), Mockito.anyString(), Mockito.anyString()))
+                .thenReturn(followupQuestions(experienceId));
+    }
+
+    private static List<FollowupQuestion> followupQuestions(long experienceId) {
+        return List.of(
+                new FollowupQuestion(experienceId, QuestionType.S, "당시 팀 규모와 본인 역할을 구체적으로 적어주세요."),
+                new FollowupQuestion(experienceId, QuestionType.T, "해결하려던 문제와 성공 기준을 1개로 적어주세요."),
+                new FollowupQuestion(experienceId, QuestionType.A, "본인이 수행한 행동을 3단계로 적어주세요."),
+                new FollowupQuestion(experienceId, QuestionType.R, "결과(전후 변화)와 근거 위치를 적어주세요.")
+        );
+    }
+
     // =========================================================
     // PR2: 경험 선택 테스트
     // =========================================================
@@ -326,6 +588,178 @@ class ApplicationControllerTest {
                 .andExpect(status().isInternalServerError());
     }
 
+    @Test
+    @DisplayName("비동기 경험 선택 요청은 202와 작업 URI를 반환하고, 폴링으로 완료 결과를 조회할 수 있다")
+    void selectExperienceAsync_shouldReturn202AndCompleteJob() throws Exception {
+        // Given - 지원서 제출
+        MvcResult submitResult = mockMvc.perform(post("/api/v1/applications")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loadExampleRequest())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Long applicationId = objectMapper.readValue(
+                submitResult.getResponse().getContentAsString(), SubmitResponse.class).applicationId();
+
+        Mockito.when(experienceExtractionService.extractExperiences(Mockito.eq(applicationId), Mockito.anyString()))
+                .thenReturn(List.of(Experience.createCandidate(applicationId, "브랜드 론칭 및 매출 신장", 946, 1290, 0.85)));
+
+        // When - 비동기 모드로 경험 선택 요청
+        MvcResult acceptedResult = mockMvc.perform(post("/api/v1/applications/{applicationId}/select-experience", applicationId)
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.jobId").exists())
+                .andExpect(jsonPath("$.applicationId").value(applicationId))
+                .andExpect(jsonPath("$.stage").value("SELECT_EXPERIENCE"))
+                .andReturn();
+        long jobId = objectMapper.readTree(acceptedResult.getResponse().getContentAsString()).get("jobId").asLong();
+
+        // Then - 작업 상태를 폴링하여 SUCCEEDED 확인
+        String jobStatus = null;
+        String jobBody = null;
+        for (int attempt = 0; attempt < 50 && !"SUCCEEDED".equals(jobStatus); attempt++) {
+            Thread.sleep(100);
+            jobBody = mockMvc.perform(get("/api/v1/applications/{applicationId}/jobs/{jobId}", applicationId, jobId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            jobStatus = objectMapper.readTree(jobBody).get("status").asText();
+        }
+        assertThat(jobStatus).isEqualTo("SUCCEEDED");
+        assertThat(objectMapper.readTree(jobBody).at("/result/selectedExperience/rankScore").asDouble()).isEqualTo(0.85);
+
+        var application = applicationRepository.findById(applicationId).orElseThrow();
+        assertThat(application.getStatus()).isEqualTo(ApplicationStatus.EXPERIENCE_SELECTED);
+    }
+
+    @Test
+    @DisplayName("리스가 만료된 진행 중 작업이 있으면 비동기 경험 선택 요청이 이를 정리하고 새 작업으로 실행한다")
+    void selectExperienceAsync_withExpiredActiveJob_shouldTakeOverWithNewJob() throws Exception {
+        // Given - 다른 인스턴스가 실행하다 내려가 리스가 만료된 RUNNING 작업
+        MvcResult submitResult = mockMvc.perform(post("/api/v1/applications")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loadExampleRequest())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Long applicationId = objectMapper.readValue(
+                submitResult.getResponse().getContentAsString(), SubmitResponse.class).applicationId();
+        long staleJobId = saveJob(applicationId, JobStatus.RUNNING, LocalDateTime.now().minusMinutes(1));
+
+        Mockito.when(experienceExtractionService.extractExperiences(Mockito.eq(applicationId), Mockito.anyString()))
+                .thenReturn(List.of(Experience.createCandidate(applicationId, "브랜드 론칭 및 매출 신장", 946, 1290, 0.85)));
+
+        // When
+        MvcResult acceptedResult = mockMvc.perform(post("/api/v1/applications/{applicationId}/select-experience", applicationId)
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isAccepted())
+                .andReturn();
+        long jobId = objectMapper.readTree(acceptedResult.getResponse().getContentAsString()).get("jobId").asLong();
+
+        // Then - 만료된 작업은 FAILED, 새 작업이 끝까지 실행된다
+        assertThat(jobId).isNotEqualTo(staleJobId);
+        awaitJob(applicationId, jobId, "SUCCEEDED");
+        PipelineJob staleJob = pipelineJobRepository.findById(staleJobId).orElseThrow();
+        assertThat(staleJob.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(staleJob.getErrorMessage()).contains("lease expired");
+        assertThat(applicationRepository.findById(applicationId).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.EXPERIENCE_SELECTED);
+    }
+
+    @Test
+    @DisplayName("리스 스캔은 리스가 만료된 경험 선택 작업만 FAILED로 정리한다")
+    void maintainLeases_shouldFailOnlyExpiredSelectExperienceJobs() throws Exception {
+        // Given
+        MvcResult submitResult = mockMvc.perform(post("/api/v1/applications")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loadExampleRequest())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Long applicationId = objectMapper.readValue(
+                submitResult.getResponse().getContentAsString(), SubmitResponse.class).applicationId();
+        long expiredJobId = saveJob(applicationId, JobStatus.RUNNING, LocalDateTime.now().minusSeconds(1));
+        long liveJobId = saveJob(applicationId, JobStatus.RUNNING, LocalDateTime.now().plusMinutes(5));
+
+        // When
+        pipelineJobService.maintainLeases();
+
+        // Then
+        assertThat(pipelineJobRepository.findById(expiredJobId).orElseThrow().getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(pipelineJobRepository.findById(liveJobId).orElseThrow().getStatus()).isEqualTo(JobStatus.RUNNING);
+    }
+
+    /**
+     * 지정한 상태·리스로 경험 선택 작업 행을 직접 저장 (다른 인스턴스가 등록한 작업 재현용)
+     */
+    private long saveJob(Long applicationId, JobStatus status, LocalDateTime leaseUntil) {
+        PipelineJob job = new PipelineJob(applicationId, PipelineStage.SELECT_EXPERIENCE);
+        job.renewLease(leaseUntil);
+        if (status == JobStatus.RUNNING) {
+            job.markRunning();
+        }
+        return pipelineJobRepository.save(job).getId();
+    }
+
+    @Test
+    @DisplayName("다른 노드 리더가 끝난 직후 새 요청이 선점을 이어받아도, 대기 중이던 요청은 리더의 결과를 받는다")
+    void selectExperience_whenClaimTakenOverAfterLeaderCompletes_shouldShareLeaderResult() throws Exception {
+        // Given - 다른 노드가 선점해 실행 중인 경험 선택
+        long applicationId = submitApplications(1).get(0);
+        String leaderToken = UUID.randomUUID().toString();
+        stageClaimRepository.saveAndFlush(new StageClaim(applicationId, ClaimStage.SELECT_EXPERIENCE,
+                leaderToken, "other-instance", LocalDateTime.now().plusMinutes(5)));
+        double followersBefore = singleFlightFollowers();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<MvcResult> follower = executor.submit(() -> mockMvc.perform(
+                            post("/api/v1/applications/{applicationId}/select-experience", applicationId))
+                    .andReturn());
+            for (int attempt = 0; attempt < 50 && singleFlightFollowers() <= followersBefore; attempt++) {
+                Thread.sleep(100);
+            }
+            assertThat(singleFlightFollowers()).isGreaterThan(followersBefore);
+
+            // When - 리더가 결과를 남기고, 대기 요청이 폴링하기 전에 새 요청이 선점을 이어받음
+            String leaderResult = objectMapper.writeValueAsString(new SelectExperienceResponse(
+                    applicationId, ApplicationStatus.EXPERIENCE_SELECTED, null));
+            transactionTemplate.executeWithoutResult(tx -> {
+                stageClaimRepository.complete(applicationId, ClaimStage.SELECT_EXPERIENCE, leaderToken, JobStatus.SUCCEEDED);
+                stageClaimResultRepository.save(new StageClaimResult(leaderToken, applicationId,
+                        ClaimStage.SELECT_EXPERIENCE, JobStatus.SUCCEEDED, leaderResult, null, null,
+                        LocalDateTime.now().plusMinutes(10)));
+                stageClaimRepository.takeOver(applicationId, ClaimStage.SELECT_EXPERIENCE,
+                        UUID.randomUUID().toString(), "other-instance", JobStatus.RUNNING,
+                        LocalDateTime.now(), LocalDateTime.now().plusMinutes(5));
+            });
+
+            // Then - 리더의 결과를 그대로 받고, 이 노드에서는 LLM을 호출하지 않음
+            MvcResult result = follower.get(10, TimeUnit.SECONDS);
+            assertThat(result.getResponse().getStatus()).isEqualTo(200);
+            assertThat(objectMapper.readValue(result.getResponse().getContentAsString(),
+                    SelectExperienceResponse.class).status()).isEqualTo(ApplicationStatus.EXPERIENCE_SELECTED);
+            Mockito.verify(experienceExtractionService, Mockito.never())
+                    .extractExperiences(Mockito.eq(applicationId), Mockito.anyString());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private double singleFlightFollowers() {
+        Counter counter = meterRegistry.find("clue.single_flight.requests")
+                .tag("stage", "select_experience")
+                .tag("role", "follower")
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 작업 ID로 상태 조회 시 404 에러를 반환한다")
+    void getJob_withNonExistentJob_shouldReturn404() throws Exception {
+        mockMvc.perform(get("/api/v1/applications/{applicationId}/jobs/{jobId}", 99999L, 99999L))
+                .andExpect(status().isNotFound());
+    }
+
     // =========================================================
     // PR3: STAR 후속 질문 생성 테스트
     // =========================================================
@@ -479,6 +913,63 @@ class ApplicationControllerTest {
                 .andExpect(status().isConflict());
     }
 
+    @Test
+    @DisplayName("STAR 질문 생성 SSE 스트리밍 - 질문 이벤트 4개와 complete 이벤트 전송 후 QUESTIONS_SENT 전이")
+    void streamFollowupQuestions_shouldEmitQuestionEventsAndPersist() throws Exception {
+        // Given - 지원서 제출 → 경험 선택 완료
+        long experienceId = submitAndSelectExperience();
+        Long applicationId = experienceRepository.findById(experienceId).orElseThrow().getApplicationId();
+
+        var mockQuestions = List.of(
+                new FollowupQuestion(experienceId, QuestionType.S, "S 질문"),
+                new FollowupQuestion(experienceId, QuestionType.T, "T 질문"),
+                new FollowupQuestion(experienceId, QuestionType.A, "A 질문"),
+                new FollowupQuestion(experienceId, QuestionType.R, "R 질문")
+        );
+        Mockito.when(followupQuestionGenerationService.generateFollowupQuestions(
+                        Mockito.eq(experienceId), Mockito.anyString(), Mockito.anyString()))
+                .thenReturn(mockQuestions);
+        // 기본(default) 스트리밍 구현은 전체 생성 후 질문마다 콜백 호출
+        Mockito.when(followupQuestionGenerationService.streamFollowupQuestions(
+                        Mockito.eq(experienceId), Mockito.anyString(), Mockito.anyString(), Mockito.any()))
+                .thenCallRealMethod();
+
+        // When - SSE 스트리밍 요청
+        MvcResult result = mockMvc.perform(post("/api/v1/applications/{applicationId}/generate-followup-questions/stream", applicationId)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(10_000);
+
+        // Then - question 이벤트 4개 + complete 이벤트
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body.split("event:question", -1)).hasSize(5);
+        assertThat(body).contains("event:complete");
+        assertThat(body).contains("QUESTIONS_SENT");
+
+        assertThat(followupQuestionRepository.findByExperienceIdOrderByTypeAsc(experienceId)).hasSize(4);
+        assertThat(applicationRepository.findById(applicationId).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.QUESTIONS_SENT);
+    }
+
+    @Test
+    @DisplayName("STAR 질문 생성 SSE 스트리밍 - 상태가 맞지 않으면 스트림을 열지 않고 409 에러를 반환한다")
+    void streamFollowupQuestions_withWrongStatus_shouldReturn409() throws Exception {
+        // Given - 지원서 제출만 완료 (SUBMITTED 상태)
+        MvcResult submitResult = mockMvc.perform(post("/api/v1/applications")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loadExampleRequest())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Long applicationId = objectMapper.readValue(
+                submitResult.getResponse().getContentAsString(), SubmitResponse.class).applicationId();
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/applications/{applicationId}/generate-followup-questions/stream", applicationId)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isConflict());
+    }
+
     // =========================================================
     // PR4: STAR 답변 제출 + 면접 추천 질문 생성 테스트
     // =========================================================
@@ -543,8 +1034,8 @@ class ApplicationControllerTest {
     }
 
     @Test
-    @DisplayName("답변 제출 API가 정상적으로 작동한다 - 답변 저장 + 추천 JSON + status=REVIEW_READY")
-    void submitFollowupAnswers_shouldReturn200WithReviewReady() throws Exception {
+    @DisplayName("답변 제출 API는 답변 저장 후 202를 즉시 반환하고, 추천 질문 생성 작업이 끝나면 REVIEW_READY가 된다")
+    void submitFollowupAnswers_shouldReturn202AndBecomeReviewReady() throws Exception {
         // Given - 지원서 제출 → 경험 선택 → 질문 생성 완료
         AppWithQuestions setup = submitSelectAndGenerateQuestions();
         long applicationId = setup.applicationId();
@@ -580,10 +1071,12 @@ class ApplicationControllerTest {
         MvcResult result = mockMvc.perform(post("/api/v1/applications/{applicationId}/followup-answers", applicationId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isOk())
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
                 .andExpect(jsonPath("$.applicationId").value(applicationId))
-                .andExpect(jsonPath("$.status").value("REVIEW_READY"))
+                .andExpect(jsonPath("$.status").value("ANSWERED"))
                 .andExpect(jsonPath("$.message").exists())
+                .andExpect(jsonPath("$.jobId").exists())
                 .andReturn();
 
         // Then - 응답 검증
@@ -591,8 +1084,13 @@ class ApplicationControllerTest {
         FollowupAnswersResponse response = objectMapper.readValue(responseBody, FollowupAnswersResponse.class);
 
         assertThat(response.applicationId()).isEqualTo(applicationId);
-        assertThat(response.status()).isEqualTo(ApplicationStatus.REVIEW_READY);
-        assertThat(response.message()).isEqualTo("Answers saved. Review package is ready.");
+        assertThat(response.status()).isEqualTo(ApplicationStatus.ANSWERED);
+        assertThat(response.message()).isEqualTo("Answers saved. Interview recommendations are being generated.");
+
+        // 추천 질문 생성 작업 완료 대기 (작업 결과에 추천 질문 포함)
+        String jobBody = awaitJob(applicationId, response.jobId(), "SUCCEEDED");
+        assertThat(objectMapper.readTree(jobBody).get("stage").asText()).isEqualTo("INTERVIEW_RECOMMENDATIONS");
+        assertThat(objectMapper.readTree(jobBody).at("/result/interviewRecommendations").size()).isEqualTo(3);
 
         // DB 검증: followup_answer 4개 저장 확인
         List<FollowupAnswer> savedAnswers = followupAnswerRepository.findByQuestionIdIn(questionIds);
@@ -614,6 +1112,151 @@ class ApplicationControllerTest {
         assertThat(application.getInterviewRecommendationsJson()).contains("운영 로그 문서");
     }
 
+    @Test
+    @DisplayName("추천 질문 생성이 실패하면 답변은 유지되고 ANSWERED 상태에서 작업이 재시도 대기로 돌아간다")
+    void submitFollowupAnswers_whenRecommendationFails_shouldKeepAnswersAndScheduleRetry() throws Exception {
+        // Given - 추천 질문 생성 실패 (빈 결과)
+        AppWithQuestions setup = submitSelectAndGenerateQuestions();
+        long applicationId = setup.applicationId();
+        List<Long> questionIds = setup.questionIds();
+
+        Mockito.when(interviewRecommendationService.generateInterviewRecommendations(
+                        Mockito.eq(applicationId), Mockito.anyString(), Mockito.anyList(), Mockito.anyList()))
+                .thenReturn(List.of());
+
+        var answers = questionIds.stream().map(id -> new AnswerItem(id, "답변 " + id)).toList();
+        FollowupAnswersRequest request = new FollowupAnswersRequest(
+                LocalDateTime.now().minusMinutes(10),
+                LocalDateTime.now(),
+                answers
+        );
+
+        // When - 답변 제출
+        MvcResult result = mockMvc.perform(post("/api/v1/applications/{applicationId}/followup-answers", applicationId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andReturn();
+        long jobId = objectMapper.readTree(result.getResponse().getContentAsString()).get("jobId").asLong();
+
+        // Then - 첫 시도 실패 후 작업은 PENDING(재시도 대기)으로 돌아가고 실패 사유가 기록된다
+        String jobBody = null;
+        for (int attempt = 0; attempt < 50; attempt++) {
+            Thread.sleep(100);
+            jobBody = mockMvc.perform(get("/api/v1/applications/{applicationId}/jobs/{jobId}", applicationId, jobId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            if (!objectMapper.readTree(jobBody).get("errorMessage").isNull()) {
+                break;
+            }
+        }
+        assertThat(objectMapper.readTree(jobBody).get("status").asText()).isEqualTo("PENDING");
+        assertThat(objectMapper.readTree(jobBody).get("errorMessage").asText()).contains("Failed to generate");
+
+        var application = applicationRepository.findById(applicationId).orElseThrow();
+        assertThat(application.getStatus()).isEqualTo(ApplicationStatus.ANSWERED);
+        assertThat(followupAnswerRepository.findByQuestionIdIn(questionIds)).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("추천 질문 생성 작업이 재시도를 모두 소진해 ANSWERED에 남으면 재등록으로 REVIEW_READY까지 진행한다")
+    void retryInterviewRecommendations_afterFinalFailure_shouldReachReviewReady() throws Exception {
+        // Given - 첫 시도 실패 후 재시도를 모두 소진한 상태 (작업·이벤트 FAILED, 지원서 ANSWERED)
+        AppWithQuestions setup = submitSelectAndGenerateQuestions();
+        long applicationId = setup.applicationId();
+        Mockito.when(interviewRecommendationService.generateInterviewRecommendations(
+                        Mockito.eq(applicationId), Mockito.anyString(), Mockito.anyList(), Mockito.anyList()))
+                .thenReturn(List.of());
+
+        var answers = setup.questionIds().stream().map(id -> new AnswerItem(id, "답변 " + id)).toList();
+        MvcResult answerResult = mockMvc.perform(post("/api/v1/applications/{applicationId}/followup-answers", applicationId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new FollowupAnswersRequest(
+                                LocalDateTime.now().minusMinutes(10), LocalDateTime.now(), answers))))
+                .andExpect(status().isAccepted())
+                .andReturn();
+        long failedJobId = objectMapper.readTree(answerResult.getResponse().getContentAsString()).get("jobId").asLong();
+        for (int attempt = 0; attempt < 50
+                && pipelineJobRepository.findById(failedJobId).orElseThrow().getErrorMessage() == null; attempt++) {
+            Thread.sleep(100);
+        }
+        exhaustOutboxRetries(applicationId, failedJobId);
+
+        Mockito.when(interviewRecommendationService.generateInterviewRecommendations(
+                        Mockito.eq(applicationId), Mockito.anyString(), Mockito.anyList(), Mockito.anyList()))
+                .thenReturn(List.of("추천 질문 1", "추천 질문 2", "추천 질문 3"));
+
+        // When - 재등록
+        MvcResult retryResult = mockMvc.perform(
+                        post("/api/v1/applications/{applicationId}/retry-interview-recommendations", applicationId))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.stage").value("INTERVIEW_RECOMMENDATIONS"))
+                .andReturn();
+        long retryJobId = objectMapper.readTree(retryResult.getResponse().getContentAsString()).get("jobId").asLong();
+
+        // Then - 새 작업이 성공하고 지원서가 REVIEW_READY로 전이, 기존 실패 작업은 그대로
+        assertThat(retryJobId).isNotEqualTo(failedJobId);
+        awaitJob(applicationId, retryJobId, "SUCCEEDED");
+        awaitStatus(applicationId, ApplicationStatus.REVIEW_READY);
+        assertThat(pipelineJobRepository.findById(failedJobId).orElseThrow().getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(followupAnswerRepository.findByQuestionIdIn(setup.questionIds())).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("ANSWERED 상태가 아닌 지원서에서 추천 질문 생성 작업을 재등록하면 409 에러를 반환한다")
+    void retryInterviewRecommendations_withWrongStatus_shouldReturn409() throws Exception {
+        // Given - QUESTIONS_SENT 상태
+        long applicationId = submitSelectAndGenerateQuestions().applicationId();
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/applications/{applicationId}/retry-interview-recommendations", applicationId))
+                .andExpect(status().isConflict());
+        assertThat(pipelineJobRepository.findFirstByApplicationIdAndStageAndStatusInOrderByIdDesc(
+                applicationId, PipelineStage.INTERVIEW_RECOMMENDATIONS, List.of(JobStatus.PENDING, JobStatus.RUNNING)))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("선택된 경험의 STAR 질문이 없으면 답변을 저장하지 않고 500 에러를 반환한다")
+    void submitFollowupAnswers_withoutQuestions_shouldNotSaveAnswers() throws Exception {
+        // Given - 질문 생성 후 질문이 사라진 지원서
+        AppWithQuestions setup = submitSelectAndGenerateQuestions();
+        long applicationId = setup.applicationId();
+        followupQuestionRepository.deleteAllById(setup.questionIds());
+
+        var answers = setup.questionIds().stream().map(id -> new AnswerItem(id, "답변 " + id)).toList();
+        FollowupAnswersRequest request = new FollowupAnswersRequest(
+                LocalDateTime.now().minusMinutes(10),
+                LocalDateTime.now(),
+                answers
+        );
+
+        // When & Then - 작업·답변 없이 QUESTIONS_SENT 유지
+        mockMvc.perform(post("/api/v1/applications/{applicationId}/followup-answers", applicationId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isInternalServerError());
+        assertThat(followupAnswerRepository.findByQuestionIdIn(setup.questionIds())).isEmpty();
+        assertThat(applicationRepository.findById(applicationId).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.QUESTIONS_SENT);
+    }
+
+    /**
+     * 아웃박스 재시도 소진 재현: 대기 중인 이벤트와 작업을 최종 실패로 기록 (워커의 최종 실패 처리와 같은 결과)
+     */
+    private void exhaustOutboxRetries(long applicationId, long jobId) throws Exception {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement(
+                     "UPDATE outbox_event SET status = 'FAILED', processed_at = NOW(3), lease_owner = NULL, "
+                             + "lease_token = NULL WHERE aggregate_id = ? AND status <> 'SUCCEEDED'")) {
+            statement.setLong(1, applicationId);
+            statement.executeUpdate();
+        }
+        transactionTemplate.executeWithoutResult(tx -> pipelineJobRepository.findById(jobId).orElseThrow()
+                .markFailed("Failed to generate interview recommendations"));
+    }
+
     @Test
     @DisplayName("QUESTIONS_SENT 상태가 아닌 지원서에서 답변 제출 시 409 에러를 반환한다")
     void submitFollowupAnswers_withWrongStatus_shouldReturn409() throws Exception {
@@ -702,11 +1345,12 @@ class ApplicationControllerTest {
                 answers
         );
 
-        // 첫 번째 제출 (성공)
+        // 첫 번째 제출 (성공) 후 추천 질문 생성 완료 대기
         mockMvc.perform(post("/api/v1/applications/{applicationId}/followup-answers", applicationId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isOk());
+                .andExpect(status().isAccepted());
+        awaitStatus(applicationId, ApplicationStatus.REVIEW_READY);
 
         // When & Then - 두 번째 제출 시도 (REVIEW_READY 상태에서 409 에러 예상)
         mockMvc.perform(post("/api/v1/applications/{applicationId}/followup-answers", applicationId)
@@ -747,11 +1391,41 @@ class ApplicationControllerTest {
         mockMvc.perform(post("/api/v1/applications/{applicationId}/followup-answers", applicationId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isOk());
+                .andExpect(status().isAccepted());
+        awaitStatus(applicationId, ApplicationStatus.REVIEW_READY);
 
         return applicationId;
     }
 
+    /**
+     * 비동기 추천 질문 생성이 끝나 지원서가 기대 상태가 될 때까지 폴링
+     */
+    private void awaitStatus(long applicationId, ApplicationStatus expected) throws InterruptedException {
+        ApplicationStatus current = null;
+        for (int attempt = 0; attempt < 50 && current != expected; attempt++) {
+            Thread.sleep(100);
+            current = applicationRepository.findById(applicationId).orElseThrow().getStatus();
+        }
+        assertThat(current).isEqualTo(expected);
+    }
+
+    /**
+     * 작업이 기대 상태가 될 때까지 폴링하고 마지막 응답 본문을 반환
+     */
+    private String awaitJob(long applicationId, long jobId, String expectedStatus) throws Exception {
+        String jobStatus = null;
+        String jobBody = null;
+        for (int attempt = 0; attempt < 50 && !expectedStatus.equals(jobStatus); attempt++) {
+            Thread.sleep(100);
+            jobBody = mockMvc.perform(get("/api/v1/applications/{applicationId}/jobs/{jobId}", applicationId, jobId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            jobStatus = objectMapper.readTree(jobBody).get("status").asText();
+        }
+        assertThat(jobStatus).isEqualTo(expectedStatus);
+        return jobBody;
+    }
+
     @Test
     @DisplayName("REVIEW_READY 상태 필터 조회 - items 반환 및 status 필드 검증")
     void getApplicationList_withReviewReadyStatus_shouldReturnItems() throws Exception {
@@ -1007,6 +1681,10 @@ class ApplicationControllerTest {
         Mockito.when(interviewRecommendationService.generateInterviewRecommendations(
                         Mockito.eq(applicationId), Mockito.anyString(), Mockito.anyList(), Mockito.anyList()))
                 .thenReturn(newRecommendations);
+        // 재생성 경로(regenerateInterviewRecommendations)는 기본 구현대로 생성 메서드에 위임
+        Mockito.when(interviewRecommendationService.regenerateInterviewRecommendations(
+                        Mockito.eq(applicationId), Mockito.anyString(), Mockito.anyList(), Mockito.anyList()))
+                .thenCallRealMethod();
 
         // When & Then - 재생성 요청
         MvcResult result = mockMvc.perform(post("/api/v1/applications/{applicationId}/recommend-interview-questions", applicationId))
@@ -1060,4 +1738,246 @@ class ApplicationControllerTest {
         mockMvc.perform(post("/api/v1/applications/{applicationId}/recommend-interview-questions", 99999L))
                 .andExpect(status().isNotFound());
     }
+
+    // =========================================================
+    // 트랜잭션 경계: LLM 호출 중 DB 커넥션 미점유 테스트
+    // =========================================================
+
+    @Test
+    @DisplayName("느린 LLM 호출이 동시에 진행되는 동안 커넥션 풀 사용량이 늘어나지 않는다")
+    void selectExperience_withSlowModel_shouldNotHoldConnectionsDuringLlmCall() throws Exception {
+        // Given - SUBMITTED 상태 지원서 여러 개 생성
+        int concurrency = 5;
+        List<Long> applicationIds = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            MvcResult submitResult = mockMvc.perform(post("/api/v1/applications")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(loadExampleRequest())))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            applicationIds.add(objectMapper.readValue(
+                    submitResult.getResponse().getContentAsString(), SubmitResponse.class).applicationId());
+        }
+
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        int activeBefore = pool.getActiveConnections();
+
+        // 느린 stub 모델: 모든 요청이 LLM 호출 구간에 들어온 시점의 활성 커넥션 수를 기록
+        CountDownLatch allInsideLlmCall = new CountDownLatch(concurrency);
+        List<Integer> activeDuringLlmCall = new CopyOnWriteArrayList<>();
+        Mockito.when(experienceExtractionService.extractExperiences(Mockito.any(), Mockito.anyString()))
+                .thenAnswer(invocation -> {
+                    allInsideLlmCall.countDown();
+                    allInsideLlmCall.await(10, TimeUnit.SECONDS);
+                    activeDuringLlmCall.add(pool.getActiveConnections());
+                    Thread.sleep(500);
+                    Long applicationId = invocation.getArgument(0);
+                    return List.of(Experience.createCandidate(applicationId, "브랜드 론칭 및 매출 신장", 946, 1290, 0.85));
+                });
+
+        // When - 동시에 경험 선택 요청
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (Long applicationId : applicationIds) {
+                futures.add(executor.submit(() -> mockMvc.perform(
+                                post("/api/v1/applications/{applicationId}/select-experience", applicationId)
+                                        .contentType(MediaType.APPLICATION_JSON))
+                        .andReturn().getResponse().getStatus()));
+            }
+
+            // Then - 모든 요청 성공
+            for (Future<Integer> future : futures) {
+                assertThat(future.get(30, TimeUnit.SECONDS)).isEqualTo(200);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // LLM 호출 구간에서는 요청 수와 무관하게 추가 커넥션을 점유하지 않음
+        assertThat(activeDuringLlmCall).hasSize(concurrency);
+        assertThat(activeDuringLlmCall).allSatisfy(active -> assertThat(active).isLessThanOrEqualTo(activeBefore));
+
+        applicationIds.forEach(applicationId -> assertThat(
+                applicationRepository.findById(applicationId).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.EXPERIENCE_SELECTED));
+    }
+
+    @Test
+    @DisplayName("같은 지원서에 경험 선택 요청이 동시에 들어오면 LLM은 한 번만 호출되고 두 요청 모두 같은 결과를 받는다")
+    void selectExperience_withConcurrentDuplicateRequests_shouldCallLlmOnce() throws Exception {
+        // Given - SUBMITTED 상태 지원서
+        MvcResult submitResult = mockMvc.perform(post("/api/v1/applications")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loadExampleRequest())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Long applicationId = objectMapper.readValue(
+                submitResult.getResponse().getContentAsString(), SubmitResponse.class).applicationId();
+
+        // 느린 stub 모델: 두 번째 요청이 도착할 때까지 응답을 지연
+        Mockito.when(experienceExtractionService.extractExperiences(Mockito.eq(applicationId), Mockito.anyString()))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(1000);
+                    return List.of(Experience.createCandidate(applicationId, "브랜드 론칭 및 매출 신장", 946, 1290, 0.85));
+                });
+
+        // When - 동일한 요청 2건 동시 전송
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<MvcResult> results = new ArrayList<>();
+        try {
+            List<Future<MvcResult>> futures = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                futures.add(executor.submit(() -> mockMvc.perform(
+                                post("/api/v1/applications/{applicationId}/select-experience", applicationId)
+                                        .contentType(MediaType.APPLICATION_JSON))
+                        .andReturn()));
+            }
+            for (Future<MvcResult> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then - 두 요청 모두 200 + 같은 선택 경험, LLM 호출은 1회
+        assertThat(results).allSatisfy(result -> assertThat(result.getResponse().getStatus()).isEqualTo(200));
+        SelectExperienceResponse first = objectMapper.readValue(
+                results.get(0).getResponse().getContentAsString(), SelectExperienceResponse.class);
+        SelectExperienceResponse second = objectMapper.readValue(
+                results.get(1).getResponse().getContentAsString(), SelectExperienceResponse.class);
+        assertThat(second.selectedExperience().experienceId()).isEqualTo(first.selectedExperience().experienceId());
+
+        Mockito.verify(experienceExtractionService, Mockito.times(1))
+                .extractExperiences(Mockito.eq(applicationId), Mockito.anyString());
+        assertThat(experienceRepository.findByApplicationIdOrderByRankScoreDesc(applicationId)).hasSize(1);
+    }
+
+    // =========================================================
+    // 일괄 처리 실행 테스트
+    // =========================================================
+
+    @Test
+    @DisplayName("지원자 입력 대기 상태(QUESTIONS_SENT)로 일괄 처리를 시작하면 400 에러를 반환한다")
+    void startBulkRun_withUnsupportedStatus_shouldReturn400() throws Exception {
+        mockMvc.perform(post("/api/v1/bulk-runs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"QUESTIONS_SENT\",\"concurrency\":2}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("일괄 처리는 대상 상태의 지원서를 끝까지 진행시키고 COMPLETED로 끝난다")
+    void startBulkRun_shouldProcessApplicationsToCompletion() throws Exception {
+        // Given - SUBMITTED 지원서 3건
+        List<Long> applicationIds = submitApplications(3);
+        stubBulkPipeline(applicationIds);
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/v1/bulk-runs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"SUBMITTED\",\"concurrency\":2}"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andReturn();
+        long runId = objectMapper.readTree(result.getResponse().getContentAsString()).get("runId").asLong();
+
+        // Then - 실행 완료, 체크포인트가 마지막 지원서 이후로 이동하고 각 지원서는 QUESTIONS_SENT
+        var run = objectMapper.readTree(awaitBulkRun(runId, "COMPLETED"));
+        assertThat(run.get("processedCount").asLong()).isGreaterThanOrEqualTo(applicationIds.size());
+        assertThat(run.get("lastApplicationId").asLong()).isGreaterThanOrEqualTo(applicationIds.get(2));
+        applicationIds.forEach(applicationId -> assertThat(
+                applicationRepository.findById(applicationId).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.QUESTIONS_SENT));
+    }
+
+    @Test
+    @DisplayName("리스가 만료된 일괄 처리는 다른 인스턴스가 체크포인트 이후부터 이어서 처리한다")
+    void resumeOrphanedRuns_shouldContinueFromCheckpoint() throws Exception {
+        // Given - 첫 지원서까지 체크포인트를 남기고 소유 인스턴스가 사라진 실행
+        List<Long> applicationIds = submitApplications(2);
+        stubBulkPipeline(applicationIds);
+        long runId;
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement(
+                     "INSERT INTO bulk_run (source_status, state, concurrency, last_application_id, owner_id, heartbeat_at) "
+                             + "VALUES ('SUBMITTED', 'RUNNING', 2, ?, 'dead-instance', ?)",
+                     java.sql.Statement.RETURN_GENERATED_KEYS)) {
+            statement.setLong(1, applicationIds.get(0));
+            statement.setObject(2, LocalDateTime.now().minusHours(1));
+            statement.executeUpdate();
+            try (var keys = statement.getGeneratedKeys()) {
+                keys.next();
+                runId = keys.getLong(1);
+            }
+        }
+
+        // When - 재개 스캔
+        bulkPipelineRunner.resumeOrphanedRuns();
+
+        // Then - 체크포인트 이전 지원서는 건드리지 않고, 이후 지원서만 처리
+        awaitBulkRun(runId, "COMPLETED");
+        assertThat(applicationRepository.findById(applicationIds.get(0)).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.SUBMITTED);
+        assertThat(applicationRepository.findById(applicationIds.get(1)).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.QUESTIONS_SENT);
+        Mockito.verify(experienceExtractionService, Mockito.never())
+                .extractExperiences(Mockito.eq(applicationIds.get(0)), Mockito.anyString());
+    }
+
+    private List<Long> submitApplications(int count) throws Exception {
+        List<Long> applicationIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            MvcResult submitResult = mockMvc.perform(post("/api/v1/applications")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(loadExampleRequest())))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            applicationIds.add(objectMapper.readValue(
+                    submitResult.getResponse().getContentAsString(), SubmitResponse.class).applicationId());
+        }
+        return applicationIds;
+    }
+
+    /**
+     * 일괄 처리 대상 지원서의 경험 추출·STAR 질문 생성 모킹 (다른 테스트가 남긴 지원서는 빈 결과로 실패 처리됨)
+     */
+    private void stubBulkPipeline(List<Long> applicationIds) {
+        for (Long applicationId : applicationIds) {
+            Mockito.when(experienceExtractionService.extractExperiences(Mockito.eq(applicationId), Mockito.anyString()))
+                    .thenReturn(List.of(Experience.createCandidate(applicationId, "브랜드 론칭 및 매출 신장", 946, 1290, 0.85)));
+        }
+        Mockito.when(followupQuestionGenerationService.generateFollowupQuestions(
+                        Mockito.anyLong(), Mockito.anyString(), Mockito.anyString()))
+                .thenAnswer(invocation -> {
+                    Long experienceId = invocation.getArgument(0);
+                    return List.of(
+                            new FollowupQuestion(experienceId, QuestionType.S, "S 질문"),
+                            new FollowupQuestion(experienceId, QuestionType.T, "T 질문"),
+                            new FollowupQuestion(experienceId, QuestionType.A, "A 질문"),
+                            new FollowupQuestion(experienceId, QuestionType.R, "R 질문"));
+                });
+    }
+
+    private String awaitBulkRun(long runId, String expectedState) throws Exception {
+        String state = null;
+        String body = null;
+        for (int attempt = 0; attempt < 100 && !expectedState.equals(state); attempt++) {
+            Thread.sleep(100);
+            body = mockMvc.perform(get("/api/v1/bulk-runs/{runId}", runId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            state = objectMapper.readTree(body).get("state").asText();
+        }
+        assertThat(state).isEqualTo(expectedState);
+        return body;
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 일괄 처리 실행 조회 시 404 에러를 반환한다")
+    void getBulkRun_withNonExistentRun_shouldReturn404() throws Exception {
+        mockMvc.perform(get("/api/v1/bulk-runs/{runId}", 99999L))
+                .andExpect(status().isNotFound());
+    }
 }
@@ -0,0 +1,508 @@
+package com.khuda.khuda_clue_api.outbox;
+
+import com.khuda.khuda_clue_api.domain.ApplicationStatus;
+import com.khuda.khuda_clue_api.domain.JobStatus;
+import com.khuda.khuda_clue_api.domain.OutboxEventType;
+import com.khuda.khuda_clue_api.domain.PipelineStage;
+import com.khuda.khuda_clue_api.domain.QuestionType;
+import com.khuda.khuda_clue_api.entity.Application;
+import com.khuda.khuda_clue_api.entity.Experience;
+import com.khuda.khuda_clue_api.entity.FollowupAnswer;
+import com.khuda.khuda_clue_api.entity.FollowupQuestion;
+import com.khuda.khuda_clue_api.entity.OutboxEvent;
+import com.khuda.khuda_clue_api.entity.PipelineJob;
+import com.khuda.khuda_clue_api.repository.ApplicationRepository;
+import com.khuda.khuda_clue_api.repository.ExperienceRepository;
+import com.khuda.khuda_clue_api.repository.FollowupAnswerRepository;
+import com.khuda.khuda_clue_api.repository.FollowupQuestionRepository;
+import com.khuda.khuda_clue_api.repository.OutboxEventRepository;
+import com.khuda.khuda_clue_api.repository.PipelineJobRepository;
+import com.khuda.khuda_clue_api.service.ExperienceExtractionService;
+import com.khuda.khuda_clue_api.service.FollowupQuestionGenerationService;
+import com.khuda.khuda_clue_api.service.InterviewRecommendationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * 아웃박스 워커·면접 추천 작업 처리기 통합 테스트
+ * - 백그라운드 워커를 끄고(clue.outbox.workers=0) pollOnce()로 선점·처리를 한 번씩 직접 실행한다.
+ * - 다른 워커의 선점·리스 만료는 outbox_event 행을 직접 바꿔 재현한다.
+ */
+@SpringBootTest
+@Testcontainers
+class OutboxWorkerTest {
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final List<String> RECOMMENDATIONS = List.of("추천 질문 1", "추천 질문 2");
+
+    @Container
+    static MySQLContainer mysql = new MySQLContainer(DockerImageName.parse("mysql:8.4.7"))
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @BeforeAll
+    static void checkDockerAvailability() {
+        Process process = null;
+        try {
+            process = new ProcessBuilder("docker", "--version").start();
+            if (process.waitFor() != 0) {
+                fail("Docker가 사용 가능하지 않습니다. Docker를 설치하고 실행해주세요.");
+            }
+        } catch (IOException | InterruptedException e) {
+            fail("Docker 가용성 확인 중 오류가 발생했습니다: " + e.getMessage());
+        } finally {
+            if (process != null && process.isAlive()) {
+                process.destroy();
+            }
+        }
+    }
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        // Spring AI auto-configuration이 API 키를 검증하므로 테스트용 플레이스홀더 설정 (LLM 서비스는 @MockitoBean으로 모킹)
+        registry.add("spring.ai.openai.api-key", () -> "test-placeholder-not-used");
+        registry.add("clue.warmup.transport", () -> "false");
+        registry.add("clue.outbox.workers", () -> "0");
+        registry.add("clue.outbox.max-attempts", () -> "3");
+        registry.add("clue.outbox.initial-backoff", INITIAL_BACKOFF::toString);
+        registry.add("clue.outbox.lease", LEASE::toString);
+    }
+
+    @Autowired
+    private OutboxWorker outboxWorker;
+
+    @Autowired
+    private OutboxPublisher outboxPublisher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PipelineJobRepository pipelineJobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    @Autowired
+    private FollowupQuestionRepository followupQuestionRepository;
+
+    @Autowired
+    private FollowupAnswerRepository followupAnswerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private ExperienceExtractionService experienceExtractionService;
+
+    @MockitoBean
+    private FollowupQuestionGenerationService followupQuestionGenerationService;
+
+    @MockitoBean
+    private InterviewRecommendationService interviewRecommendationService;
+
+    // =========================================================
+    // 선점
+    // =========================================================
+
+    @Test
+    @DisplayName("다른 워커가 잠근 이벤트는 건너뛰고 나머지를 처리하며, 잠금이 풀리면 이어서 처리한다")
+    void pollOnce_shouldSkipEventsLockedByAnotherWorker() throws Exception {
+        // Given - 이벤트 2개 중 하나는 다른 노드가 선점 트랜잭션으로 잠근 상태
+        Enqueued locked = enqueue(seedAnsweredApplication());
+        Enqueued free = enqueue(seedAnsweredApplication());
+        givenRecommendations(locked.applicationId());
+        givenRecommendations(free.applicationId());
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT id FROM outbox_event WHERE id = ? FOR UPDATE")) {
+                statement.setLong(1, locked.eventId());
+                statement.executeQuery().close();
+            }
+
+            // When
+            outboxWorker.pollOnce();
+
+            // Then - 잠긴 이벤트는 선점되지 않음
+            assertThat(event(free).getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+            assertThat(job(free).getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+            assertThat(event(locked).getStatus()).isEqualTo(JobStatus.PENDING);
+            assertThat(event(locked).getAttempts()).isZero();
+            connection.rollback();
+        }
+
+        // 잠금이 풀린 뒤 다음 폴링에서 처리
+        outboxWorker.pollOnce();
+        assertThat(event(locked).getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(job(locked).getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(applicationRepository.findById(locked.applicationId()).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.REVIEW_READY);
+    }
+
+    // =========================================================
+    // 재시도·백오프
+    // =========================================================
+
+    @Test
+    @DisplayName("실패한 이벤트는 시도마다 두 배로 늘어나는 간격으로 재시도하고, 최대 시도 후 작업과 함께 FAILED로 끝난다")
+    void pollOnce_whenHandlerFails_shouldBackOffAndFailAfterMaxAttempts() throws Exception {
+        // Given - 추천 생성이 계속 실패 (빈 결과 → 500)
+        Enqueued enqueued = enqueue(seedAnsweredApplication());
+        Mockito.when(interviewRecommendationService.generateInterviewRecommendations(
+                        Mockito.eq(enqueued.applicationId()), Mockito.anyString(), Mockito.anyList(), Mockito.anyList()))
+                .thenReturn(List.of());
+        double failedBefore = events("failed");
+
+        // When & Then - 1회차: 10초 뒤 재시도 예약, 작업은 PENDING으로 사유 노출
+        LocalDateTime firstAttemptAt = LocalDateTime.now();
+        outboxWorker.pollOnce();
+        OutboxEvent first = event(enqueued);
+        assertThat(first.getStatus()).isEqualTo(JobStatus.PENDING);
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getLastError()).contains("Failed to generate");
+        assertThat(first.getAvailableAt()).isAfterOrEqualTo(firstAttemptAt.plus(INITIAL_BACKOFF).minusSeconds(1));
+        PipelineJob retrying = job(enqueued);
+        assertThat(retrying.getStatus()).isEqualTo(JobStatus.PENDING);
+        assertThat(retrying.getErrorMessage()).contains("Failed to generate");
+        assertThat(retrying.getNextAttemptAt()).isNotNull();
+
+        // 재시도 시각 전에는 선점되지 않음
+        outboxWorker.pollOnce();
+        assertThat(event(enqueued).getAttempts()).isEqualTo(1);
+
+        // 2회차: 대기 시간이 두 배(20초)
+        makeAvailable(enqueued.eventId());
+        LocalDateTime secondAttemptAt = LocalDateTime.now();
+        outboxWorker.pollOnce();
+        OutboxEvent second = event(enqueued);
+        assertThat(second.getAttempts()).isEqualTo(2);
+        assertThat(second.getAvailableAt())
+                .isAfterOrEqualTo(secondAttemptAt.plus(INITIAL_BACKOFF.multipliedBy(2)).minusSeconds(1));
+
+        // 3회차(max-attempts): 최종 실패, 지원서는 답변이 저장된 ANSWERED에 남음
+        makeAvailable(enqueued.eventId());
+        outboxWorker.pollOnce();
+        OutboxEvent last = event(enqueued);
+        assertThat(last.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(last.getAttempts()).isEqualTo(3);
+        assertThat(last.getProcessedAt()).isNotNull();
+        assertThat(job(enqueued).getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(job(enqueued).getAttempts()).isEqualTo(3);
+        assertThat(applicationRepository.findById(enqueued.applicationId()).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.ANSWERED);
+        assertThat(events("failed") - failedBefore).isEqualTo(1);
+    }
+
+    // =========================================================
+    // 리스
+    // =========================================================
+
+    @Test
+    @DisplayName("실행 중 리스가 만료된 이벤트(노드 장애)는 다른 워커가 이어받아 실행 중인 작업을 끝낸다")
+    void pollOnce_withExpiredLease_shouldRedeliverRunningJob() throws Exception {
+        // Given - 사라진 노드가 선점해 작업을 RUNNING으로 바꾼 뒤 리스가 만료된 이벤트
+        Enqueued enqueued = enqueue(seedAnsweredApplication());
+        givenRecommendations(enqueued.applicationId());
+        leaseTo(enqueued.eventId(), UUID.randomUUID().toString(), LocalDateTime.now().minusSeconds(1));
+        transactionTemplate.executeWithoutResult(tx ->
+                pipelineJobRepository.findById(enqueued.jobId()).orElseThrow().markRunning());
+
+        // When
+        outboxWorker.pollOnce();
+
+        // Then
+        assertThat(event(enqueued).getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(event(enqueued).getAttempts()).isEqualTo(2);
+        assertThat(job(enqueued).getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(job(enqueued).getAttempts()).isEqualTo(2);
+        assertThat(applicationRepository.findById(enqueued.applicationId()).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.REVIEW_READY);
+    }
+
+    @Test
+    @DisplayName("배치의 이벤트는 처리 직전에 리스를 새로 연장하고, 그 전에 다른 워커가 이어받은 이벤트는 실행하지 않는다")
+    void pollOnce_shouldRenewLeasePerEventAndSkipEventsTakenOver() throws Exception {
+        // Given - 같은 배치로 선점될 이벤트 3개
+        Enqueued first = enqueue(seedAnsweredApplication());
+        Enqueued renewed = enqueue(seedAnsweredApplication());
+        Enqueued takenOver = enqueue(seedAnsweredApplication());
+        givenRecommendations(renewed.applicationId());
+        givenRecommendations(takenOver.applicationId());
+
+        // 첫 이벤트 처리 중: 뒤 이벤트 하나는 리스가 곧 만료되고, 하나는 만료 후 다른 워커가 이어받음
+        String otherToken = UUID.randomUUID().toString();
+        Mockito.when(interviewRecommendationService.generateInterviewRecommendations(
+                        Mockito.eq(first.applicationId()), Mockito.anyString(), Mockito.anyList(), Mockito.anyList()))
+                .thenAnswer(invocation -> {
+                    setAvailableAt(renewed.eventId(), LocalDateTime.now().plusSeconds(1));
+                    leaseTo(takenOver.eventId(), otherToken, LocalDateTime.now().plus(LEASE));
+                    return RECOMMENDATIONS;
+                });
+        AtomicReference<LocalDateTime> leaseDuringRun = new AtomicReference<>();
+        Mockito.when(interviewRecommendationService.generateInterviewRecommendations(
+                        Mockito.eq(renewed.applicationId()), Mockito.anyString(), Mockito.anyList(), Mockito.anyList()))
+                .thenAnswer(invocation -> {
+                    leaseDuringRun.set(event(renewed).getAvailableAt());
+                    return RECOMMENDATIONS;
+                });
+        double leaseLostBefore = events("lease_lost");
+
+        // When
+        LocalDateTime startedAt = LocalDateTime.now();
+        outboxWorker.pollOnce();
+
+        // Then - 두 번째 이벤트는 처리 시작 시점부터 리스 전체를 확보
+        assertThat(leaseDuringRun.get()).isAfterOrEqualTo(startedAt.plus(LEASE).minusSeconds(1));
+        assertThat(event(renewed).getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+
+        // 이어받긴 이벤트는 실행하지 않고 다른 워커의 선점을 그대로 둔다
+        Mockito.verify(interviewRecommendationService, Mockito.never()).generateInterviewRecommendations(
+                Mockito.eq(takenOver.applicationId()), Mockito.anyString(), Mockito.anyList(), Mockito.anyList());
+        assertThat(event(takenOver).getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(event(takenOver).getLeaseToken()).isEqualTo(otherToken);
+        assertThat(job(takenOver).getStatus()).isEqualTo(JobStatus.PENDING);
+        assertThat(events("lease_lost") - leaseLostBefore).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중 리스를 잃으면 결과를 기록하지 않아 이어받은 워커의 선점을 덮어쓰지 않는다")
+    void pollOnce_whenLeaseLostDuringHandling_shouldNotOverwriteNewOwner() throws Exception {
+        // Given - 처리 중 다른 워커가 이벤트를 이어받음
+        Enqueued enqueued = enqueue(seedAnsweredApplication());
+        String otherToken = UUID.randomUUID().toString();
+        Mockito.when(interviewRecommendationService.generateInterviewRecommendations(
+                        Mockito.eq(enqueued.applicationId()), Mockito.anyString(), Mockito.anyList(), Mockito.anyList()))
+                .thenAnswer(invocation -> {
+                    leaseTo(enqueued.eventId(), otherToken, LocalDateTime.now().plus(LEASE));
+                    return RECOMMENDATIONS;
+                });
+        double leaseLostBefore = events("lease_lost");
+
+        // When
+        outboxWorker.pollOnce();
+
+        // Then
+        OutboxEvent event = event(enqueued);
+        assertThat(event.getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(event.getLeaseToken()).isEqualTo(otherToken);
+        assertThat(event.getProcessedAt()).isNull();
+        assertThat(events("lease_lost") - leaseLostBefore).isEqualTo(1);
+    }
+
+    // =========================================================
+    // 면접 추천 작업 처리기
+    // =========================================================
+
+    @Test
+    @DisplayName("이미 끝난 작업의 이벤트가 다시 전달되면 추천 생성을 다시 호출하지 않는다")
+    void handle_withFinishedJob_shouldNotRunAgain() throws Exception {
+        // Given
+        Enqueued enqueued = enqueue(seedAnsweredApplication());
+        transactionTemplate.executeWithoutResult(tx ->
+                pipelineJobRepository.findById(enqueued.jobId()).orElseThrow().markSucceeded("{\"winner\": true}"));
+
+        // When
+        outboxWorker.pollOnce();
+
+        // Then
+        Mockito.verify(interviewRecommendationService, Mockito.never()).generateInterviewRecommendations(
+                Mockito.eq(enqueued.applicationId()), Mockito.anyString(), Mockito.anyList(), Mockito.anyList());
+        assertThat(event(enqueued).getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(job(enqueued).getAttempts()).isZero();
+    }
+
+    @Test
+    @DisplayName("REVIEW_READY 커밋 직후 리스를 잃어 이벤트가 다시 전달되어도 작업은 이미 성공으로 기록되어 있어 다시 실행하지 않는다")
+    void handle_whenRedeliveredAfterReviewReadyCommit_shouldKeepSucceededJob() throws Exception {
+        // Given - 추천 저장 커밋 직후(처리 결과 기록 전) 노드가 멈춰 리스가 만료된 상황
+        Enqueued enqueued = enqueue(seedAnsweredApplication());
+        Mockito.when(interviewRecommendationService.generateInterviewRecommendations(
+                        Mockito.eq(enqueued.applicationId()), Mockito.anyString(), Mockito.anyList(), Mockito.anyList()))
+                .thenAnswer(invocation -> {
+                    leaseTo(enqueued.eventId(), UUID.randomUUID().toString(), LocalDateTime.now().minusSeconds(1));
+                    return RECOMMENDATIONS;
+                });
+        outboxWorker.pollOnce();
+        assertThat(applicationRepository.findById(enqueued.applicationId()).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.REVIEW_READY);
+        assertThat(event(enqueued).getStatus()).isEqualTo(JobStatus.RUNNING);
+
+        // When - 다른 워커가 만료된 이벤트를 이어받음
+        outboxWorker.pollOnce();
+
+        // Then - 작업은 상태 전이와 함께 커밋된 성공 결과를 유지, LLM은 다시 호출하지 않음
+        PipelineJob job = job(enqueued);
+        assertThat(job.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(job.getErrorMessage()).isNull();
+        assertThat(job.getResultJson()).contains(RECOMMENDATIONS.get(0));
+        assertThat(event(enqueued).getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        Mockito.verify(interviewRecommendationService, Mockito.times(1)).generateInterviewRecommendations(
+                Mockito.eq(enqueued.applicationId()), Mockito.anyString(), Mockito.anyList(), Mockito.anyList());
+    }
+
+    @Test
+    @DisplayName("중복 실행 중 다른 워커가 먼저 성공하면 늦게 끝난 쪽의 409가 성공 결과를 덮어쓰지 않는다")
+    void handle_whenAnotherRunSucceedsFirst_shouldKeepSucceededJob() throws Exception {
+        // Given - LLM 호출 중 다른 워커가 같은 작업을 먼저 끝냄 (지원서 REVIEW_READY, 작업 SUCCEEDED)
+        Enqueued enqueued = enqueue(seedAnsweredApplication());
+        String winnerResult = "{\"winner\": true}";
+        Mockito.when(interviewRecommendationService.generateInterviewRecommendations(
+                        Mockito.eq(enqueued.applicationId()), Mockito.anyString(), Mockito.anyList(), Mockito.anyList()))
+                .thenAnswer(invocation -> {
+                    transactionTemplate.executeWithoutResult(tx -> {
+                        applicationRepository.findById(enqueued.applicationId()).orElseThrow()
+                                .updateStatus(ApplicationStatus.REVIEW_READY);
+                        pipelineJobRepository.findById(enqueued.jobId()).orElseThrow().markSucceeded(winnerResult);
+                    });
+                    return RECOMMENDATIONS;
+                });
+
+        // When - 이 워커의 쓰기 재검증은 409
+        outboxWorker.pollOnce();
+
+        // Then - 먼저 기록된 성공이 남고, 4xx는 재시도하지 않음
+        PipelineJob job = job(enqueued);
+        assertThat(job.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(job.getErrorMessage()).isNull();
+        assertThat(job.getResultJson()).contains("winner");
+        assertThat(event(enqueued).getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+    }
+
+    // =========================================================
+    // helper
+    // =========================================================
+
+    /**
+     * 선택 경험·STAR 질문 4개·답변이 있는 ANSWERED 지원서를 DB에 직접 저장
+     */
+    private long seedAnsweredApplication() {
+        Application application = new Application("outbox-applicant", "동아리 회장으로 해커톤을 기획해 참가 신청을 2배로 늘렸습니다.");
+        application.updateStatus(ApplicationStatus.ANSWERED);
+        long applicationId = applicationRepository.save(application).getId();
+        Experience experience = experienceRepository.save(
+                new Experience(applicationId, "해커톤을 기획해", 0, 30, 0.9, true));
+        for (QuestionType type : QuestionType.values()) {
+            FollowupQuestion question = followupQuestionRepository.save(
+                    new FollowupQuestion(experience.getId(), type, type + " 질문"));
+            followupAnswerRepository.save(new FollowupAnswer(question.getId(), type + " 답변",
+                    LocalDateTime.now().minusMinutes(10), LocalDateTime.now()));
+        }
+        return applicationId;
+    }
+
+    /**
+     * 답변 제출과 같은 방식으로 추천 작업과 아웃박스 이벤트를 한 트랜잭션에 기록
+     */
+    private Enqueued enqueue(long applicationId) {
+        return transactionTemplate.execute(tx -> {
+            PipelineJob job = pipelineJobRepository.save(
+                    new PipelineJob(applicationId, PipelineStage.INTERVIEW_RECOMMENDATIONS));
+            OutboxEvent event = outboxPublisher.append(OutboxEventType.INTERVIEW_RECOMMENDATIONS_REQUESTED,
+                    applicationId, Map.of("jobId", job.getId()));
+            return new Enqueued(applicationId, job.getId(), event.getId());
+        });
+    }
+
+    private void givenRecommendations(long applicationId) {
+        Mockito.when(interviewRecommendationService.generateInterviewRecommendations(
+                        Mockito.eq(applicationId), Mockito.anyString(), Mockito.anyList(), Mockito.anyList()))
+                .thenReturn(RECOMMENDATIONS);
+    }
+
+    private OutboxEvent event(Enqueued enqueued) {
+        return event(enqueued.eventId());
+    }
+
+    private OutboxEvent event(long eventId) {
+        return outboxEventRepository.findById(eventId).orElseThrow();
+    }
+
+    private PipelineJob job(Enqueued enqueued) {
+        return pipelineJobRepository.findById(enqueued.jobId()).orElseThrow();
+    }
+
+    /**
+     * 재시도 대기 시간이 지난 것으로 만듦
+     */
+    private void makeAvailable(long eventId) throws Exception {
+        setAvailableAt(eventId, LocalDateTime.now().minusSeconds(1));
+    }
+
+    private void setAvailableAt(long eventId, LocalDateTime availableAt) throws Exception {
+        update("UPDATE outbox_event SET available_at = ? WHERE id = ?", availableAt, eventId);
+    }
+
+    /**
+     * 다른 워커가 지정한 토큰·만료 시각으로 선점한 상태로 만듦
+     */
+    private void leaseTo(long eventId, String token, LocalDateTime leaseUntil) throws Exception {
+        update("UPDATE outbox_event SET status = 'RUNNING', attempts = attempts + 1, lease_owner = 'other-instance', "
+                + "lease_token = ?, available_at = ? WHERE id = ?", token, leaseUntil, eventId);
+    }
+
+    private void update(String sql, Object... params) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                statement.setObject(i + 1, params[i]);
+            }
+            statement.executeUpdate();
+        }
+    }
+
+    private double events(String outcome) {
+        Counter counter = meterRegistry.find("clue.outbox.events")
+                .tag("type", OutboxEventType.INTERVIEW_RECOMMENDATIONS_REQUESTED.name())
+                .tag("outcome", outcome)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private record Enqueued(long applicationId, long jobId, long eventId) {
+    }
+}
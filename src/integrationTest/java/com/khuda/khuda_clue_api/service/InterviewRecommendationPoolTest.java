@@ -0,0 +1,291 @@
+package com.khuda.khuda_clue_api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khuda.khuda_clue_api.domain.ApplicationStatus;
+import com.khuda.khuda_clue_api.domain.QuestionType;
+import com.khuda.khuda_clue_api.dto.response.RecommendInterviewQuestionsResponse;
+import com.khuda.khuda_clue_api.entity.Application;
+import com.khuda.khuda_clue_api.entity.Experience;
+import com.khuda.khuda_clue_api.entity.FollowupAnswer;
+import com.khuda.khuda_clue_api.entity.FollowupQuestion;
+import com.khuda.khuda_clue_api.entity.InterviewRecommendationSet;
+import com.khuda.khuda_clue_api.repository.ApplicationRepository;
+import com.khuda.khuda_clue_api.repository.ExperienceRepository;
+import com.khuda.khuda_clue_api.repository.FollowupAnswerRepository;
+import com.khuda.khuda_clue_api.repository.FollowupQuestionRepository;
+import com.khuda.khuda_clue_api.repository.InterviewRecommendationSetRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 면접 추천 질문 변형 풀 통합 테스트 (clue.recommendation-pool.enabled=true, size=2)
+ * - 풀 빈은 설정이 켜져 있을 때만 등록되므로 ApplicationControllerTest와 별도 컨텍스트로 실행한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+class InterviewRecommendationPoolTest {
+
+    private static final int POOL_SIZE = 2;
+
+    @Container
+    static MySQLContainer mysql = new MySQLContainer(DockerImageName.parse("mysql:8.4.7"))
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @BeforeAll
+    static void checkDockerAvailability() {
+        Process process = null;
+        try {
+            process = new ProcessBuilder("docker", "--version").start();
+            if (process.waitFor() != 0) {
+                fail("Docker가 사용 가능하지 않습니다. Docker를 설치하고 실행해주세요.");
+            }
+        } catch (IOException | InterruptedException e) {
+            fail("Docker 가용성 확인 중 오류가 발생했습니다: " + e.getMessage());
+        } finally {
+            if (process != null && process.isAlive()) {
+                process.destroy();
+            }
+        }
+    }
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        // Spring AI auto-configuration이 API 키를 검증하므로 테스트용 플레이스홀더 설정 (LLM 서비스는 @MockitoBean으로 모킹)
+        registry.add("spring.ai.openai.api-key", () -> "test-placeholder-not-used");
+        registry.add("clue.warmup.transport", () -> "false");
+        registry.add("clue.recommendation-pool.enabled", () -> "true");
+        registry.add("clue.recommendation-pool.size", () -> String.valueOf(POOL_SIZE));
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    @Autowired
+    private FollowupQuestionRepository followupQuestionRepository;
+
+    @Autowired
+    private FollowupAnswerRepository followupAnswerRepository;
+
+    @Autowired
+    private InterviewRecommendationSetRepository recommendationSetRepository;
+
+    @Autowired
+    private InterviewRecommendationPool recommendationPool;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private ExperienceExtractionService experienceExtractionService;
+
+    @MockitoBean
+    private FollowupQuestionGenerationService followupQuestionGenerationService;
+
+    @MockitoBean
+    private InterviewRecommendationService interviewRecommendationService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("풀에 미제공 변형이 있으면 재생성 요청은 LLM을 기다리지 않고 가장 오래된 변형을 제공하며, 꺼낸 1개만 보충한다")
+    void regenerate_withPooledVariant_shouldServeWithoutLlmCall() throws Exception {
+        // Given - 미제공 변형 2개, 보충용 LLM 호출은 latch를 풀 때까지 응답하지 않음
+        long applicationId = seedReviewReadyApplication();
+        seedVariant(applicationId, List.of("풀 변형 1"));
+        seedVariant(applicationId, List.of("풀 변형 2"));
+        CountDownLatch llmReleased = new CountDownLatch(1);
+        Mockito.when(interviewRecommendationService.regenerateInterviewRecommendations(
+                        Mockito.eq(applicationId), Mockito.anyString(), Mockito.anyList(), Mockito.anyList()))
+                .thenAnswer(invocation -> {
+                    llmReleased.await(5, TimeUnit.SECONDS);
+                    return List.of("보충 변형");
+                });
+
+        // When - LLM이 막혀 있는 동안 재생성 요청
+        RecommendInterviewQuestionsResponse response = regenerate(applicationId);
+
+        // Then - 가장 오래된 변형을 바로 제공
+        assertThat(response.interviewRecommendations()).containsExactly("풀 변형 1");
+        assertThat(parse(applicationRepository.findById(applicationId).orElseThrow().getInterviewRecommendationsJson()))
+                .containsExactly("풀 변형 1");
+        assertThat(unseenCount(applicationId)).isEqualTo(1);
+
+        // 보충이 끝나면 다시 size개, LLM 호출은 보충 1회뿐 (요청 경로에서는 호출 없음)
+        llmReleased.countDown();
+        awaitUnseenCount(applicationId, POOL_SIZE);
+        Mockito.verify(interviewRecommendationService, Mockito.times(1)).regenerateInterviewRecommendations(
+                Mockito.eq(applicationId), Mockito.anyString(), Mockito.anyList(), Mockito.anyList());
+        Mockito.verify(interviewRecommendationService, Mockito.never()).generateInterviewRecommendations(
+                Mockito.eq(applicationId), Mockito.anyString(), Mockito.anyList(), Mockito.anyList());
+        assertThat(unseenRecommendations(applicationId)).containsExactly("풀 변형 2", "보충 변형");
+    }
+
+    @Test
+    @DisplayName("풀이 비어 있으면 LLM 결과를 제공하고, 미제공 변형은 반복 보충 요청에도 size개까지만 채운다")
+    void regenerate_withEmptyPool_shouldRefillUpToSizeOnly() throws Exception {
+        // Given - 호출마다 다른 변형을 반환하는 LLM
+        long applicationId = seedReviewReadyApplication();
+        AtomicInteger calls = new AtomicInteger();
+        Mockito.when(interviewRecommendationService.regenerateInterviewRecommendations(
+                        Mockito.eq(applicationId), Mockito.anyString(), Mockito.anyList(), Mockito.anyList()))
+                .thenAnswer(invocation -> List.of("변형 " + calls.incrementAndGet()));
+
+        // When
+        RecommendInterviewQuestionsResponse response = regenerate(applicationId);
+        awaitUnseenCount(applicationId, POOL_SIZE);
+        for (int i = 0; i < 3; i++) {
+            recommendationPool.replenishAsync(applicationId);
+        }
+        recommendationPool.replenishMissing();
+        Thread.sleep(500);
+
+        // Then - 직접 생성 1회 + 보충 size회, 이력은 제공 1개 + 미제공 size개
+        assertThat(response.interviewRecommendations()).containsExactly("변형 1");
+        assertThat(unseenCount(applicationId)).isEqualTo(POOL_SIZE);
+        assertThat(calls.get()).isEqualTo(1 + POOL_SIZE);
+        assertThat(recommendationSetRepository.findAll())
+                .filteredOn(set -> set.getApplicationId().equals(applicationId))
+                .hasSize(1 + POOL_SIZE);
+    }
+
+    @Test
+    @DisplayName("보충 중 다른 노드가 풀을 채우면 저장 직전 재검증에서 결과를 버려 size개를 넘기지 않는다")
+    void replenish_whenPoolFilledConcurrently_shouldDiscardOverflow() throws Exception {
+        // Given - 미제공 변형 1개, LLM 호출 중 다른 노드가 나머지 1개를 채움
+        long applicationId = seedReviewReadyApplication();
+        seedVariant(applicationId, List.of("기존 변형"));
+        Mockito.when(interviewRecommendationService.regenerateInterviewRecommendations(
+                        Mockito.eq(applicationId), Mockito.anyString(), Mockito.anyList(), Mockito.anyList()))
+                .thenAnswer(invocation -> {
+                    seedVariant(applicationId, List.of("다른 노드 변형"));
+                    return List.of("이 노드 변형");
+                });
+        double discardedBefore = variants("discarded");
+
+        // When
+        recommendationPool.replenishAsync(applicationId);
+        awaitTrue(() -> variants("discarded") > discardedBefore);
+
+        // Then
+        assertThat(unseenCount(applicationId)).isEqualTo(POOL_SIZE);
+        assertThat(unseenRecommendations(applicationId)).containsExactly("기존 변형", "다른 노드 변형");
+    }
+
+    // =========================================================
+    // helper
+    // =========================================================
+
+    /**
+     * 선택 경험·STAR 질문 4개·답변이 있는 REVIEW_READY 지원서를 DB에 직접 저장
+     */
+    private long seedReviewReadyApplication() {
+        Application application = new Application("pool-applicant", "동아리 회장으로 해커톤을 기획해 참가 신청을 2배로 늘렸습니다.");
+        application.updateStatus(ApplicationStatus.REVIEW_READY);
+        long applicationId = applicationRepository.save(application).getId();
+        Experience experience = experienceRepository.save(
+                new Experience(applicationId, "해커톤을 기획해", 0, 30, 0.9, true));
+        for (QuestionType type : QuestionType.values()) {
+            FollowupQuestion question = followupQuestionRepository.save(
+                    new FollowupQuestion(experience.getId(), type, type + " 질문"));
+            followupAnswerRepository.save(new FollowupAnswer(question.getId(), type + " 답변",
+                    LocalDateTime.now().minusMinutes(10), LocalDateTime.now()));
+        }
+        return applicationId;
+    }
+
+    private void seedVariant(long applicationId, List<String> recommendations) throws IOException {
+        recommendationSetRepository.save(new InterviewRecommendationSet(applicationId,
+                objectMapper.writeValueAsString(recommendations)));
+    }
+
+    private RecommendInterviewQuestionsResponse regenerate(long applicationId) throws Exception {
+        MvcResult result = mockMvc.perform(
+                        post("/api/v1/applications/{applicationId}/recommend-interview-questions", applicationId))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(result.getResponse().getContentAsString(),
+                RecommendInterviewQuestionsResponse.class);
+    }
+
+    private long unseenCount(long applicationId) {
+        return recommendationSetRepository.countByApplicationIdAndServedAtIsNull(applicationId);
+    }
+
+    private List<String> unseenRecommendations(long applicationId) throws IOException {
+        List<String> recommendations = new ArrayList<>();
+        for (InterviewRecommendationSet set : recommendationSetRepository.findAll(Sort.by("id"))) {
+            if (set.getApplicationId().equals(applicationId) && set.getServedAt() == null) {
+                recommendations.addAll(parse(set.getRecommendationsJson()));
+            }
+        }
+        return recommendations;
+    }
+
+    private List<String> parse(String recommendationsJson) throws IOException {
+        return objectMapper.readValue(recommendationsJson,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, String.class));
+    }
+
+    private double variants(String outcome) {
+        Counter counter = meterRegistry.find("clue.recommendation_pool.variants").tag("outcome", outcome).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    /**
+     * 비동기 보충이 끝나 미제공 변형 수가 기대값이 될 때까지 폴링
+     */
+    private void awaitUnseenCount(long applicationId, long expected) throws InterruptedException {
+        awaitTrue(() -> unseenCount(applicationId) == expected);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        for (int attempt = 0; attempt < 50 && !condition.getAsBoolean(); attempt++) {
+            Thread.sleep(100);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,91 @@
+package com.khuda.khuda_clue_api.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 블로킹 ChatClient 호출만 놓고 본 플랫폼 스레드 vs 가상 스레드 비교
+ * - 지연을 주입한 스텁 모델에 ChatClient 블로킹 호출을 requests건 동시에 보내고, 모두 끝날 때까지의 시간을 잰다.
+ * - platform: Tomcat 기본 max-threads(200)와 같은 크기의 고정 풀 / virtual: 요청당 가상 스레드
+ *   즉 VIRTUAL_THREADS_ENABLED=true일 때 요청 스레드(Tomcat)에서 LLM을 기다리는 동기 API의 상한을 본다.
+ * - 측정하지 않는 것: pipelineTaskExecutor(비동기 작업은 가상 스레드여도 max-pool-size가 동시 실행 상한),
+ *   DB 트랜잭션·커넥션 풀, LlmClient의 동시성 제한기. 이 경로의 처리량은 통합 테스트 환경(MySQL)에서 따로 봐야 한다.
+ * 처리량(건/초) = requests / (op당 시간)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlockingChatCallThreadBenchmark {
+
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"200"})
+    public long latencyMillis;
+
+    @Param({"1000"})
+    public int requests;
+
+    private ExecutorService executor;
+    private ChatClient chatClient;
+    private Prompt prompt;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "virtual".equals(threads)
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("bench-vt-", 0).factory())
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE, Thread.ofPlatform().name("bench-", 0).factory());
+        chatClient = ChatClient.builder(new LatencyInjectingChatModel(
+                Duration.ofMillis(latencyMillis), "[{\"title\":\"경험\",\"startIdx\":0,\"endIdx\":10,\"rankScore\":0.9}]"))
+                .build();
+        prompt = new Prompt(List.of(new SystemMessage("system"), new UserMessage("cover letter")));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int concurrentCalls() throws Exception {
+        List<Future<String>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(() -> chatClient.prompt(prompt).call().content()));
+        }
+        int completed = 0;
+        for (Future<String> future : futures) {
+            if (future.get() != null) {
+                completed++;
+            }
+        }
+        return completed;
+    }
+}
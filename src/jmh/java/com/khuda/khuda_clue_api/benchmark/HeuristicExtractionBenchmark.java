@@ -0,0 +1,70 @@
+package com.khuda.khuda_clue_api.benchmark;
+
+import com.khuda.khuda_clue_api.config.HeuristicExtractionProperties;
+import com.khuda.khuda_clue_api.entity.Experience;
+import com.khuda.khuda_clue_api.service.HeuristicExperienceExtractionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 규칙 기반 경험 추출 1건의 비용 (LLM 대체 경로의 지연·처리량 확인용)
+ * - 입력: 1-shot 예시 자소서(약 1,350자)를 copies번 이어 붙인 텍스트
+ * - 처리량(건/초) = 1초 / (op당 시간). 할당량은 -prof gc로 확인한다.
+ * 실행: ./gradlew jmh -PjmhArgs="HeuristicExtractionBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HeuristicExtractionBenchmark {
+
+    @Param({"1", "3"})
+    public int copies;
+
+    private HeuristicExperienceExtractionService extractor;
+    private String coverLetter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        extractor = new HeuristicExperienceExtractionService(
+                new HeuristicExtractionProperties(true, true, 2, 5, 3), new SimpleMeterRegistry());
+        coverLetter = String.join("\n\n", Collections.nCopies(copies,
+                load("/prompt/experience-extraction-example-coverletter.txt")));
+    }
+
+    @Benchmark
+    public List<Experience> extract() {
+        return extractor.extractExperiences(1L, coverLetter);
+    }
+
+    private static String load(String path) {
+        try (InputStream is = HeuristicExtractionBenchmark.class.getResourceAsStream(path)) {
+            if (is == null) {
+                throw new IllegalStateException("Resource not found: " + path);
+            }
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.khuda.khuda_clue_api.benchmark;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 고정 지연 후 미리 정한 응답을 돌려주는 스텁 모델 (상류 OpenAI 호출의 블로킹 대기만 재현)
+ */
+final class LatencyInjectingChatModel implements ChatModel {
+
+    private final Duration latency;
+    private final String content;
+
+    LatencyInjectingChatModel(Duration latency, String content) {
+        this.latency = latency;
+        this.content = content;
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while injecting latency", e);
+        }
+        return new ChatResponse(List.of(new Generation(AssistantMessage.builder().content(content).build())));
+    }
+}
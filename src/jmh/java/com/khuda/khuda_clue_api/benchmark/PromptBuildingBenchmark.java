@@ -0,0 +1,142 @@
+package com.khuda.khuda_clue_api.benchmark;
+
+import com.khuda.khuda_clue_api.domain.QuestionType;
+import com.khuda.khuda_clue_api.entity.FollowupQuestion;
+import com.khuda.khuda_clue_api.prompt.PromptTemplates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프롬프트 조립 비용 비교: 미리 컴파일한 PromptTemplates vs 요청마다 String.formatted
+ * - legacy*: 같은 /prompt 리소스를 위치 지정 서식(%N$s)으로 바꿔 두고 템플릿 도입 전처럼 요청마다 formatted로 채운다.
+ *   Q&A 항목은 String.format 반복 + trim으로 이어 붙인다.
+ * - 두 방식의 출력은 같다 (PromptTemplatesTest에서 검증).
+ * - coverLetterChars로 자소서 길이를 바꿔 가며 잰다. 할당량은 -prof gc로 확인한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PromptBuildingBenchmark {
+
+    @Param({"1000", "5000"})
+    public int coverLetterChars;
+
+    private PromptTemplates templates;
+    private String coverLetter;
+    private List<FollowupQuestion> questions;
+    private Map<Long, String> answers;
+
+    private String legacyExperienceUser;
+    private String legacyQuestionUser;
+    private String legacyQnaItem;
+    private String legacyRecommendationUser;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        templates = new PromptTemplates();
+
+        String example = load("experience-extraction-example-coverletter.txt");
+        StringBuilder text = new StringBuilder(coverLetterChars + example.length());
+        while (text.length() < coverLetterChars) {
+            text.append(example);
+        }
+        coverLetter = text.substring(0, coverLetterChars);
+
+        Field id = FollowupQuestion.class.getDeclaredField("id");
+        id.setAccessible(true);
+        questions = List.of(
+                new FollowupQuestion(1L, QuestionType.S, "당시 팀 규모와 본인의 역할은 무엇이었나요?"),
+                new FollowupQuestion(1L, QuestionType.T, "목표로 삼은 지표와 기준치는 무엇이었나요?"),
+                new FollowupQuestion(1L, QuestionType.A, "직접 수행한 분석 과정을 단계별로 설명해 주세요."),
+                new FollowupQuestion(1L, QuestionType.R, "210% 매출 신장은 어떤 기간을 기준으로 계산했나요?"));
+        answers = new HashMap<>();
+        for (int i = 0; i < questions.size(); i++) {
+            id.set(questions.get(i), (long) (i + 1));
+            answers.put((long) (i + 1), "구체적인 답변 " + (i + 1) + "입니다. 당시 자료를 근거로 설명드리면 다음과 같습니다.");
+        }
+
+        legacyExperienceUser = toFormat(load("experience-user.txt"), "coverLetter");
+        legacyQuestionUser = toFormat(load("question-user.txt"), "experienceTitle", "coverLetter");
+        legacyQnaItem = toFormat(load("recommendation-qna-item.txt"), "type", "question", "answer");
+        legacyRecommendationUser = toFormat(load("recommendation-user.txt"), "coverLetter", "starQnA");
+    }
+
+    @Benchmark
+    public String experienceTemplate() {
+        return templates.experienceUserPrompt(coverLetter);
+    }
+
+    @Benchmark
+    public String experienceLegacy() {
+        return legacyExperienceUser.formatted(coverLetter);
+    }
+
+    @Benchmark
+    public String questionTemplate() {
+        return templates.questionUserPrompt("브랜드 론칭 및 매출 신장", coverLetter);
+    }
+
+    @Benchmark
+    public String questionLegacy() {
+        return legacyQuestionUser.formatted("브랜드 론칭 및 매출 신장", coverLetter);
+    }
+
+    @Benchmark
+    public String recommendationTemplate() {
+        return templates.recommendationUserPrompt(coverLetter, questions, answers);
+    }
+
+    @Benchmark
+    public String recommendationLegacy() {
+        StringBuilder starQnA = new StringBuilder();
+        for (FollowupQuestion q : questions) {
+            String answerText = answers.getOrDefault(q.getId(), "(답변 없음)");
+            starQnA.append(String.format(legacyQnaItem, q.getType().name(), q.getQuestionText(), answerText));
+        }
+        return legacyRecommendationUser.formatted(coverLetter, starQnA.toString().trim());
+    }
+
+    /**
+     * {{name}} 자리표시자를 위치 지정 서식으로 바꾼다 (리터럴 '%'는 먼저 이스케이프)
+     */
+    private static String toFormat(String source, String... parameters) {
+        String format = source.replace("%", "%%");
+        for (int i = 0; i < parameters.length; i++) {
+            format = format.replace("{{" + parameters[i] + "}}", "%" + (i + 1) + "$s");
+        }
+        return format;
+    }
+
+    private static String load(String fileName) {
+        try (InputStream is = PromptBuildingBenchmark.class.getResourceAsStream("/prompt/" + fileName)) {
+            if (is == null) {
+                throw new IllegalStateException("Prompt resource not found: " + fileName);
+            }
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
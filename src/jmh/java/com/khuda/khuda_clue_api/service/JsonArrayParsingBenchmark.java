@@ -0,0 +1,100 @@
+package com.khuda.khuda_clue_api.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LLM 배열 응답 파싱 비용 비교: JsonArrayElementReader vs 이전 방식(코드펜스 trim/substring 후 문서 전체 바인딩)
+ * - valid: 코드펜스로 감싼 정상 배열 / malformed: 앞에 설명 문장이 있고 마지막 원소가 잘린 배열.
+ *   이전 방식은 malformed에서 예외로 끝나 원소를 하나도 얻지 못하므로 실패 비용만 비교된다.
+ * - 실행: ./gradlew jmh -PjmhArgs="JsonArrayParsingBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonArrayParsingBenchmark {
+
+    @Param({"3", "2000"})
+    public int elements;
+
+    @Param({"valid", "malformed"})
+    public String shape;
+
+    private ObjectMapper objectMapper;
+    private JsonArrayElementReader reader;
+    private String content;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        reader = new JsonArrayElementReader(objectMapper);
+
+        StringBuilder array = new StringBuilder("[\n");
+        for (int i = 0; i < elements; i++) {
+            if (i > 0) {
+                array.append(",\n");
+            }
+            array.append("  {\"title\": \"경험 ").append(i).append(" 원문 발췌 구절\", \"startIdx\": ").append(i * 10)
+                    .append(", \"endIdx\": ").append(i * 10 + 9).append(", \"rankScore\": 0.").append(i % 10).append('}');
+        }
+        array.append("\n]");
+
+        content = "valid".equals(shape)
+                ? "```json\n" + array + "\n```"
+                : "다음은 추출 결과입니다.\n```json\n" + array.substring(0, array.length() - 20);
+    }
+
+    @Benchmark
+    public int reader() {
+        return reader.readElements(content, ExperienceJson.class).size();
+    }
+
+    @Benchmark
+    public int legacy() {
+        String jsonContent = content.trim();
+        if (jsonContent.startsWith("```json")) {
+            jsonContent = jsonContent.substring(7);
+        }
+        if (jsonContent.startsWith("```")) {
+            jsonContent = jsonContent.substring(3);
+        }
+        if (jsonContent.endsWith("```")) {
+            jsonContent = jsonContent.substring(0, jsonContent.length() - 3);
+        }
+        jsonContent = jsonContent.trim();
+        try {
+            List<ExperienceJson> parsed = objectMapper.readValue(jsonContent,
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, ExperienceJson.class));
+            return parsed.size();
+        } catch (JsonProcessingException e) {
+            return 0;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ExperienceJson {
+        public String title;
+        public int startIdx;
+        public int endIdx;
+        public double rankScore;
+    }
+}
@@ -0,0 +1,38 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 파이프라인 작업용 워커 풀 설정
+ * 큐가 가득 차면 TaskRejectedException이 발생하며, 호출 측에서 503으로 변환한다.
+ * 가상 스레드 모드에서는 워커를 가상 스레드로 생성하되, 풀 크기는 동시 실행 상한으로 그대로 유지한다.
+ * 스레드 팩토리를 지정하면 setThreadNamePrefix가 적용되지 않으므로 가상 스레드 팩토리에도 같은 이름 접두사를 준다.
+ */
+@Configuration
+@EnableConfigurationProperties({PipelineAsyncProperties.class, SingleFlightProperties.class})
+public class AsyncConfig {
+
+    private static final String THREAD_NAME_PREFIX = "pipeline-";
+
+    @Bean
+    public ThreadPoolTaskExecutor pipelineTaskExecutor(
+            PipelineAsyncProperties properties,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name(THREAD_NAME_PREFIX, 0).factory());
+        }
+        executor.setCorePoolSize(properties.corePoolSize());
+        executor.setMaxPoolSize(properties.maxPoolSize());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
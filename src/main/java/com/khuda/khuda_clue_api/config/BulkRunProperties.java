@@ -0,0 +1,23 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 일괄 처리 실행 설정
+ *
+ * @param defaultConcurrency 요청에 concurrency가 없을 때 동시 처리 수
+ * @param maxConcurrency     허용하는 최대 동시 처리 수
+ * @param pageSize           키셋 스캔 1회당 조회 건수 (체크포인트 단위)
+ * @param lease              소유 인스턴스의 heartbeat가 이 시간 이상 끊기면 다른 인스턴스가 이어받음
+ */
+@ConfigurationProperties(prefix = "clue.bulk-run")
+public record BulkRunProperties(
+        @DefaultValue("4") int defaultConcurrency,
+        @DefaultValue("16") int maxConcurrency,
+        @DefaultValue("100") int pageSize,
+        @DefaultValue("2m") Duration lease
+) {
+}
@@ -0,0 +1,22 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 프롬프트 자소서 문맥 창(context window) 설정
+ * STAR 질문·면접 추천 프롬프트에 자소서 전체 대신 선택 경험 구간과 앞뒤 문장만 보낸다.
+ *
+ * @param enabled         사용 여부 (비활성이면 자소서 전체 전송)
+ * @param sentencesBefore 선택 구간 앞에 덧붙일 최대 문장 수
+ * @param sentencesAfter  선택 구간 뒤에 덧붙일 최대 문장 수
+ * @param maxTokens       발췌문의 추정 토큰 상한 (선택 구간 자체가 넘으면 구간을 잘라 맞춘다)
+ */
+@ConfigurationProperties(prefix = "clue.prompt.context-window")
+public record ContextWindowProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("2") int sentencesBefore,
+        @DefaultValue("2") int sentencesAfter,
+        @DefaultValue("1200") int maxTokens
+) {
+}
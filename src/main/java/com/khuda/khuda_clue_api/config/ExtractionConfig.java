@@ -0,0 +1,12 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 규칙 기반 경험 추출 설정 등록
+ */
+@Configuration
+@EnableConfigurationProperties(HeuristicExtractionProperties.class)
+public class ExtractionConfig {
+}
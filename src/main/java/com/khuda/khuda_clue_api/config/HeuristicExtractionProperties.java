@@ -0,0 +1,23 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * LLM 없이 동작하는 규칙 기반 경험 추출 설정 (기본 비활성)
+ *
+ * @param enabled      규칙 기반 추출기 빈 등록 여부
+ * @param fallback     LLM 추출이 503(한도·브레이커)이거나 빈 결과일 때 규칙 기반 결과로 대신할지 여부
+ * @param minSentences 경험 구간 최소 문장 수
+ * @param maxSentences 경험 구간 최대 문장 수
+ * @param maxResults   반환할 경험 구간 최대 개수 (서로 겹치지 않음)
+ */
+@ConfigurationProperties(prefix = "clue.heuristic-extraction")
+public record HeuristicExtractionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("true") boolean fallback,
+        @DefaultValue("2") int minSentences,
+        @DefaultValue("5") int maxSentences,
+        @DefaultValue("3") int maxResults
+) {
+}
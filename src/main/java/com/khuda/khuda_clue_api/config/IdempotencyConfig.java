@@ -0,0 +1,12 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Idempotency-Key 처리 설정 등록
+ */
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+}
@@ -0,0 +1,27 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 처리 설정
+ *
+ * @param enabled         사용 여부 (false면 헤더를 무시하고 매번 실행)
+ * @param ttl             처리 결과 보관 기간. 지나면 같은 키도 새 요청으로 처리한다 (게이트웨이·클라이언트 재시도 기간보다 길게)
+ * @param lease           처리 중 선점 유효 시간. 선점한 노드가 이 시간 안에 결과를 기록하지 못하면 대기 중인 요청이 이어받는다
+ * @param pollInterval    다른 노드에서 처리 중인 요청을 기다릴 때의 최초 폴링 간격 (이후 두 배씩 늘림)
+ * @param maxPollInterval 폴링 간격 상한
+ * @param maxWait         같은 키의 처리 완료를 기다리는 최대 시간. 초과하면 409
+ */
+@ConfigurationProperties(prefix = "clue.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("5m") Duration lease,
+        @DefaultValue("200ms") Duration pollInterval,
+        @DefaultValue("2s") Duration maxPollInterval,
+        @DefaultValue("3m") Duration maxWait
+) {
+}
@@ -0,0 +1,24 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * LLM 응답 캐시 설정
+ *
+ * @param enabled           캐시 사용 여부
+ * @param maxMemory         인메모리(Caffeine) 계층 최대 크기 (응답 원문 크기 기준)
+ * @param ttl               엔트리 유효 기간 (두 계층 공통)
+ * @param persistentEnabled MySQL 영속 계층 사용 여부 (재시작·다중 노드 간 공유)
+ */
+@ConfigurationProperties(prefix = "clue.llm.cache")
+public record LlmCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("64MB") DataSize maxMemory,
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("false") boolean persistentEnabled
+) {
+}
@@ -0,0 +1,19 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * LLM 호출 게이트웨이(LlmClient) 설정 등록
+ */
+@Configuration
+@EnableConfigurationProperties({
+        LlmLimiterProperties.class,
+        LlmResilienceProperties.class,
+        LlmHedgingProperties.class,
+        LlmRoutingProperties.class,
+        LlmCacheProperties.class,
+        LlmTransportProperties.class
+})
+public class LlmConfig {
+}
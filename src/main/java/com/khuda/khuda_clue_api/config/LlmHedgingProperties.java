@@ -0,0 +1,33 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * LLM 헤지 요청 설정 (기본 비활성)
+ *
+ * @param enabled       헤지 사용 여부
+ * @param percentile    최근 지연 분포에서 헤지 지연으로 사용할 백분위 (예: 95)
+ * @param windowSize    작업별로 보관하는 최근 지연 샘플 수
+ * @param minSamples    백분위를 신뢰하기 위한 최소 샘플 수 (미만이면 fallbackDelay 사용)
+ * @param fallbackDelay 샘플이 부족할 때의 헤지 지연
+ * @param minDelay      헤지 지연 하한
+ * @param maxDelay      헤지 지연 상한
+ * @param budgetRatio   요청 1건당 적립되는 헤지 예산 (0.05면 전체 요청의 최대 약 5%만 헤지)
+ * @param maxBudget     적립 가능한 헤지 예산 상한 (버스트 제한)
+ */
+@ConfigurationProperties(prefix = "clue.llm.hedging")
+public record LlmHedgingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("95") double percentile,
+        @DefaultValue("200") int windowSize,
+        @DefaultValue("20") int minSamples,
+        @DefaultValue("10s") Duration fallbackDelay,
+        @DefaultValue("1s") Duration minDelay,
+        @DefaultValue("30s") Duration maxDelay,
+        @DefaultValue("0.05") double budgetRatio,
+        @DefaultValue("10") double maxBudget
+) {
+}
@@ -0,0 +1,39 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * LLM 호출 유량 제어 설정 (적응형 동시성 + 분당 요청/토큰 예산)
+ *
+ * @param initialLimit          시작 동시 호출 수
+ * @param minLimit              동시 호출 하한
+ * @param maxLimit              동시 호출 상한
+ * @param latencyThreshold      응답 시간이 이 값을 넘으면 혼잡으로 보고 동시 호출 수를 줄임
+ * @param latencyBackoffRatio   지연 혼잡 시 감소 비율
+ * @param throttleBackoffRatio  상류 429 수신 시 감소 비율
+ * @param maxWait               호출자가 슬롯·예산을 기다리는 최대 시간 (초과 시 503)
+ * @param maxQueued             동시에 대기할 수 있는 호출자 수 (초과 시 즉시 503)
+ * @param requestsPerMinute     분당 요청 예산
+ * @param tokensPerMinute       분당 토큰 예산 (프롬프트 추정치 + 최대 응답 토큰으로 예약)
+ * @param maxThrottleRetries    429 수신 시 재대기 후 재시도 횟수
+ * @param throttleRetryBackoff  429 재시도 전 기본 대기 (시도마다 배수 증가)
+ */
+@ConfigurationProperties(prefix = "clue.llm.limiter")
+public record LlmLimiterProperties(
+        @DefaultValue("4") int initialLimit,
+        @DefaultValue("1") int minLimit,
+        @DefaultValue("32") int maxLimit,
+        @DefaultValue("15s") Duration latencyThreshold,
+        @DefaultValue("0.9") double latencyBackoffRatio,
+        @DefaultValue("0.5") double throttleBackoffRatio,
+        @DefaultValue("30s") Duration maxWait,
+        @DefaultValue("200") int maxQueued,
+        @DefaultValue("500") long requestsPerMinute,
+        @DefaultValue("200000") long tokensPerMinute,
+        @DefaultValue("3") int maxThrottleRetries,
+        @DefaultValue("1s") Duration throttleRetryBackoff
+) {
+}
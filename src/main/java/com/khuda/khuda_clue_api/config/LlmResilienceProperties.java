@@ -0,0 +1,51 @@
+package com.khuda.khuda_clue_api.config;
+
+import com.khuda.khuda_clue_api.llm.LlmOperation;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * LLM 작업별 격리 설정 (벌크헤드 + 서킷 브레이커)
+ * 작업마다 독립된 인스턴스를 두어, 한 작업의 적체·장애가 다른 작업의 호출 슬롯을 잠식하지 않도록 한다.
+ */
+@ConfigurationProperties(prefix = "clue.llm.resilience")
+public record LlmResilienceProperties(
+        @DefaultValue Settings experienceExtraction,
+        @DefaultValue Settings followupQuestions,
+        @DefaultValue Settings interviewRecommendations
+) {
+
+    public Settings settingsFor(LlmOperation operation) {
+        return switch (operation) {
+            case EXPERIENCE_EXTRACTION -> experienceExtraction;
+            case FOLLOWUP_QUESTIONS -> followupQuestions;
+            case INTERVIEW_RECOMMENDATIONS -> interviewRecommendations;
+        };
+    }
+
+    /**
+     * @param maxConcurrent        작업별 동시 호출 상한 (벌크헤드)
+     * @param maxQueued            벌크헤드 대기열 크기 (초과 시 즉시 503)
+     * @param maxWait              벌크헤드 슬롯 최대 대기 시간
+     * @param slidingWindowSize    실패율 계산에 사용하는 최근 호출 수
+     * @param minimumCalls         실패율을 판단하기 위한 최소 호출 수
+     * @param failureRateThreshold 이 비율(%) 이상 실패하면 OPEN
+     * @param slowCallThreshold    이 시간보다 오래 걸린 호출은 실패로 집계
+     * @param openDuration         OPEN 유지 시간 (이후 HALF_OPEN으로 시험 호출 허용)
+     * @param halfOpenCalls        HALF_OPEN에서 허용하는 시험 호출 수 (모두 성공하면 CLOSED)
+     */
+    public record Settings(
+            @DefaultValue("8") int maxConcurrent,
+            @DefaultValue("50") int maxQueued,
+            @DefaultValue("10s") Duration maxWait,
+            @DefaultValue("20") int slidingWindowSize,
+            @DefaultValue("10") int minimumCalls,
+            @DefaultValue("50") double failureRateThreshold,
+            @DefaultValue("30s") Duration slowCallThreshold,
+            @DefaultValue("30s") Duration openDuration,
+            @DefaultValue("3") int halfOpenCalls
+    ) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.khuda.khuda_clue_api.config;
+
+import com.khuda.khuda_clue_api.llm.LlmOperation;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * LLM 작업별 모델 프로파일 라우팅 설정
+ * 작업마다 프로파일 목록을 앞에서부터 시도하고, 응답이 검증을 통과하지 못하거나 프로파일 타임아웃을 넘기면 다음 프로파일로 올린다.
+ * 목록이 비어 있으면 spring.ai.openai.chat.options의 전역 설정 1개만 사용한다 (기존 동작).
+ */
+@ConfigurationProperties(prefix = "clue.llm.routing")
+public record LlmRoutingProperties(
+        @DefaultValue List<Profile> experienceExtraction,
+        @DefaultValue List<Profile> followupQuestions,
+        @DefaultValue List<Profile> interviewRecommendations
+) {
+
+    public List<Profile> profilesFor(LlmOperation operation) {
+        return switch (operation) {
+            case EXPERIENCE_EXTRACTION -> experienceExtraction;
+            case FOLLOWUP_QUESTIONS -> followupQuestions;
+            case INTERVIEW_RECOMMENDATIONS -> interviewRecommendations;
+        };
+    }
+
+    /**
+     * 지정하지 않은 항목은 전역 설정(spring.ai.openai.chat.options)을 따른다.
+     *
+     * @param name        메트릭 태그·로그에 쓰는 프로파일 이름
+     * @param model       모델명
+     * @param maxTokens   최대 출력 토큰 수
+     * @param temperature 샘플링 온도
+     * @param timeout     호출 1건의 응답 대기 한도 (없으면 무제한, 초과 시 다음 프로파일로 올림)
+     */
+    public record Profile(
+            String name,
+            String model,
+            Integer maxTokens,
+            Double temperature,
+            Duration timeout
+    ) {
+    }
+}
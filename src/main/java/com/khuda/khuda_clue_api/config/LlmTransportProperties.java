@@ -0,0 +1,31 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * OpenAI 호출용 HTTP 전송 계층(Reactor Netty 커넥션 풀) 설정
+ *
+ * @param http2                   HTTP/2 사용 여부 (TLS ALPN으로 협상, 미지원 서버는 HTTP/1.1로 내려감)
+ * @param maxConnectionsPerRoute  호스트(라우트)별 최대 연결 수 (HTTP/2는 연결 1개에 요청을 다중화하므로 보통 일부만 사용)
+ * @param maxPendingAcquires      연결을 기다리는 요청 최대 수 (넘으면 즉시 실패)
+ * @param pendingAcquireTimeout   풀에서 연결을 기다리는 최대 시간
+ * @param maxIdleTime             유휴 연결 유지(keep-alive) 시간. 상류 로드밸런서 유휴 제한보다 짧게 둔다.
+ * @param maxLifeTime             연결 최대 수명 (DNS 변경·연결 편중 해소)
+ * @param connectTimeout          TCP 연결 제한 시간
+ * @param readTimeout             요청 전송 후 응답 수신 중 읽기 간격 제한 시간 (모델 생성 시간보다 길게 둔다)
+ */
+@ConfigurationProperties(prefix = "clue.llm.transport")
+public record LlmTransportProperties(
+        @DefaultValue("true") boolean http2,
+        @DefaultValue("50") int maxConnectionsPerRoute,
+        @DefaultValue("500") int maxPendingAcquires,
+        @DefaultValue("10s") Duration pendingAcquireTimeout,
+        @DefaultValue("55s") Duration maxIdleTime,
+        @DefaultValue("10m") Duration maxLifeTime,
+        @DefaultValue("5s") Duration connectTimeout,
+        @DefaultValue("120s") Duration readTimeout
+) {
+}
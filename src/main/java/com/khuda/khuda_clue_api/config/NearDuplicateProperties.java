@@ -0,0 +1,25 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유사 자소서 경험 추출 재사용 설정
+ *
+ * @param enabled            재사용 여부 (비활성이면 색인도 만들지 않는다)
+ * @param maxEntries         인메모리 색인 최대 건수. 초과 시 가장 오래 색인된 자소서부터 밀어낸다
+ * @param maxHammingDistance 후보로 볼 SimHash 지문 간 최대 해밍 거리 (3 이하이면 밴드 색인으로 누락 없이 찾는다)
+ * @param minSimilarity      재사용에 필요한 문자 3-gram 자카드 유사도 (후보 확정 단계)
+ * @param maxCandidates      요청당 검증할 최대 후보 수
+ * @param rebuildPageSize    DB에서 색인을 재구성할 때 키셋 페이지 크기
+ */
+@ConfigurationProperties(prefix = "clue.near-duplicate")
+public record NearDuplicateProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("500000") int maxEntries,
+        @DefaultValue("3") int maxHammingDistance,
+        @DefaultValue("0.9") double minSimilarity,
+        @DefaultValue("5") int maxCandidates,
+        @DefaultValue("1000") int rebuildPageSize
+) {
+}
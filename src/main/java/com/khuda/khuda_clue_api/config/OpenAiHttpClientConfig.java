@@ -0,0 +1,120 @@
+package com.khuda.khuda_clue_api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import io.netty.util.AttributeKey;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.Connection;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spring AI OpenAI 클라이언트가 사용하는 HTTP 전송 계층 설정
+ * - 동기 호출(RestClient)과 스트리밍(WebClient)이 같은 Reactor Netty 커넥션 풀을 공유한다.
+ *   keep-alive 연결 재사용, 라우트별 최대 연결 수, 연결·읽기 타임아웃, HTTP/2(ALPN)를 clue.llm.transport로 설정한다.
+ * - OpenAI 자동 설정은 RestClient.Builder·WebClient.Builder 빈을 주입받아 사용하므로, 빌더 빈을 교체하는 방식으로 적용한다.
+ * - 구간별 지연:
+ *   - 풀 대기·연결: reactor.netty.connection.provider.pending.connections.time,
+ *     reactor.netty.http.client.address.resolver / connect.time / tls.handshake.time (Reactor Netty 내장 메트릭)
+ *   - clue.llm.http.ttfb: 요청 전송 → 응답 헤더 수신 (모델이 첫 바이트를 내기까지)
+ *   - clue.llm.http.total: 요청 전송 → 응답 본문 마지막 바이트 수신
+ * - 가상 스레드 모드에서도 I/O는 Netty 이벤트 루프에서 처리되고, 호출한 가상 스레드는 응답을 기다리는 동안만 대기한다.
+ */
+@Configuration
+public class OpenAiHttpClientConfig {
+
+    private static final AttributeKey<Long> REQUEST_SENT_AT = AttributeKey.valueOf("clue.llm.requestSentAt");
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider llmConnectionProvider(LlmTransportProperties properties) {
+        return ConnectionProvider.builder("llm")
+                .maxConnections(properties.maxConnectionsPerRoute())
+                .pendingAcquireMaxCount(properties.maxPendingAcquires())
+                .pendingAcquireTimeout(properties.pendingAcquireTimeout())
+                .maxIdleTime(properties.maxIdleTime())
+                .maxLifeTime(properties.maxLifeTime())
+                .evictInBackground(properties.maxIdleTime())
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public HttpClient llmHttpClient(ConnectionProvider llmConnectionProvider,
+                                    LlmTransportProperties properties,
+                                    MeterRegistry meterRegistry) {
+        HttpProtocol[] protocols = properties.http2()
+                ? new HttpProtocol[]{HttpProtocol.H2, HttpProtocol.HTTP11}
+                : new HttpProtocol[]{HttpProtocol.HTTP11};
+        return HttpClient.create(llmConnectionProvider)
+                .protocol(protocols)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.connectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(properties.readTimeout())
+                // 내장 메트릭의 uri 태그는 쿼리 문자열을 떼어 카디널리티를 묶는다
+                .metrics(true, OpenAiHttpClientConfig::uriTag)
+                .doOnRequest((request, connection) ->
+                        connection.channel().attr(REQUEST_SENT_AT).set(System.nanoTime()))
+                .doOnResponse((response, connection) ->
+                        record(meterRegistry, "clue.llm.http.ttfb",
+                                "Time from request sent to response headers received for OpenAI calls",
+                                response, connection))
+                .doAfterResponseSuccess((response, connection) ->
+                        record(meterRegistry, "clue.llm.http.total",
+                                "Time from request sent to last response byte received for OpenAI calls",
+                                response, connection));
+    }
+
+    /**
+     * RestClient.Builder는 가변 객체이므로 주입 지점마다 새로 생성 (prototype)
+     */
+    @Bean
+    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+    public RestClient.Builder restClientBuilder(HttpClient llmHttpClient) {
+        return RestClient.builder()
+                .requestFactory(new ReactorClientHttpRequestFactory(llmHttpClient));
+    }
+
+    /**
+     * 스트리밍 호출용 (RestClient.Builder와 같은 커넥션 풀 사용)
+     */
+    @Bean
+    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+    public WebClient.Builder webClientBuilder(HttpClient llmHttpClient) {
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(llmHttpClient));
+    }
+
+    private static void record(MeterRegistry meterRegistry, String name, String description,
+                               HttpClientResponse response, Connection connection) {
+        Long sentAt = connection.channel().attr(REQUEST_SENT_AT).get();
+        if (sentAt == null) {
+            return;
+        }
+        Timer.builder(name)
+                .description(description)
+                .tag("uri", response.fullPath())
+                .tag("status", String.valueOf(response.status().code()))
+                .tag("protocol", response.version().text())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+    }
+
+    private static String uriTag(String uri) {
+        int query = uri.indexOf('?');
+        return query < 0 ? uri : uri.substring(0, query);
+    }
+}
@@ -0,0 +1,12 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 트랜잭션 아웃박스 설정 등록
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+}
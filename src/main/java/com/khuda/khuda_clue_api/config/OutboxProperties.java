@@ -0,0 +1,31 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 트랜잭션 아웃박스 워커 설정
+ *
+ * @param workers        이 노드의 폴링 워커 수 (0이면 이벤트 기록만 하고 처리는 다른 노드에 맡김)
+ * @param batchSize      워커가 한 번에 선점하는 최대 이벤트 수 (차례로 처리하며, 처리 직전에 이벤트마다 리스를 다시 연장)
+ * @param pollInterval   처리할 이벤트가 없을 때 다시 조회하기까지의 대기 시간 (같은 노드의 커밋은 즉시 깨움)
+ * @param lease          이벤트 1건의 처리 리스 (이 시간 안에 끝내지 못하면 다른 워커가 이어받으므로 가장 긴 처리 시간보다 길게)
+ * @param maxAttempts    최대 시도 횟수 (초과 시 FAILED)
+ * @param initialBackoff 첫 재시도 대기 시간 (시도마다 2배)
+ * @param maxBackoff     재시도 대기 시간 상한
+ * @param retention      처리 완료 이벤트 보관 기간
+ */
+@ConfigurationProperties(prefix = "clue.outbox")
+public record OutboxProperties(
+        @DefaultValue("2") int workers,
+        @DefaultValue("10") int batchSize,
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("5m") Duration lease,
+        @DefaultValue("5") int maxAttempts,
+        @DefaultValue("10s") Duration initialBackoff,
+        @DefaultValue("5m") Duration maxBackoff,
+        @DefaultValue("7d") Duration retention
+) {
+}
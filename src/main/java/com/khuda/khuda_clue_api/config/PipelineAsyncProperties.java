@@ -0,0 +1,23 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 비동기 파이프라인 워커 풀 설정
+ *
+ * @param corePoolSize  기본 워커 수
+ * @param maxPoolSize   최대 워커 수
+ * @param queueCapacity 대기 큐 크기 (초과 시 503 반환)
+ * @param jobLease      경험 선택 작업 리스 (실행 인스턴스가 lease-scan-interval마다 연장하며, 만료되면 작업을 FAILED로 정리)
+ */
+@ConfigurationProperties(prefix = "clue.async")
+public record PipelineAsyncProperties(
+        @DefaultValue("4") int corePoolSize,
+        @DefaultValue("8") int maxPoolSize,
+        @DefaultValue("200") int queueCapacity,
+        @DefaultValue("5m") Duration jobLease
+) {
+}
@@ -0,0 +1,39 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 면접 추천 질문 변형 풀 설정 등록
+ * 변형 보충은 요청 경로 작업과 같은 pipelineTaskExecutor를 쓰지 않고 전용 풀에서 실행해,
+ * 사전 생성이 몰려도 요청 경로 작업의 워커·대기열을 차지하지 않게 한다.
+ */
+@Configuration
+@EnableConfigurationProperties(RecommendationPoolProperties.class)
+public class RecommendationPoolConfig {
+
+    private static final String THREAD_NAME_PREFIX = "recommendation-pool-";
+
+    @Bean
+    @ConditionalOnProperty(name = "clue.recommendation-pool.enabled", havingValue = "true")
+    public ThreadPoolTaskExecutor recommendationPoolExecutor(
+            RecommendationPoolProperties properties,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name(THREAD_NAME_PREFIX, 0).factory());
+        }
+        executor.setCorePoolSize(properties.concurrency());
+        executor.setMaxPoolSize(properties.concurrency());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
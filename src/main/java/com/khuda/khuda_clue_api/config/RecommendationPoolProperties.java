@@ -0,0 +1,27 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 면접 추천 질문 변형 사전 생성 풀 설정 (기본 비활성)
+ *
+ * @param enabled      풀 빈 등록 여부 (재생성 시 미리 생성한 변형을 먼저 제공)
+ * @param size         REVIEW_READY 지원서마다 유지할 미제공 변형 수
+ * @param scanInterval 변형이 모자란 REVIEW_READY 지원서를 찾아 보충하는 주기 (재시작·보충 실패 복구용)
+ * @param scanBatch    주기 스캔 1회에 보충을 예약할 최대 지원서 수
+ * @param concurrency  동시에 보충할 최대 지원서 수 (요청 경로 워커 풀과 분리된 전용 풀 크기)
+ * @param queueCapacity 전용 풀 대기열 크기 (가득 차면 다음 주기 스캔에 맡김)
+ */
+@ConfigurationProperties(prefix = "clue.recommendation-pool")
+public record RecommendationPoolProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("2") int size,
+        @DefaultValue("1m") Duration scanInterval,
+        @DefaultValue("20") int scanBatch,
+        @DefaultValue("2") int concurrency,
+        @DefaultValue("20") int queueCapacity
+) {
+}
@@ -0,0 +1,14 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 백그라운드 주기 작업(@Scheduled) 활성화 및 일괄 처리 설정 등록
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(BulkRunProperties.class)
+public class SchedulingConfig {
+}
@@ -0,0 +1,12 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 유사 자소서 색인 설정 등록
+ */
+@Configuration
+@EnableConfigurationProperties(NearDuplicateProperties.class)
+public class SimilarityConfig {
+}
@@ -0,0 +1,29 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 지원서·단계별 단일 실행(single-flight) 설정
+ *
+ * @param enabled         사용 여부
+ * @param lease           선점 유효 시간. 선점한 노드가 이 시간 안에 결과를 기록하지 못하면 대기 중인 요청이 이어받는다
+ * @param renewInterval   리더가 실행 중인 선점의 리스를 연장하는 주기 (lease보다 충분히 짧아야 한다)
+ * @param pollInterval    대기 요청의 최초 폴링 간격 (이후 두 배씩 늘림)
+ * @param maxPollInterval 폴링 간격 상한
+ * @param maxWait         대기 요청의 최대 대기 시간. 초과하면 503
+ * @param resultRetention 선점 토큰별 결과 보관 시간. 리더가 끝난 뒤 대기 요청이 결과를 가져갈 때까지 남겨 둔다
+ */
+@ConfigurationProperties(prefix = "clue.single-flight")
+public record SingleFlightProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5m") Duration lease,
+        @DefaultValue("1m") Duration renewInterval,
+        @DefaultValue("200ms") Duration pollInterval,
+        @DefaultValue("2s") Duration maxPollInterval,
+        @DefaultValue("3m") Duration maxWait,
+        @DefaultValue("10m") Duration resultRetention
+) {
+}
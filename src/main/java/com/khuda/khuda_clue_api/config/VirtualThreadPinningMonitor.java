@@ -0,0 +1,82 @@
+package com.khuda.khuda_clue_api.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 pinning 감시기
+ * - synchronized 블록/네이티브 프레임 안에서 블로킹되어 캐리어 스레드를 점유(pinning)하는 경우
+ *   JFR jdk.VirtualThreadPinned 이벤트를 구독해 경고 로그와 메트릭(clue.virtual_threads.pinned)으로 노출한다.
+ * - 애플리케이션 코드는 synchronized 대신 java.util.concurrent.locks를 사용하며,
+ *   이 감시기는 라이브러리 경로에서 발생하는 회귀를 운영 중에 잡아내기 위한 장치다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Duration threshold;
+    private final Counter pinnedCounter;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${clue.virtual-threads.pinned-threshold:20ms}") Duration threshold
+    ) {
+        this.threshold = threshold;
+        this.pinnedCounter = Counter.builder("clue.virtual_threads.pinned")
+                .description("Virtual thread pinning events longer than the configured threshold")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("가상 스레드 pinning 감시 시작. threshold: {}", threshold);
+    }
+
+    @Override
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        log.warn("가상 스레드 pinning 감지. duration: {}ms, thread: {}, at: {}",
+                event.getDuration().toMillis(),
+                event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                topFrame(event));
+    }
+
+    private String topFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) {
+            return "unknown";
+        }
+        RecordedFrame frame = event.getStackTrace().getFrames().get(0);
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
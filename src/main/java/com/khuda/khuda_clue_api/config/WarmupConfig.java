@@ -0,0 +1,12 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 기동 워밍업 설정 등록
+ */
+@Configuration
+@EnableConfigurationProperties(WarmupProperties.class)
+public class WarmupConfig {
+}
@@ -0,0 +1,27 @@
+package com.khuda.khuda_clue_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 기동 워밍업 설정 (readiness가 UP이 되기 전에 첫 요청 경로를 미리 실행)
+ *
+ * @param enabled              워밍업 실행 여부
+ * @param iterations           JSON 파서·프롬프트 렌더링 반복 횟수 (JIT 컴파일 유도용)
+ * @param transport            OpenAI 연결(DNS·TLS 핸드셰이크·커넥션 풀) 예열 여부. 과금되지 않는 GET /v1/models만 호출한다.
+ * @param transportConnections 동시에 열어 둘 연결 수
+ * @param transportTimeout     연결 예열 전체 제한 시간
+ * @param llmCall              실제 채팅 완성 1회 호출 여부 (과금됨, 기본 비활성)
+ */
+@ConfigurationProperties(prefix = "clue.warmup")
+public record WarmupProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("200") int iterations,
+        @DefaultValue("true") boolean transport,
+        @DefaultValue("2") int transportConnections,
+        @DefaultValue("5s") Duration transportTimeout,
+        @DefaultValue("false") boolean llmCall
+) {
+}
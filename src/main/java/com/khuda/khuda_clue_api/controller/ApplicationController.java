@@ -6,23 +6,43 @@ import com.khuda.khuda_clue_api.dto.request.SubmitRequest;
 import com.khuda.khuda_clue_api.dto.response.ApplicationListResponse;
 import com.khuda.khuda_clue_api.dto.response.FollowupAnswersResponse;
 import com.khuda.khuda_clue_api.dto.response.GenerateFollowupQuestionsResponse;
+import com.khuda.khuda_clue_api.dto.response.PipelineJobResponse;
 import com.khuda.khuda_clue_api.dto.response.RecommendInterviewQuestionsResponse;
 import com.khuda.khuda_clue_api.dto.response.ReviewDetailResponse;
 import com.khuda.khuda_clue_api.dto.response.SelectExperienceResponse;
 import com.khuda.khuda_clue_api.dto.response.SubmitResponse;
 import com.khuda.khuda_clue_api.service.ApplicationService;
+import com.khuda.khuda_clue_api.service.IdempotencyService;
+import com.khuda.khuda_clue_api.service.PipelineJobService;
+import com.khuda.khuda_clue_api.service.PipelineStreamService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponents;
 
+import java.net.URI;
+
+/**
+ * 지원서 파이프라인 API
+ * POST 요청은 Idempotency-Key 헤더를 지원한다. 같은 키의 재요청은 다시 실행하지 않고 처음 응답을 돌려주며,
+ * 처리 중인 동안 들어온 재요청은 끝날 때까지 기다린다. (SSE 스트리밍 요청은 응답을 보관할 수 없어 제외)
+ * 키는 메서드·경로별로 구분되며(다른 엔드포인트에 같은 키를 써도 독립적으로 실행), 호출자 인증이 없으므로
+ * 같은 경로 안에서는 클라이언트끼리 겹치지 않도록 UUID 같은 값을 써야 한다.
+ */
 @RestController
 @RequestMapping("/api/v1/applications")
 @RequiredArgsConstructor
 public class ApplicationController {
 
     private final ApplicationService applicationService;
+    private final PipelineJobService pipelineJobService;
+    private final PipelineStreamService pipelineStreamService;
+    private final IdempotencyService idempotencyService;
 
     /**
      * 지원서 목록 조회 (평가자 큐)
@@ -39,30 +59,102 @@ public class ApplicationController {
     }
 
     @PostMapping
-    public ResponseEntity<SubmitResponse> submitApplication(@Valid @RequestBody SubmitRequest request) {
-        SubmitResponse response = applicationService.createApplication(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    public ResponseEntity<SubmitResponse> submitApplication(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody SubmitRequest request
+    ) {
+        return idempotencyService.execute(idempotencyKey, requestScope(), request, SubmitResponse.class, () -> {
+            SubmitResponse response = applicationService.createApplication(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        });
     }
 
     @PostMapping("/{applicationId}/select-experience")
-    public ResponseEntity<SelectExperienceResponse> selectExperience(@PathVariable Long applicationId) {
-        SelectExperienceResponse response = applicationService.selectExperience(applicationId);
+    public ResponseEntity<SelectExperienceResponse> selectExperience(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @PathVariable Long applicationId
+    ) {
+        return idempotencyService.execute(idempotencyKey, requestScope(), null, SelectExperienceResponse.class,
+                () -> ResponseEntity.ok(applicationService.selectExperience(applicationId)));
+    }
+
+    /**
+     * 경험 추출·선택 비동기 모드
+     * POST /api/v1/applications/{applicationId}/select-experience?async=true
+     * 추출 완료를 기다리지 않고 202 + 작업 상태 조회 URI(Location)를 즉시 반환
+     */
+    @PostMapping(value = "/{applicationId}/select-experience", params = "async=true")
+    public ResponseEntity<PipelineJobResponse> selectExperienceAsync(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @PathVariable Long applicationId
+    ) {
+        return idempotencyService.execute(idempotencyKey, requestScope(), null, PipelineJobResponse.class, () -> {
+            PipelineJobResponse response = pipelineJobService.submitSelectExperience(applicationId);
+            return ResponseEntity.accepted().location(jobLocation(applicationId, response.jobId())).body(response);
+        });
+    }
+
+    /**
+     * 비동기 작업 상태 조회 (폴링)
+     * GET /api/v1/applications/{applicationId}/jobs/{jobId}
+     */
+    @GetMapping("/{applicationId}/jobs/{jobId}")
+    public ResponseEntity<PipelineJobResponse> getJob(@PathVariable Long applicationId, @PathVariable Long jobId) {
+        PipelineJobResponse response = pipelineJobService.getJob(applicationId, jobId);
         return ResponseEntity.ok(response);
     }
 
     @PostMapping("/{applicationId}/generate-followup-questions")
-    public ResponseEntity<GenerateFollowupQuestionsResponse> generateFollowupQuestions(@PathVariable Long applicationId) {
-        GenerateFollowupQuestionsResponse response = applicationService.generateFollowupQuestions(applicationId);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<GenerateFollowupQuestionsResponse> generateFollowupQuestions(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @PathVariable Long applicationId
+    ) {
+        return idempotencyService.execute(idempotencyKey, requestScope(), null, GenerateFollowupQuestionsResponse.class,
+                () -> ResponseEntity.ok(applicationService.generateFollowupQuestions(applicationId)));
+    }
+
+    /**
+     * STAR 질문 생성 (SSE 스트리밍)
+     * POST /api/v1/applications/{applicationId}/generate-followup-questions/stream
+     * 이벤트: question(질문 완성 시마다) → complete(저장 후 최종 응답) | error
+     */
+    @PostMapping(value = "/{applicationId}/generate-followup-questions/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamFollowupQuestions(@PathVariable Long applicationId) {
+        return pipelineStreamService.streamFollowupQuestions(applicationId);
     }
 
+    /**
+     * STAR 답변 제출
+     * POST /api/v1/applications/{applicationId}/followup-answers
+     * 답변 저장(→ ANSWERED) 후 추천 질문 생성을 기다리지 않고 202 + 작업 상태 조회 URI(Location)를 즉시 반환
+     * (작업이 끝나면 지원서가 REVIEW_READY로 전이)
+     */
     @PostMapping("/{applicationId}/followup-answers")
     public ResponseEntity<FollowupAnswersResponse> submitFollowupAnswers(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @PathVariable Long applicationId,
             @Valid @RequestBody FollowupAnswersRequest request
     ) {
-        FollowupAnswersResponse response = applicationService.submitFollowupAnswers(applicationId, request);
-        return ResponseEntity.ok(response);
+        return idempotencyService.execute(idempotencyKey, requestScope(), request, FollowupAnswersResponse.class, () -> {
+            FollowupAnswersResponse response = applicationService.submitFollowupAnswers(applicationId, request);
+            return ResponseEntity.accepted().location(jobLocation(applicationId, response.jobId())).body(response);
+        });
+    }
+
+    /**
+     * 추천 질문 생성 작업 재등록
+     * POST /api/v1/applications/{applicationId}/retry-interview-recommendations
+     * 작업이 재시도를 모두 소진해 ANSWERED에 남은 지원서에 새 작업을 등록하고 202 + 작업 상태 조회 URI(Location)를 반환
+     */
+    @PostMapping("/{applicationId}/retry-interview-recommendations")
+    public ResponseEntity<PipelineJobResponse> retryInterviewRecommendations(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @PathVariable Long applicationId
+    ) {
+        return idempotencyService.execute(idempotencyKey, requestScope(), null, PipelineJobResponse.class, () -> {
+            PipelineJobResponse response = pipelineJobService.retryInterviewRecommendations(applicationId);
+            return ResponseEntity.accepted().location(jobLocation(applicationId, response.jobId())).body(response);
+        });
     }
 
     /**
@@ -81,9 +173,35 @@ public class ApplicationController {
      */
     @PostMapping("/{applicationId}/recommend-interview-questions")
     public ResponseEntity<RecommendInterviewQuestionsResponse> recommendInterviewQuestions(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @PathVariable Long applicationId
     ) {
-        RecommendInterviewQuestionsResponse response = applicationService.recommendInterviewQuestions(applicationId);
-        return ResponseEntity.ok(response);
+        return idempotencyService.execute(idempotencyKey, requestScope(), null, RecommendInterviewQuestionsResponse.class,
+                () -> ResponseEntity.ok(applicationService.recommendInterviewQuestions(applicationId)));
+    }
+
+    /**
+     * 면접 추천 질문 재생성 (SSE 스트리밍)
+     * POST /api/v1/applications/{applicationId}/recommend-interview-questions/stream
+     * 이벤트: recommendation(질문 완성 시마다) → complete(저장 후 최종 응답) | error
+     */
+    @PostMapping(value = "/{applicationId}/recommend-interview-questions/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamInterviewQuestions(@PathVariable Long applicationId) {
+        return pipelineStreamService.streamInterviewQuestions(applicationId);
+    }
+
+    private static URI jobLocation(Long applicationId, Long jobId) {
+        return ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/applications/{applicationId}/jobs/{jobId}")
+                .buildAndExpand(applicationId, jobId)
+                .toUri();
+    }
+
+    /**
+     * 멱등 키 검증용 요청 식별자 (메서드 + 경로 + 쿼리, 호스트 제외)
+     */
+    private static String requestScope() {
+        UriComponents uri = ServletUriComponentsBuilder.fromCurrentRequest().build();
+        return "POST " + uri.getPath() + (uri.getQuery() != null ? "?" + uri.getQuery() : "");
     }
 }
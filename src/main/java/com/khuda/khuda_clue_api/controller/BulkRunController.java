@@ -0,0 +1,53 @@
+package com.khuda.khuda_clue_api.controller;
+
+import com.khuda.khuda_clue_api.dto.request.BulkRunRequest;
+import com.khuda.khuda_clue_api.dto.response.BulkRunResponse;
+import com.khuda.khuda_clue_api.service.BulkPipelineRunner;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/v1/bulk-runs")
+@RequiredArgsConstructor
+public class BulkRunController {
+
+    private final BulkPipelineRunner bulkPipelineRunner;
+
+    /**
+     * 일괄 처리 시작
+     * POST /api/v1/bulk-runs { "status": "SUBMITTED", "concurrency": 8 }
+     * 처리를 기다리지 않고 202 + 실행 상태 조회 URI(Location)를 즉시 반환
+     */
+    @PostMapping
+    public ResponseEntity<BulkRunResponse> startBulkRun(@Valid @RequestBody BulkRunRequest request) {
+        BulkRunResponse response = bulkPipelineRunner.start(request);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{runId}")
+                .buildAndExpand(response.runId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(response);
+    }
+
+    /**
+     * 일괄 처리 진행 상황 조회 (체크포인트, 성공/실패 건수, 처리량)
+     * GET /api/v1/bulk-runs/{runId}
+     */
+    @GetMapping("/{runId}")
+    public ResponseEntity<BulkRunResponse> getBulkRun(@PathVariable Long runId) {
+        return ResponseEntity.ok(bulkPipelineRunner.getRun(runId));
+    }
+
+    /**
+     * 일괄 처리 취소 (현재 페이지까지만 처리하고 중단)
+     * POST /api/v1/bulk-runs/{runId}/cancel
+     */
+    @PostMapping("/{runId}/cancel")
+    public ResponseEntity<BulkRunResponse> cancelBulkRun(@PathVariable Long runId) {
+        return ResponseEntity.ok(bulkPipelineRunner.cancel(runId));
+    }
+}
@@ -0,0 +1,12 @@
+package com.khuda.khuda_clue_api.domain;
+
+/**
+ * 일괄 처리 실행 상태 Enum
+ * RUNNING → COMPLETED / CANCELLED / FAILED
+ */
+public enum BulkRunState {
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED
+}
@@ -0,0 +1,12 @@
+package com.khuda.khuda_clue_api.domain;
+
+/**
+ * 단일 실행(single-flight)으로 합치는 파이프라인 단계 Enum
+ * 같은 지원서·단계의 동시 요청은 노드와 무관하게 LLM 호출 1회로 처리된다.
+ */
+public enum ClaimStage {
+    SELECT_EXPERIENCE,
+    GENERATE_FOLLOWUP_QUESTIONS,
+    SUBMIT_FOLLOWUP_ANSWERS,
+    RECOMMEND_INTERVIEW_QUESTIONS
+}
@@ -0,0 +1,12 @@
+package com.khuda.khuda_clue_api.domain;
+
+/**
+ * 비동기 파이프라인 작업 상태 Enum
+ * PENDING → RUNNING → SUCCEEDED / FAILED
+ */
+public enum JobStatus {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
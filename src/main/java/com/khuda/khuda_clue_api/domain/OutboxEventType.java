@@ -0,0 +1,9 @@
+package com.khuda.khuda_clue_api.domain;
+
+/**
+ * 아웃박스 이벤트 종류 Enum (이벤트마다 OutboxEventHandler 1개가 처리)
+ */
+public enum OutboxEventType {
+    // 답변 제출 후 면접 추천 질문 생성 (aggregate: 지원서, payload: pipeline_job id)
+    INTERVIEW_RECOMMENDATIONS_REQUESTED
+}
@@ -0,0 +1,9 @@
+package com.khuda.khuda_clue_api.domain;
+
+/**
+ * 파이프라인 단계 Enum (비동기 작업의 종류)
+ */
+public enum PipelineStage {
+    SELECT_EXPERIENCE,
+    INTERVIEW_RECOMMENDATIONS
+}
@@ -0,0 +1,10 @@
+package com.khuda.khuda_clue_api.domain;
+
+/**
+ * STAR 질문을 만든 생성기 Enum
+ * LLM: LLM 생성 (기본)
+ * TEMPLATE: LLM 장애·빈 응답 시 규칙 기반 템플릿으로 대체 생성
+ */
+public enum QuestionEngine {
+    LLM, TEMPLATE
+}
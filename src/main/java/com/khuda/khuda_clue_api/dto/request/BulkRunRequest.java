@@ -0,0 +1,17 @@
+package com.khuda.khuda_clue_api.dto.request;
+
+import com.khuda.khuda_clue_api.domain.ApplicationStatus;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 일괄 처리 시작 요청 DTO
+ *
+ * @param status      처리 대상 상태 (SUBMITTED / EXPERIENCE_SELECTED / REVIEW_READY)
+ * @param concurrency 동시 처리 수 (생략 시 기본값, 최대값은 설정으로 제한)
+ */
+public record BulkRunRequest(
+        @NotNull ApplicationStatus status,
+        @Min(1) Integer concurrency
+) {
+}
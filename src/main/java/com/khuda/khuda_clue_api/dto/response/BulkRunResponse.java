@@ -0,0 +1,38 @@
+package com.khuda.khuda_clue_api.dto.response;
+
+import com.khuda.khuda_clue_api.domain.ApplicationStatus;
+import com.khuda.khuda_clue_api.domain.BulkRunState;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 처리 실행 상태 응답 DTO
+ *
+ * @param runId              실행 ID
+ * @param sourceStatus       처리 대상 상태
+ * @param state              실행 상태
+ * @param concurrency        동시 처리 수
+ * @param lastApplicationId  체크포인트 (이 id까지 처리 완료)
+ * @param processedCount     처리 건수
+ * @param succeededCount     성공 건수
+ * @param failedCount        실패 건수
+ * @param throughputPerSecond 시작 이후 평균 처리량 (건/초)
+ * @param errorMessage       FAILED일 때 실패 사유
+ * @param startedAt          시작 시각
+ * @param finishedAt         종료 시각
+ */
+public record BulkRunResponse(
+        Long runId,
+        ApplicationStatus sourceStatus,
+        BulkRunState state,
+        Integer concurrency,
+        Long lastApplicationId,
+        Long processedCount,
+        Long succeededCount,
+        Long failedCount,
+        double throughputPerSecond,
+        String errorMessage,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+}
@@ -3,15 +3,18 @@ package com.khuda.khuda_clue_api.dto.response;
 import com.khuda.khuda_clue_api.domain.ApplicationStatus;
 
 /**
- * STAR 후속 답변 제출 + 면접 추천 질문 생성 응답 DTO
+ * STAR 후속 답변 제출 응답 DTO
+ * 면접 추천 질문은 비동기 작업으로 생성되며, 완료되면 지원서가 REVIEW_READY로 전이된다.
  *
  * @param applicationId 지원서 ID
- * @param status        최종 상태 (REVIEW_READY)
- * @param message       처리 완료 메시지
+ * @param status        답변 저장 직후 상태 (ANSWERED)
+ * @param message       처리 메시지
+ * @param jobId         면접 추천 질문 생성 작업 ID (GET /applications/{id}/jobs/{jobId}로 폴링)
  */
 public record FollowupAnswersResponse(
         Long applicationId,
         ApplicationStatus status,
-        String message
+        String message,
+        Long jobId
 ) {
 }
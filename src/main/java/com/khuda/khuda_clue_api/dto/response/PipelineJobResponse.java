@@ -0,0 +1,30 @@
+package com.khuda.khuda_clue_api.dto.response;
+
+import com.khuda.khuda_clue_api.domain.JobStatus;
+import com.khuda.khuda_clue_api.domain.PipelineStage;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 파이프라인 작업 상태 응답 DTO
+ *
+ * @param jobId         작업 ID
+ * @param applicationId 지원서 ID
+ * @param stage         파이프라인 단계
+ * @param status        작업 상태 (PENDING/RUNNING/SUCCEEDED/FAILED)
+ * @param result        SUCCEEDED일 때 단계별 응답 (예: SelectExperienceResponse)
+ * @param errorMessage  FAILED일 때 실패 사유
+ * @param createdAt     작업 등록 시각
+ * @param updatedAt     마지막 상태 변경 시각
+ */
+public record PipelineJobResponse(
+        Long jobId,
+        Long applicationId,
+        PipelineStage stage,
+        JobStatus status,
+        Object result,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
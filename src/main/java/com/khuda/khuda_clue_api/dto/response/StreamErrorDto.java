@@ -0,0 +1,10 @@
+package com.khuda.khuda_clue_api.dto.response;
+
+/**
+ * SSE 스트림이 열린 뒤 발생한 오류를 전달하는 error 이벤트 페이로드
+ *
+ * @param status  HTTP 상태 코드에 해당하는 값
+ * @param message 오류 메시지
+ */
+public record StreamErrorDto(int status, String message) {
+}
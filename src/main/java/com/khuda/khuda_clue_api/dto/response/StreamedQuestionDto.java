@@ -0,0 +1,10 @@
+package com.khuda.khuda_clue_api.dto.response;
+
+/**
+ * SSE 스트리밍 중 완성된 STAR 질문 1개 (저장 전이므로 questionId 없음)
+ *
+ * @param type         질문 유형 (S/T/A/R)
+ * @param questionText 질문 내용
+ */
+public record StreamedQuestionDto(String type, String questionText) {
+}
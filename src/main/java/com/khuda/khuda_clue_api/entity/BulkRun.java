@@ -0,0 +1,107 @@
+package com.khuda.khuda_clue_api.entity;
+
+import com.khuda.khuda_clue_api.domain.ApplicationStatus;
+import com.khuda.khuda_clue_api.domain.BulkRunState;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 처리 실행 엔티티
+ * sourceStatus 상태의 지원서를 id 오름차순 키셋으로 훑으며 다음 단계로 진행시킨다.
+ * lastApplicationId는 페이지 단위 체크포인트로, 재시작 시 이 id 이후부터 이어서 처리한다.
+ */
+@Entity
+@Table(name = "bulk_run")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BulkRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source_status", nullable = false)
+    private ApplicationStatus sourceStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false)
+    private BulkRunState state;
+
+    @Column(name = "concurrency", nullable = false)
+    private Integer concurrency;
+
+    @Column(name = "last_application_id", nullable = false)
+    private Long lastApplicationId;
+
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount;
+
+    @Column(name = "succeeded_count", nullable = false)
+    private Long succeededCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private Long failedCount;
+
+    /**
+     * 현재 실행 중인 인스턴스 ID (heartbeat_at 리스가 만료되면 다른 인스턴스가 이어받음)
+     */
+    @Column(name = "owner_id", length = 64)
+    private String ownerId;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @CreationTimestamp
+    @Column(name = "started_at", nullable = false, updatable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public BulkRun(ApplicationStatus sourceStatus, Integer concurrency, String ownerId) {
+        this.sourceStatus = sourceStatus;
+        this.concurrency = concurrency;
+        this.state = BulkRunState.RUNNING;
+        this.lastApplicationId = 0L;
+        this.processedCount = 0L;
+        this.succeededCount = 0L;
+        this.failedCount = 0L;
+        this.ownerId = ownerId;
+        this.heartbeatAt = LocalDateTime.now();
+    }
+
+    /**
+     * 페이지 처리 완료 시 체크포인트와 카운터 갱신
+     */
+    public void recordPage(Long lastApplicationId, int succeeded, int failed) {
+        this.lastApplicationId = lastApplicationId;
+        this.succeededCount += succeeded;
+        this.failedCount += failed;
+        this.processedCount += succeeded + failed;
+        this.heartbeatAt = LocalDateTime.now();
+    }
+
+    public void finish(BulkRunState state, String errorMessage) {
+        this.state = state;
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isRunning() {
+        return state == BulkRunState.RUNNING;
+    }
+}
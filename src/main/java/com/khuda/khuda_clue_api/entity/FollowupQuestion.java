@@ -1,5 +1,6 @@
 package com.khuda.khuda_clue_api.entity;
 
+import com.khuda.khuda_clue_api.domain.QuestionEngine;
 import com.khuda.khuda_clue_api.domain.QuestionType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -33,13 +34,22 @@ public class FollowupQuestion {
     @Column(name = "question_text", nullable = false, columnDefinition = "TEXT")
     private String questionText;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "engine", nullable = false)
+    private QuestionEngine engine;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     public FollowupQuestion(Long experienceId, QuestionType type, String questionText) {
+        this(experienceId, type, questionText, QuestionEngine.LLM);
+    }
+
+    public FollowupQuestion(Long experienceId, QuestionType type, String questionText, QuestionEngine engine) {
         this.experienceId = experienceId;
         this.type = type;
         this.questionText = questionText;
+        this.engine = engine;
     }
 }
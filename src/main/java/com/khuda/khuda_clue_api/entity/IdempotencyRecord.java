@@ -0,0 +1,88 @@
+package com.khuda.khuda_clue_api.entity;
+
+import com.khuda.khuda_clue_api.domain.JobStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * (scope, Idempotency-Key)별 요청 처리 기록
+ * 성공 시 응답 상태·Location·본문(JSON)을, 4xx 실패 시 상태 코드와 사유를 보관해 같은 키의 재요청에 그대로 돌려준다.
+ */
+@Entity
+@Table(name = "idempotency_record")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 메서드와 경로(쿼리 포함). 같은 키라도 scope가 다르면 별개의 요청으로 처리한다
+     */
+    @Column(name = "scope", nullable = false, updatable = false)
+    private String scope;
+
+    @Column(name = "idempotency_key", nullable = false, updatable = false)
+    private String idempotencyKey;
+
+    /**
+     * 메서드·경로·요청 본문의 SHA-256 (같은 scope·키를 다른 본문에 재사용했는지 확인용)
+     */
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private JobStatus status;
+
+    @Column(name = "claim_token", nullable = false, length = 36)
+    private String claimToken;
+
+    @Column(name = "owner_id", nullable = false, length = 64)
+    private String ownerId;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "response_location", length = 512)
+    private String responseLocation;
+
+    /**
+     * 성공 시 응답 DTO(JSON), 실패 시 오류 사유
+     */
+    @Column(name = "response_body", columnDefinition = "MEDIUMTEXT")
+    private String responseBody;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public IdempotencyRecord(String scope, String idempotencyKey, String requestHash, String claimToken, String ownerId,
+                             LocalDateTime leaseUntil, LocalDateTime expiresAt) {
+        this.scope = scope;
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.status = JobStatus.RUNNING;
+        this.claimToken = claimToken;
+        this.ownerId = ownerId;
+        this.leaseUntil = leaseUntil;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isRunning() {
+        return status == JobStatus.RUNNING;
+    }
+}
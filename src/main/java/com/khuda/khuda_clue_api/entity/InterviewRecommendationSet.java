@@ -0,0 +1,49 @@
+package com.khuda.khuda_clue_api.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지원서별 면접 추천 질문 세트 (이력 + 미리 생성한 변형 풀)
+ * servedAt이 null이면 아직 제공하지 않은 변형이다.
+ */
+@Entity
+@Table(name = "interview_recommendation_set")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InterviewRecommendationSet {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Column(name = "recommendations_json", nullable = false, columnDefinition = "JSON")
+    private String recommendationsJson;
+
+    @Column(name = "served_at")
+    private LocalDateTime servedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public InterviewRecommendationSet(Long applicationId, String recommendationsJson) {
+        this.applicationId = applicationId;
+        this.recommendationsJson = recommendationsJson;
+    }
+
+    /**
+     * 평가자에게 제공된 세트로 기록 (이미 제공된 세트를 이력에 남길 때는 생성 직후 호출)
+     */
+    public void markServed(LocalDateTime servedAt) {
+        this.servedAt = servedAt;
+    }
+}
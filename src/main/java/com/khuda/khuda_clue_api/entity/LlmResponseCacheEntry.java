@@ -0,0 +1,57 @@
+package com.khuda.khuda_clue_api.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * LLM 응답 영속 캐시 엔트리
+ * 동일한 프롬프트(모델·옵션·프롬프트 버전·메시지)에 대한 검증된 응답 원문을 보관한다.
+ */
+@Entity
+@Table(name = "llm_response_cache")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LlmResponseCacheEntry {
+
+    @Id
+    @Column(name = "cache_key", length = 64, nullable = false, updatable = false)
+    private String cacheKey;
+
+    @Column(name = "operation", length = 64, nullable = false)
+    private String operation;
+
+    @Column(name = "model", length = 64, nullable = false)
+    private String model;
+
+    @Column(name = "prompt_version", length = 32, nullable = false)
+    private String promptVersion;
+
+    @Column(name = "response_text", columnDefinition = "MEDIUMTEXT", nullable = false)
+    private String responseText;
+
+    @Column(name = "response_bytes", nullable = false)
+    private Integer responseBytes;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public LlmResponseCacheEntry(String cacheKey, String operation, String model, String promptVersion,
+                                 String responseText, int responseBytes, LocalDateTime expiresAt) {
+        this.cacheKey = cacheKey;
+        this.operation = operation;
+        this.model = model;
+        this.promptVersion = promptVersion;
+        this.responseText = responseText;
+        this.responseBytes = responseBytes;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,73 @@
+package com.khuda.khuda_clue_api.entity;
+
+import com.khuda.khuda_clue_api.domain.JobStatus;
+import com.khuda.khuda_clue_api.domain.OutboxEventType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 이벤트 엔티티
+ * 상태 변경과 같은 트랜잭션에 기록되고, 커밋 후 OutboxWorker가 가져가 처리한다.
+ * 선점·완료·재시도는 리스 토큰 조건의 벌크 업데이트로만 바꾸므로 변경 메서드가 없다.
+ */
+@Entity
+@Table(name = "outbox_event")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 64)
+    private OutboxEventType eventType;
+
+    @Column(name = "payload_json", columnDefinition = "JSON")
+    private String payloadJson;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private JobStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * PENDING이면 다음 시도 가능 시각, RUNNING이면 리스 만료 시각
+     */
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "lease_owner", length = 64)
+    private String leaseOwner;
+
+    @Column(name = "lease_token", length = 36)
+    private String leaseToken;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    public OutboxEvent(OutboxEventType eventType, Long aggregateId, String payloadJson, LocalDateTime now) {
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payloadJson = payloadJson;
+        this.status = JobStatus.PENDING;
+        this.availableAt = now;
+        this.createdAt = now;
+    }
+}
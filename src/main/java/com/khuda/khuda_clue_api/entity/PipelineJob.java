@@ -0,0 +1,135 @@
+package com.khuda.khuda_clue_api.entity;
+
+import com.khuda.khuda_clue_api.domain.JobStatus;
+import com.khuda.khuda_clue_api.domain.PipelineStage;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 파이프라인 작업 엔티티
+ * 요청 스레드는 작업을 등록하고 202를 반환하며, 실제 처리는 워커 풀에서 수행된다.
+ */
+@Entity
+@Table(name = "pipeline_job")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PipelineJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", nullable = false, length = 32)
+    private PipelineStage stage;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private JobStatus status;
+
+    /**
+     * 워커가 실행을 시작한 횟수
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * 재시도 대기 중인 PENDING 작업의 다음 실행 가능 시각 (null이면 즉시)
+     */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 실행 인스턴스가 주기적으로 연장하는 리스 만료 시각 (경험 선택 작업만 사용, 지나면 중단된 작업으로 간주)
+     */
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    /**
+     * 성공 시 단계별 응답 DTO(JSON)
+     */
+    @Column(name = "result_json", columnDefinition = "JSON")
+    private String resultJson;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public PipelineJob(Long applicationId, PipelineStage stage) {
+        this.applicationId = applicationId;
+        this.stage = stage;
+        this.status = JobStatus.PENDING;
+    }
+
+    public void renewLease(LocalDateTime leaseUntil) {
+        this.leaseUntil = leaseUntil;
+    }
+
+    /**
+     * 리스가 없거나 만료되어 실행 인스턴스가 사라진 것으로 볼 수 있는지 여부
+     */
+    public boolean isLeaseExpired(LocalDateTime now) {
+        return leaseUntil == null || leaseUntil.isBefore(now);
+    }
+
+    public void markRunning() {
+        this.status = JobStatus.RUNNING;
+        this.attempts++;
+        this.nextAttemptAt = null;
+    }
+
+    /**
+     * 성공 기록 (이미 끝난 작업이면 무시: 리스 만료로 중복 실행된 쪽이 먼저 기록된 결과를 덮어쓰지 않도록)
+     */
+    public void markSucceeded(String resultJson) {
+        if (!isActive()) {
+            return;
+        }
+        this.status = JobStatus.SUCCEEDED;
+        this.resultJson = resultJson;
+        this.errorMessage = null;
+    }
+
+    /**
+     * 실패한 시도를 기록하고 nextAttemptAt 이후 다시 실행되도록 PENDING으로 되돌림 (이미 끝난 작업이면 무시)
+     */
+    public void markRetry(String errorMessage, LocalDateTime nextAttemptAt) {
+        if (!isActive()) {
+            return;
+        }
+        this.status = JobStatus.PENDING;
+        this.errorMessage = errorMessage;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 실패 기록 (이미 끝난 작업이면 무시)
+     */
+    public void markFailed(String errorMessage) {
+        if (!isActive()) {
+            return;
+        }
+        this.status = JobStatus.FAILED;
+        this.errorMessage = errorMessage;
+    }
+
+    public boolean isActive() {
+        return status == JobStatus.PENDING || status == JobStatus.RUNNING;
+    }
+}
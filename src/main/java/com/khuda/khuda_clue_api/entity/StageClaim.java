@@ -0,0 +1,68 @@
+package com.khuda.khuda_clue_api.entity;
+
+import com.khuda.khuda_clue_api.domain.ClaimStage;
+import com.khuda.khuda_clue_api.domain.JobStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지원서·단계별 실행 선점 엔티티
+ * claimToken은 선점 1회마다 새로 발급되며, 대기 중인 요청은 자신이 기다리던 선점의 토큰으로 결과(StageClaimResult)를 찾는다.
+ */
+@Entity
+@Table(name = "stage_claim")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StageClaim {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", nullable = false, length = 32)
+    private ClaimStage stage;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private JobStatus status;
+
+    @Column(name = "claim_token", nullable = false, length = 36)
+    private String claimToken;
+
+    @Column(name = "owner_id", nullable = false, length = 64)
+    private String ownerId;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public StageClaim(Long applicationId, ClaimStage stage, String claimToken, String ownerId, LocalDateTime leaseUntil) {
+        this.applicationId = applicationId;
+        this.stage = stage;
+        this.status = JobStatus.RUNNING;
+        this.claimToken = claimToken;
+        this.ownerId = ownerId;
+        this.leaseUntil = leaseUntil;
+    }
+
+    public boolean isRunning() {
+        return status == JobStatus.RUNNING;
+    }
+}
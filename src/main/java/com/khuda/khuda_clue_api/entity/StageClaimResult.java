@@ -0,0 +1,71 @@
+package com.khuda.khuda_clue_api.entity;
+
+import com.khuda.khuda_clue_api.domain.ClaimStage;
+import com.khuda.khuda_clue_api.domain.JobStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 선점 1회의 실행 결과
+ * 선점 토큰별로 보관하므로, 리더가 끝난 뒤 새 요청이 stage_claim 행을 이어받아도 대기 중인 요청은 자신이 기다리던 결과를 찾을 수 있다.
+ */
+@Entity
+@Table(name = "stage_claim_result")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StageClaimResult {
+
+    @Id
+    @Column(name = "claim_token", nullable = false, length = 36)
+    private String claimToken;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", nullable = false, length = 32)
+    private ClaimStage stage;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private JobStatus status;
+
+    /**
+     * 성공 시 단계별 응답 DTO(JSON)
+     */
+    @Column(name = "result_json", columnDefinition = "JSON")
+    private String resultJson;
+
+    /**
+     * 실패 시 HTTP 상태 코드 (대기 중인 요청이 같은 상태 코드로 응답하기 위함)
+     */
+    @Column(name = "error_status")
+    private Integer errorStatus;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public StageClaimResult(String claimToken, Long applicationId, ClaimStage stage, JobStatus status,
+                            String resultJson, Integer errorStatus, String errorMessage, LocalDateTime expiresAt) {
+        this.claimToken = claimToken;
+        this.applicationId = applicationId;
+        this.stage = stage;
+        this.status = status;
+        this.resultJson = resultJson;
+        this.errorStatus = errorStatus;
+        this.errorMessage = errorMessage;
+        this.expiresAt = expiresAt;
+    }
+}
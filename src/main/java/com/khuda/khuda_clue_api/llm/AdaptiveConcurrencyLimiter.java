@@ -0,0 +1,137 @@
+package com.khuda.khuda_clue_api.llm;
+
+import com.khuda.khuda_clue_api.config.LlmLimiterProperties;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * AIMD 방식 적응형 동시성 제한기
+ * - 정상 응답(지연 임계 이하): 한도를 1/limit 씩 올려 한도만큼 성공할 때마다 +1 (additive increase)
+ * - 지연 임계 초과: latencyBackoffRatio, 상류 429: throttleBackoffRatio 배로 감소 (multiplicative decrease)
+ *   동시에 돌아온 응답들로 한도가 연쇄적으로 무너지지 않도록 감소는 최소 간격을 둔다.
+ * - 슬롯이 없으면 호출자는 대기열에서 최대 maxWait 동안 기다린다.
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    private static final long MIN_DECREASE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotReleased = lock.newCondition();
+    private final LlmLimiterProperties properties;
+    private final LongSupplier nanoClock;
+
+    private double limit;
+    private int inFlight;
+    private int queued;
+    private long lastDecreaseNanos;
+
+    AdaptiveConcurrencyLimiter(LlmLimiterProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock 감소 간격 판단용 시계 (테스트에서 시간을 직접 진행시킬 때 사용)
+     */
+    AdaptiveConcurrencyLimiter(LlmLimiterProperties properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.limit = properties.initialLimit();
+        this.lastDecreaseNanos = nanoClock.getAsLong() - MIN_DECREASE_INTERVAL_NANOS;
+    }
+
+    /**
+     * 슬롯 획득 (대기열이 가득 찼거나 maxWaitNanos 안에 슬롯이 나지 않으면 false)
+     */
+    boolean acquire(long maxWaitNanos) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return true;
+            }
+            if (queued >= properties.maxQueued()) {
+                return false;
+            }
+            queued++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = slotReleased.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onSuccess(Duration latency) {
+        lock.lock();
+        try {
+            inFlight--;
+            if (latency.compareTo(properties.latencyThreshold()) > 0) {
+                decrease(properties.latencyBackoffRatio());
+            } else {
+                limit = Math.min(properties.maxLimit(), limit + 1.0 / limit);
+            }
+            slotReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onThrottled() {
+        lock.lock();
+        try {
+            inFlight--;
+            decrease(properties.throttleBackoffRatio());
+            slotReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 혼잡과 무관한 실패·취소: 한도 조정 없이 슬롯만 반환
+     */
+    void onIgnored() {
+        lock.lock();
+        try {
+            inFlight--;
+            slotReleased.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Snapshot snapshot() {
+        lock.lock();
+        try {
+            return new Snapshot(limit, inFlight, queued);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void decrease(double ratio) {
+        long now = nanoClock.getAsLong();
+        if (now - lastDecreaseNanos < MIN_DECREASE_INTERVAL_NANOS) {
+            return;
+        }
+        lastDecreaseNanos = now;
+        limit = Math.max(properties.minLimit(), limit * ratio);
+    }
+
+    record Snapshot(double limit, int inFlight, int queued) {
+    }
+}
@@ -0,0 +1,83 @@
+package com.khuda.khuda_clue_api.llm;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 고정 크기 벌크헤드 (동시 실행 상한 + 제한된 대기열)
+ */
+final class Bulkhead {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final int maxConcurrent;
+    private final int maxQueued;
+
+    private int inFlight;
+    private int queued;
+
+    Bulkhead(int maxConcurrent, int maxQueued) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * 슬롯 획득 (대기열이 가득 찼거나 maxWaitNanos 안에 슬롯이 나지 않으면 false)
+     */
+    boolean acquire(long maxWaitNanos) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            if (inFlight < maxConcurrent) {
+                inFlight++;
+                return true;
+            }
+            if (queued >= maxQueued) {
+                return false;
+            }
+            queued++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= maxConcurrent) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int queued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.khuda.khuda_clue_api.llm;
+
+import com.khuda.khuda_clue_api.config.LlmResilienceProperties;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 수 기반 슬라이딩 윈도우 서킷 브레이커
+ * - CLOSED: 최근 slidingWindowSize 건 중 실패(예외·느린 호출) 비율이 임계 이상이면 OPEN
+ * - OPEN: openDuration 동안 즉시 거절, 이후 HALF_OPEN
+ * - HALF_OPEN: halfOpenCalls 건만 시험 호출 허용. 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * 상태가 바뀔 때마다 세대(generation)를 올려, 이전 상태에서 시작된 호출의 늦은 결과가 현재 상태에 섞이지 않도록 한다.
+ */
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LlmResilienceProperties.Settings settings;
+    private final boolean[] window;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private int windowCount;
+    private int windowIndex;
+    private int windowFailures;
+    private long openedAtNanos;
+    private int halfOpenInFlight;
+    private int halfOpenSucceeded;
+
+    CircuitBreaker(LlmResilienceProperties.Settings settings) {
+        this(settings, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock OPEN 유지 시간 계산용 시계 (테스트에서 시간을 직접 진행시킬 때 사용)
+     */
+    CircuitBreaker(LlmResilienceProperties.Settings settings, LongSupplier nanoClock) {
+        this.settings = settings;
+        this.window = new boolean[settings.slidingWindowSize()];
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return 허용 시 현재 세대 번호(0 이상), 거절 시 -1
+     */
+    long tryAcquire() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (nanoClock.getAsLong() - openedAtNanos < settings.openDuration().toNanos()) {
+                    return -1;
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenInFlight + halfOpenSucceeded >= settings.halfOpenCalls()) {
+                    return -1;
+                }
+                halfOpenInFlight++;
+            }
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * OPEN 상태가 풀리기까지 남은 시간 (Retry-After 계산용)
+     */
+    long retryAfterNanos() {
+        lock.lock();
+        try {
+            if (state != State.OPEN) {
+                return settings.openDuration().toNanos() / settings.halfOpenCalls();
+            }
+            return Math.max(0, settings.openDuration().toNanos() - (nanoClock.getAsLong() - openedAtNanos));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onSuccess(long permitGeneration, long latencyNanos) {
+        record(permitGeneration, latencyNanos > settings.slowCallThreshold().toNanos());
+    }
+
+    void onFailure(long permitGeneration) {
+        record(permitGeneration, true);
+    }
+
+    /**
+     * 상류 상태와 무관하게 끝난 호출(호출 전 거절, 취소 등): 결과를 집계하지 않고 시험 호출 슬롯만 반환
+     */
+    void onIgnored(long permitGeneration) {
+        lock.lock();
+        try {
+            if (permitGeneration == generation && state == State.HALF_OPEN) {
+                halfOpenInFlight--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    State state() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(long permitGeneration, boolean failed) {
+        lock.lock();
+        try {
+            if (permitGeneration != generation) {
+                return;
+            }
+            switch (state) {
+                case CLOSED -> {
+                    if (windowCount == window.length) {
+                        if (window[windowIndex]) {
+                            windowFailures--;
+                        }
+                    } else {
+                        windowCount++;
+                    }
+                    window[windowIndex] = failed;
+                    if (failed) {
+                        windowFailures++;
+                    }
+                    windowIndex = (windowIndex + 1) % window.length;
+                    if (windowCount >= settings.minimumCalls()
+                            && windowFailures * 100.0 / windowCount >= settings.failureRateThreshold()) {
+                        transitionTo(State.OPEN);
+                    }
+                }
+                case HALF_OPEN -> {
+                    halfOpenInFlight--;
+                    if (failed) {
+                        transitionTo(State.OPEN);
+                    } else if (++halfOpenSucceeded >= settings.halfOpenCalls()) {
+                        transitionTo(State.CLOSED);
+                    }
+                }
+                case OPEN -> {
+                    // 같은 세대에서 OPEN은 늦게 도착한 결과뿐이므로 무시
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        generation++;
+        halfOpenInFlight = 0;
+        halfOpenSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAtNanos = nanoClock.getAsLong();
+        }
+        if (next == State.CLOSED) {
+            windowCount = 0;
+            windowIndex = 0;
+            windowFailures = 0;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.khuda.khuda_clue_api.llm;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최근 N건 지연 시간 링 버퍼 (백분위 계산용)
+ */
+final class LatencyWindow {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long[] samples;
+    private int count;
+    private int index;
+
+    LatencyWindow(int size) {
+        this.samples = new long[size];
+    }
+
+    void record(long nanos) {
+        lock.lock();
+        try {
+            samples[index] = nanos;
+            index = (index + 1) % samples.length;
+            if (count < samples.length) {
+                count++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int count() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param percentile 0~100
+     * @return 백분위 지연 (샘플이 없으면 -1)
+     */
+    long percentile(double percentile) {
+        long[] copy;
+        lock.lock();
+        try {
+            if (count == 0) {
+                return -1;
+            }
+            copy = Arrays.copyOf(samples, count);
+        } finally {
+            lock.unlock();
+        }
+        Arrays.sort(copy);
+        int rank = (int) Math.ceil(percentile / 100.0 * copy.length) - 1;
+        return copy[Math.max(0, Math.min(copy.length - 1, rank))];
+    }
+}
@@ -0,0 +1,633 @@
+package com.khuda.khuda_clue_api.llm;
+
+import com.khuda.khuda_clue_api.config.LlmHedgingProperties;
+import com.khuda.khuda_clue_api.config.LlmLimiterProperties;
+import com.khuda.khuda_clue_api.config.LlmResilienceProperties;
+import com.khuda.khuda_clue_api.config.LlmRoutingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * ChatClient 호출 게이트웨이
+ * 모든 LLM 호출은 이 클래스를 거치며, 호출 전 아래 순서로 격리·유량을 제어한다.
+ * 0) 작업별 가드: 서킷 브레이커 OPEN이면 즉시 거절, 아니면 작업별 벌크헤드 슬롯 획득
+ * 1) 분당 요청/토큰 예산(토큰 버킷) 예약 → 부족하면 채워질 때까지 대기
+ * 2) 적응형 동시성 슬롯 획득 → 없으면 대기열에서 대기
+ * 대기 한도를 넘거나 브레이커가 열려 있거나 429가 재시도 후에도 계속되면
+ * LlmUnavailableException(503 + Retry-After)을 던진다.
+ * 헤지가 켜져 있으면 동기 호출은 RequestHedger를 통해 느린 1차 요청에 2차 요청을 덧붙인다.
+ * 상류 호출마다 토큰 사용량·지연·결과를 LlmUsageRecorder로 기록한다.
+ * 동기 호출은 ModelRouter가 작업별 모델 프로파일을 저렴한 것부터 시도하며, 검증 실패·타임아웃 시에만 상위 프로파일로 올린다.
+ */
+@Slf4j
+@Component
+public class LlmClient {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final Pattern LEADING_STATUS = Pattern.compile("\\s*(HTTP\\s+)?429\\b");
+
+    private final ChatClient chatClient;
+    private final LlmLimiterProperties properties;
+    private final LlmResponseCache responseCache;
+    private final int maxCompletionTokens;
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final TokenBucket requestBucket;
+    private final TokenBucket tokenBucket;
+
+    private final Map<LlmOperation, OperationGuard> guards = new EnumMap<>(LlmOperation.class);
+    private final RequestHedger hedger;
+    private final LlmUsageRecorder usageRecorder;
+    private final ModelRouter router;
+    // 프로파일 타임아웃이 있는 호출을 대기 한도와 함께 실행
+    private final ExecutorService timeoutExecutor;
+    // 타임아웃 후 백그라운드에서 아직 끝나지 않은 호출 수
+    private final AtomicInteger detachedCalls = new AtomicInteger();
+
+    private final Counter throttledCounter;
+    private final Counter rejectedCounter;
+
+    public LlmClient(
+            ChatClient.Builder chatClientBuilder,
+            LlmLimiterProperties properties,
+            LlmResilienceProperties resilienceProperties,
+            LlmHedgingProperties hedgingProperties,
+            LlmRoutingProperties routingProperties,
+            LlmResponseCache responseCache,
+            MeterRegistry meterRegistry,
+            @Value("${spring.ai.openai.chat.options.model:gpt-4o-mini}") String model,
+            @Value("${spring.ai.openai.chat.options.temperature:0.2}") double temperature,
+            @Value("${spring.ai.openai.chat.options.max-tokens:2000}") int maxCompletionTokens,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.chatClient = chatClientBuilder.build();
+        this.properties = properties;
+        this.responseCache = responseCache;
+        this.maxCompletionTokens = maxCompletionTokens;
+        this.limiter = new AdaptiveConcurrencyLimiter(properties);
+        this.requestBucket = new TokenBucket(properties.requestsPerMinute());
+        this.tokenBucket = new TokenBucket(properties.tokensPerMinute());
+        for (LlmOperation operation : LlmOperation.values()) {
+            guards.put(operation, new OperationGuard(
+                    operation, resilienceProperties.settingsFor(operation), meterRegistry));
+        }
+        this.hedger = new RequestHedger(hedgingProperties, meterRegistry, virtualThreads);
+        this.usageRecorder = new LlmUsageRecorder(meterRegistry, model);
+        this.router = new ModelRouter(routingProperties,
+                new ModelProfile(ModelProfile.DEFAULT_NAME, model, maxCompletionTokens, temperature, null, false),
+                meterRegistry);
+        this.timeoutExecutor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("llm-call-vt-", 0).factory())
+                : Executors.newCachedThreadPool(Thread.ofPlatform().name("llm-call-", 0).daemon(true).factory());
+
+        Gauge.builder("clue.llm.limiter.limit", limiter, l -> l.snapshot().limit())
+                .description("Current adaptive concurrency limit for LLM calls")
+                .register(meterRegistry);
+        Gauge.builder("clue.llm.limiter.in_flight", limiter, l -> l.snapshot().inFlight())
+                .description("LLM calls currently in flight")
+                .register(meterRegistry);
+        Gauge.builder("clue.llm.limiter.queued", limiter, l -> l.snapshot().queued())
+                .description("Callers waiting for an LLM concurrency slot")
+                .register(meterRegistry);
+        Gauge.builder("clue.llm.limiter.detached", detachedCalls, AtomicInteger::get)
+                .description("LLM calls abandoned after a profile timeout that still hold their slot")
+                .register(meterRegistry);
+        Gauge.builder("clue.llm.budget.requests_available", requestBucket, TokenBucket::available)
+                .description("Remaining per-minute LLM request budget")
+                .register(meterRegistry);
+        Gauge.builder("clue.llm.budget.tokens_available", tokenBucket, TokenBucket::available)
+                .description("Remaining per-minute LLM token budget")
+                .register(meterRegistry);
+        this.throttledCounter = Counter.builder("clue.llm.limiter.throttled")
+                .description("Upstream 429 responses observed")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("clue.llm.limiter.rejected")
+                .description("LLM calls rejected after exceeding the wait limit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시를 거치는 동기 호출
+     * - 동일한 (모델, 옵션, 프롬프트 버전, 메시지)의 검증된 응답이 캐시에 있으면 네트워크 호출 없이 재사용한다.
+     * - 새 응답은 handler.isValid를 통과한 경우에만 캐시에 저장한다.
+     * - handler.isValid를 통과하지 못하면 작업의 다음 모델 프로파일로 다시 시도한다.
+     *
+     * @param promptVersion 프롬프트 템플릿 버전 (문구 변경 시 올려서 이전 캐시 무효화)
+     */
+    public <T> T call(LlmOperation operation, String promptVersion, Prompt prompt, LlmResponseHandler<T> handler) {
+        return router.route(operation, profile ->
+                callThroughCache(operation, promptVersion, prompt, handler, true, profile));
+    }
+
+    /**
+     * 캐시를 조회하지 않고 새로 생성하는 동기 호출 (재생성 요청용). 유효한 새 응답으로 캐시를 갱신한다.
+     */
+    public <T> T callFresh(LlmOperation operation, String promptVersion, Prompt prompt, LlmResponseHandler<T> handler) {
+        return router.route(operation, profile ->
+                callThroughCache(operation, promptVersion, prompt, handler, false, profile));
+    }
+
+    private <T> ModelRouter.Attempt<T> callThroughCache(LlmOperation operation, String promptVersion, Prompt basePrompt,
+                                                        LlmResponseHandler<T> handler, boolean readCache,
+                                                        ModelProfile profile) {
+        Prompt prompt = profile.apply(basePrompt);
+        if (!responseCache.isEnabled()) {
+            return complete(operation, prompt, handler, profile);
+        }
+
+        String key = responseCache.key(profile.model(), profile.optionsFingerprint(), promptVersion, prompt);
+        String cached = readCache ? responseCache.get(operation, key, utf8Length(prompt.getContents())) : null;
+        if (cached != null) {
+            T result = handler.parse(cached);
+            if (handler.isValid(result)) {
+                return new ModelRouter.Attempt<>(result, cached, true);
+            }
+            responseCache.evict(key);
+        }
+
+        ModelRouter.Attempt<T> attempt = complete(operation, prompt, handler, profile);
+        if (attempt.valid()) {
+            responseCache.put(operation, key, profile.model(), promptVersion, attempt.content());
+        }
+        return attempt;
+    }
+
+    /**
+     * 상류 호출 + 해석. 해석 결과로 호출 결과 태그(ok, empty, parse_failure)를 정해 사용량과 함께 기록한다.
+     */
+    private <T> ModelRouter.Attempt<T> complete(LlmOperation operation, Prompt prompt, LlmResponseHandler<T> handler,
+                                                ModelProfile profile) {
+        Completion completion = callGuarded(operation, prompt, profile);
+        String content = completion.content();
+        T result;
+        try {
+            result = handler.parse(content);
+        } catch (RuntimeException e) {
+            record(operation, prompt, completion, LlmUsageRecorder.OUTCOME_PARSE_FAILURE);
+            throw e;
+        }
+        boolean valid = content != null && handler.isValid(result);
+        record(operation, prompt, completion, LlmUsageRecorder.outcome(content, valid));
+        return new ModelRouter.Attempt<>(result, content, valid);
+    }
+
+    /**
+     * 동기 호출. 응답 텍스트(없으면 null)를 반환한다.
+     * 작업별 가드(브레이커·벌크헤드)를 먼저 통과한 뒤 전역 예산·동시성 제한을 거친다.
+     * 429는 한도를 낮추고 다시 대기열을 거쳐 maxThrottleRetries 만큼 재시도한다.
+     * 검증 기준이 없으므로 에스컬레이션 없이 작업의 첫 모델 프로파일만 사용한다.
+     */
+    public String call(LlmOperation operation, Prompt basePrompt) {
+        ModelProfile profile = router.primary(operation);
+        Prompt prompt = profile.apply(basePrompt);
+        Completion completion = callGuarded(operation, prompt, profile);
+        record(operation, prompt, completion, LlmUsageRecorder.outcome(completion.content(), true));
+        return completion.content();
+    }
+
+    private Completion callGuarded(LlmOperation operation, Prompt prompt, ModelProfile profile) {
+        OperationGuard guard = guards.get(operation);
+        long permit = guard.enter();
+        boolean detached = false;
+        try {
+            return callWithinGuard(operation, prompt, profile, guard, permit);
+        } catch (DetachedCallException e) {
+            // 벌크헤드 슬롯은 백그라운드에 남은 호출이 끝날 때 반환된다
+            detached = true;
+            throw e.reported();
+        } finally {
+            if (!detached) {
+                guard.exit();
+            }
+        }
+    }
+
+    private void record(LlmOperation operation, Prompt prompt, Completion completion, String outcome) {
+        usageRecorder.record(operation, outcome, completion.latencyNanos(), prompt,
+                completion.response(), completion.content());
+    }
+
+    /**
+     * 스트리밍 호출. 구독 시점에 가드·예산·슬롯을 확보하고 스트림이 끝나거나 취소될 때 반환한다.
+     * (이미 일부가 전달되었을 수 있으므로 429 재시도는 하지 않는다)
+     * 사용량은 마지막 청크의 usage 메타데이터(제공될 때만)로, 없으면 누적 텍스트 추정치로 기록한다.
+     * 에스컬레이션할 수 없으므로 작업의 마지막(최상위) 모델 프로파일을 사용한다.
+     */
+    public Flux<String> stream(LlmOperation operation, Prompt basePrompt) {
+        Prompt prompt = router.strongest(operation).apply(basePrompt);
+        return Flux.defer(() -> {
+            OperationGuard guard = guards.get(operation);
+            long permit = guard.enter();
+            try {
+                acquire(operation, prompt);
+            } catch (LlmUnavailableException e) {
+                guard.onIgnored(permit);
+                guard.exit();
+                throw e;
+            }
+            long start = System.nanoTime();
+            StringBuilder streamed = new StringBuilder();
+            AtomicReference<ChatResponse> lastWithUsage = new AtomicReference<>();
+            return chatClient.prompt(prompt)
+                    .stream()
+                    .chatResponse()
+                    .doOnNext(response -> {
+                        if (hasUsage(response)) {
+                            lastWithUsage.set(response);
+                        }
+                    })
+                    .map(response -> Objects.requireNonNullElse(text(response), ""))
+                    .filter(chunk -> !chunk.isEmpty())
+                    .doOnNext(streamed::append)
+                    .doOnComplete(() -> {
+                        long latencyNanos = System.nanoTime() - start;
+                        limiter.onSuccess(Duration.ofNanos(latencyNanos));
+                        guard.onSuccess(permit, latencyNanos);
+                        String content = streamed.toString();
+                        usageRecorder.record(operation, LlmUsageRecorder.outcome(content, true), latencyNanos,
+                                prompt, lastWithUsage.get(), content);
+                    })
+                    .doOnCancel(() -> {
+                        limiter.onIgnored();
+                        guard.onIgnored(permit);
+                    })
+                    .onErrorMap(e -> {
+                        guard.onFailure(permit);
+                        usageRecorder.recordFailure(operation, prompt, System.nanoTime() - start);
+                        if (!isThrottled(e)) {
+                            limiter.onIgnored();
+                            return e;
+                        }
+                        limiter.onThrottled();
+                        throttledCounter.increment();
+                        return unavailable(operation, "LLM upstream is rate limiting requests",
+                                properties.throttleRetryBackoff());
+                    })
+                    .doFinally(signal -> guard.exit());
+        });
+    }
+
+    private Completion callWithinGuard(LlmOperation operation, Prompt prompt, ModelProfile profile,
+                                       OperationGuard guard, long permit) {
+        int attempt = 0;
+        while (true) {
+            long reservedTokens;
+            try {
+                reservedTokens = acquire(operation, prompt);
+            } catch (LlmUnavailableException e) {
+                // 자체 대기 한도 초과는 상류 장애가 아니므로 브레이커에 집계하지 않음
+                guard.onIgnored(permit);
+                throw e;
+            }
+
+            long start = System.nanoTime();
+            ChatResponse response;
+            try {
+                response = withinTimeout(operation, profile, guard, reservedTokens, () -> hedger.isEnabled()
+                        ? hedger.execute(operation, () -> invoke(prompt), () -> admitHedge(prompt))
+                        : invoke(prompt));
+            } catch (DetachedCallException e) {
+                // 동시성 슬롯·토큰 예약은 백그라운드 호출이 끝날 때 반환·보정된다 (detach 참고)
+                usageRecorder.recordFailure(operation, prompt, System.nanoTime() - start);
+                if (e.reported() instanceof LlmTimeoutException) {
+                    guard.onFailure(permit);
+                } else {
+                    guard.onIgnored(permit);
+                }
+                throw e;
+            } catch (RuntimeException e) {
+                tokenBucket.refund(reservedTokens);
+                usageRecorder.recordFailure(operation, prompt, System.nanoTime() - start);
+                if (!isThrottled(e)) {
+                    limiter.onIgnored();
+                    guard.onFailure(permit);
+                    throw e;
+                }
+                limiter.onThrottled();
+                throttledCounter.increment();
+                if (++attempt > properties.maxThrottleRetries()) {
+                    guard.onFailure(permit);
+                    throw unavailable(operation, "LLM upstream is rate limiting requests", properties.throttleRetryBackoff());
+                }
+                log.warn("LLM 429 수신, 재시도 대기. operation: {}, attempt: {}", operation, attempt);
+                try {
+                    sleep(operation, properties.throttleRetryBackoff().multipliedBy(attempt).toNanos());
+                } catch (LlmUnavailableException interrupted) {
+                    guard.onIgnored(permit);
+                    throw interrupted;
+                }
+                continue;
+            }
+
+            long latencyNanos = System.nanoTime() - start;
+            limiter.onSuccess(Duration.ofNanos(latencyNanos));
+            guard.onSuccess(permit, latencyNanos);
+            reconcileTokens(reservedTokens, response);
+            return new Completion(response, text(response), latencyNanos);
+        }
+    }
+
+    /**
+     * actuator(llm 엔드포인트) 노출용 작업별 모델 프로파일
+     */
+    public Map<String, Object> routingState() {
+        return router.state();
+    }
+
+    /**
+     * actuator(llm 엔드포인트) 노출용 헤지 상태
+     */
+    public Map<String, Object> hedgingState() {
+        return hedger.state();
+    }
+
+    /**
+     * actuator(llm 엔드포인트) 노출용 캐시 상태
+     */
+    public Map<String, Object> cacheState() {
+        return responseCache.state();
+    }
+
+    /**
+     * actuator(llm 엔드포인트) 노출용 작업별 격리 상태
+     */
+    public Map<String, Object> guardState() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        guards.forEach((operation, guard) -> state.put(operation.tag(), guard.state()));
+        return state;
+    }
+
+    /**
+     * actuator(llm 엔드포인트) 노출용 현재 상태
+     */
+    public Map<String, Object> limiterState() {
+        AdaptiveConcurrencyLimiter.Snapshot snapshot = limiter.snapshot();
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("limit", snapshot.limit());
+        state.put("inFlight", snapshot.inFlight());
+        state.put("queued", snapshot.queued());
+        state.put("detached", detachedCalls.get());
+        state.put("requestsAvailable", requestBucket.available());
+        state.put("tokensAvailable", tokenBucket.available());
+        state.put("throttled", throttledCounter.count());
+        state.put("rejected", rejectedCounter.count());
+        return state;
+    }
+
+    /**
+     * @return 토큰 버킷에 예약한 토큰 수 (응답 후 실제 사용량으로 보정)
+     */
+    private long acquire(LlmOperation operation, Prompt prompt) {
+        long maxWaitNanos = properties.maxWait().toNanos();
+        long deadline = System.nanoTime() + maxWaitNanos;
+        long reservedTokens = reservation(prompt);
+
+        long requestWait = requestBucket.reserve(1, maxWaitNanos);
+        if (requestWait < 0) {
+            throw unavailable(operation, "LLM request budget exhausted", properties.maxWait());
+        }
+        long tokenWait = tokenBucket.reserve(reservedTokens, maxWaitNanos);
+        if (tokenWait < 0) {
+            requestBucket.refund(1);
+            throw unavailable(operation, "LLM token budget exhausted", properties.maxWait());
+        }
+
+        try {
+            sleep(operation, Math.max(requestWait, tokenWait));
+            if (!limiter.acquire(deadline - System.nanoTime())) {
+                throw unavailable(operation, "LLM concurrency limit reached", properties.maxWait());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            requestBucket.refund(1);
+            tokenBucket.refund(reservedTokens);
+            throw unavailable(operation, "Interrupted while waiting for LLM capacity", properties.maxWait());
+        } catch (LlmUnavailableException e) {
+            requestBucket.refund(1);
+            tokenBucket.refund(reservedTokens);
+            throw e;
+        }
+        return reservedTokens;
+    }
+
+    /**
+     * 토큰 버킷 예약량: 프롬프트 추정치 + 최대 출력 토큰 (프로파일 옵션이 있으면 그 값)
+     */
+    private long reservation(Prompt prompt) {
+        Integer maxTokens = prompt.getOptions() == null ? null : prompt.getOptions().getMaxTokens();
+        return TokenEstimator.estimate(prompt.getContents()) + (long) (maxTokens != null ? maxTokens : maxCompletionTokens);
+    }
+
+    /**
+     * 프로파일 타임아웃이 있으면 별도 스레드에서 실행하고 한도까지만 기다린다.
+     * 한도를 넘기거나 대기 중 인터럽트되면 호출을 백그라운드에 남기고(detach) DetachedCallException을 던진다.
+     */
+    private ChatResponse withinTimeout(LlmOperation operation, ModelProfile profile, OperationGuard guard,
+                                       long reservedTokens, Supplier<ChatResponse> call) {
+        if (profile.timeout() == null) {
+            return call.get();
+        }
+        CompletableFuture<ChatResponse> future = CompletableFuture.supplyAsync(call, timeoutExecutor);
+        try {
+            return future.get(profile.timeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            detach(future, guard, reservedTokens);
+            throw new DetachedCallException(new LlmTimeoutException("LLM " + operation.tag() + " profile "
+                    + profile.name() + " timed out after " + profile.timeout().toMillis() + "ms"));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            detach(future, guard, reservedTokens);
+            throw new DetachedCallException(
+                    unavailable(operation, "Interrupted while waiting for LLM response", properties.maxWait()));
+        }
+    }
+
+    /**
+     * 기다리지 않기로 한 호출의 자원 반환을 호출 종료 시점으로 미룬다.
+     * Future를 취소해도 진행 중인 HTTP 요청은 멈추지 않으므로, 상류에서 실제로 끝날 때(응답 또는 HTTP 클라이언트 타임아웃)까지
+     * 동시성 슬롯·작업별 벌크헤드 슬롯·토큰 예약을 유지해 상류 동시 호출 수와 분당 예산이 한도를 넘지 않게 한다.
+     * 늦게 온 응답은 사용량으로 토큰 예약만 보정하고 버린다.
+     */
+    private void detach(CompletableFuture<ChatResponse> future, OperationGuard guard, long reservedTokens) {
+        detachedCalls.incrementAndGet();
+        future.whenComplete((response, failure) -> {
+            if (failure == null) {
+                reconcileTokens(reservedTokens, response);
+            } else {
+                tokenBucket.refund(reservedTokens);
+            }
+            limiter.onIgnored();
+            guard.exit();
+            detachedCalls.decrementAndGet();
+        });
+    }
+
+    private static int utf8Length(String text) {
+        return text == null ? 0 : text.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private ChatResponse invoke(Prompt prompt) {
+        return chatClient.prompt(prompt).call().chatResponse();
+    }
+
+    /**
+     * 헤지 요청용 예산을 대기 없이 확보할 수 있으면 2차 요청을, 아니면 null을 반환
+     * (헤지는 동시성 한도 슬롯을 차지하지 않고 전역 헤지 예산으로만 제한된다)
+     */
+    private Supplier<ChatResponse> admitHedge(Prompt prompt) {
+        long reservedTokens = reservation(prompt);
+        if (requestBucket.reserve(1, 0) < 0) {
+            return null;
+        }
+        if (tokenBucket.reserve(reservedTokens, 0) < 0) {
+            requestBucket.refund(1);
+            return null;
+        }
+        return () -> {
+            ChatResponse response;
+            try {
+                response = invoke(prompt);
+            } catch (RuntimeException e) {
+                tokenBucket.refund(reservedTokens);
+                if (isThrottled(e)) {
+                    throttledCounter.increment();
+                }
+                throw e;
+            }
+            reconcileTokens(reservedTokens, response);
+            return response;
+        };
+    }
+
+    private void reconcileTokens(long reservedTokens, ChatResponse response) {
+        if (!hasUsage(response)) {
+            return;
+        }
+        tokenBucket.refund(reservedTokens - response.getMetadata().getUsage().getTotalTokens());
+    }
+
+    private static boolean hasUsage(ChatResponse response) {
+        if (response == null || response.getMetadata() == null) {
+            return false;
+        }
+        Usage usage = response.getMetadata().getUsage();
+        return usage != null && usage.getTotalTokens() != null && usage.getTotalTokens() > 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hedger.shutdown();
+        timeoutExecutor.shutdownNow();
+    }
+
+    private static String text(ChatResponse response) {
+        if (response == null || response.getResult() == null || response.getResult().getOutput() == null) {
+            return null;
+        }
+        return response.getResult().getOutput().getText();
+    }
+
+    private void sleep(LlmOperation operation, long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw unavailable(operation, "Interrupted while waiting for LLM capacity", properties.maxWait());
+        }
+    }
+
+    private LlmUnavailableException unavailable(LlmOperation operation, String reason, Duration retryAfter) {
+        rejectedCounter.increment();
+        log.warn("LLM 호출 거절. operation: {}, reason: {}", operation, reason);
+        return new LlmUnavailableException(reason + ". Retry later.", retryAfter);
+    }
+
+    /**
+     * 상류 응답 1건 (응답 메타데이터, 텍스트, 지연)
+     */
+    private record Completion(ChatResponse response, String content, long latencyNanos) {
+    }
+
+    /**
+     * 호출을 백그라운드에 남긴 채 포기했음을 callGuarded까지 알리는 내부 신호
+     * (슬롯·예약 반환은 detach가 맡으므로 호출 경로에서는 반환하지 않는다). 밖으로는 reported만 던진다.
+     */
+    private static final class DetachedCallException extends RuntimeException {
+
+        private final ResponseStatusException reported;
+
+        DetachedCallException(ResponseStatusException reported) {
+            super(reported.getReason(), reported, false, false);
+            this.reported = reported;
+        }
+
+        ResponseStatusException reported() {
+            return reported;
+        }
+    }
+
+    /**
+     * 429 판별: 원인 체인에서 HTTP 응답 상태 코드만 확인한다. (메시지 본문의 "429" 문자열은 보지 않음)
+     * - RestClient·WebClient 응답 예외: 상태 코드
+     * - Spring AI 재시도 예외: 기본 오류 처리기가 "{상태 코드} - {응답 본문}" 형식으로 감싸므로 선두 상태 코드
+     */
+    static boolean isThrottled(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof RestClientResponseException responseException) {
+                return responseException.getStatusCode().value() == TOO_MANY_REQUESTS;
+            }
+            if (t instanceof WebClientResponseException responseException) {
+                return responseException.getStatusCode().value() == TOO_MANY_REQUESTS;
+            }
+            if ((t instanceof NonTransientAiException || t instanceof TransientAiException)
+                    && t.getMessage() != null && LEADING_STATUS.matcher(t.getMessage()).lookingAt()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
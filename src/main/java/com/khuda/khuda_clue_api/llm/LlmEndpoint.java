@@ -0,0 +1,34 @@
+package com.khuda.khuda_clue_api.llm;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LLM 호출 제어 상태 actuator 엔드포인트
+ * GET /actuator/llm
+ */
+@Component
+@Endpoint(id = "llm")
+public class LlmEndpoint {
+
+    private final LlmClient llmClient;
+
+    public LlmEndpoint(LlmClient llmClient) {
+        this.llmClient = llmClient;
+    }
+
+    @ReadOperation
+    public Map<String, Object> state() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("limiter", llmClient.limiterState());
+        state.put("operations", llmClient.guardState());
+        state.put("routing", llmClient.routingState());
+        state.put("hedging", llmClient.hedgingState());
+        state.put("cache", llmClient.cacheState());
+        return state;
+    }
+}
@@ -0,0 +1,23 @@
+package com.khuda.khuda_clue_api.llm;
+
+/**
+ * LLM 호출 작업 종류 (메트릭 태그·작업별 격리 단위)
+ */
+public enum LlmOperation {
+    EXPERIENCE_EXTRACTION("experience_extraction"),
+    FOLLOWUP_QUESTIONS("followup_questions"),
+    INTERVIEW_RECOMMENDATIONS("interview_recommendations");
+
+    private final String tag;
+
+    LlmOperation(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * 메트릭 태그 값
+     */
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,227 @@
+package com.khuda.khuda_clue_api.llm;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.khuda.khuda_clue_api.config.LlmCacheProperties;
+import com.khuda.khuda_clue_api.entity.LlmResponseCacheEntry;
+import com.khuda.khuda_clue_api.repository.LlmResponseCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 내용 주소 기반 LLM 응답 캐시
+ * - 키: SHA-256(모델, 옵션, 프롬프트 버전, 메시지 타입·본문 전체). 프롬프트 문구를 바꾸면 프롬프트 버전을 올려 이전 응답을 무효화한다.
+ * - 1차 계층: Caffeine (응답 크기 기준 최대 용량 + TTL)
+ * - 2차 계층(선택): MySQL llm_response_cache. 1차 미스 시 조회하고 적중하면 1차 계층에 다시 올린다.
+ * - 값은 검증을 통과한 응답 원문이며, 호출자는 적중 시에도 같은 해석기로 다시 파싱해 새 엔티티를 만든다.
+ */
+@Slf4j
+@Component
+public class LlmResponseCache {
+
+    private static final String TIER_MEMORY = "memory";
+    private static final String TIER_DATABASE = "database";
+
+    private final LlmCacheProperties properties;
+    private final LlmResponseCacheRepository repository;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, String> memory;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    public LlmResponseCache(
+            LlmCacheProperties properties,
+            LlmResponseCacheRepository repository,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+        this.memory = Caffeine.newBuilder()
+                .maximumWeight(properties.maxMemory().toBytes())
+                .weigher((String key, String value) -> key.length() + value.length() * 2)
+                .expireAfterWrite(properties.ttl())
+                .build();
+
+        Gauge.builder("clue.llm.cache.hit_ratio", this, LlmResponseCache::hitRatio)
+                .description("LLM response cache hit ratio since startup")
+                .register(meterRegistry);
+        Gauge.builder("clue.llm.cache.memory_entries", memory, Cache::estimatedSize)
+                .description("Entries in the in-memory LLM response cache")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 캐시 키 계산
+     */
+    public String key(String model, String options, String promptVersion, Prompt prompt) {
+        MessageDigest digest = sha256();
+        update(digest, model);
+        update(digest, options);
+        update(digest, promptVersion);
+        for (Message message : prompt.getInstructions()) {
+            update(digest, message.getMessageType().getValue());
+            update(digest, message.getText());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 조회 (1차 → 2차 계층)
+     *
+     * @param promptBytes 적중 시 절약한 전송량 집계용 프롬프트 크기
+     * @return 응답 원문, 없으면 null
+     */
+    public String get(LlmOperation operation, String key, int promptBytes) {
+        if (!properties.enabled()) {
+            return null;
+        }
+        lookups.increment();
+
+        String content = memory.getIfPresent(key);
+        String tier = TIER_MEMORY;
+        if (content == null && properties.persistentEnabled()) {
+            content = findPersistent(key);
+            tier = TIER_DATABASE;
+            if (content != null) {
+                memory.put(key, content);
+            }
+        }
+
+        if (content == null) {
+            count("clue.llm.cache.misses", operation, null);
+            return null;
+        }
+        hits.increment();
+        long saved = promptBytes + (long) content.getBytes(StandardCharsets.UTF_8).length;
+        bytesSaved.add(saved);
+        count("clue.llm.cache.hits", operation, tier);
+        Counter.builder("clue.llm.cache.bytes_saved")
+                .description("Request and response bytes not sent to the LLM thanks to cache hits")
+                .baseUnit("bytes")
+                .tag("operation", operation.tag())
+                .register(meterRegistry)
+                .increment(saved);
+        log.debug("LLM 응답 캐시 적중. operation: {}, tier: {}", operation, tier);
+        return content;
+    }
+
+    public void put(LlmOperation operation, String key, String model, String promptVersion, String content) {
+        if (!properties.enabled()) {
+            return;
+        }
+        memory.put(key, content);
+        if (!properties.persistentEnabled()) {
+            return;
+        }
+        try {
+            repository.save(new LlmResponseCacheEntry(
+                    key, operation.tag(), model, promptVersion, content,
+                    content.getBytes(StandardCharsets.UTF_8).length,
+                    LocalDateTime.now().plus(properties.ttl())));
+        } catch (DataAccessException e) {
+            // 동시 저장으로 인한 키 중복 등은 캐시 동작에 영향이 없으므로 무시
+            log.debug("LLM 응답 영속 캐시 저장 실패. key: {}, reason: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 적중했지만 현재 해석기로 유효하지 않은 엔트리 제거
+     */
+    public void evict(String key) {
+        memory.invalidate(key);
+        if (properties.persistentEnabled()) {
+            try {
+                repository.deleteById(key);
+            } catch (DataAccessException e) {
+                log.debug("LLM 응답 영속 캐시 삭제 실패. key: {}, reason: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "PT5M", fixedDelayString = "${clue.llm.cache.purge-interval:PT1H}")
+    public void purgeExpired() {
+        if (!properties.enabled() || !properties.persistentEnabled()) {
+            return;
+        }
+        int deleted = repository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 LLM 응답 영속 캐시 삭제. count: {}", deleted);
+        }
+    }
+
+    public Map<String, Object> state() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("enabled", properties.enabled());
+        state.put("persistentEnabled", properties.persistentEnabled());
+        state.put("memoryEntries", memory.estimatedSize());
+        state.put("lookups", lookups.sum());
+        state.put("hits", hits.sum());
+        state.put("hitRatio", hitRatio());
+        state.put("bytesSaved", bytesSaved.sum());
+        return state;
+    }
+
+    private String findPersistent(String key) {
+        try {
+            return repository.findByCacheKeyAndExpiresAtAfter(key, LocalDateTime.now())
+                    .map(LlmResponseCacheEntry::getResponseText)
+                    .orElse(null);
+        } catch (DataAccessException e) {
+            log.warn("LLM 응답 영속 캐시 조회 실패, 캐시 미스로 처리. reason: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private double hitRatio() {
+        long total = lookups.sum();
+        return total == 0 ? 0.0 : (double) hits.sum() / total;
+    }
+
+    private void count(String name, LlmOperation operation, String tier) {
+        Counter.Builder builder = Counter.builder(name).tag("operation", operation.tag());
+        if (tier != null) {
+            builder.tag("tier", tier);
+        }
+        builder.register(meterRegistry).increment();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        // 필드 경계가 섞이지 않도록 길이 접두 + 구분자
+        String safe = value == null ? "" : value;
+        byte[] bytes = safe.getBytes(StandardCharsets.UTF_8);
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+}
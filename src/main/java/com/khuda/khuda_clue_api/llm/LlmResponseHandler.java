@@ -0,0 +1,37 @@
+package com.khuda.khuda_clue_api.llm;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * LLM 응답 텍스트 해석기
+ * LlmClient는 parse 결과가 isValid일 때만 응답을 캐시에 저장하고, 캐시 적중 시에도 같은 해석기로 다시 파싱한다.
+ *
+ * @param <T> 해석 결과 타입
+ */
+public interface LlmResponseHandler<T> {
+
+    /**
+     * 응답 텍스트 → 결과 (빈 응답·파싱 실패는 예외 대신 isValid가 false인 값으로 표현)
+     */
+    T parse(String content);
+
+    /**
+     * 재사용 가능한(캐시 가능한) 결과인지 여부
+     */
+    boolean isValid(T result);
+
+    static <T> LlmResponseHandler<T> of(Function<String, T> parser, Predicate<T> validator) {
+        return new LlmResponseHandler<>() {
+            @Override
+            public T parse(String content) {
+                return parser.apply(content);
+            }
+
+            @Override
+            public boolean isValid(T result) {
+                return validator.test(result);
+            }
+        };
+    }
+}
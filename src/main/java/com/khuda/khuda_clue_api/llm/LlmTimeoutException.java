@@ -0,0 +1,15 @@
+package com.khuda.khuda_clue_api.llm;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 모델 프로파일의 응답 대기 한도 초과
+ * 라우터는 다음 프로파일이 있으면 올려서 다시 시도하고, 마지막 프로파일이면 504로 그대로 전달한다.
+ */
+public class LlmTimeoutException extends ResponseStatusException {
+
+    public LlmTimeoutException(String reason) {
+        super(HttpStatus.GATEWAY_TIMEOUT, reason);
+    }
+}
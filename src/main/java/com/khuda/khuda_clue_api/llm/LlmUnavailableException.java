@@ -0,0 +1,34 @@
+package com.khuda.khuda_clue_api.llm;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+/**
+ * LLM 호출을 지금 수행할 수 없음 (대기 한도 초과, 상류 429 지속 등)
+ * 빈 결과(500)로 뭉개지 않고 503 + Retry-After로 그대로 응답되도록 서비스 계층에서 다시 던진다.
+ */
+public class LlmUnavailableException extends ResponseStatusException {
+
+    private final Duration retryAfter;
+
+    public LlmUnavailableException(String reason, Duration retryAfter) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, reason);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        // Retry-After는 초 단위 정수 (최소 1초)
+        long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+        return headers;
+    }
+}
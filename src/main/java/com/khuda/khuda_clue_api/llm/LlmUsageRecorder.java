@@ -0,0 +1,137 @@
+package com.khuda.khuda_clue_api.llm;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LLM 호출 1건 단위 사용량·지연 기록
+ * - clue.llm.calls (Timer): 작업·모델·결과(ok, empty, parse_failure, exception)별 호출 지연
+ * - clue.llm.tokens (DistributionSummary): 작업·모델·종류(prompt, completion, cached_prompt)·출처(usage, estimate)별 호출당 토큰 수.
+ *   합계가 곧 누적 토큰 사용량이다. cached_prompt는 prompt 중 상류 접두 캐시에 적중한 토큰 수로,
+ *   cached_prompt 합계 / prompt 합계가 접두 캐시 적중률이다 (usage에 prompt_tokens_details.cached_tokens가 있을 때만 기록).
+ * - 토큰 수는 응답 usage 메타데이터를 우선 사용하고, 없으면(스트리밍·usage 미제공) TokenEstimator 추정치로 대신한다.
+ * - 캐시 적중이나 자체 유량 제어 거절처럼 상류 호출이 없었던 경우는 기록하지 않는다.
+ */
+final class LlmUsageRecorder {
+
+    static final String OUTCOME_OK = "ok";
+    static final String OUTCOME_EMPTY = "empty";
+    static final String OUTCOME_PARSE_FAILURE = "parse_failure";
+    static final String OUTCOME_EXCEPTION = "exception";
+
+    private static final String SOURCE_USAGE = "usage";
+    private static final String SOURCE_ESTIMATE = "estimate";
+
+    // 제공자별 usage 원본(OpenAI: prompt_tokens_details.cached_tokens)을 필드 이름으로 읽기 위한 변환기
+    private static final ObjectMapper NATIVE_USAGE_MAPPER = new ObjectMapper();
+
+    private final MeterRegistry meterRegistry;
+    private final String defaultModel;
+
+    LlmUsageRecorder(MeterRegistry meterRegistry, String defaultModel) {
+        this.meterRegistry = meterRegistry;
+        this.defaultModel = defaultModel;
+    }
+
+    /**
+     * 응답을 받은 호출 기록
+     *
+     * @param response 상류 응답 (usage·모델 메타데이터 출처, 없으면 null)
+     * @param content  응답 텍스트 (completion 토큰 추정용)
+     */
+    void record(LlmOperation operation, String outcome, long latencyNanos,
+                Prompt prompt, ChatResponse response, String content) {
+        String model = model(response, prompt);
+        timer(operation, model, outcome).record(latencyNanos, TimeUnit.NANOSECONDS);
+
+        Usage usage = response == null || response.getMetadata() == null ? null : response.getMetadata().getUsage();
+        Integer promptTokens = usage == null ? null : usage.getPromptTokens();
+        Integer completionTokens = usage == null ? null : usage.getCompletionTokens();
+        if (promptTokens != null && promptTokens > 0) {
+            tokens(operation, model, "prompt", SOURCE_USAGE).record(promptTokens);
+            tokens(operation, model, "completion", SOURCE_USAGE)
+                    .record(completionTokens == null ? 0 : completionTokens);
+            Integer cachedTokens = cachedPromptTokens(usage);
+            if (cachedTokens != null) {
+                tokens(operation, model, "cached_prompt", SOURCE_USAGE).record(cachedTokens);
+            }
+            return;
+        }
+        tokens(operation, model, "prompt", SOURCE_ESTIMATE).record(TokenEstimator.estimate(prompt.getContents()));
+        tokens(operation, model, "completion", SOURCE_ESTIMATE).record(TokenEstimator.estimate(content));
+    }
+
+    /**
+     * 상류 호출이 예외로 끝난 경우 (토큰 사용량은 알 수 없으므로 지연·결과만 기록)
+     */
+    void recordFailure(LlmOperation operation, Prompt prompt, long latencyNanos) {
+        timer(operation, model(null, prompt), OUTCOME_EXCEPTION).record(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * usage 원본의 prompt_tokens_details.cached_tokens (제공자가 보고하지 않으면 null)
+     */
+    static Integer cachedPromptTokens(Usage usage) {
+        Object nativeUsage = usage.getNativeUsage();
+        if (nativeUsage == null) {
+            return null;
+        }
+        try {
+            JsonNode cached = NATIVE_USAGE_MAPPER.valueToTree(nativeUsage)
+                    .path("prompt_tokens_details").path("cached_tokens");
+            return cached.canConvertToInt() ? cached.intValue() : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 응답 텍스트와 해석 결과로 결과 태그 판정
+     */
+    static String outcome(String content, boolean valid) {
+        if (content == null || content.isBlank()) {
+            return OUTCOME_EMPTY;
+        }
+        return valid ? OUTCOME_OK : OUTCOME_PARSE_FAILURE;
+    }
+
+    /**
+     * 응답 메타데이터의 모델 → 프롬프트 옵션(모델 프로파일)의 모델 → 전역 설정 모델 순
+     */
+    private String model(ChatResponse response, Prompt prompt) {
+        String model = response == null || response.getMetadata() == null ? null : response.getMetadata().getModel();
+        if ((model == null || model.isBlank()) && prompt.getOptions() != null) {
+            model = prompt.getOptions().getModel();
+        }
+        return model == null || model.isBlank() ? defaultModel : model;
+    }
+
+    private Timer timer(LlmOperation operation, String model, String outcome) {
+        return Timer.builder("clue.llm.calls")
+                .description("Upstream LLM call latency by operation, model and outcome")
+                .tag("operation", operation.tag())
+                .tag("model", model)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary tokens(LlmOperation operation, String model, String type, String source) {
+        return DistributionSummary.builder("clue.llm.tokens")
+                .description("Tokens per upstream LLM call by operation, model, type and count source")
+                .baseUnit("tokens")
+                .tag("operation", operation.tag())
+                .tag("model", model)
+                .tag("type", type)
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
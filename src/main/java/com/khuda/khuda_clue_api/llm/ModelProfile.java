@@ -0,0 +1,43 @@
+package com.khuda.khuda_clue_api.llm;
+
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.time.Duration;
+
+/**
+ * 전역 설정과 합쳐 확정한 모델 프로파일
+ *
+ * @param timeout   null이면 무제한
+ * @param overrides false면 전역 설정 그대로이므로 프롬프트에 옵션을 붙이지 않는다
+ */
+record ModelProfile(
+        String name,
+        String model,
+        int maxTokens,
+        double temperature,
+        Duration timeout,
+        boolean overrides
+) {
+
+    static final String DEFAULT_NAME = "default";
+
+    /**
+     * 응답 캐시 키에 포함하는 옵션 지문 (모델은 별도 키 구성 요소)
+     */
+    String optionsFingerprint() {
+        return "temperature=" + temperature + ";maxTokens=" + maxTokens;
+    }
+
+    Prompt apply(Prompt prompt) {
+        if (!overrides) {
+            return prompt;
+        }
+        ChatOptions options = ChatOptions.builder()
+                .model(model)
+                .maxTokens(maxTokens)
+                .temperature(temperature)
+                .build();
+        return new Prompt(prompt.getInstructions(), options);
+    }
+}
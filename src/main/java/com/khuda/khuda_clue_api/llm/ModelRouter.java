@@ -0,0 +1,152 @@
+package com.khuda.khuda_clue_api.llm;
+
+import com.khuda.khuda_clue_api.config.LlmRoutingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 작업별 모델 프로파일 라우터
+ * - 저렴한 프로파일부터 시도하고, 응답이 검증(LlmResponseHandler.isValid)을 통과하지 못하거나 프로파일 타임아웃을 넘기면 다음 프로파일로 올린다.
+ * - 마지막 프로파일의 결과는 검증 여부와 관계없이 반환한다 (타임아웃이면 그대로 던진다).
+ * - 시도마다 clue.llm.route.attempts (Timer)에 작업·프로파일·결과(accepted, escalated, exhausted)·사유별 지연을 기록한다.
+ *   프로파일별 에스컬레이션 비율은 escalated / 전체 시도 수로 구한다.
+ */
+@Slf4j
+final class ModelRouter {
+
+    private static final String OUTCOME_ACCEPTED = "accepted";
+    private static final String OUTCOME_ESCALATED = "escalated";
+    private static final String OUTCOME_EXHAUSTED = "exhausted";
+
+    private static final String REASON_NONE = "none";
+    private static final String REASON_INVALID = "invalid";
+    private static final String REASON_TIMEOUT = "timeout";
+
+    private final Map<LlmOperation, List<ModelProfile>> routes = new EnumMap<>(LlmOperation.class);
+    private final MeterRegistry meterRegistry;
+
+    ModelRouter(LlmRoutingProperties properties, ModelProfile defaults, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (LlmOperation operation : LlmOperation.values()) {
+            List<ModelProfile> profiles = new ArrayList<>();
+            List<LlmRoutingProperties.Profile> configured = properties.profilesFor(operation);
+            for (int i = 0; i < configured.size(); i++) {
+                profiles.add(resolve(configured.get(i), defaults, operation.tag() + "-" + i));
+            }
+            if (profiles.isEmpty()) {
+                profiles.add(defaults);
+            }
+            routes.put(operation, List.copyOf(profiles));
+        }
+    }
+
+    /**
+     * 프로파일 1회 시도 결과
+     *
+     * @param content 해석 전 응답 텍스트 (캐시 저장용)
+     * @param valid   LlmResponseHandler.isValid 통과 여부
+     */
+    record Attempt<T>(T result, String content, boolean valid) {
+    }
+
+    /**
+     * @param attempt 프로파일을 받아 호출·해석까지 수행
+     */
+    <T> T route(LlmOperation operation, Function<ModelProfile, Attempt<T>> attempt) {
+        List<ModelProfile> profiles = routes.get(operation);
+        for (int i = 0; ; i++) {
+            ModelProfile profile = profiles.get(i);
+            boolean last = i == profiles.size() - 1;
+            long start = System.nanoTime();
+
+            Attempt<T> outcome;
+            try {
+                outcome = attempt.apply(profile);
+            } catch (LlmTimeoutException e) {
+                record(operation, profile, last ? OUTCOME_EXHAUSTED : OUTCOME_ESCALATED, REASON_TIMEOUT, start);
+                if (last) {
+                    throw e;
+                }
+                log.warn("LLM 프로파일 타임아웃, 상위 프로파일로 재시도. operation: {}, profile: {}",
+                        operation, profile.name());
+                continue;
+            }
+
+            if (outcome.valid()) {
+                record(operation, profile, OUTCOME_ACCEPTED, REASON_NONE, start);
+                return outcome.result();
+            }
+            record(operation, profile, last ? OUTCOME_EXHAUSTED : OUTCOME_ESCALATED, REASON_INVALID, start);
+            if (last) {
+                return outcome.result();
+            }
+            log.info("LLM 응답 검증 실패, 상위 프로파일로 재시도. operation: {}, profile: {}", operation, profile.name());
+        }
+    }
+
+    /**
+     * 검증 없이 1회만 호출하는 경우에 쓰는 첫 프로파일
+     */
+    ModelProfile primary(LlmOperation operation) {
+        return routes.get(operation).get(0);
+    }
+
+    /**
+     * 스트리밍은 이미 전달된 청크를 되돌릴 수 없어 에스컬레이션하지 않으므로 마지막(최상위) 프로파일을 사용한다.
+     */
+    ModelProfile strongest(LlmOperation operation) {
+        List<ModelProfile> profiles = routes.get(operation);
+        return profiles.get(profiles.size() - 1);
+    }
+
+    /**
+     * actuator(llm 엔드포인트) 노출용 작업별 프로파일 목록
+     */
+    Map<String, Object> state() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        routes.forEach((operation, profiles) -> state.put(operation.tag(), profiles.stream()
+                .map(profile -> {
+                    Map<String, Object> p = new LinkedHashMap<>();
+                    p.put("name", profile.name());
+                    p.put("model", profile.model());
+                    p.put("maxTokens", profile.maxTokens());
+                    p.put("temperature", profile.temperature());
+                    p.put("timeoutMs", profile.timeout() == null ? null : profile.timeout().toMillis());
+                    return p;
+                })
+                .toList()));
+        return state;
+    }
+
+    private static ModelProfile resolve(LlmRoutingProperties.Profile profile, ModelProfile defaults, String fallbackName) {
+        return new ModelProfile(
+                profile.name() == null || profile.name().isBlank() ? fallbackName : profile.name(),
+                Objects.requireNonNullElse(profile.model(), defaults.model()),
+                Objects.requireNonNullElse(profile.maxTokens(), defaults.maxTokens()),
+                Objects.requireNonNullElse(profile.temperature(), defaults.temperature()),
+                profile.timeout(),
+                true);
+    }
+
+    private void record(LlmOperation operation, ModelProfile profile, String outcome, String reason, long start) {
+        Timer.builder("clue.llm.route.attempts")
+                .description("LLM model profile attempts by operation, profile, outcome and escalation reason")
+                .tag("operation", operation.tag())
+                .tag("profile", profile.name())
+                .tag("model", profile.model())
+                .tag("outcome", outcome)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,110 @@
+package com.khuda.khuda_clue_api.llm;
+
+import com.khuda.khuda_clue_api.config.LlmResilienceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LLM 작업 1종의 격리 단위 (서킷 브레이커 → 벌크헤드 순으로 진입)
+ * 브레이커가 OPEN이면 스레드를 묶지 않고 즉시 503 + Retry-After(남은 OPEN 시간)로 거절한다.
+ */
+final class OperationGuard {
+
+    private final LlmOperation operation;
+    private final LlmResilienceProperties.Settings settings;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker breaker;
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadFullRejections;
+
+    OperationGuard(LlmOperation operation, LlmResilienceProperties.Settings settings, MeterRegistry meterRegistry) {
+        this.operation = operation;
+        this.settings = settings;
+        this.bulkhead = new Bulkhead(settings.maxConcurrent(), settings.maxQueued());
+        this.breaker = new CircuitBreaker(settings);
+
+        Gauge.builder("clue.llm.bulkhead.in_flight", bulkhead, Bulkhead::inFlight)
+                .description("LLM calls in flight per operation bulkhead")
+                .tag("operation", operation.tag())
+                .register(meterRegistry);
+        Gauge.builder("clue.llm.bulkhead.queued", bulkhead, Bulkhead::queued)
+                .description("Callers waiting per operation bulkhead")
+                .tag("operation", operation.tag())
+                .register(meterRegistry);
+        Gauge.builder("clue.llm.circuit.state", breaker, b -> b.state().ordinal())
+                .description("Circuit breaker state per operation (0=closed, 1=open, 2=half_open)")
+                .tag("operation", operation.tag())
+                .register(meterRegistry);
+        this.circuitOpenRejections = Counter.builder("clue.llm.guard.rejected")
+                .description("LLM calls rejected by the operation guard")
+                .tag("operation", operation.tag())
+                .tag("reason", "circuit_open")
+                .register(meterRegistry);
+        this.bulkheadFullRejections = Counter.builder("clue.llm.guard.rejected")
+                .description("LLM calls rejected by the operation guard")
+                .tag("operation", operation.tag())
+                .tag("reason", "bulkhead_full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 브레이커 허가 + 벌크헤드 슬롯 획득
+     *
+     * @return 브레이커 허가 세대 (결과 기록 시 그대로 전달)
+     */
+    long enter() {
+        long permit = breaker.tryAcquire();
+        if (permit < 0) {
+            circuitOpenRejections.increment();
+            throw new LlmUnavailableException(
+                    "LLM " + operation.tag() + " is temporarily unavailable (circuit open). Retry later.",
+                    Duration.ofNanos(breaker.retryAfterNanos()));
+        }
+        boolean acquired;
+        try {
+            acquired = bulkhead.acquire(settings.maxWait().toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            breaker.onIgnored(permit);
+            bulkheadFullRejections.increment();
+            throw new LlmUnavailableException(
+                    "LLM " + operation.tag() + " is at capacity. Retry later.", settings.maxWait());
+        }
+        return permit;
+    }
+
+    void exit() {
+        bulkhead.release();
+    }
+
+    void onSuccess(long permit, long latencyNanos) {
+        breaker.onSuccess(permit, latencyNanos);
+    }
+
+    void onFailure(long permit) {
+        breaker.onFailure(permit);
+    }
+
+    void onIgnored(long permit) {
+        breaker.onIgnored(permit);
+    }
+
+    Map<String, Object> state() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("circuit", breaker.state());
+        state.put("bulkheadInFlight", bulkhead.inFlight());
+        state.put("bulkheadQueued", bulkhead.queued());
+        state.put("maxConcurrent", settings.maxConcurrent());
+        state.put("rejectedCircuitOpen", circuitOpenRejections.count());
+        state.put("rejectedBulkheadFull", bulkheadFullRejections.count());
+        return state;
+    }
+}
@@ -0,0 +1,227 @@
+package com.khuda.khuda_clue_api.llm;
+
+import com.khuda.khuda_clue_api.config.LlmHedgingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 헤지 요청 실행기
+ * - 1차 요청이 작업별 최근 지연의 백분위(percentile)까지 끝나지 않으면 동일한 2차 요청을 보내고 먼저 성공한 응답을 사용한다.
+ *   먼저 끝난 쪽이 실패하면 나머지 쪽의 결과를 기다린다. 진 요청의 응답은 버린다.
+ * - 헤지 비용은 전역 헤지 예산으로 제한한다. 요청마다 budgetRatio 만큼 적립되고 헤지 1건이 1을 소모한다.
+ * - 헤지 요청은 분당 요청/토큰 예산을 대기 없이 확보할 수 있을 때만 보낸다 (hedgeFactory가 null을 반환하면 생략).
+ */
+@Slf4j
+final class RequestHedger {
+
+    private final LlmHedgingProperties properties;
+    private final ExecutorService executor;
+    private final Map<LlmOperation, LatencyWindow> latencies = new EnumMap<>(LlmOperation.class);
+    private final Map<LlmOperation, Counter> callCounters = new EnumMap<>(LlmOperation.class);
+    private final Map<LlmOperation, Counter> firedCounters = new EnumMap<>(LlmOperation.class);
+    private final Map<LlmOperation, Counter> wonCounters = new EnumMap<>(LlmOperation.class);
+
+    private final ReentrantLock budgetLock = new ReentrantLock();
+    private double budget;
+
+    RequestHedger(LlmHedgingProperties properties, MeterRegistry meterRegistry, boolean virtualThreads) {
+        this.properties = properties;
+        this.executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("llm-hedge-vt-", 0).factory())
+                : Executors.newCachedThreadPool(Thread.ofPlatform().name("llm-hedge-", 0).daemon(true).factory());
+
+        for (LlmOperation operation : LlmOperation.values()) {
+            latencies.put(operation, new LatencyWindow(properties.windowSize()));
+            callCounters.put(operation, Counter.builder("clue.llm.hedge.calls")
+                    .description("LLM calls eligible for hedging")
+                    .tag("operation", operation.tag())
+                    .register(meterRegistry));
+            firedCounters.put(operation, Counter.builder("clue.llm.hedge.fired")
+                    .description("Hedge requests sent")
+                    .tag("operation", operation.tag())
+                    .register(meterRegistry));
+            wonCounters.put(operation, Counter.builder("clue.llm.hedge.won")
+                    .description("Hedge requests that returned before the primary request")
+                    .tag("operation", operation.tag())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("clue.llm.hedge.budget", this, RequestHedger::availableBudget)
+                .description("Remaining global hedge budget")
+                .register(meterRegistry);
+    }
+
+    boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * @param primary       1차 요청
+     * @param hedgeFactory  헤지 시점에 호출. 헤지를 보낼 수 있으면 2차 요청을, 예산이 없으면 null을 반환
+     */
+    <T> T execute(LlmOperation operation, Supplier<T> primary, Supplier<Supplier<T>> hedgeFactory) {
+        callCounters.get(operation).increment();
+        deposit();
+
+        CompletableFuture<T> first = CompletableFuture.supplyAsync(timed(operation, primary), executor);
+        try {
+            return first.get(hedgeDelay(operation).toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 헤지 지연 경과: 아래에서 2차 요청 여부 판단
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LlmUnavailableException("Interrupted while waiting for LLM response", properties.fallbackDelay());
+        }
+
+        if (!withdraw()) {
+            return await(first);
+        }
+        Supplier<T> hedge = hedgeFactory.get();
+        if (hedge == null) {
+            refund();
+            return await(first);
+        }
+
+        firedCounters.get(operation).increment();
+        log.debug("LLM 헤지 요청 전송. operation: {}", operation);
+        CompletableFuture<T> second = CompletableFuture.supplyAsync(timed(operation, hedge), executor);
+
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        first.whenComplete((result, error) -> settle(winner, failures, result, error, null));
+        second.whenComplete((result, error) -> settle(winner, failures, result, error, wonCounters.get(operation)));
+        return await(winner);
+    }
+
+    Map<String, Object> state() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("enabled", properties.enabled());
+        state.put("budget", availableBudget());
+        latencies.forEach((operation, window) -> {
+            Map<String, Object> op = new LinkedHashMap<>();
+            op.put("samples", window.count());
+            op.put("hedgeDelayMs", hedgeDelay(operation).toMillis());
+            op.put("calls", callCounters.get(operation).count());
+            op.put("fired", firedCounters.get(operation).count());
+            op.put("won", wonCounters.get(operation).count());
+            state.put(operation.tag(), op);
+        });
+        return state;
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Duration hedgeDelay(LlmOperation operation) {
+        LatencyWindow window = latencies.get(operation);
+        long nanos = window.count() < properties.minSamples()
+                ? properties.fallbackDelay().toNanos()
+                : window.percentile(properties.percentile());
+        long clamped = Math.max(properties.minDelay().toNanos(), Math.min(properties.maxDelay().toNanos(), nanos));
+        return Duration.ofNanos(clamped);
+    }
+
+    private <T> Supplier<T> timed(LlmOperation operation, Supplier<T> attempt) {
+        return () -> {
+            long start = System.nanoTime();
+            T result = attempt.get();
+            latencies.get(operation).record(System.nanoTime() - start);
+            return result;
+        };
+    }
+
+    private <T> void settle(CompletableFuture<T> winner, AtomicInteger failures, T result, Throwable error,
+                            Counter winCounter) {
+        if (error == null) {
+            if (winner.complete(result) && winCounter != null) {
+                winCounter.increment();
+            }
+        } else if (failures.incrementAndGet() == 2) {
+            winner.completeExceptionally(error);
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LlmUnavailableException("Interrupted while waiting for LLM response", properties.fallbackDelay());
+        }
+    }
+
+    private RuntimeException propagate(Throwable cause) {
+        // supplyAsync/whenComplete 경로에서 CompletionException으로 한 번 더 감싸질 수 있음
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private void deposit() {
+        budgetLock.lock();
+        try {
+            budget = Math.min(properties.maxBudget(), budget + properties.budgetRatio());
+        } finally {
+            budgetLock.unlock();
+        }
+    }
+
+    private boolean withdraw() {
+        budgetLock.lock();
+        try {
+            if (budget < 1.0) {
+                return false;
+            }
+            budget -= 1.0;
+            return true;
+        } finally {
+            budgetLock.unlock();
+        }
+    }
+
+    private void refund() {
+        budgetLock.lock();
+        try {
+            budget = Math.min(properties.maxBudget(), budget + 1.0);
+        } finally {
+            budgetLock.unlock();
+        }
+    }
+
+    private double availableBudget() {
+        budgetLock.lock();
+        try {
+            return budget;
+        } finally {
+            budgetLock.unlock();
+        }
+    }
+}
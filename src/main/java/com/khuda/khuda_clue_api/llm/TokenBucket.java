@@ -0,0 +1,84 @@
+package com.khuda.khuda_clue_api.llm;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 분당 예산 기반 토큰 버킷
+ * - reserve()는 필요한 수량을 선차감(음수 잔량 허용)하고 호출자가 기다려야 할 시간을 돌려준다.
+ *   대기 시간이 한도를 넘으면 차감하지 않고 -1을 반환한다.
+ * - 실제 사용량이 예약보다 적으면 refund()로 되돌린다.
+ */
+final class TokenBucket {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final double capacity;
+    private final double refillPerNano;
+    private final LongSupplier nanoClock;
+
+    private double available;
+    private long lastRefillNanos;
+
+    TokenBucket(long perMinute) {
+        this(perMinute, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock 충전량 계산용 시계 (테스트에서 시간을 직접 진행시킬 때 사용)
+     */
+    TokenBucket(long perMinute, LongSupplier nanoClock) {
+        this.capacity = perMinute;
+        this.refillPerNano = perMinute / 60_000_000_000.0;
+        this.nanoClock = nanoClock;
+        this.available = perMinute;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * @return 대기해야 할 나노초 (0이면 즉시 사용 가능), 한도 초과 시 -1
+     */
+    long reserve(long permits, long maxWaitNanos) {
+        double requested = Math.min(permits, capacity);
+        lock.lock();
+        try {
+            refill();
+            double deficit = requested - available;
+            long waitNanos = deficit <= 0 ? 0 : (long) Math.ceil(deficit / refillPerNano);
+            if (waitNanos > maxWaitNanos) {
+                return -1;
+            }
+            available -= requested;
+            return waitNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void refund(long permits) {
+        if (permits <= 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            available = Math.min(capacity, available + permits);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    double available() {
+        lock.lock();
+        try {
+            refill();
+            return available;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        available = Math.min(capacity, available + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+    }
+}
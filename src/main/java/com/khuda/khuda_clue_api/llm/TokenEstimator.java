@@ -0,0 +1,30 @@
+package com.khuda.khuda_clue_api.llm;
+
+/**
+ * 로컬 토큰 수 추정기 (요청 전 예산 계산용)
+ * - 정확한 토크나이저 대신 문자 종류별 평균 비율로 근사한다.
+ *   ASCII(영문·숫자·기호)는 약 4자당 1토큰, 한글 등 비ASCII 문자는 약 1자당 1토큰으로 센다.
+ * - 실제 사용량은 응답의 usage 메타데이터로 보정한다.
+ */
+public final class TokenEstimator {
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(CharSequence text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int ascii = 0;
+        int nonAscii = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                ascii++;
+            } else if (!Character.isLowSurrogate(c)) {
+                nonAscii++;
+            }
+        }
+        return (ascii + 3) / 4 + nonAscii;
+    }
+}
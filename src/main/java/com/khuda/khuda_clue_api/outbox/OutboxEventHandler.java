@@ -0,0 +1,31 @@
+package com.khuda.khuda_clue_api.outbox;
+
+import com.khuda.khuda_clue_api.domain.OutboxEventType;
+import com.khuda.khuda_clue_api.entity.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트 처리기
+ * - handle이 정상 반환하면 이벤트는 SUCCEEDED, 예외를 던지면 백오프 후 재시도(시도 횟수 초과 시 FAILED)된다.
+ * - 리스 만료·노드 장애 시 같은 이벤트가 다시 전달될 수 있으므로 멱등하게 구현해야 한다.
+ *   재시도해도 결과가 같은 실패(상태 불일치 등)는 직접 기록하고 정상 반환한다.
+ */
+public interface OutboxEventHandler {
+
+    OutboxEventType eventType();
+
+    void handle(OutboxEvent event) throws Exception;
+
+    /**
+     * 실패한 시도가 재시도로 예약된 뒤 호출 (진행 상태 노출용)
+     */
+    default void onRetry(OutboxEvent event, String errorMessage, LocalDateTime nextAttemptAt) {
+    }
+
+    /**
+     * 시도 횟수를 모두 써서 최종 실패한 뒤 호출
+     */
+    default void onFailure(OutboxEvent event, String errorMessage) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.khuda.khuda_clue_api.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khuda.khuda_clue_api.domain.OutboxEventType;
+import com.khuda.khuda_clue_api.entity.OutboxEvent;
+import com.khuda.khuda_clue_api.repository.OutboxEventRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 아웃박스 이벤트 기록
+ * - 호출 측의 쓰기 트랜잭션 안에서만 기록할 수 있다. (상태 변경이 롤백되면 이벤트도 함께 롤백)
+ * - 커밋 직후 이 노드의 대기 중인 워커를 깨워 폴링 주기를 기다리지 않고 처리하게 한다.
+ */
+@Component
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition committed = lock.newCondition();
+    // 커밋 알림마다 증가 (대기 직전 값과 비교해 선점 조회와 대기 사이의 알림도 놓치지 않음)
+    private long generation;
+
+    public OutboxPublisher(OutboxEventRepository outboxEventRepository) {
+        this.outboxEventRepository = outboxEventRepository;
+    }
+
+    public OutboxEvent append(OutboxEventType eventType, Long aggregateId, Map<String, Object> payload) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Outbox events must be appended inside the transaction that changes state");
+        }
+        String payloadJson;
+        try {
+            payloadJson = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize outbox payload: " + e.getMessage(), e);
+        }
+        OutboxEvent event = outboxEventRepository.save(
+                new OutboxEvent(eventType, aggregateId, payloadJson, LocalDateTime.now()));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                signal();
+            }
+        });
+        return event;
+    }
+
+    long generation() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * seenGeneration 이후 커밋 알림이 있을 때까지 최대 timeout 대기
+     */
+    void awaitCommit(long seenGeneration, Duration timeout) throws InterruptedException {
+        long remaining = timeout.toNanos();
+        lock.lock();
+        try {
+            while (generation == seenGeneration && remaining > 0) {
+                remaining = committed.awaitNanos(remaining);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void signal() {
+        lock.lock();
+        try {
+            generation++;
+            committed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
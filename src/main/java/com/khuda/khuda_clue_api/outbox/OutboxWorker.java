@@ -0,0 +1,292 @@
+package com.khuda.khuda_clue_api.outbox;
+
+import com.khuda.khuda_clue_api.config.OutboxProperties;
+import com.khuda.khuda_clue_api.domain.JobStatus;
+import com.khuda.khuda_clue_api.domain.OutboxEventType;
+import com.khuda.khuda_clue_api.entity.OutboxEvent;
+import com.khuda.khuda_clue_api.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 트랜잭션 아웃박스 폴링 워커
+ * - workers개의 스레드가 각자 실행 가능한 이벤트를 batchSize개씩 SELECT ... FOR UPDATE SKIP LOCKED로 잠가
+ *   리스(lease_owner + lease_token + 만료 시각)와 함께 선점하고, 이벤트 종류별 처리기에 넘긴다.
+ * - 배치의 이벤트는 차례로 처리하므로 처리기에 넘기기 직전에 이벤트마다 리스를 다시 연장한다.
+ *   (앞 이벤트의 LLM 호출이 길어져도 뒤 이벤트가 대기 중에 만료되어 다른 워커와 중복 실행되지 않음)
+ * - 결과는 리스 토큰이 일치할 때만 기록하므로, 리스가 만료돼 다른 노드가 이어받은 이벤트를 늦게 끝난 워커가 덮어쓰지 않는다.
+ * - 실패하면 initialBackoff × 2^(시도-1) (maxBackoff 상한) 뒤로 재시도하고, maxAttempts회를 넘기면 FAILED로 남긴다.
+ * - 처리할 이벤트가 없으면 pollInterval 동안 대기하되, 같은 노드에서 이벤트가 커밋되면 즉시 깨어난다.
+ * - 메트릭: clue.outbox.events{type,outcome} (처리량), clue.outbox.lag{type} (기록 → 처리 시작),
+ *   clue.outbox.backlog.size / clue.outbox.backlog.age (처리 대기·진행 중 이벤트 수, 가장 오래된 이벤트의 경과 시간)
+ */
+@Slf4j
+@Component
+public class OutboxWorker {
+
+    private static final List<JobStatus> BACKLOG_STATUSES = List.of(JobStatus.PENDING, JobStatus.RUNNING);
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final Map<OutboxEventType, OutboxEventHandler> handlers = new EnumMap<>(OutboxEventType.class);
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final boolean virtualThreads;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final List<Thread> workerThreads = new ArrayList<>();
+    private final AtomicLong backlogSize = new AtomicLong();
+    private final AtomicLong backlogAgeSeconds = new AtomicLong();
+    private volatile boolean running;
+
+    public OutboxWorker(
+            OutboxEventRepository outboxEventRepository,
+            OutboxPublisher outboxPublisher,
+            List<OutboxEventHandler> handlers,
+            TransactionTemplate transactionTemplate,
+            OutboxProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxPublisher = outboxPublisher;
+        handlers.forEach(handler -> this.handlers.put(handler.eventType(), handler));
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.virtualThreads = virtualThreads;
+
+        Gauge.builder("clue.outbox.backlog.size", backlogSize, AtomicLong::get)
+                .description("Outbox events waiting or running")
+                .register(meterRegistry);
+        Gauge.builder("clue.outbox.backlog.age", backlogAgeSeconds, AtomicLong::get)
+                .description("Age of the oldest outbox event waiting or running")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 완료 후 워커 시작 (이전 실행에서 남은 이벤트는 재시도 시각·리스 만료에 맞춰 이어서 처리)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (properties.workers() <= 0) {
+            log.info("아웃박스 워커 비활성 (이벤트 기록만 수행). instanceId: {}", instanceId);
+            return;
+        }
+        running = true;
+        ThreadFactory factory = virtualThreads
+                ? Thread.ofVirtual().name("outbox-", 0).factory()
+                : Thread.ofPlatform().name("outbox-", 0).factory();
+        for (int i = 0; i < properties.workers(); i++) {
+            Thread thread = factory.newThread(this::pollLoop);
+            workerThreads.add(thread);
+            thread.start();
+        }
+        log.info("아웃박스 워커 시작. workers: {}, instanceId: {}", properties.workers(), instanceId);
+    }
+
+    /**
+     * 종료 시 새 선점을 멈추고 처리 중인 이벤트를 잠시 기다린다. 끝내지 못한 이벤트는 리스 만료 후 다른 워커가 이어받는다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        outboxPublisher.signal();
+        for (Thread thread : workerThreads) {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        }
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                long seen = outboxPublisher.generation();
+                if (pollOnce() == 0) {
+                    outboxPublisher.awaitCommit(seen, properties.pollInterval());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("아웃박스 폴링 중 오류 발생", e);
+                try {
+                    Thread.sleep(properties.pollInterval().toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 실행 가능한 이벤트를 한 번 선점해 처리하고 선점한 수를 반환
+     */
+    int pollOnce() {
+        List<OutboxEvent> claimed = claim();
+        for (OutboxEvent event : claimed) {
+            process(event);
+        }
+        return claimed.size();
+    }
+
+    private List<OutboxEvent> claim() {
+        List<OutboxEvent> claimed = transactionTemplate.execute(tx -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = outboxEventRepository.lockAvailable(now, properties.batchSize()).stream()
+                    .map(Number::longValue)
+                    .toList();
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            outboxEventRepository.lease(ids, JobStatus.RUNNING, instanceId, UUID.randomUUID().toString(),
+                    now.plus(properties.lease()));
+            return outboxEventRepository.findAllById(ids);
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    private void process(OutboxEvent event) {
+        if (!renewLease(event)) {
+            return;
+        }
+        if (event.getAttempts() == 1) {
+            Timer.builder("clue.outbox.lag")
+                    .description("Time from outbox event commit to first processing attempt")
+                    .tag("type", event.getEventType().name())
+                    .register(meterRegistry)
+                    .record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+        }
+        OutboxEventHandler handler = handlers.get(event.getEventType());
+        try {
+            if (handler == null) {
+                throw new IllegalStateException("No outbox handler for event type: " + event.getEventType());
+            }
+            handler.handle(event);
+        } catch (Exception e) {
+            fail(event, handler, e);
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (complete(event, JobStatus.SUCCEEDED, now, null, now)) {
+            count(event, "succeeded");
+        }
+    }
+
+    private void fail(OutboxEvent event, OutboxEventHandler handler, Exception e) {
+        String errorMessage = errorMessage(e);
+        if (handler == null || event.getAttempts() >= properties.maxAttempts()) {
+            log.error("아웃박스 이벤트 최종 실패. eventId: {}, type: {}, aggregateId: {}, attempts: {}",
+                    event.getId(), event.getEventType(), event.getAggregateId(), event.getAttempts(), e);
+            LocalDateTime now = LocalDateTime.now();
+            if (complete(event, JobStatus.FAILED, now, errorMessage, now)) {
+                count(event, "failed");
+                if (handler != null) {
+                    handler.onFailure(event, errorMessage);
+                }
+            }
+            return;
+        }
+        Duration backoff = properties.initialBackoff().multipliedBy(1L << Math.min(event.getAttempts() - 1, 20));
+        if (backoff.compareTo(properties.maxBackoff()) > 0) {
+            backoff = properties.maxBackoff();
+        }
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff);
+        log.warn("아웃박스 이벤트 재시도 예약. eventId: {}, type: {}, aggregateId: {}, attempts: {}, backoff: {}, reason: {}",
+                event.getId(), event.getEventType(), event.getAggregateId(), event.getAttempts(), backoff, errorMessage);
+        if (complete(event, JobStatus.PENDING, nextAttemptAt, errorMessage, null)) {
+            count(event, "retried");
+            handler.onRetry(event, errorMessage, nextAttemptAt);
+        }
+    }
+
+    /**
+     * 처리 시작 시점부터 리스를 온전히 확보 (선점 후 대기하는 동안 만료되어 다른 워커가 이어받았으면 false)
+     */
+    private boolean renewLease(OutboxEvent event) {
+        int renewed = outboxEventRepository.renewLease(event.getId(), event.getLeaseToken(), JobStatus.RUNNING,
+                LocalDateTime.now().plus(properties.lease()));
+        if (renewed == 0) {
+            log.warn("아웃박스 이벤트 리스 만료로 처리 생략. eventId: {}, type: {}", event.getId(), event.getEventType());
+            count(event, "lease_lost");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 리스 토큰이 그대로일 때만 결과 기록
+     */
+    private boolean complete(OutboxEvent event, JobStatus status, LocalDateTime availableAt,
+                             String lastError, LocalDateTime processedAt) {
+        int updated = outboxEventRepository.complete(event.getId(), event.getLeaseToken(), JobStatus.RUNNING,
+                status, availableAt, lastError, processedAt);
+        if (updated == 0) {
+            log.warn("아웃박스 이벤트 리스 만료로 결과 기록 생략. eventId: {}, type: {}", event.getId(), event.getEventType());
+            count(event, "lease_lost");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 적체 메트릭 갱신 (스크레이프마다 DB를 조회하지 않도록 주기적으로 계산해 둔다)
+     */
+    @Scheduled(initialDelayString = "PT15S", fixedDelayString = "${clue.outbox.metrics-interval:PT15S}")
+    public void refreshBacklog() {
+        backlogSize.set(outboxEventRepository.countByStatusIn(BACKLOG_STATUSES));
+        backlogAgeSeconds.set(outboxEventRepository.findFirstByStatusInOrderByCreatedAtAsc(BACKLOG_STATUSES)
+                .map(oldest -> Math.max(0, Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).toSeconds()))
+                .orElse(0L));
+    }
+
+    @Scheduled(initialDelayString = "PT5M", fixedDelayString = "${clue.outbox.purge-interval:PT1H}")
+    public void purgeProcessed() {
+        int deleted = outboxEventRepository.deleteProcessedBefore(
+                JobStatus.SUCCEEDED, LocalDateTime.now().minus(properties.retention()));
+        if (deleted > 0) {
+            log.info("처리 완료된 아웃박스 이벤트 삭제. count: {}", deleted);
+        }
+    }
+
+    private void count(OutboxEvent event, String outcome) {
+        Counter.builder("clue.outbox.events")
+                .description("Outbox event processing attempts by outcome")
+                .tag("type", event.getEventType().name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String errorMessage(Exception e) {
+        String message = e instanceof ResponseStatusException rse && rse.getReason() != null
+                ? rse.getReason()
+                : e.getClass().getSimpleName() + ": " + e.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,148 @@
+package com.khuda.khuda_clue_api.prompt;
+
+import com.khuda.khuda_clue_api.config.ContextWindowProperties;
+import com.khuda.khuda_clue_api.entity.Experience;
+import com.khuda.khuda_clue_api.llm.LlmOperation;
+import com.khuda.khuda_clue_api.llm.TokenEstimator;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 프롬프트용 자소서 발췌기
+ * - 선택 경험 구간이 걸친 문장들을 핵심으로 두고, 앞/뒤 문장을 한 문장씩 번갈아 덧붙이되 추정 토큰 상한을 넘기 직전에서 멈춘다.
+ * - 잘린 쪽에는 "(…)" 표시를 붙여 모델이 원문의 일부임을 알 수 있게 한다.
+ * - 원문 대비 줄어든 추정 토큰 수를 작업별 분포 메트릭(clue.prompt.context_tokens_saved)으로 기록한다.
+ */
+@Component
+public class CoverLetterWindower {
+
+    private static final String OMITTED = "(…)";
+
+    private final ContextWindowProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public CoverLetterWindower(ContextWindowProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @return 비활성이거나 발췌가 원문 전체이면 원문 그대로
+     */
+    public String excerpt(LlmOperation operation, String coverLetterText, Experience selectedExperience) {
+        if (!properties.enabled() || coverLetterText.isEmpty()) {
+            return coverLetterText;
+        }
+        List<SentenceSegmenter.Sentence> sentences = SentenceSegmenter.split(coverLetterText);
+        if (sentences.isEmpty()) {
+            return coverLetterText;
+        }
+
+        int length = coverLetterText.length();
+        int spanStart = clamp(selectedExperience.getStartIdx(), length);
+        int spanEnd = Math.max(spanStart, clamp(selectedExperience.getEndIdx(), length));
+
+        int first = firstSentenceEndingAfter(sentences, spanStart);
+        int last = Math.max(first, lastSentenceStartingBefore(sentences, spanEnd));
+        int windowStart = Math.min(spanStart, sentences.get(first).start());
+        int windowEnd = Math.max(spanEnd, sentences.get(last).end());
+
+        if (estimate(coverLetterText, windowStart, windowEnd) > properties.maxTokens()) {
+            // 선택 구간을 포함한 문장만으로도 상한 초과: 선택 구간 시작부터 상한까지만 사용
+            windowStart = spanStart;
+            windowEnd = fitEnd(coverLetterText, spanStart, windowEnd, properties.maxTokens());
+        } else {
+            boolean growBefore = true;
+            boolean growAfter = true;
+            for (int step = 1; growBefore || growAfter; step++) {
+                growBefore &= step <= properties.sentencesBefore() && first - step >= 0;
+                if (growBefore) {
+                    int candidate = sentences.get(first - step).start();
+                    growBefore = estimate(coverLetterText, candidate, windowEnd) <= properties.maxTokens();
+                    if (growBefore) {
+                        windowStart = candidate;
+                    }
+                }
+                growAfter &= step <= properties.sentencesAfter() && last + step < sentences.size();
+                if (growAfter) {
+                    int candidate = sentences.get(last + step).end();
+                    growAfter = estimate(coverLetterText, windowStart, candidate) <= properties.maxTokens();
+                    if (growAfter) {
+                        windowEnd = candidate;
+                    }
+                }
+            }
+        }
+
+        String excerpt = render(coverLetterText, windowStart, windowEnd);
+        int saved = TokenEstimator.estimate(coverLetterText) - TokenEstimator.estimate(excerpt);
+        DistributionSummary.builder("clue.prompt.context_tokens_saved")
+                .description("Estimated prompt tokens saved by sending a cover letter excerpt instead of the full text")
+                .baseUnit("tokens")
+                .tag("operation", operation.tag())
+                .register(meterRegistry)
+                .record(Math.max(0, saved));
+        return excerpt;
+    }
+
+    private static String render(String text, int start, int end) {
+        boolean head = start > 0;
+        boolean tail = end < text.length();
+        if (!head && !tail) {
+            return text;
+        }
+        StringBuilder buffer = new StringBuilder(end - start + 2 * (OMITTED.length() + 1));
+        if (head) {
+            buffer.append(OMITTED).append('\n');
+        }
+        buffer.append(text, start, end);
+        if (tail) {
+            buffer.append('\n').append(OMITTED);
+        }
+        return buffer.toString();
+    }
+
+    private static int firstSentenceEndingAfter(List<SentenceSegmenter.Sentence> sentences, int position) {
+        for (int i = 0; i < sentences.size(); i++) {
+            if (sentences.get(i).end() > position) {
+                return i;
+            }
+        }
+        return sentences.size() - 1;
+    }
+
+    private static int lastSentenceStartingBefore(List<SentenceSegmenter.Sentence> sentences, int position) {
+        for (int i = sentences.size() - 1; i >= 0; i--) {
+            if (sentences.get(i).start() < position) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private static int fitEnd(String text, int start, int end, int maxTokens) {
+        // 이진 탐색으로 상한 안에 드는 가장 긴 끝 위치
+        int low = start;
+        int high = end;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (estimate(text, start, mid) <= maxTokens) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private static int estimate(String text, int start, int end) {
+        return TokenEstimator.estimate(text.subSequence(start, end));
+    }
+
+    private static int clamp(Integer index, int length) {
+        return index == null ? 0 : Math.max(0, Math.min(index, length));
+    }
+}
@@ -0,0 +1,144 @@
+package com.khuda.khuda_clue_api.prompt;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 미리 컴파일된 프롬프트 템플릿
+ * - {{name}} 자리표시자를 기준으로 정적 구간과 슬롯으로 한 번만 분해해 두고, 렌더링은 정적 구간 + 값 길이로 크기를 맞춘 버퍼 1개에 이어 붙인다.
+ * - 컴파일 시점에 선언한 매개변수와 템플릿의 자리표시자가 정확히 일치하는지 검증한다 (누락·오타는 기동 실패).
+ * - 값 안의 '{{' 나 '%' 는 다시 해석하지 않는다 (String.formatted와 달리 이중 치환 없음).
+ * - 불변 객체이며 스레드 안전하다.
+ */
+public final class PromptTemplate {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{([A-Za-z][A-Za-z0-9]*)}}");
+
+    private final String name;
+    private final List<String> parameters;
+    // segments.length == slots.length + 1, slots[i]는 segments[i] 뒤에 올 매개변수 위치
+    private final String[] segments;
+    private final int[] slots;
+    private final int staticLength;
+
+    private PromptTemplate(String name, List<String> parameters, String[] segments, int[] slots) {
+        this.name = name;
+        this.parameters = parameters;
+        this.segments = segments;
+        this.slots = slots;
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        this.staticLength = length;
+    }
+
+    /**
+     * @param parameters render()에 전달할 값의 순서. 템플릿의 자리표시자 집합과 같아야 한다
+     */
+    public static PromptTemplate compile(String name, String source, String... parameters) {
+        List<String> declared = List.of(parameters);
+        Set<String> used = new LinkedHashSet<>();
+        List<String> segments = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+
+        Matcher matcher = PLACEHOLDER.matcher(source);
+        int last = 0;
+        while (matcher.find()) {
+            String parameter = matcher.group(1);
+            int index = declared.indexOf(parameter);
+            if (index < 0) {
+                throw new IllegalStateException("Undeclared placeholder {{" + parameter + "}} in prompt template: " + name);
+            }
+            segments.add(source.substring(last, matcher.start()));
+            slots.add(index);
+            used.add(parameter);
+            last = matcher.end();
+        }
+        segments.add(source.substring(last));
+
+        if (used.size() != declared.size()) {
+            List<String> missing = new ArrayList<>(declared);
+            missing.removeAll(used);
+            throw new IllegalStateException("Prompt template " + name + " does not use parameters: " + missing);
+        }
+        return new PromptTemplate(name, declared, segments.toArray(String[]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * 매개변수 하나를 고정값으로 채운 새 템플릿 (기동 시 정적 구간을 미리 합치는 용도)
+     */
+    public PromptTemplate bind(String parameter, String value) {
+        int bound = parameters.indexOf(parameter);
+        if (bound < 0) {
+            throw new IllegalArgumentException("Unknown parameter " + parameter + " for prompt template: " + name);
+        }
+        List<String> remaining = new ArrayList<>(parameters);
+        remaining.remove(bound);
+
+        List<String> newSegments = new ArrayList<>();
+        List<Integer> newSlots = new ArrayList<>();
+        StringBuilder current = new StringBuilder(segments[0]);
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] == bound) {
+                current.append(value);
+            } else {
+                newSegments.add(current.toString());
+                newSlots.add(slots[i] > bound ? slots[i] - 1 : slots[i]);
+                current.setLength(0);
+            }
+            current.append(segments[i + 1]);
+        }
+        newSegments.add(current.toString());
+        return new PromptTemplate(name, List.copyOf(remaining), newSegments.toArray(String[]::new),
+                newSlots.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * @param values compile()에 선언한 매개변수 순서대로
+     */
+    public String render(CharSequence... values) {
+        checkArity(values);
+        int length = staticLength;
+        for (int slot : slots) {
+            length += values[slot].length();
+        }
+        StringBuilder buffer = new StringBuilder(length);
+        appendTo(buffer, values);
+        return buffer.toString();
+    }
+
+    /**
+     * 호출자 버퍼에 이어 붙이기 (반복 항목을 하나의 버퍼로 조립할 때 사용)
+     */
+    public void appendTo(StringBuilder buffer, CharSequence... values) {
+        checkArity(values);
+        for (int i = 0; i < slots.length; i++) {
+            buffer.append(segments[i]).append(values[slots[i]]);
+        }
+        buffer.append(segments[slots.length]);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * 자리표시자를 제외한 정적 구간의 총 길이 (버퍼 크기 산정용)
+     */
+    public int staticLength() {
+        return staticLength;
+    }
+
+    private void checkArity(CharSequence[] values) {
+        if (values.length != parameters.size()) {
+            throw new IllegalArgumentException("Prompt template " + name + " expects " + parameters
+                    + " but got " + values.length + " values");
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.khuda.khuda_clue_api.prompt;
+
+import com.khuda.khuda_clue_api.entity.FollowupQuestion;
+import com.khuda.khuda_clue_api.llm.TokenEstimator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 파이프라인 프롬프트 템플릿 모음
+ * - 기동 시 /prompt 리소스를 한 번만 읽어 컴파일·검증한다. 리소스 누락, 자리표시자 불일치, 1-shot 예시 앵커 누락은 기동 실패로 드러난다.
+ * - 경험 추출 1-shot 예시 구간(예시 자소서 + 앵커 기반 인덱스)은 기동 시 한 번 렌더링해 시스템 프롬프트에 합쳐 둔다.
+ * - 프롬프트 접두 캐싱(provider-side prefix caching)을 위해 과제 설명·1-shot 예시·규칙·스키마 등 정적 내용은 모두
+ *   시스템 프롬프트(첫 메시지)에 두고, 사용자 프롬프트에는 자소서 등 요청마다 바뀌는 값만 둔다.
+ *   같은 작업의 요청은 시스템 프롬프트 전체가 동일한 접두가 되어, 접두가 충분히 길면(OpenAI 기준 1,024토큰 이상) 캐시된다.
+ * - 요청 시에는 가변 값만 크기를 맞춘 버퍼에 이어 붙인다.
+ */
+@Slf4j
+@Component
+public class PromptTemplates {
+
+    private static final String RESOURCE_DIR = "/prompt/";
+    private static final String EXAMPLE_COVER_LETTER = "experience-extraction-example-coverletter.txt";
+
+    private final String experienceSystemPrompt;
+    private final PromptTemplate experienceUser;
+    private final String questionSystemPrompt;
+    private final PromptTemplate questionUser;
+    private final String recommendationSystemPrompt;
+    private final PromptTemplate recommendationQnaItem;
+    private final PromptTemplate recommendationUser;
+
+    public PromptTemplates() {
+        this.experienceSystemPrompt = PromptTemplate.compile("experience-system", load("experience-system.txt"),
+                        "oneShotExample")
+                .bind("oneShotExample", renderOneShotExample())
+                .render();
+        this.experienceUser = PromptTemplate.compile("experience-user", load("experience-user.txt"),
+                "coverLetter");
+
+        this.questionSystemPrompt = load("question-system.txt");
+        this.questionUser = PromptTemplate.compile("question-user", load("question-user.txt"),
+                "experienceTitle", "coverLetter");
+
+        this.recommendationSystemPrompt = load("recommendation-system.txt");
+        this.recommendationQnaItem = PromptTemplate.compile("recommendation-qna-item", load("recommendation-qna-item.txt"),
+                "type", "question", "answer");
+        this.recommendationUser = PromptTemplate.compile("recommendation-user", load("recommendation-user.txt"),
+                "coverLetter", "starQnA");
+
+        log.info("프롬프트 템플릿 로드 완료. 고정 접두(시스템 프롬프트) 추정 토큰 - experience: {}, question: {}, recommendation: {}",
+                TokenEstimator.estimate(experienceSystemPrompt), TokenEstimator.estimate(questionSystemPrompt),
+                TokenEstimator.estimate(recommendationSystemPrompt));
+    }
+
+    // =========================================================
+    // 경험 추출
+    // =========================================================
+
+    public String experienceSystemPrompt() {
+        return experienceSystemPrompt;
+    }
+
+    public String experienceUserPrompt(String coverLetterText) {
+        return experienceUser.render(coverLetterText);
+    }
+
+    // =========================================================
+    // STAR 질문 생성
+    // =========================================================
+
+    public String questionSystemPrompt() {
+        return questionSystemPrompt;
+    }
+
+    public String questionUserPrompt(String experienceTitle, String coverLetterText) {
+        return questionUser.render(Objects.toString(experienceTitle), coverLetterText);
+    }
+
+    // =========================================================
+    // 면접 추천 질문 생성
+    // =========================================================
+
+    public String recommendationSystemPrompt() {
+        return recommendationSystemPrompt;
+    }
+
+    /**
+     * @param answerMap questionId → answerText (답변이 없는 질문은 "(답변 없음)")
+     */
+    public String recommendationUserPrompt(String coverLetterText, List<FollowupQuestion> questions,
+                                           Map<Long, String> answerMap) {
+        String[][] items = new String[questions.size()][];
+        int length = 0;
+        for (int i = 0; i < items.length; i++) {
+            FollowupQuestion question = questions.get(i);
+            items[i] = new String[]{
+                    question.getType().name(),
+                    Objects.toString(question.getQuestionText()),
+                    Objects.toString(answerMap.getOrDefault(question.getId(), "(답변 없음)"))
+            };
+            length += recommendationQnaItem.staticLength()
+                    + items[i][0].length() + items[i][1].length() + items[i][2].length();
+        }
+
+        StringBuilder starQnA = new StringBuilder(length);
+        for (String[] item : items) {
+            recommendationQnaItem.appendTo(starQnA, item[0], item[1], item[2]);
+        }
+        // 마지막 항목 뒤의 빈 줄 제거 (String.trim과 동일하게 공백·제어 문자 기준)
+        int end = starQnA.length();
+        while (end > 0 && starQnA.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        starQnA.setLength(end);
+
+        return recommendationUser.render(coverLetterText, starQnA);
+    }
+
+    // =========================================================
+    // 리소스 로드 / 1-shot 예시
+    // =========================================================
+
+    private static String renderOneShotExample() {
+        String exampleCoverLetter = load(EXAMPLE_COVER_LETTER);
+        if (exampleCoverLetter.isBlank()) {
+            throw new IllegalStateException("One-shot example cover letter is empty: " + RESOURCE_DIR + EXAMPLE_COVER_LETTER);
+        }
+
+        ExampleExperience e1 = ExampleExperience.fromBoundaries(
+                "개인브랜드 운영 및 트렌드 분석",
+                exampleCoverLetter,
+                "1인 브랜드 운영자였던 만큼",
+                "극대화하겠습니다."
+        );
+        ExampleExperience e2 = ExampleExperience.fromBoundaries(
+                "콘텐츠팀 인턴 SNS 콘텐츠 제작",
+                exampleCoverLetter,
+                "콘텐츠팀 인턴으로 근무하며 신규 사업체의 SNS 콘텐츠를 제작했던 경험이 있습니다.",
+                "SNS 콘텐츠를 제작했습니다."
+        );
+        ExampleExperience e3 = ExampleExperience.fromBoundaries(
+                "브랜드 론칭 및 매출 신장",
+                exampleCoverLetter,
+                "인턴십 종료 후에는 직접 촬영한 사진을 기반으로 하는 브랜드 론칭에 도전했습니다.",
+                "매출을 신장할 수 있었습니다."
+        );
+
+        // 예시는 "형식 + 인덱스 기준"을 보여주기 위한 1-shot 이므로, 점수는 템플릿에 상대 비교로만 고정
+        PromptTemplate example = PromptTemplate.compile("experience-example", load("experience-example.txt"),
+                "exampleCoverLetter",
+                "title1", "startIdx1", "endIdx1",
+                "title2", "startIdx2", "endIdx2",
+                "title3", "startIdx3", "endIdx3");
+        return example.render(
+                exampleCoverLetter,
+                e1.title(), Integer.toString(e1.startIdx()), Integer.toString(e1.endIdx()),
+                e2.title(), Integer.toString(e2.startIdx()), Integer.toString(e2.endIdx()),
+                e3.title(), Integer.toString(e3.startIdx()), Integer.toString(e3.endIdx()));
+    }
+
+    private static String load(String fileName) {
+        String path = RESOURCE_DIR + fileName;
+        try (InputStream is = PromptTemplates.class.getResourceAsStream(path)) {
+            if (is == null) {
+                throw new IllegalStateException("Prompt resource not found: " + path);
+            }
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load prompt resource: " + path, e);
+        }
+    }
+
+    private record ExampleExperience(String title, int startIdx, int endIdx) {
+        static ExampleExperience fromBoundaries(String title, String fullText, String startAnchor, String endAnchor) {
+            int start = fullText.indexOf(startAnchor);
+            if (start < 0) {
+                throw new IllegalStateException("Example startAnchor not found: " + startAnchor);
+            }
+            int endAnchorIdx = fullText.indexOf(endAnchor, start);
+            if (endAnchorIdx < 0) {
+                throw new IllegalStateException("Example endAnchor not found after startAnchor: " + endAnchor);
+            }
+            int endExclusive = endAnchorIdx + endAnchor.length();
+            return new ExampleExperience(title, start, endExclusive);
+        }
+    }
+}
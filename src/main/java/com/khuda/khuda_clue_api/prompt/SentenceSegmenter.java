@@ -0,0 +1,79 @@
+package com.khuda.khuda_clue_api.prompt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 자소서 문장 분리기 (형태소 분석 없는 규칙 기반)
+ * - 종결 부호(. ! ? …) 뒤에 닫는 따옴표·괄호가 이어지고 그다음이 공백이거나 텍스트 끝이면 문장 경계로 본다.
+ *   "3.5점", "v1.2"처럼 부호 뒤에 공백이 없으면 경계가 아니다.
+ * - 줄바꿈은 항상 문장 경계다 (자소서 문단·항목 구분).
+ * - 각 문장은 원문 기준 [start, end) 구간이며 앞뒤 공백은 포함하지 않는다.
+ */
+public final class SentenceSegmenter {
+
+    public record Sentence(int start, int end) {
+    }
+
+    private SentenceSegmenter() {
+    }
+
+    public static List<Sentence> split(String text) {
+        List<Sentence> sentences = new ArrayList<>();
+        int length = text.length();
+        int start = skipWhitespace(text, 0);
+        int i = start;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r') {
+                add(sentences, text, start, i);
+                start = skipWhitespace(text, i);
+                i = start;
+                continue;
+            }
+            if (isTerminal(c)) {
+                int end = i + 1;
+                while (end < length && (isTerminal(text.charAt(end)) || isCloser(text.charAt(end)))) {
+                    end++;
+                }
+                if (end == length || Character.isWhitespace(text.charAt(end))) {
+                    add(sentences, text, start, end);
+                    start = skipWhitespace(text, end);
+                    i = start;
+                    continue;
+                }
+                i = end;
+                continue;
+            }
+            i++;
+        }
+        add(sentences, text, start, length);
+        return sentences;
+    }
+
+    private static void add(List<Sentence> sentences, String text, int start, int end) {
+        int trimmed = end;
+        while (trimmed > start && Character.isWhitespace(text.charAt(trimmed - 1))) {
+            trimmed--;
+        }
+        if (trimmed > start) {
+            sentences.add(new Sentence(start, trimmed));
+        }
+    }
+
+    private static int skipWhitespace(String text, int from) {
+        int i = from;
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isTerminal(char c) {
+        return c == '.' || c == '!' || c == '?' || c == '…' || c == '。';
+    }
+
+    private static boolean isCloser(char c) {
+        return c == '"' || c == '\'' || c == ')' || c == ']' || c == '”' || c == '’' || c == '」' || c == '』';
+    }
+}
@@ -2,11 +2,16 @@ package com.khuda.khuda_clue_api.repository;
 
 import com.khuda.khuda_clue_api.domain.ApplicationStatus;
 import com.khuda.khuda_clue_api.entity.Application;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
@@ -16,4 +21,25 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
 
     // status 필터 + id > cursorId 조건 커서 페이지네이션
     List<Application> findByStatusAndIdGreaterThanOrderByIdAsc(ApplicationStatus status, Long id, Pageable pageable);
-}
\ No newline at end of file
+
+    // 쓰기 단계 상태 재검증용 행 잠금 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Application a where a.id = :id")
+    Optional<Application> findByIdForUpdate(@Param("id") Long id);
+
+    // 일괄 처리용 키셋 스캔: 엔티티 대신 id만 조회 (status + id 인덱스 범위 스캔)
+    @Query("select a.id from Application a where a.status = :status and a.id > :afterId order by a.id asc")
+    List<Long> findIdsByStatusAfter(@Param("status") ApplicationStatus status,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
+    // 유사 자소서 색인 재구성용 키셋 스캔: 필요한 컬럼만 조회
+    @Query("select a.id as id, a.coverLetterText as coverLetterText from Application a where a.id > :afterId order by a.id asc")
+    List<CoverLetterView> findCoverLettersAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    interface CoverLetterView {
+        Long getId();
+
+        String getCoverLetterText();
+    }
+}
@@ -0,0 +1,47 @@
+package com.khuda.khuda_clue_api.repository;
+
+import com.khuda.khuda_clue_api.domain.BulkRunState;
+import com.khuda.khuda_clue_api.entity.BulkRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일괄 처리 실행 Repository
+ */
+public interface BulkRunRepository extends JpaRepository<BulkRun, Long> {
+
+    List<BulkRun> findByState(BulkRunState state);
+
+    /**
+     * 리스가 만료된(또는 소유자가 없는) 실행 중 작업을 현재 인스턴스가 가져옵니다.
+     *
+     * @return 1이면 소유권 획득, 0이면 다른 인스턴스가 실행 중
+     */
+    @Modifying
+    @Query("update BulkRun b set b.ownerId = :ownerId, b.heartbeatAt = :now "
+            + "where b.id = :id and b.state = :running "
+            + "and (b.ownerId is null or b.ownerId = :ownerId or b.heartbeatAt < :staleBefore)")
+    int claim(@Param("id") Long id,
+              @Param("ownerId") String ownerId,
+              @Param("running") BulkRunState running,
+              @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 소유 중인 실행의 리스를 연장합니다.
+     *
+     * @return 0이면 소유권을 잃었거나 취소된 상태
+     */
+    @Modifying
+    @Query("update BulkRun b set b.heartbeatAt = :now "
+            + "where b.id = :id and b.ownerId = :ownerId and b.state = :running")
+    int heartbeat(@Param("id") Long id,
+                  @Param("ownerId") String ownerId,
+                  @Param("running") BulkRunState running,
+                  @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,70 @@
+package com.khuda.khuda_clue_api.repository;
+
+import com.khuda.khuda_clue_api.domain.JobStatus;
+import com.khuda.khuda_clue_api.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 처리 기록 Repository
+ */
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByScopeAndIdempotencyKey(String scope, String idempotencyKey);
+
+    /**
+     * 만료된 기록이나 리스가 만료된 선점을 새 요청으로 가져옵니다.
+     *
+     * @return 1이면 선점 성공, 0이면 유효한 기록이 있거나 다른 요청이 실행 중
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update IdempotencyRecord r set r.status = :running, r.requestHash = :requestHash, r.claimToken = :token, "
+            + "r.ownerId = :ownerId, r.leaseUntil = :leaseUntil, r.expiresAt = :expiresAt, "
+            + "r.responseStatus = null, r.responseLocation = null, r.responseBody = null "
+            + "where r.scope = :scope and r.idempotencyKey = :key "
+            + "and (r.expiresAt < :now or (r.status = :running and r.leaseUntil < :now))")
+    int takeOver(@Param("scope") String scope,
+                 @Param("key") String key,
+                 @Param("requestHash") String requestHash,
+                 @Param("token") String token,
+                 @Param("ownerId") String ownerId,
+                 @Param("running") JobStatus running,
+                 @Param("now") LocalDateTime now,
+                 @Param("leaseUntil") LocalDateTime leaseUntil,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 처리 결과 기록 (리스 만료로 다른 요청이 이어받았다면 0)
+     */
+    @Modifying
+    @Query("update IdempotencyRecord r set r.status = :status, r.responseStatus = :responseStatus, "
+            + "r.responseLocation = :responseLocation, r.responseBody = :responseBody, r.expiresAt = :expiresAt "
+            + "where r.scope = :scope and r.idempotencyKey = :key and r.claimToken = :token")
+    int complete(@Param("scope") String scope,
+                 @Param("key") String key,
+                 @Param("token") String token,
+                 @Param("status") JobStatus status,
+                 @Param("responseStatus") Integer responseStatus,
+                 @Param("responseLocation") String responseLocation,
+                 @Param("responseBody") String responseBody,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 선점 해제 (재시도하면 다시 실행되어야 하는 5xx 등)
+     */
+    @Modifying
+    @Query("delete from IdempotencyRecord r "
+            + "where r.scope = :scope and r.idempotencyKey = :key and r.claimToken = :token")
+    int release(@Param("scope") String scope, @Param("key") String key, @Param("token") String token);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
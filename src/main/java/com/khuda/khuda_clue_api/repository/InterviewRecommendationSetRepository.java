@@ -0,0 +1,34 @@
+package com.khuda.khuda_clue_api.repository;
+
+import com.khuda.khuda_clue_api.domain.ApplicationStatus;
+import com.khuda.khuda_clue_api.entity.InterviewRecommendationSet;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 면접 추천 질문 세트 Repository
+ */
+public interface InterviewRecommendationSetRepository extends JpaRepository<InterviewRecommendationSet, Long> {
+
+    // 가장 먼저 생성된 미제공 변형 (application_id + served_at + id 인덱스)
+    Optional<InterviewRecommendationSet> findFirstByApplicationIdAndServedAtIsNullOrderByIdAsc(Long applicationId);
+
+    long countByApplicationIdAndServedAtIsNull(Long applicationId);
+
+    /**
+     * 미제공 변형이 size개 미만인 지원서 id 키셋 스캔 (주기 보충용)
+     */
+    @Query("select a.id from Application a where a.status = :status and a.id > :afterId "
+            + "and (select count(s) from InterviewRecommendationSet s "
+            + "where s.applicationId = a.id and s.servedAt is null) < :size "
+            + "order by a.id asc")
+    List<Long> findIdsNeedingVariants(@Param("status") ApplicationStatus status,
+                                      @Param("afterId") Long afterId,
+                                      @Param("size") long size,
+                                      Pageable pageable);
+}
@@ -0,0 +1,25 @@
+package com.khuda.khuda_clue_api.repository;
+
+import com.khuda.khuda_clue_api.entity.LlmResponseCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * LLM 응답 영속 캐시 Repository
+ */
+public interface LlmResponseCacheRepository extends JpaRepository<LlmResponseCacheEntry, String> {
+
+    Optional<LlmResponseCacheEntry> findByCacheKeyAndExpiresAtAfter(String cacheKey, LocalDateTime now);
+
+    // 만료 엔트리 일괄 삭제 (주기 정리용)
+    @Transactional
+    @Modifying
+    @Query("delete from LlmResponseCacheEntry e where e.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
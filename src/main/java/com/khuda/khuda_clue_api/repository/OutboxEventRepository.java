@@ -0,0 +1,83 @@
+package com.khuda.khuda_clue_api.repository;
+
+import com.khuda.khuda_clue_api.domain.JobStatus;
+import com.khuda.khuda_clue_api.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 트랜잭션 아웃박스 Repository
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 실행 가능한 이벤트(재시도 시각이 된 PENDING, 리스가 만료된 RUNNING)를 잠그고 id를 반환합니다.
+     * 다른 워커가 잠근 행은 건너뛰므로(SKIP LOCKED) 여러 노드가 동시에 호출해도 같은 행을 나눠 갖지 않습니다.
+     * 같은 트랜잭션에서 lease()로 선점을 기록해야 합니다.
+     */
+    @Query(value = "SELECT id FROM outbox_event "
+            + "WHERE status IN ('PENDING', 'RUNNING') AND available_at <= :now "
+            + "ORDER BY available_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Number> lockAvailable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 잠근 이벤트를 RUNNING으로 선점하고 리스 만료 시각·토큰을 기록합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update OutboxEvent e set e.status = :running, e.attempts = e.attempts + 1, e.leaseOwner = :owner, "
+            + "e.leaseToken = :token, e.availableAt = :leaseUntil where e.id in :ids")
+    int lease(@Param("ids") Collection<Long> ids,
+              @Param("running") JobStatus running,
+              @Param("owner") String owner,
+              @Param("token") String token,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 처리 시작 직전 리스 연장 (리스가 만료돼 다른 워커가 이어받았다면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.availableAt = :leaseUntil "
+            + "where e.id = :id and e.status = :running and e.leaseToken = :token")
+    int renewLease(@Param("id") Long id,
+                   @Param("token") String token,
+                   @Param("running") JobStatus running,
+                   @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 처리 결과 기록 (리스가 만료돼 다른 워커가 이어받았다면 0)
+     *
+     * @param availableAt 재시도면 다음 시도 가능 시각, 완료·최종 실패면 기존 값 유지용으로 현재 시각
+     */
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.status = :status, e.availableAt = :availableAt, e.lastError = :lastError, "
+            + "e.processedAt = :processedAt, e.leaseOwner = null, e.leaseToken = null "
+            + "where e.id = :id and e.status = :running and e.leaseToken = :token")
+    int complete(@Param("id") Long id,
+                 @Param("token") String token,
+                 @Param("running") JobStatus running,
+                 @Param("status") JobStatus status,
+                 @Param("availableAt") LocalDateTime availableAt,
+                 @Param("lastError") String lastError,
+                 @Param("processedAt") LocalDateTime processedAt);
+
+    long countByStatusIn(Collection<JobStatus> statuses);
+
+    // 처리 대기·진행 중 가장 오래된 이벤트 (적체 시간 메트릭용)
+    Optional<OutboxEvent> findFirstByStatusInOrderByCreatedAtAsc(Collection<JobStatus> statuses);
+
+    // 처리 완료 이벤트 일괄 삭제 (주기 정리용)
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent e where e.status = :succeeded and e.processedAt < :before")
+    int deleteProcessedBefore(@Param("succeeded") JobStatus succeeded, @Param("before") LocalDateTime before);
+}
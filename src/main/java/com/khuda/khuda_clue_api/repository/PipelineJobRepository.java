@@ -0,0 +1,63 @@
+package com.khuda.khuda_clue_api.repository;
+
+import com.khuda.khuda_clue_api.domain.JobStatus;
+import com.khuda.khuda_clue_api.domain.PipelineStage;
+import com.khuda.khuda_clue_api.entity.PipelineJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 비동기 파이프라인 작업 Repository
+ */
+public interface PipelineJobRepository extends JpaRepository<PipelineJob, Long> {
+
+    Optional<PipelineJob> findByIdAndApplicationId(Long id, Long applicationId);
+
+    /**
+     * 같은 지원서·단계에서 진행 중인 최신 작업을 조회합니다. (중복 제출 시 기존 작업 재사용)
+     */
+    Optional<PipelineJob> findFirstByApplicationIdAndStageAndStatusInOrderByIdDesc(
+            Long applicationId, PipelineStage stage, Collection<JobStatus> statuses);
+
+    /**
+     * PENDING 작업을 RUNNING으로 전환합니다. (같은 작업이 두 번 실행되지 않도록 조건부 갱신)
+     *
+     * @return 1이면 실행 권한 획득, 0이면 이미 시작되었거나 종료·정리된 작업
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update PipelineJob j set j.status = :running, j.attempts = j.attempts + 1, j.nextAttemptAt = null, "
+            + "j.leaseUntil = :leaseUntil where j.id = :id and j.status = :pending")
+    int start(@Param("id") Long id,
+              @Param("pending") JobStatus pending,
+              @Param("running") JobStatus running,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 현재 인스턴스에서 대기·실행 중인 작업의 리스를 연장합니다.
+     */
+    @Modifying
+    @Query("update PipelineJob j set j.leaseUntil = :leaseUntil where j.id in :ids and j.status in :statuses")
+    int renewLeases(@Param("ids") Collection<Long> ids,
+                    @Param("statuses") Collection<JobStatus> statuses,
+                    @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 리스가 만료된 진행 중 작업을 FAILED로 정리합니다. (실행 인스턴스가 사라진 작업)
+     *
+     * @return 정리한 작업 수
+     */
+    @Modifying
+    @Query("update PipelineJob j set j.status = :failed, j.errorMessage = :errorMessage "
+            + "where j.stage = :stage and j.status in :statuses and (j.leaseUntil is null or j.leaseUntil < :now)")
+    int failExpired(@Param("stage") PipelineStage stage,
+                    @Param("statuses") Collection<JobStatus> statuses,
+                    @Param("failed") JobStatus failed,
+                    @Param("errorMessage") String errorMessage,
+                    @Param("now") LocalDateTime now);
+}
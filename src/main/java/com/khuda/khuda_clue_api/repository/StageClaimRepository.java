@@ -0,0 +1,59 @@
+package com.khuda.khuda_clue_api.repository;
+
+import com.khuda.khuda_clue_api.domain.ClaimStage;
+import com.khuda.khuda_clue_api.domain.JobStatus;
+import com.khuda.khuda_clue_api.entity.StageClaim;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 지원서·단계별 실행 선점 Repository
+ */
+public interface StageClaimRepository extends JpaRepository<StageClaim, Long> {
+
+    Optional<StageClaim> findByApplicationIdAndStage(Long applicationId, ClaimStage stage);
+
+    /**
+     * 끝났거나 리스가 만료된 선점을 새 토큰으로 가져옵니다. (이전 선점의 결과는 stage_claim_result에 토큰별로 남음)
+     *
+     * @return 1이면 선점 성공, 0이면 다른 요청이 실행 중
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update StageClaim c set c.status = :running, c.claimToken = :token, c.ownerId = :ownerId, "
+            + "c.leaseUntil = :leaseUntil "
+            + "where c.applicationId = :applicationId and c.stage = :stage "
+            + "and (c.status <> :running or c.leaseUntil < :now)")
+    int takeOver(@Param("applicationId") Long applicationId,
+                 @Param("stage") ClaimStage stage,
+                 @Param("token") String token,
+                 @Param("ownerId") String ownerId,
+                 @Param("running") JobStatus running,
+                 @Param("now") LocalDateTime now,
+                 @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 이 인스턴스가 실행 중인 선점의 리스를 연장합니다. (리더가 LLM 호출 중인 동안 다른 요청이 이어받지 않도록)
+     */
+    @Modifying
+    @Query("update StageClaim c set c.leaseUntil = :leaseUntil where c.claimToken in :tokens and c.status = :running")
+    int renewLeases(@Param("tokens") Collection<String> tokens,
+                    @Param("running") JobStatus running,
+                    @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 선점 종료 상태 기록 (리스 만료로 다른 요청이 이어받았다면 0)
+     */
+    @Modifying
+    @Query("update StageClaim c set c.status = :status "
+            + "where c.applicationId = :applicationId and c.stage = :stage and c.claimToken = :token")
+    int complete(@Param("applicationId") Long applicationId,
+                 @Param("stage") ClaimStage stage,
+                 @Param("token") String token,
+                 @Param("status") JobStatus status);
+}
@@ -0,0 +1,22 @@
+package com.khuda.khuda_clue_api.repository;
+
+import com.khuda.khuda_clue_api.entity.StageClaimResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 선점 토큰별 실행 결과 Repository
+ */
+public interface StageClaimResultRepository extends JpaRepository<StageClaimResult, String> {
+
+    // 만료 결과 일괄 삭제 (주기 정리용)
+    @Transactional
+    @Modifying
+    @Query("delete from StageClaimResult r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -4,6 +4,9 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.khuda.khuda_clue_api.domain.ApplicationStatus;
+import com.khuda.khuda_clue_api.domain.ClaimStage;
+import com.khuda.khuda_clue_api.domain.OutboxEventType;
+import com.khuda.khuda_clue_api.domain.PipelineStage;
 import com.khuda.khuda_clue_api.dto.request.AnswerItem;
 import com.khuda.khuda_clue_api.dto.request.FollowupAnswersRequest;
 import com.khuda.khuda_clue_api.dto.request.SubmitRequest;
@@ -23,15 +26,26 @@ import com.khuda.khuda_clue_api.entity.Application;
 import com.khuda.khuda_clue_api.entity.Experience;
 import com.khuda.khuda_clue_api.entity.FollowupAnswer;
 import com.khuda.khuda_clue_api.entity.FollowupQuestion;
+import com.khuda.khuda_clue_api.entity.InterviewRecommendationSet;
+import com.khuda.khuda_clue_api.entity.PipelineJob;
+import com.khuda.khuda_clue_api.llm.LlmOperation;
+import com.khuda.khuda_clue_api.llm.LlmTimeoutException;
+import com.khuda.khuda_clue_api.llm.LlmUnavailableException;
+import com.khuda.khuda_clue_api.outbox.OutboxPublisher;
+import com.khuda.khuda_clue_api.prompt.CoverLetterWindower;
 import com.khuda.khuda_clue_api.repository.ApplicationRepository;
 import com.khuda.khuda_clue_api.repository.ExperienceRepository;
 import com.khuda.khuda_clue_api.repository.FollowupAnswerRepository;
 import com.khuda.khuda_clue_api.repository.FollowupQuestionRepository;
+import com.khuda.khuda_clue_api.repository.PipelineJobRepository;
+import com.khuda.khuda_clue_api.similarity.NearDuplicateExtractionReuser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
@@ -39,6 +53,12 @@ import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -50,9 +70,21 @@ public class ApplicationService {
     private final ExperienceRepository experienceRepository;
     private final FollowupQuestionRepository followupQuestionRepository;
     private final FollowupAnswerRepository followupAnswerRepository;
+    private final PipelineJobRepository pipelineJobRepository;
     private final ExperienceExtractionService experienceExtractionService;
+    // clue.heuristic-extraction.enabled=true일 때만 존재 (LLM 추출 실패 시 대체)
+    private final Optional<HeuristicExperienceExtractionService> heuristicExtractionService;
     private final FollowupQuestionGenerationService followupQuestionGenerationService;
+    // clue.template-questions.enabled=true일 때만 존재 (LLM 질문 생성 실패 시 대체)
+    private final Optional<TemplateFollowupQuestionGenerationService> templateQuestionService;
     private final InterviewRecommendationService interviewRecommendationService;
+    // clue.recommendation-pool.enabled=true일 때만 존재 (재생성 시 미리 생성한 변형 제공)
+    private final Optional<InterviewRecommendationPool> recommendationPool;
+    private final NearDuplicateExtractionReuser nearDuplicateExtractionReuser;
+    private final StageSingleFlight stageSingleFlight;
+    private final OutboxPublisher outboxPublisher;
+    private final CoverLetterWindower coverLetterWindower;
+    private final TransactionTemplate transactionTemplate;
 
     // ObjectMapper는 ChatGptService와 동일하게 직접 생성 (Spring 빈 등록 없이 사용)
     private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
@@ -61,6 +93,7 @@ public class ApplicationService {
     public SubmitResponse createApplication(SubmitRequest request) {
         Application application = new Application(request.applicantId(), request.coverLetterText());
         Application savedApplication = applicationRepository.save(application);
+        nearDuplicateExtractionReuser.register(savedApplication.getId(), savedApplication.getCoverLetterText());
 
         return new SubmitResponse(
                 savedApplication.getId(),
@@ -69,20 +102,57 @@ public class ApplicationService {
         );
     }
 
-    @Transactional
+    /**
+     * 경험 추출·선택
+     * - LLM 호출 동안 DB 커넥션/행 잠금을 점유하지 않도록 트랜잭션을 3단계로 분리한다.
+     *   (1) 짧은 읽기 트랜잭션 → (2) 트랜잭션 없이 LLM 호출 → (3) 상태 재검증 후 짧은 쓰기 트랜잭션
+     * - 같은 지원서의 동시 요청은 단일 실행으로 합쳐 LLM 호출 1회의 결과를 공유한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SelectExperienceResponse selectExperience(Long applicationId) {
-        // 상태 가드: SUBMITTED 상태만 허용
-        Application application = applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found"));
+        return stageSingleFlight.execute(applicationId, ClaimStage.SELECT_EXPERIENCE,
+                SelectExperienceResponse.class, () -> selectExperienceOnce(applicationId));
+    }
 
-        if (application.getStatus() != ApplicationStatus.SUBMITTED) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT,
-                    "Experience selection is only allowed for SUBMITTED applications. Current status: " + application.getStatus());
+    /**
+     * LLM 경험 추출. 규칙 기반 대체가 켜져 있으면 503(한도·브레이커)·504(타임아웃) 또는 빈 결과일 때 규칙 기반 결과를 사용한다.
+     */
+    private List<Experience> extractExperiences(Long applicationId, String coverLetterText) {
+        if (heuristicExtractionService.isEmpty() || !heuristicExtractionService.get().isFallbackEnabled()) {
+            return experienceExtractionService.extractExperiences(applicationId, coverLetterText);
         }
+        String reason;
+        try {
+            List<Experience> extracted = experienceExtractionService.extractExperiences(applicationId, coverLetterText);
+            if (!extracted.isEmpty()) {
+                return extracted;
+            }
+            reason = "empty";
+        } catch (LlmUnavailableException | LlmTimeoutException e) {
+            if (questionSent.getAsBoolean()) {
+                // 이미 보낸 LLM 질문 뒤에 템플릿 질문을 덧붙이면 클라이언트 화면과 저장된 질문이 달라진다
+                throw e;
+            }
+            reason = e instanceof LlmTimeoutException ? "timeout" : "llm_unavailable";
+        }
+        return heuristicExtractionService.get().fallback(applicationId, coverLetterText, reason);
+    }
 
-        // 자소서에서 경험 추출
-        var candidates = experienceExtractionService.extractExperiences(applicationId, application.getCoverLetterText());
-        experienceRepository.saveAll(candidates);
+    private SelectExperienceResponse selectExperienceOnce(Long applicationId) {
+        // 1) 읽기: 상태 가드 (SUBMITTED 상태만 허용)
+        Application application = transactionTemplate.execute(tx -> {
+            Application found = findApplication(applicationId);
+            checkStatus(found, ApplicationStatus.SUBMITTED,
+                    "Experience selection is only allowed for SUBMITTED applications.");
+            return found;
+        });
+
+        // 2) LLM: 자소서에서 경험 추출 (트랜잭션 밖)
+        //    유사 자소서의 선택 경험을 옮겨 쓸 수 있으면 LLM 호출을 생략한다
+        String coverLetterText = application.getCoverLetterText();
+        List<Experience> candidates = nearDuplicateExtractionReuser.findReusable(applicationId, coverLetterText)
+                .map(List::of)
+                .orElseGet(() -> extractExperiences(applicationId, coverLetterText));
 
         // 경험 후보가 없으면 예외 발생
         if (candidates.isEmpty()) {
@@ -90,14 +160,19 @@ public class ApplicationService {
                     "No valid experiences could be extracted from the cover letter");
         }
 
-        // 최고 점수의 경험을 selected로 확정
-        Experience selectedExperience = candidates.get(0);
-        selectedExperience.markAsSelected();
-        experienceRepository.save(selectedExperience);
+        // 3) 쓰기: 상태 재검증 후 최고 점수의 경험을 selected로 확정
+        Experience selectedExperience = transactionTemplate.execute(tx -> {
+            Application locked = findApplicationForUpdate(applicationId);
+            checkStatus(locked, ApplicationStatus.SUBMITTED,
+                    "Experience selection is only allowed for SUBMITTED applications.");
+
+            Experience selected = candidates.get(0);
+            selected.markAsSelected();
+            experienceRepository.saveAll(candidates);
 
-        // 애플리케이션 상태 업데이트
-        application.updateStatus(ApplicationStatus.EXPERIENCE_SELECTED);
-        Application updatedApplication = applicationRepository.save(application);
+            locked.updateStatus(ApplicationStatus.EXPERIENCE_SELECTED);
+            return selected;
+        });
 
         // 응답 생성
         SelectedExperience selectedExperienceDto = new SelectedExperience(
@@ -109,35 +184,68 @@ public class ApplicationService {
         );
 
         return new SelectExperienceResponse(
-                updatedApplication.getId(),
-                updatedApplication.getStatus(),
+                applicationId,
+                ApplicationStatus.EXPERIENCE_SELECTED,
                 selectedExperienceDto
         );
     }
 
-    @Transactional
+    /**
+     * STAR 후속 질문 생성
+     * - 읽기 트랜잭션 → LLM 호출(트랜잭션 없음) → 상태 재검증 후 쓰기 트랜잭션
+     * - 같은 지원서의 동시 요청은 단일 실행으로 합친다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public GenerateFollowupQuestionsResponse generateFollowupQuestions(Long applicationId) {
-        // 상태 가드: EXPERIENCE_SELECTED 상태만 허용
-        Application application = applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found"));
-
-        if (application.getStatus() != ApplicationStatus.EXPERIENCE_SELECTED) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT,
-                    "Follow-up question generation is only allowed for EXPERIENCE_SELECTED applications. Current status: " + application.getStatus());
-        }
+        return stageSingleFlight.execute(applicationId, ClaimStage.GENERATE_FOLLOWUP_QUESTIONS,
+                GenerateFollowupQuestionsResponse.class, () -> generateFollowupQuestions(applicationId,
+                        (experience, coverLetterText) -> followupQuestionGenerationService.generateFollowupQuestions(
+                                experience.getId(), experience.getTitle(), coverLetterText),
+                        question -> { }, () -> false));
+    }
 
-        // 선택된 경험 조회
-        Experience selectedExperience = experienceRepository
-                .findByApplicationIdAndIsSelectedTrue(applicationId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
-                        "No selected experience found for applicationId: " + applicationId));
+    /**
+     * STAR 후속 질문 생성 (스트리밍)
+     * - 질문이 완성될 때마다 onQuestion 콜백 호출 (아직 저장 전이므로 questionId 없음)
+     * - 저장·상태 전이는 동기 API와 동일 (템플릿 대체 질문도 생성 직후 콜백으로 전달)
+     * - 질문을 하나라도 보낸 뒤 503·504로 끊기면 템플릿 질문을 덧붙이지 않고 그대로 실패시킨다 (error 이벤트로 종료)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public GenerateFollowupQuestionsResponse streamFollowupQuestions(Long applicationId,
+                                                                      Consumer<FollowupQuestion> onQuestion) {
+        AtomicBoolean questionSent = new AtomicBoolean();
+        Consumer<FollowupQuestion> tracked = question -> {
+            questionSent.set(true);
+            onQuestion.accept(question);
+        };
+        return generateFollowupQuestions(applicationId, (experience, coverLetterText) ->
+                followupQuestionGenerationService.streamFollowupQuestions(
+                        experience.getId(), experience.getTitle(), coverLetterText, tracked),
+                onQuestion, questionSent::get);
+    }
 
-        // STAR 질문 4개 생성
-        List<FollowupQuestion> generatedQuestions = followupQuestionGenerationService.generateFollowupQuestions(
-                selectedExperience.getId(),
-                selectedExperience.getTitle(),
-                application.getCoverLetterText()
-        );
+    /**
+     * @param onFallbackQuestion 템플릿 대체 질문이 만들어졌을 때 질문마다 호출 (스트리밍용)
+     * @param questionSent       LLM 질문을 이미 클라이언트에 보냈는지 여부 (보냈으면 템플릿으로 대체하지 않음)
+     */
+    private GenerateFollowupQuestionsResponse generateFollowupQuestions(
+            Long applicationId,
+            BiFunction<Experience, String, List<FollowupQuestion>> questionGenerator,
+            Consumer<FollowupQuestion> onFallbackQuestion,
+            BooleanSupplier questionSent
+    ) {
+        // 1) 읽기: 상태 가드 (EXPERIENCE_SELECTED 상태만 허용) + 선택된 경험 조회
+        QuestionContext context = transactionTemplate.execute(tx -> {
+            Application found = findApplication(applicationId);
+            checkStatus(found, ApplicationStatus.EXPERIENCE_SELECTED,
+                    "Follow-up question generation is only allowed for EXPERIENCE_SELECTED applications.");
+            return new QuestionContext(found, findSelectedExperience(applicationId));
+        });
+        Experience selectedExperience = context.selectedExperience();
+
+        // 2) LLM: STAR 질문 4개 생성 (트랜잭션 밖, 자소서는 선택 경험 주변 발췌만 전달)
+        List<FollowupQuestion> generatedQuestions = generateQuestionsOrFallback(
+                context, questionGenerator, onFallbackQuestion, questionSent);
 
         // 질문 생성 실패 시 예외 발생
         if (generatedQuestions.isEmpty()) {
@@ -145,12 +253,16 @@ public class ApplicationService {
                     "Failed to generate follow-up questions for experienceId: " + selectedExperience.getId());
         }
 
-        // 생성된 질문 저장
-        List<FollowupQuestion> savedQuestions = followupQuestionRepository.saveAll(generatedQuestions);
+        // 3) 쓰기: 상태 재검증 후 질문 저장 + EXPERIENCE_SELECTED → QUESTIONS_SENT
+        List<FollowupQuestion> savedQuestions = transactionTemplate.execute(tx -> {
+            Application locked = findApplicationForUpdate(applicationId);
+            checkStatus(locked, ApplicationStatus.EXPERIENCE_SELECTED,
+                    "Follow-up question generation is only allowed for EXPERIENCE_SELECTED applications.");
 
-        // 애플리케이션 상태 업데이트: EXPERIENCE_SELECTED → QUESTIONS_SENT
-        application.updateStatus(ApplicationStatus.QUESTIONS_SENT);
-        applicationRepository.save(application);
+            List<FollowupQuestion> saved = followupQuestionRepository.saveAll(generatedQuestions);
+            locked.updateStatus(ApplicationStatus.QUESTIONS_SENT);
+            return saved;
+        });
 
         // 응답 생성
         List<QuestionDto> questionDtos = savedQuestions.stream()
@@ -165,6 +277,39 @@ public class ApplicationService {
         );
     }
 
+    /**
+     * LLM STAR 질문 생성. 템플릿 대체가 켜져 있으면 503(한도·브레이커)·504(타임아웃)·빈 결과일 때 템플릿 질문을 사용한다.
+     */
+    private List<FollowupQuestion> generateQuestionsOrFallback(
+            QuestionContext context,
+            BiFunction<Experience, String, List<FollowupQuestion>> questionGenerator,
+            Consumer<FollowupQuestion> onFallbackQuestion,
+            BooleanSupplier questionSent
+    ) {
+        Experience selectedExperience = context.selectedExperience();
+        String coverLetterText = context.application().getCoverLetterText();
+        String excerpt = coverLetterWindower.excerpt(LlmOperation.FOLLOWUP_QUESTIONS, coverLetterText, selectedExperience);
+        if (templateQuestionService.isEmpty()) {
+            return questionGenerator.apply(selectedExperience, excerpt);
+        }
+        String reason;
+        try {
+            List<FollowupQuestion> generated = questionGenerator.apply(selectedExperience, excerpt);
+            if (!generated.isEmpty()) {
+                return generated;
+            }
+            reason = "empty";
+        } catch (LlmUnavailableException e) {
+            reason = "llm_unavailable";
+        } catch (LlmTimeoutException e) {
+            reason = "timeout";
+        }
+        List<FollowupQuestion> fallback = templateQuestionService.get()
+                .fallback(selectedExperience, coverLetterText, reason);
+        fallback.forEach(onFallbackQuestion);
+        return fallback;
+    }
+
     /**
      * 지원서 목록 조회 (커서 기반 페이지네이션)
      * - status 필터링 + id 기반 오름차순 정렬
@@ -231,34 +376,22 @@ public class ApplicationService {
         }
     }
 
-    @Transactional
+    /**
+     * STAR 답변 제출
+     * - 답변 저장, QUESTIONS_SENT → ANSWERED 전이, 면접 추천 질문 생성 작업(INTERVIEW_RECOMMENDATIONS) 등록을
+     *   하나의 짧은 쓰기 트랜잭션으로 처리하고 바로 응답한다. (지원자 요청은 LLM 호출을 기다리지 않음)
+     * - 작업과 아웃박스 이벤트(INTERVIEW_RECOMMENDATIONS_REQUESTED)가 답변과 함께 커밋되므로,
+     *   커밋 직후 프로세스가 내려가도 어느 인스턴스의 아웃박스 워커든 이어서 실행한다.
+     * - 같은 지원서의 동시 제출은 단일 실행으로 합치며, 먼저 선점한 요청의 답변이 저장된다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public FollowupAnswersResponse submitFollowupAnswers(Long applicationId, FollowupAnswersRequest request) {
-        // 상태 가드: QUESTIONS_SENT 상태만 허용
-        Application application = applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found"));
-
-        if (application.getStatus() != ApplicationStatus.QUESTIONS_SENT) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT,
-                    "Answer submission is only allowed for QUESTIONS_SENT applications. Current status: "
-                            + application.getStatus());
-        }
-
-        // 선택된 경험 조회
-        Experience selectedExperience = experienceRepository
-                .findByApplicationIdAndIsSelectedTrue(applicationId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
-                        "No selected experience found for applicationId: " + applicationId));
-
-        // 해당 경험의 질문 목록 조회
-        List<FollowupQuestion> questions = followupQuestionRepository
-                .findByExperienceIdOrderByTypeAsc(selectedExperience.getId());
-
-        if (questions.isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
-                    "No followup questions found for experienceId: " + selectedExperience.getId());
-        }
+        return stageSingleFlight.execute(applicationId, ClaimStage.SUBMIT_FOLLOWUP_ANSWERS,
+                FollowupAnswersResponse.class, () -> submitFollowupAnswersOnce(applicationId, request));
+    }
 
-        // 답변 저장 (질문당 1개)
+    private FollowupAnswersResponse submitFollowupAnswersOnce(Long applicationId, FollowupAnswersRequest request) {
+        // 답변 엔티티 생성 (질문당 1개)
         List<FollowupAnswer> answers = request.answers().stream()
                 .map((AnswerItem item) -> new FollowupAnswer(
                         item.questionId(),
@@ -267,18 +400,53 @@ public class ApplicationService {
                         request.submittedAt()
                 ))
                 .toList();
-        List<FollowupAnswer> savedAnswers = followupAnswerRepository.saveAll(answers);
 
-        // 상태 업데이트: QUESTIONS_SENT → ANSWERED
-        application.updateStatus(ApplicationStatus.ANSWERED);
-        applicationRepository.save(application);
+        // 쓰기: 상태 검증 후 답변 저장 + QUESTIONS_SENT → ANSWERED + 추천 생성 작업 등록
+        PipelineJob job = transactionTemplate.execute(tx -> {
+            Application locked = findApplicationForUpdate(applicationId);
+            checkStatus(locked, ApplicationStatus.QUESTIONS_SENT,
+                    "Answer submission is only allowed for QUESTIONS_SENT applications.");
+            // 추천 생성에 필요한 선택 경험·STAR 질문이 없으면 답변을 저장하지 않음 (작업이 재시도 없이 실패하는 것을 방지)
+            findQuestionsOf(findSelectedExperience(applicationId));
+
+            followupAnswerRepository.saveAll(answers);
+            locked.updateStatus(ApplicationStatus.ANSWERED);
+            PipelineJob saved = pipelineJobRepository.save(
+                    new PipelineJob(applicationId, PipelineStage.INTERVIEW_RECOMMENDATIONS));
+            outboxPublisher.append(OutboxEventType.INTERVIEW_RECOMMENDATIONS_REQUESTED, applicationId,
+                    Map.of("jobId", saved.getId()));
+            return saved;
+        });
 
-        // 면접 추천 질문 생성 (내부 로직)
+        return new FollowupAnswersResponse(
+                applicationId,
+                ApplicationStatus.ANSWERED,
+                "Answers saved. Interview recommendations are being generated.",
+                job.getId()
+        );
+    }
+
+    /**
+     * 면접 추천 질문 생성 (답변 제출 후 비동기 작업에서 호출)
+     * - 읽기 트랜잭션 → LLM 호출(트랜잭션 없음) → 상태 재검증 후 쓰기 트랜잭션에서 ANSWERED → REVIEW_READY
+     * - LLM 호출이 실패하면 아무것도 저장되지 않으므로 ANSWERED 상태에서 재시도할 수 있다.
+     *
+     * @param onSaved 추천 저장·상태 전이와 같은 쓰기 트랜잭션에서 호출 (작업 결과를 상태 전이와 함께 커밋하는 용도)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RecommendInterviewQuestionsResponse generateInterviewRecommendations(
+            Long applicationId, Consumer<RecommendInterviewQuestionsResponse> onSaved) {
+        // 1) 읽기: 상태 가드 (ANSWERED 상태만 허용) + STAR Q/A 조회
+        RecommendationContext context = transactionTemplate.execute(tx -> loadRecommendationContext(
+                applicationId, ApplicationStatus.ANSWERED,
+                "Interview recommendation generation is only allowed for ANSWERED applications."));
+
+        // 2) LLM: 면접 추천 질문 생성 (트랜잭션 밖)
         List<String> recommendations = interviewRecommendationService.generateInterviewRecommendations(
                 applicationId,
-                application.getCoverLetterText(),
-                questions,
-                savedAnswers
+                context.coverLetterText(coverLetterWindower),
+                context.questions(),
+                context.answers()
         );
 
         if (recommendations.isEmpty()) {
@@ -286,26 +454,27 @@ public class ApplicationService {
                     "Failed to generate interview recommendations for applicationId: " + applicationId);
         }
 
-        // 추천 질문 JSON으로 직렬화 후 저장
-        String recommendationsJson;
-        try {
-            recommendationsJson = objectMapper.writeValueAsString(recommendations);
-        } catch (JsonProcessingException e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
-                    "Failed to serialize interview recommendations: " + e.getMessage());
-        }
+        // 추천 질문 JSON으로 직렬화
+        String recommendationsJson = serializeRecommendations(recommendations);
 
-        application.updateInterviewRecommendations(recommendationsJson);
+        RecommendInterviewQuestionsResponse response = new RecommendInterviewQuestionsResponse(applicationId, recommendations);
 
-        // 상태 업데이트: ANSWERED → REVIEW_READY
-        application.updateStatus(ApplicationStatus.REVIEW_READY);
-        applicationRepository.save(application);
+        // 3) 쓰기: 상태 재검증 후 추천 저장 + ANSWERED → REVIEW_READY
+        transactionTemplate.executeWithoutResult(tx -> {
+            Application locked = findApplicationForUpdate(applicationId);
+            checkStatus(locked, ApplicationStatus.ANSWERED,
+                    "Interview recommendation generation is only allowed for ANSWERED applications.");
 
-        return new FollowupAnswersResponse(
-                applicationId,
-                ApplicationStatus.REVIEW_READY,
-                "Answers saved. Review package is ready."
-        );
+            locked.updateInterviewRecommendations(recommendationsJson);
+            locked.updateStatus(ApplicationStatus.REVIEW_READY);
+            recommendationPool.ifPresent(pool -> pool.recordServed(applicationId, recommendationsJson));
+            onSaved.accept(response);
+        });
+
+        // REVIEW_READY 진입 시 재생성용 변형을 미리 채워 둔다
+        recommendationPool.ifPresent(pool -> pool.replenishAsync(applicationId));
+
+        return response;
     }
 
     /**
@@ -370,53 +539,185 @@ public class ApplicationService {
      * 면접 추천 질문 재생성
      * - 상태 가드: REVIEW_READY 상태만 허용
      * - coverLetter + STAR Q/A 기반으로 추천 질문 3개 재생성 후 DB 업데이트
+     * - 읽기 트랜잭션 → LLM 호출(트랜잭션 없음) → 상태 재검증 후 쓰기 트랜잭션
+     * - 같은 지원서의 동시 재생성 요청은 단일 실행으로 합친다.
+     * - 변형 풀이 켜져 있으면 미리 생성한 변형을 LLM 호출 없이 제공하고, 풀은 비동기로 보충한다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public RecommendInterviewQuestionsResponse recommendInterviewQuestions(Long applicationId) {
-        Application application = applicationRepository.findById(applicationId)
+        return stageSingleFlight.execute(applicationId, ClaimStage.RECOMMEND_INTERVIEW_QUESTIONS,
+                RecommendInterviewQuestionsResponse.class, () -> recommendInterviewQuestions(applicationId, context ->
+                        interviewRecommendationService.regenerateInterviewRecommendations(
+                                applicationId,
+                                context.coverLetterText(coverLetterWindower),
+                                context.questions(),
+                                context.answers()
+                        ), recommendation -> { }));
+    }
+
+    /**
+     * 면접 추천 질문 재생성 (스트리밍)
+     * - 추천 질문이 완성될 때마다 onRecommendation 콜백 호출
+     * - DB 업데이트는 동기 API와 동일 (풀에서 꺼낸 변형도 질문마다 콜백으로 전달)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RecommendInterviewQuestionsResponse streamInterviewQuestions(Long applicationId,
+                                                                         Consumer<String> onRecommendation) {
+        return recommendInterviewQuestions(applicationId, context ->
+                interviewRecommendationService.streamInterviewRecommendations(
+                        applicationId,
+                        context.coverLetterText(coverLetterWindower),
+                        context.questions(),
+                        context.answers(),
+                        onRecommendation
+                ), onRecommendation);
+    }
+
+    /**
+     * @param onPooledRecommendation 풀에서 꺼낸 변형을 제공할 때 질문마다 호출 (스트리밍용)
+     */
+    private RecommendInterviewQuestionsResponse recommendInterviewQuestions(
+            Long applicationId,
+            Function<RecommendationContext, List<String>> recommendationGenerator,
+            Consumer<String> onPooledRecommendation
+    ) {
+        if (recommendationPool.isPresent()) {
+            Optional<List<String>> pooled = popPooledRecommendations(applicationId);
+            if (pooled.isPresent()) {
+                recommendationPool.get().replenishAsync(applicationId);
+                pooled.get().forEach(onPooledRecommendation);
+                return new RecommendInterviewQuestionsResponse(applicationId, pooled.get());
+            }
+        }
+
+        // 1) 읽기: 상태 가드 + STAR Q/A 조회
+        RecommendationContext context = transactionTemplate.execute(tx -> loadRecommendationContext(
+                applicationId, ApplicationStatus.REVIEW_READY,
+                "Interview question re-generation is only allowed for REVIEW_READY applications."));
+
+        // 2) LLM: 추천 질문 재생성 (트랜잭션 밖)
+        List<String> recommendations = recommendationGenerator.apply(context);
+
+        if (recommendations.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Failed to re-generate interview recommendations for applicationId: " + applicationId);
+        }
+
+        String recommendationsJson = serializeRecommendations(recommendations);
+
+        // 3) 쓰기: 상태 재검증 후 추천 질문 갱신
+        transactionTemplate.executeWithoutResult(tx -> {
+            Application locked = findApplicationForUpdate(applicationId);
+            checkStatus(locked, ApplicationStatus.REVIEW_READY,
+                    "Interview question re-generation is only allowed for REVIEW_READY applications.");
+            locked.updateInterviewRecommendations(recommendationsJson);
+            recommendationPool.ifPresent(pool -> pool.recordServed(applicationId, recommendationsJson));
+        });
+
+        recommendationPool.ifPresent(pool -> pool.replenishAsync(applicationId));
+        return new RecommendInterviewQuestionsResponse(applicationId, recommendations);
+    }
+
+    /**
+     * 쓰기 트랜잭션: 상태 재검증 후 미제공 변형을 꺼내 현재 추천 질문으로 교체 (풀이 비어 있으면 empty)
+     */
+    private Optional<List<String>> popPooledRecommendations(Long applicationId) {
+        return transactionTemplate.execute(tx -> {
+            Application locked = findApplicationForUpdate(applicationId);
+            checkStatus(locked, ApplicationStatus.REVIEW_READY,
+                    "Interview question re-generation is only allowed for REVIEW_READY applications.");
+            Optional<InterviewRecommendationSet> next = recommendationPool.get().pop(applicationId);
+            next.ifPresent(set -> locked.updateInterviewRecommendations(set.getRecommendationsJson()));
+            return next.map(set -> deserializeRecommendations(set.getRecommendationsJson(), applicationId));
+        });
+    }
+
+    /**
+     * 지원서 존재 여부와 상태만 검증 (404 / 409)
+     * - SSE 스트리밍처럼 응답이 먼저 커밋되는 API에서, 스트림을 열기 전에 HTTP 상태 코드로 거절하기 위해 사용
+     */
+    public void verifyStatus(Long applicationId, ApplicationStatus requiredStatus) {
+        checkStatus(findApplication(applicationId), requiredStatus,
+                "This operation is only allowed for " + requiredStatus + " applications.");
+    }
+
+    // =========================================================
+    // 파이프라인 공통 private 메서드
+    // =========================================================
+
+    private Application findApplication(Long applicationId) {
+        return applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found"));
+    }
 
-        if (application.getStatus() != ApplicationStatus.REVIEW_READY) {
+    /**
+     * 쓰기 트랜잭션 안에서 행 잠금과 함께 재조회 (LLM 호출 중 다른 요청이 상태를 바꿨는지 재검증하기 위함)
+     */
+    private Application findApplicationForUpdate(Long applicationId) {
+        return applicationRepository.findByIdForUpdate(applicationId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found"));
+    }
+
+    private void checkStatus(Application application, ApplicationStatus expected, String message) {
+        if (application.getStatus() != expected) {
             throw new ResponseStatusException(HttpStatus.CONFLICT,
-                    "Interview question re-generation is only allowed for REVIEW_READY applications. Current status: "
-                            + application.getStatus());
+                    message + " Current status: " + application.getStatus());
         }
+    }
 
-        Experience selectedExperience = experienceRepository
+    private Experience findSelectedExperience(Long applicationId) {
+        return experienceRepository
                 .findByApplicationIdAndIsSelectedTrue(applicationId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
                         "No selected experience found for applicationId: " + applicationId));
+    }
 
-        List<FollowupQuestion> questions = followupQuestionRepository
-                .findByExperienceIdOrderByTypeAsc(selectedExperience.getId());
+    /**
+     * 상태 가드 + 추천 프롬프트 입력(선택 경험, STAR Q/A) 조회 (읽기 트랜잭션 안에서 호출)
+     */
+    private RecommendationContext loadRecommendationContext(Long applicationId, ApplicationStatus expected,
+                                                            String message) {
+        Application found = findApplication(applicationId);
+        checkStatus(found, expected, message);
 
+        Experience selectedExperience = findSelectedExperience(applicationId);
+        List<FollowupQuestion> questions = findQuestionsOf(selectedExperience);
         List<Long> questionIds = questions.stream().map(FollowupQuestion::getId).toList();
         List<FollowupAnswer> answers = followupAnswerRepository.findByQuestionIdIn(questionIds);
+        return new RecommendationContext(found, selectedExperience, questions, answers);
+    }
 
-        List<String> recommendations = interviewRecommendationService.generateInterviewRecommendations(
-                applicationId,
-                application.getCoverLetterText(),
-                questions,
-                answers
-        );
+    private List<FollowupQuestion> findQuestionsOf(Experience selectedExperience) {
+        List<FollowupQuestion> questions = followupQuestionRepository
+                .findByExperienceIdOrderByTypeAsc(selectedExperience.getId());
 
-        if (recommendations.isEmpty()) {
+        if (questions.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
-                    "Failed to re-generate interview recommendations for applicationId: " + applicationId);
+                    "No followup questions found for experienceId: " + selectedExperience.getId());
         }
+        return questions;
+    }
 
-        String recommendationsJson;
+    private String serializeRecommendations(List<String> recommendations) {
         try {
-            recommendationsJson = objectMapper.writeValueAsString(recommendations);
+            return objectMapper.writeValueAsString(recommendations);
         } catch (JsonProcessingException e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
                     "Failed to serialize interview recommendations: " + e.getMessage());
         }
+    }
 
-        application.updateInterviewRecommendations(recommendationsJson);
-        applicationRepository.save(application);
+    private record QuestionContext(Application application, Experience selectedExperience) {
+    }
 
-        return new RecommendInterviewQuestionsResponse(applicationId, recommendations);
+    private record RecommendationContext(Application application, Experience selectedExperience,
+                                         List<FollowupQuestion> questions, List<FollowupAnswer> answers) {
+
+        // 추천 프롬프트에 넣을 자소서 (선택 경험 주변 발췌)
+        String coverLetterText(CoverLetterWindower windower) {
+            return windower.excerpt(LlmOperation.INTERVIEW_RECOMMENDATIONS, application.getCoverLetterText(),
+                    selectedExperience);
+        }
     }
 
     /**
@@ -0,0 +1,413 @@
+package com.khuda.khuda_clue_api.service;
+
+import com.khuda.khuda_clue_api.config.BulkRunProperties;
+import com.khuda.khuda_clue_api.domain.ApplicationStatus;
+import com.khuda.khuda_clue_api.domain.BulkRunState;
+import com.khuda.khuda_clue_api.dto.request.BulkRunRequest;
+import com.khuda.khuda_clue_api.dto.response.BulkRunResponse;
+import com.khuda.khuda_clue_api.entity.BulkRun;
+import com.khuda.khuda_clue_api.repository.ApplicationRepository;
+import com.khuda.khuda_clue_api.repository.BulkRunRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 일괄 파이프라인 실행기
+ * - 지정한 상태의 지원서를 id 키셋 페이지 단위로 조회해 동시 처리 수만큼 병렬로 다음 단계로 진행시킨다.
+ *   SUBMITTED → 경험 선택 + STAR 질문 생성 / EXPERIENCE_SELECTED → STAR 질문 생성 / REVIEW_READY → 추천 질문 재생성
+ * - 페이지가 끝날 때마다 마지막 id·카운터를 bulk_run에 체크포인트로 기록하고 처리량을 로그로 남긴다.
+ * - owner_id + heartbeat_at 리스로 실행 소유권을 관리한다. 인스턴스가 내려가 리스가 만료되면
+ *   주기 스캔에서 (재시작한 인스턴스 포함) 다른 인스턴스가 체크포인트부터 이어서 처리한다.
+ * - 개별 지원서 처리는 ApplicationService의 동기 파이프라인을 그대로 사용하므로 상태 가드·트랜잭션 경계가 동일하다.
+ */
+@Slf4j
+@Service
+public class BulkPipelineRunner {
+
+    private static final Set<ApplicationStatus> SUPPORTED_STATUSES = Set.of(
+            ApplicationStatus.SUBMITTED,
+            ApplicationStatus.EXPERIENCE_SELECTED,
+            ApplicationStatus.REVIEW_READY
+    );
+
+    // 페이지 처리 중 리스 연장 주기 (리스가 짧게 설정되면 리스의 1/4)
+    private static final Duration MAX_HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
+    private final BulkRunRepository bulkRunRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationService applicationService;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkRunProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final boolean virtualThreads;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<Long, RunHandle> activeRuns = new ConcurrentHashMap<>();
+
+    public BulkPipelineRunner(
+            BulkRunRepository bulkRunRepository,
+            ApplicationRepository applicationRepository,
+            ApplicationService applicationService,
+            TransactionTemplate transactionTemplate,
+            BulkRunProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.bulkRunRepository = bulkRunRepository;
+        this.applicationRepository = applicationRepository;
+        this.applicationService = applicationService;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * 일괄 처리 시작
+     * - 지원하지 않는 상태(QUESTIONS_SENT: 지원자 입력 대기, ANSWERED: 추천 생성 작업 진행 중)이거나 동시 처리 수가 상한을 넘으면 400
+     */
+    public BulkRunResponse start(BulkRunRequest request) {
+        if (!SUPPORTED_STATUSES.contains(request.status())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Bulk run supports only SUBMITTED, EXPERIENCE_SELECTED and REVIEW_READY. Requested: "
+                            + request.status());
+        }
+        int concurrency = request.concurrency() != null ? request.concurrency() : properties.defaultConcurrency();
+        if (concurrency > properties.maxConcurrency()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "concurrency must be between 1 and " + properties.maxConcurrency());
+        }
+
+        BulkRun run = transactionTemplate.execute(tx ->
+                bulkRunRepository.save(new BulkRun(request.status(), concurrency, instanceId)));
+        log.info("일괄 처리 시작. runId: {}, status: {}, concurrency: {}", run.getId(), run.getSourceStatus(), concurrency);
+        launch(run);
+        return toResponse(run);
+    }
+
+    /**
+     * 실행 상태 조회
+     */
+    public BulkRunResponse getRun(Long runId) {
+        return toResponse(findRun(runId));
+    }
+
+    /**
+     * 실행 취소
+     * - DB 상태를 CANCELLED로 바꾸면 소유 인스턴스(다른 노드 포함)는 다음 heartbeat에서 중단한다.
+     * - 이미 끝난 실행은 409
+     */
+    public BulkRunResponse cancel(Long runId) {
+        BulkRun run = transactionTemplate.execute(tx -> {
+            BulkRun found = findRun(runId);
+            if (!found.isRunning()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Bulk run is not running. Current state: " + found.getState());
+            }
+            found.finish(BulkRunState.CANCELLED, null);
+            return found;
+        });
+        RunHandle handle = activeRuns.get(runId);
+        if (handle != null) {
+            handle.stop();
+        }
+        log.info("일괄 처리 취소. runId: {}", runId);
+        return toResponse(run);
+    }
+
+    /**
+     * 리스가 만료된 RUNNING 실행을 이어받아 재개 (재시작 후 복구 및 다른 노드 장애 대비)
+     */
+    @Scheduled(initialDelayString = "PT10S", fixedDelayString = "${clue.bulk-run.resume-scan-interval:PT30S}")
+    public void resumeOrphanedRuns() {
+        for (BulkRun candidate : bulkRunRepository.findByState(BulkRunState.RUNNING)) {
+            if (activeRuns.containsKey(candidate.getId())) {
+                continue;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            Integer claimed = transactionTemplate.execute(tx -> bulkRunRepository.claim(
+                    candidate.getId(), instanceId, BulkRunState.RUNNING, now, now.minus(properties.lease())));
+            if (claimed != null && claimed == 1) {
+                BulkRun run = findRun(candidate.getId());
+                log.info("일괄 처리 재개. runId: {}, checkpoint: {}, processed: {}",
+                        run.getId(), run.getLastApplicationId(), run.getProcessedCount());
+                launch(run);
+            }
+        }
+    }
+
+    /**
+     * 종료 시 로컬 실행만 중단하고 DB 상태는 RUNNING으로 남겨 리스 만료 후 재개되도록 한다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        activeRuns.values().forEach(RunHandle::stop);
+    }
+
+    private void launch(BulkRun run) {
+        ThreadFactory workerFactory = threadFactory("bulk-run-" + run.getId() + "-worker-");
+        RunHandle handle = new RunHandle(Executors.newFixedThreadPool(run.getConcurrency(), workerFactory), heartbeatInterval());
+        if (activeRuns.putIfAbsent(run.getId(), handle) != null) {
+            handle.stop();
+            return;
+        }
+        Thread coordinator = threadFactory("bulk-run-" + run.getId() + "-").newThread(() -> execute(run, handle));
+        coordinator.start();
+    }
+
+    private void execute(BulkRun run, RunHandle handle) {
+        Long runId = run.getId();
+        ApplicationStatus status = run.getSourceStatus();
+        long cursor = run.getLastApplicationId();
+        try {
+            while (!handle.isStopped()) {
+                List<Long> ids = applicationRepository.findIdsByStatusAfter(
+                        status, cursor, PageRequest.of(0, properties.pageSize()));
+                if (ids.isEmpty()) {
+                    finish(runId, BulkRunState.COMPLETED, null);
+                    return;
+                }
+
+                long pageStart = System.nanoTime();
+                List<Future<Boolean>> futures = new ArrayList<>(ids.size());
+                for (Long applicationId : ids) {
+                    futures.add(handle.workers().submit(() -> processOne(status, applicationId)));
+                }
+
+                int succeeded = 0;
+                int failed = 0;
+                for (Future<Boolean> future : futures) {
+                    if (awaitWithHeartbeat(runId, handle, future)) {
+                        succeeded++;
+                    } else {
+                        failed++;
+                    }
+                }
+                if (handle.isStopped()) {
+                    // 취소·소유권 상실·종료: 미완료 페이지는 체크포인트하지 않고 다음 재개 시 다시 처리
+                    return;
+                }
+
+                cursor = ids.get(ids.size() - 1);
+                if (!checkpoint(runId, cursor, succeeded, failed)) {
+                    log.info("일괄 처리 소유권 상실 또는 취소로 중단. runId: {}", runId);
+                    return;
+                }
+
+                double seconds = Math.max((System.nanoTime() - pageStart) / 1_000_000_000.0, 0.001);
+                log.info("일괄 처리 페이지 완료. runId: {}, checkpoint: {}, 성공: {}, 실패: {}, 처리량: {}/s",
+                        runId, cursor, succeeded, failed, String.format("%.2f", ids.size() / seconds));
+            }
+        } catch (Exception e) {
+            if (handle.isStopped()) {
+                // 종료·취소로 인한 인터럽트/거절: 상태는 그대로 두고 리스 만료 후 재개
+                return;
+            }
+            log.error("일괄 처리 중 오류 발생. runId: {}, checkpoint: {}", runId, cursor, e);
+            finish(runId, BulkRunState.FAILED, e.getClass().getSimpleName() + ": " + e.getMessage());
+        } finally {
+            handle.workers().shutdownNow();
+            activeRuns.remove(runId, handle);
+        }
+    }
+
+    /**
+     * 지원서 1건을 자동 진행 가능한 단계까지 처리
+     *
+     * @return 성공 여부 (상태 불일치·LLM 실패 등은 실패로 집계하고 다음 건을 계속 처리)
+     */
+    private boolean processOne(ApplicationStatus status, Long applicationId) {
+        try {
+            switch (status) {
+                case SUBMITTED -> {
+                    applicationService.selectExperience(applicationId);
+                    applicationService.generateFollowupQuestions(applicationId);
+                }
+                case EXPERIENCE_SELECTED -> applicationService.generateFollowupQuestions(applicationId);
+                case REVIEW_READY -> applicationService.recommendInterviewQuestions(applicationId);
+                default -> throw new IllegalStateException("Unsupported bulk run status: " + status);
+            }
+            countApplication(status, "succeeded");
+            return true;
+        } catch (ResponseStatusException e) {
+            log.warn("일괄 처리 건 실패. applicationId: {}, reason: {}", applicationId, e.getReason());
+        } catch (Exception e) {
+            log.error("일괄 처리 건 오류. applicationId: {}", applicationId, e);
+        }
+        countApplication(status, "failed");
+        return false;
+    }
+
+    /**
+     * 작업 완료를 기다리며 마지막 리스 연장 이후 연장 주기가 지날 때마다 리스 연장. 소유권을 잃으면 실행을 중단한다.
+     * (건마다 짧게 끝나도 페이지 전체가 리스보다 길어질 수 있으므로, 대기 시간이 아니라 마지막 연장 시각을 기준으로 한다)
+     */
+    private boolean awaitWithHeartbeat(Long runId, RunHandle handle, Future<Boolean> future)
+            throws InterruptedException {
+        while (true) {
+            if (handle.isStopped()) {
+                future.cancel(true);
+                return false;
+            }
+            long untilHeartbeat = handle.nanosUntilHeartbeat();
+            if (untilHeartbeat <= 0) {
+                heartbeat(runId, handle);
+                continue;
+            }
+            try {
+                return future.get(untilHeartbeat, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // 다음 반복에서 리스 연장
+            } catch (ExecutionException e) {
+                return false;
+            }
+        }
+    }
+
+    private void heartbeat(Long runId, RunHandle handle) {
+        Integer renewed = transactionTemplate.execute(tx -> bulkRunRepository.heartbeat(
+                runId, instanceId, BulkRunState.RUNNING, LocalDateTime.now()));
+        handle.renewed();
+        if (renewed == null || renewed == 0) {
+            handle.stop();
+        }
+    }
+
+    private Duration heartbeatInterval() {
+        Duration quarterLease = properties.lease().dividedBy(4);
+        return quarterLease.compareTo(MAX_HEARTBEAT_INTERVAL) < 0 ? quarterLease : MAX_HEARTBEAT_INTERVAL;
+    }
+
+    private boolean checkpoint(Long runId, long lastApplicationId, int succeeded, int failed) {
+        Boolean owned = transactionTemplate.execute(tx -> {
+            BulkRun run = findRun(runId);
+            if (!run.isRunning() || !instanceId.equals(run.getOwnerId())) {
+                return false;
+            }
+            run.recordPage(lastApplicationId, succeeded, failed);
+            return true;
+        });
+        if (Boolean.TRUE.equals(owned)) {
+            // 체크포인트도 heartbeat_at을 갱신하므로 리스 연장으로 본다
+            RunHandle handle = activeRuns.get(runId);
+            if (handle != null) {
+                handle.renewed();
+            }
+        }
+        return Boolean.TRUE.equals(owned);
+    }
+
+    private void finish(Long runId, BulkRunState state, String errorMessage) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            BulkRun run = findRun(runId);
+            if (run.isRunning() && instanceId.equals(run.getOwnerId())) {
+                run.finish(state, errorMessage);
+                log.info("일괄 처리 종료. runId: {}, state: {}, 처리: {}, 성공: {}, 실패: {}",
+                        runId, state, run.getProcessedCount(), run.getSucceededCount(), run.getFailedCount());
+            }
+        });
+    }
+
+    private void countApplication(ApplicationStatus status, String outcome) {
+        Counter.builder("clue.bulk_run.applications")
+                .description("Applications processed by bulk runs")
+                .tag("source_status", status.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private ThreadFactory threadFactory(String prefix) {
+        return virtualThreads
+                ? Thread.ofVirtual().name(prefix, 0).factory()
+                : Thread.ofPlatform().name(prefix, 0).factory();
+    }
+
+    private BulkRun findRun(Long runId) {
+        return bulkRunRepository.findById(runId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Bulk run not found"));
+    }
+
+    private BulkRunResponse toResponse(BulkRun run) {
+        LocalDateTime end = run.getFinishedAt() != null ? run.getFinishedAt() : LocalDateTime.now();
+        LocalDateTime start = run.getStartedAt() != null ? run.getStartedAt() : end;
+        double seconds = Math.max(Duration.between(start, end).toMillis() / 1000.0, 1.0);
+        return new BulkRunResponse(
+                run.getId(),
+                run.getSourceStatus(),
+                run.getState(),
+                run.getConcurrency(),
+                run.getLastApplicationId(),
+                run.getProcessedCount(),
+                run.getSucceededCount(),
+                run.getFailedCount(),
+                run.getProcessedCount() / seconds,
+                run.getErrorMessage(),
+                run.getStartedAt(),
+                run.getFinishedAt()
+        );
+    }
+
+    /**
+     * 로컬 실행 핸들 (워커 풀 + 중단 플래그 + 마지막 리스 연장 시각)
+     */
+    private static final class RunHandle {
+
+        private final ExecutorService workers;
+        private final long heartbeatIntervalNanos;
+        private volatile boolean stopped;
+        // 시작(claim·생성) 시 heartbeat_at이 기록되므로 생성 시각부터 잰다
+        private volatile long lastRenewedNanos = System.nanoTime();
+
+        private RunHandle(ExecutorService workers, Duration heartbeatInterval) {
+            this.workers = workers;
+            this.heartbeatIntervalNanos = heartbeatInterval.toNanos();
+        }
+
+        long nanosUntilHeartbeat() {
+            return heartbeatIntervalNanos - (System.nanoTime() - lastRenewedNanos);
+        }
+
+        void renewed() {
+            lastRenewedNanos = System.nanoTime();
+        }
+
+        ExecutorService workers() {
+            return workers;
+        }
+
+        boolean isStopped() {
+            return stopped;
+        }
+
+        void stop() {
+            stopped = true;
+            workers.shutdownNow();
+        }
+    }
+}
@@ -6,38 +6,55 @@ import com.khuda.khuda_clue_api.domain.QuestionType;
 import com.khuda.khuda_clue_api.entity.Experience;
 import com.khuda.khuda_clue_api.entity.FollowupAnswer;
 import com.khuda.khuda_clue_api.entity.FollowupQuestion;
+import com.khuda.khuda_clue_api.llm.LlmClient;
+import com.khuda.khuda_clue_api.llm.LlmOperation;
+import com.khuda.khuda_clue_api.llm.LlmResponseHandler;
+import com.khuda.khuda_clue_api.llm.LlmTimeoutException;
+import com.khuda.khuda_clue_api.llm.LlmUnavailableException;
+import com.khuda.khuda_clue_api.prompt.PromptTemplates;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * Spring AI ChatClient를 사용하여 자소서에서 경험을 추출하고 STAR 질문을 생성하는 서비스
+ * ChatClient 호출은 유량 제어를 위해 LlmClient를 통해서만 수행하며,
+ * LlmUnavailableException(503)은 빈 결과로 바꾸지 않고 호출자에게 그대로 전달한다.
  */
 @Slf4j
 @Service
 @Primary
-public class ChatGptService implements ExperienceExtractionService, FollowupQuestionGenerationService, InterviewRecommendationService {
-
-    private static final String EXAMPLE_COVER_LETTER_RESOURCE_PATH = "/prompt/experience-extraction-example-coverletter.txt";
-
-    private final ChatClient chatClient;
-    private final ObjectMapper objectMapper;
-
-    public ChatGptService(ChatClient.Builder chatClientBuilder) {
-        this.chatClient = chatClientBuilder.build();
-        this.objectMapper = new ObjectMapper();
+public class ChatGptService implements ExperienceExtractionService, FollowupQuestionGenerationService,
+        InterviewRecommendationService {
+
+    // 프롬프트 템플릿 버전 (LLM 응답 캐시 키에 포함, 프롬프트 문구를 바꾸면 함께 올린다)
+    private static final String EXPERIENCE_PROMPT_VERSION = "experience-v2";
+    private static final String QUESTION_PROMPT_VERSION = "question-v2";
+    private static final String RECOMMENDATION_PROMPT_VERSION = "recommendation-v2";
+
+    private final LlmClient llmClient;
+    private final PromptTemplates promptTemplates;
+    private final JsonArrayElementReader jsonReader;
+
+    public ChatGptService(LlmClient llmClient, PromptTemplates promptTemplates) {
+        this.llmClient = llmClient;
+        this.promptTemplates = promptTemplates;
+        this.jsonReader = new JsonArrayElementReader(new ObjectMapper());
         log.info("ChatGptService initialized with Spring AI ChatClient.");
     }
 
@@ -50,8 +67,8 @@ public class ChatGptService implements ExperienceExtractionService, FollowupQues
         log.info("Spring AI ChatClient를 사용하여 경험 추출 시작. applicationId: {}", applicationId);
 
         try {
-            String systemPrompt = buildExperienceSystemPrompt();
-            String userPrompt = buildExperienceUserPrompt(coverLetterText);
+            String systemPrompt = promptTemplates.experienceSystemPrompt();
+            String userPrompt = promptTemplates.experienceUserPrompt(coverLetterText);
 
             // Spring AI Prompt API 사용
             Prompt prompt = new Prompt(List.of(
@@ -59,20 +76,19 @@ public class ChatGptService implements ExperienceExtractionService, FollowupQues
                     new UserMessage(userPrompt)
             ));
 
-            // ChatClient를 통한 AI 호출
-            String content = chatClient.prompt(prompt)
-                    .call()
-                    .content();
+            // LlmClient(ChatClient 게이트웨이)를 통한 AI 호출 (동일 프롬프트의 검증된 응답은 캐시에서 재사용)
+            // 인덱스·rankScore가 범위를 벗어난 응답은 상위 모델 프로파일로 다시 요청
+            List<ExperienceJson> experienceJsons = llmClient.call(LlmOperation.EXPERIENCE_EXTRACTION,
+                    EXPERIENCE_PROMPT_VERSION, prompt,
+                    listHandler(this::parseExperiences, jsons -> isInRange(jsons, coverLetterText)));
+            List<Experience> experiences = toExperiences(applicationId, coverLetterText, experienceJsons);
 
-            if (content == null || content.isBlank()) {
-                log.warn("Spring AI로부터 빈 응답 수신. applicationId: {}", applicationId);
+            if (experiences.isEmpty()) {
+                log.warn("Spring AI로부터 빈 응답 또는 파싱 불가 응답 수신. applicationId: {}", applicationId);
                 return new ArrayList<>();
             }
 
             log.info("Spring AI 응답 수신 완료. applicationId: {}", applicationId);
-            log.debug("Spring AI 응답 내용: {}", content);
-
-            List<Experience> experiences = parseExperiences(applicationId, coverLetterText, content);
 
             // rankScore 내림차순 정렬
             experiences.sort(Comparator.comparing(Experience::getRankScore).reversed());
@@ -82,6 +98,9 @@ public class ChatGptService implements ExperienceExtractionService, FollowupQues
                     .limit(1)
                     .toList();
 
+        } catch (LlmUnavailableException | LlmTimeoutException e) {
+            // 유량 제어 거절(503 + Retry-After)과 마지막 모델 프로파일의 대기 한도 초과(504)는 그대로 전달
+            throw e;
         } catch (Exception e) {
             log.error("Spring AI 경험 추출 중 오류 발생. Exception type: {}, message: {}",
                     e.getClass().getSimpleName(), e.getMessage(), e);
@@ -98,28 +117,30 @@ public class ChatGptService implements ExperienceExtractionService, FollowupQues
         log.info("Spring AI ChatClient를 사용하여 STAR 질문 생성 시작. experienceId: {}", experienceId);
 
         try {
-            String systemPrompt = buildQuestionSystemPrompt();
-            String userPrompt = buildQuestionUserPrompt(experienceTitle, coverLetterText);
+            String systemPrompt = promptTemplates.questionSystemPrompt();
+            String userPrompt = promptTemplates.questionUserPrompt(experienceTitle, coverLetterText);
 
             Prompt prompt = new Prompt(List.of(
                     new SystemMessage(systemPrompt),
                     new UserMessage(userPrompt)
             ));
 
-            String content = chatClient.prompt(prompt)
-                    .call()
-                    .content();
+            // S/T/A/R 4유형을 모두 갖추지 못한 응답은 상위 모델 프로파일로 다시 요청
+            List<FollowupQuestion> questions = llmClient.call(LlmOperation.FOLLOWUP_QUESTIONS, QUESTION_PROMPT_VERSION,
+                    prompt, listHandler(content -> parseFollowupQuestions(experienceId, content),
+                            ChatGptService::coversAllStarTypes));
 
-            if (content == null || content.isBlank()) {
-                log.warn("Spring AI로부터 빈 응답 수신 (STAR 질문 생성). experienceId: {}", experienceId);
+            if (questions.isEmpty()) {
+                log.warn("Spring AI로부터 빈 응답 또는 파싱 불가 응답 수신 (STAR 질문 생성). experienceId: {}", experienceId);
                 return new ArrayList<>();
             }
 
             log.info("Spring AI STAR 질문 응답 수신 완료. experienceId: {}", experienceId);
-            log.debug("Spring AI STAR 질문 응답: {}", content);
-
-            return parseFollowupQuestions(experienceId, content);
+            return questions;
 
+        } catch (LlmUnavailableException | LlmTimeoutException e) {
+            // 유량 제어 거절(503 + Retry-After)과 마지막 모델 프로파일의 대기 한도 초과(504)는 그대로 전달
+            throw e;
         } catch (Exception e) {
             log.error("Spring AI STAR 질문 생성 중 오류 발생. Exception type: {}, message: {}",
                     e.getClass().getSimpleName(), e.getMessage(), e);
@@ -127,191 +148,150 @@ public class ChatGptService implements ExperienceExtractionService, FollowupQues
         }
     }
 
-    // =========================================================
-    // 경험 추출 관련 private 메서드
-    // =========================================================
-
-    private String buildExperienceUserPrompt(String coverLetterText) {
-        String oneShotExample = buildOneShotExampleSection();
-        return """
-            [과제 설명]
-            너는 채용 평가 보조 AI다. 입력으로 주어지는 자기소개서 전체 텍스트에서 "검증 가치가 높은 경험" 구간을 의미적으로 찾아내고, 각 경험의 STAR 완성도(상황/과제/행동/결과), 구체성, 성과의 명확성을 종합해 점수를 매겨라.
-            
-            - 경험이란: 지원자가 직접 수행한 행동이 있고, 그로 인한 결과/성과(정량 또는 정성)가 드러나는 "연속 텍스트 구간"이다.
-            - 경험 경계는 문단/문장 기준이 아니라 의미 기준으로 잡아라. 단, 반드시 원문에서 연속된 substring이어야 한다.
-            - 인덱스 기준: 0-based 문자 인덱스이며, endIdx는 경험 구간의 마지막 문자 "다음" 위치(즉, Java String substring(startIdx, endIdx)로 정확히 잘라지는 범위)다.
-            - 출력은 반드시 JSON 배열 1개만. 코드펜스(```), 설명 문장, 마크다운, 주석을 절대 포함하지 마라.
-            
-            %s
-            
-            [과제]
-            아래 [입력 자소서]에서 경험을 최대 3개까지 찾아 JSON 배열로 반환하라.
-            - rankScore는 0.0~1.0
-            - rankScore 내림차순으로 정렬
-            - title은 원문에서 그대로 발췌한 짧은 구절(경험을 대표하는 문장/절)로 작성
-            - 아래 [출력 JSON 스키마]는 "형식 참고용"이다. 스키마 예시를 그대로 복사하지 말고, 반드시 실제 값으로 채워 출력해라.
-            
-            [입력 자소서]
-            %s
-            
-            [출력 JSON 스키마]
-            [
-              {
-                "title": "원문 발췌",
-                "startIdx": 0,
-                "endIdx": 0,
-                "rankScore": 0.0
-              }
-            ]
-            """.formatted(oneShotExample, coverLetterText);
-    }
+    /**
+     * 스트리밍 STAR 질문 생성
+     * - 형식이 맞지 않거나 알 수 없는 유형의 원소는 건너뛰고 다음 원소를 계속 전달한다.
+     * - 질문을 하나라도 전달한 뒤에는 완성된 목록이 S/T/A/R 4유형을 갖추지 못했거나 스트림이 중간에 실패하면
+     *   빈 목록(템플릿 대체 대상) 대신 500을 던진다. 이미 보낸 질문을 다른 질문으로 조용히 바꾸지 않고 error 이벤트로 끝내기 위함이다.
+     */
+    @Override
+    public List<FollowupQuestion> streamFollowupQuestions(
+            Long experienceId,
+            String experienceTitle,
+            String coverLetterText,
+            Consumer<FollowupQuestion> onQuestion
+    ) {
+        log.info("Spring AI ChatClient 스트리밍으로 STAR 질문 생성 시작. experienceId: {}", experienceId);
 
-    private String buildExperienceSystemPrompt() {
-        return """
-            너는 JSON만 출력하는 정보 추출기다.
-            사용자의 입력 텍스트에서 경험 구간을 찾아내고, 지정된 스키마의 JSON 배열만 반환해라.
-            절대 설명을 붙이지 마라.
-            """;
-    }
+        List<FollowupQuestion> questions = new ArrayList<>();
+        try {
+            Prompt prompt = new Prompt(List.of(
+                    new SystemMessage(promptTemplates.questionSystemPrompt()),
+                    new UserMessage(promptTemplates.questionUserPrompt(experienceTitle, coverLetterText))
+            ));
 
-    private String buildOneShotExampleSection() {
-        String exampleCoverLetter = loadExampleCoverLetterFromResources();
-        if (exampleCoverLetter == null || exampleCoverLetter.isBlank()) {
-            return "";
+            // JSON 원소가 완성되는 즉시 파싱하여 콜백으로 전달
+            JsonArrayElementSplitter splitter = new JsonArrayElementSplitter(element -> {
+                FollowupQuestion question = toStreamedQuestion(experienceId, element);
+                if (question != null) {
+                    questions.add(question);
+                    onQuestion.accept(question);
+                }
+            });
+
+            llmClient.stream(LlmOperation.FOLLOWUP_QUESTIONS, prompt)
+                    .doOnNext(splitter::feed)
+                    .blockLast();
+
+        } catch (LlmUnavailableException | LlmTimeoutException e) {
+            // 유량 제어 거절(503 + Retry-After)과 마지막 모델 프로파일의 대기 한도 초과(504)는 그대로 전달
+            throw e;
+        } catch (Exception e) {
+            log.error("Spring AI STAR 질문 스트리밍 중 오류 발생. Exception type: {}, message: {}",
+                    e.getClass().getSimpleName(), e.getMessage(), e);
+            if (questions.isEmpty()) {
+                return new ArrayList<>();
+            }
+            throw incompleteQuestionStream(experienceId, questions);
         }
 
-        ExampleExperience e1 = ExampleExperience.fromBoundaries(
-                "개인브랜드 운영 및 트렌드 분석",
-                exampleCoverLetter,
-                "1인 브랜드 운영자였던 만큼",
-                "극대화하겠습니다."
-        );
-        ExampleExperience e2 = ExampleExperience.fromBoundaries(
-                "콘텐츠팀 인턴 SNS 콘텐츠 제작",
-                exampleCoverLetter,
-                "콘텐츠팀 인턴으로 근무하며 신규 사업체의 SNS 콘텐츠를 제작했던 경험이 있습니다.",
-                "SNS 콘텐츠를 제작했습니다."
-        );
-        ExampleExperience e3 = ExampleExperience.fromBoundaries(
-                "브랜드 론칭 및 매출 신장",
-                exampleCoverLetter,
-                "인턴십 종료 후에는 직접 촬영한 사진을 기반으로 하는 브랜드 론칭에 도전했습니다.",
-                "매출을 신장할 수 있었습니다."
-        );
-
-        // 예시는 "형식 + 인덱스 기준"을 보여주기 위한 1-shot 이므로, 점수는 상대 비교로만 제시
-        return """
-            [예시 - 1 shot]
-            아래는 "입력 자소서 → 출력 JSON" 예시다. (형식/인덱스 기준을 그대로 따라라.)
-            
-            [예시 입력 자소서]
-            %s
-            
-            [예시 출력 JSON]
-            [
-              {
-                "title": "%s",
-                "startIdx": %d,
-                "endIdx": %d,
-                "rankScore": 0.65
-              },
-              {
-                "title": "%s",
-                "startIdx": %d,
-                "endIdx": %d,
-                "rankScore": 0.75
-              },
-              {
-                "title": "%s",
-                "startIdx": %d,
-                "endIdx": %d,
-                "rankScore": 0.85
-              }
-            ]
-            """.formatted(
-                exampleCoverLetter,
-                e1.title, e1.startIdx, e1.endIdx,
-                e2.title, e2.startIdx, e2.endIdx,
-                e3.title, e3.startIdx, e3.endIdx
-        );
+        if (!questions.isEmpty() && !coversAllStarTypes(questions)) {
+            throw incompleteQuestionStream(experienceId, questions);
+        }
+        log.info("Spring AI STAR 질문 스트리밍 완료. experienceId: {}, 질문 수: {}", experienceId, questions.size());
+        return questions;
     }
 
-    private String loadExampleCoverLetterFromResources() {
-        try (InputStream is = ChatGptService.class.getResourceAsStream(EXAMPLE_COVER_LETTER_RESOURCE_PATH)) {
-            if (is == null) {
-                log.warn("One-shot 예시 자소서 리소스를 찾을 수 없습니다: {}", EXAMPLE_COVER_LETTER_RESOURCE_PATH);
-                return null;
-            }
-            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
-        } catch (Exception e) {
-            log.warn("One-shot 예시 자소서 로드 실패. path={}", EXAMPLE_COVER_LETTER_RESOURCE_PATH, e);
+    /**
+     * 스트리밍 원소 1개를 질문으로 변환. 형식 오류·알 수 없는 유형이면 null (해당 원소만 제외)
+     */
+    private FollowupQuestion toStreamedQuestion(Long experienceId, String element) {
+        try {
+            return toFollowupQuestion(experienceId, jsonReader.readElement(element, FollowupQuestionJson.class));
+        } catch (RuntimeException e) {
+            log.warn("스트리밍 STAR 질문 원소 제외. experienceId: {}, element: {}", experienceId, element);
             return null;
         }
     }
 
-    private record ExampleExperience(String title, int startIdx, int endIdx) {
-        static ExampleExperience fromBoundaries(String title, String fullText, String startAnchor, String endAnchor) {
-            int start = fullText.indexOf(startAnchor);
-            if (start < 0) {
-                throw new IllegalStateException("Example startAnchor not found: " + startAnchor);
-            }
-            int endAnchorIdx = fullText.indexOf(endAnchor, start);
-            if (endAnchorIdx < 0) {
-                throw new IllegalStateException("Example endAnchor not found after startAnchor: " + endAnchor);
-            }
-            int endExclusive = endAnchorIdx + endAnchor.length();
-            return new ExampleExperience(title, start, endExclusive);
-        }
+    private ResponseStatusException incompleteQuestionStream(Long experienceId, List<FollowupQuestion> questions) {
+        List<QuestionType> types = questions.stream().map(FollowupQuestion::getType).toList();
+        log.warn("스트리밍 STAR 질문이 4유형을 갖추지 못함. experienceId: {}, types: {}", experienceId, types);
+        return new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                "Streamed follow-up questions do not cover all STAR types: " + types);
     }
 
-    private List<Experience> parseExperiences(Long applicationId, String coverLetterText, String content) {
-        List<Experience> experiences = new ArrayList<>();
-
-        try {
-            // JSON 배열 추출 (마크다운 코드 블록 제거)
-            String jsonContent = content.trim();
-            if (jsonContent.startsWith("```json")) {
-                jsonContent = jsonContent.substring(7);
-            }
-            if (jsonContent.startsWith("```")) {
-                jsonContent = jsonContent.substring(3);
-            }
-            if (jsonContent.endsWith("```")) {
-                jsonContent = jsonContent.substring(0, jsonContent.length() - 3);
-            }
-            jsonContent = jsonContent.trim();
+    /**
+     * 목록 응답 해석기: 빈 응답은 빈 목록, 원소가 1개 이상인 결과만 유효(캐시 가능)로 본다.
+     */
+    private <T> LlmResponseHandler<List<T>> listHandler(Function<String, List<T>> parser) {
+        return listHandler(parser, result -> true);
+    }
 
-            // JSON 파싱
-            List<ExperienceJson> experienceJsons = objectMapper.readValue(
-                    jsonContent,
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, ExperienceJson.class)
-            );
+    /**
+     * @param validator 원소가 1개 이상인 결과에 추가로 적용할 검증 (실패 시 캐시하지 않고 상위 모델 프로파일로 재시도)
+     */
+    private <T> LlmResponseHandler<List<T>> listHandler(Function<String, List<T>> parser,
+                                                        Predicate<List<T>> validator) {
+        return LlmResponseHandler.of(
+                content -> {
+                    if (content == null || content.isBlank()) {
+                        return new ArrayList<>();
+                    }
+                    log.debug("Spring AI 응답 내용: {}", content);
+                    return parser.apply(content);
+                },
+                result -> !result.isEmpty() && validator.test(result));
+    }
 
-            for (ExperienceJson expJson : experienceJsons) {
-                // startIdx와 endIdx 검증 및 조정
-                int startIdx = Math.max(0, Math.min(expJson.startIdx, coverLetterText.length() - 1));
-                int endIdx = Math.max(startIdx + 1, Math.min(expJson.endIdx, coverLetterText.length()));
-
-                // rankScore 검증
-                double rankScore = Math.max(0.0, Math.min(1.0, expJson.rankScore));
-
-                Experience experience = Experience.createCandidate(
-                        applicationId,
-                        expJson.title,
-                        startIdx,
-                        endIdx,
-                        rankScore
-                );
-                experiences.add(experience);
-                log.info("경험 파싱 완료: title={}, startIdx={}, endIdx={}, rankScore={}",
-                        expJson.title, startIdx, endIdx, rankScore);
-            }
+    // =========================================================
+    // 경험 추출 관련 private 메서드
+    // =========================================================
 
+    private List<ExperienceJson> parseExperiences(String content) {
+        try {
+            // 응답 내 첫 JSON 배열을 원소 단위로 파싱 (코드 블록·설명 문장·형식 오류 원소는 건너뜀)
+            return jsonReader.readElements(content, ExperienceJson.class);
         } catch (Exception e) {
             log.error("Spring AI 응답 파싱 중 오류 발생. 빈 리스트 반환. Content: {}", content, e);
             return new ArrayList<>();
         }
+    }
 
+    /**
+     * 모든 경험의 인덱스가 자소서 범위 안(startIdx < endIdx)이고 rankScore가 0~1인지 여부
+     */
+    private static boolean isInRange(List<ExperienceJson> experienceJsons, String coverLetterText) {
+        return experienceJsons.stream().allMatch(expJson ->
+                expJson.startIdx >= 0
+                        && expJson.startIdx < expJson.endIdx
+                        && expJson.endIdx <= coverLetterText.length()
+                        && expJson.rankScore >= 0.0
+                        && expJson.rankScore <= 1.0);
+    }
+
+    private List<Experience> toExperiences(Long applicationId, String coverLetterText,
+                                           List<ExperienceJson> experienceJsons) {
+        List<Experience> experiences = new ArrayList<>();
+        for (ExperienceJson expJson : experienceJsons) {
+            // startIdx와 endIdx 검증 및 조정
+            int startIdx = Math.max(0, Math.min(expJson.startIdx, coverLetterText.length() - 1));
+            int endIdx = Math.max(startIdx + 1, Math.min(expJson.endIdx, coverLetterText.length()));
+
+            // rankScore 검증
+            double rankScore = Math.max(0.0, Math.min(1.0, expJson.rankScore));
+
+            Experience experience = Experience.createCandidate(
+                    applicationId,
+                    expJson.title,
+                    startIdx,
+                    endIdx,
+                    rankScore
+            );
+            experiences.add(experience);
+            log.info("경험 파싱 완료: title={}, startIdx={}, endIdx={}, rankScore={}",
+                    expJson.title, startIdx, endIdx, rankScore);
+        }
         return experiences;
     }
 
@@ -327,74 +307,20 @@ public class ChatGptService implements ExperienceExtractionService, FollowupQues
     // STAR 질문 생성 관련 private 메서드
     // =========================================================
 
-    private String buildQuestionSystemPrompt() {
-        return """
-            너는 JSON만 출력하는 채용 면접 질문 생성기다.
-            입력으로 주어진 경험 제목과 자소서 원문을 바탕으로, STAR 프레임워크의 각 단계(S/T/A/R)별 후속 질문 1개씩, 총 4개를 생성해라.
-            출력은 반드시 JSON 배열 1개만. 코드펜스(```), 설명 문장, 마크다운, 주석을 절대 포함하지 마라.
-            """;
-    }
-
-    private String buildQuestionUserPrompt(String experienceTitle, String coverLetterText) {
-        return """
-            [과제]
-            아래 [선택된 경험]과 [자소서 원문]을 기반으로 STAR 후속 질문 4개를 생성하라.
-            
-            각 질문의 목적:
-            - S (Situation): 경험의 구체적 맥락과 배경을 파악한다. (시간, 장소, 역할, 팀 규모 등)
-            - T (Task): 지원자가 달성하려 했던 과제와 성공 기준을 파악한다.
-            - A (Action): 지원자가 직접 수행한 구체적인 행동 단계를 파악한다.
-            - R (Result): 행동의 결과와 전후 변화를 검증 가능한 형태로 파악한다.
-            
-            규칙:
-            - 질문은 짧고 구체적으로 작성한다 (1문장)
-            - AI가 지어낸 경험이 아닌지 검증 가능한 방향으로 질문한다
-            - 아래 [출력 JSON 스키마]는 "형식 참고용"이다. 스키마 예시를 그대로 복사하지 말고, 실제 경험에 맞는 질문을 생성해라.
-            
-            [선택된 경험]
-            %s
-            
-            [자소서 원문]
-            %s
-            
-            [출력 JSON 스키마]
-            [
-              {"type": "S", "questionText": "S 질문"},
-              {"type": "T", "questionText": "T 질문"},
-              {"type": "A", "questionText": "A 질문"},
-              {"type": "R", "questionText": "R 질문"}
-            ]
-            """.formatted(experienceTitle, coverLetterText);
-    }
-
     private List<FollowupQuestion> parseFollowupQuestions(Long experienceId, String content) {
         List<FollowupQuestion> questions = new ArrayList<>();
 
         try {
-            // JSON 배열 추출 (마크다운 코드 블록 제거)
-            String jsonContent = content.trim();
-            if (jsonContent.startsWith("```json")) {
-                jsonContent = jsonContent.substring(7);
-            }
-            if (jsonContent.startsWith("```")) {
-                jsonContent = jsonContent.substring(3);
-            }
-            if (jsonContent.endsWith("```")) {
-                jsonContent = jsonContent.substring(0, jsonContent.length() - 3);
-            }
-            jsonContent = jsonContent.trim();
-
-            // JSON 파싱
-            List<FollowupQuestionJson> questionJsons = objectMapper.readValue(
-                    jsonContent,
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, FollowupQuestionJson.class)
-            );
+            // 응답 내 첫 JSON 배열을 원소 단위로 파싱 (코드 블록·설명 문장·형식 오류 원소는 건너뜀)
+            List<FollowupQuestionJson> questionJsons = jsonReader.readElements(content, FollowupQuestionJson.class);
 
             for (FollowupQuestionJson qJson : questionJsons) {
-                QuestionType questionType = QuestionType.valueOf(qJson.type.trim().toUpperCase());
-                FollowupQuestion question = new FollowupQuestion(experienceId, questionType, qJson.questionText);
-                questions.add(question);
-                log.info("STAR 질문 파싱 완료: type={}, questionText={}", questionType, qJson.questionText);
+                try {
+                    questions.add(toFollowupQuestion(experienceId, qJson));
+                } catch (RuntimeException e) {
+                    // 알 수 없는 질문 유형 등: 해당 원소만 제외
+                    log.warn("STAR 질문 원소 제외. experienceId: {}, type: {}", experienceId, qJson.type);
+                }
             }
 
         } catch (Exception e) {
@@ -405,6 +331,24 @@ public class ChatGptService implements ExperienceExtractionService, FollowupQues
         return questions;
     }
 
+    /**
+     * S/T/A/R 유형을 모두 1개 이상 포함하는지 여부
+     */
+    private static boolean coversAllStarTypes(List<FollowupQuestion> questions) {
+        EnumSet<QuestionType> types = EnumSet.noneOf(QuestionType.class);
+        for (FollowupQuestion question : questions) {
+            types.add(question.getType());
+        }
+        return types.size() == QuestionType.values().length;
+    }
+
+    private FollowupQuestion toFollowupQuestion(Long experienceId, FollowupQuestionJson qJson) {
+        QuestionType questionType = QuestionType.valueOf(qJson.type.trim().toUpperCase());
+        FollowupQuestion question = new FollowupQuestion(experienceId, questionType, qJson.questionText);
+        log.info("STAR 질문 파싱 완료: type={}, questionText={}", questionType, qJson.questionText);
+        return question;
+    }
+
     @JsonIgnoreProperties(ignoreUnknown = true)
     private static class FollowupQuestionJson {
         public String type;
@@ -422,35 +366,58 @@ public class ChatGptService implements ExperienceExtractionService, FollowupQues
             List<FollowupQuestion> questions,
             List<FollowupAnswer> answers
     ) {
-        log.info("Spring AI ChatClient를 사용하여 면접 추천 질문 생성 시작. applicationId: {}", applicationId);
+        return generateInterviewRecommendations(applicationId, coverLetterText, questions, answers, false);
+    }
+
+    @Override
+    public List<String> regenerateInterviewRecommendations(
+            Long applicationId,
+            String coverLetterText,
+            List<FollowupQuestion> questions,
+            List<FollowupAnswer> answers
+    ) {
+        // 재생성은 같은 입력이라도 새 결과가 필요하므로 캐시를 조회하지 않음
+        return generateInterviewRecommendations(applicationId, coverLetterText, questions, answers, true);
+    }
+
+    private List<String> generateInterviewRecommendations(
+            Long applicationId,
+            String coverLetterText,
+            List<FollowupQuestion> questions,
+            List<FollowupAnswer> answers,
+            boolean fresh
+    ) {
+        log.info("Spring AI ChatClient를 사용하여 면접 추천 질문 생성 시작. applicationId: {}, fresh: {}", applicationId, fresh);
 
         try {
             // questionId → answerText 맵 생성
             Map<Long, String> answerMap = answers.stream()
                     .collect(Collectors.toMap(FollowupAnswer::getQuestionId, FollowupAnswer::getAnswerText));
 
-            String systemPrompt = buildRecommendationSystemPrompt();
-            String userPrompt = buildRecommendationUserPrompt(coverLetterText, questions, answerMap);
+            String systemPrompt = promptTemplates.recommendationSystemPrompt();
+            String userPrompt = promptTemplates.recommendationUserPrompt(coverLetterText, questions, answerMap);
 
             Prompt prompt = new Prompt(List.of(
                     new SystemMessage(systemPrompt),
                     new UserMessage(userPrompt)
             ));
 
-            String content = chatClient.prompt(prompt)
-                    .call()
-                    .content();
+            LlmResponseHandler<List<String>> handler = listHandler(this::parseRecommendations);
+            List<String> recommendations = fresh
+                    ? llmClient.callFresh(LlmOperation.INTERVIEW_RECOMMENDATIONS, RECOMMENDATION_PROMPT_VERSION, prompt, handler)
+                    : llmClient.call(LlmOperation.INTERVIEW_RECOMMENDATIONS, RECOMMENDATION_PROMPT_VERSION, prompt, handler);
 
-            if (content == null || content.isBlank()) {
-                log.warn("Spring AI로부터 빈 응답 수신 (면접 추천 질문 생성). applicationId: {}", applicationId);
+            if (recommendations.isEmpty()) {
+                log.warn("Spring AI로부터 빈 응답 또는 파싱 불가 응답 수신 (면접 추천 질문 생성). applicationId: {}", applicationId);
                 return new ArrayList<>();
             }
 
             log.info("Spring AI 면접 추천 질문 응답 수신 완료. applicationId: {}", applicationId);
-            log.debug("Spring AI 면접 추천 질문 응답: {}", content);
-
-            return parseRecommendations(content);
+            return recommendations;
 
+        } catch (LlmUnavailableException | LlmTimeoutException e) {
+            // 유량 제어 거절(503 + Retry-After)과 마지막 모델 프로파일의 대기 한도 초과(504)는 그대로 전달
+            throw e;
         } catch (Exception e) {
             log.error("Spring AI 면접 추천 질문 생성 중 오류 발생. Exception type: {}, message: {}",
                     e.getClass().getSimpleName(), e.getMessage(), e);
@@ -458,72 +425,60 @@ public class ChatGptService implements ExperienceExtractionService, FollowupQues
         }
     }
 
-    private String buildRecommendationSystemPrompt() {
-        return """
-                너는 JSON만 출력하는 채용 면접 질문 추천 생성기다.
-                자소서 원문과 STAR 후속 질문/답변 쌍을 바탕으로, 평가자가 면접에서 추가로 확인해야 할 질문 3개를 생성해라.
-                출력은 반드시 JSON 문자열 배열 1개만. 코드펜스(```), 설명 문장, 마크다운, 주석을 절대 포함하지 마라.
-                """;
-    }
-
-    private String buildRecommendationUserPrompt(
+    @Override
+    public List<String> streamInterviewRecommendations(
+            Long applicationId,
             String coverLetterText,
             List<FollowupQuestion> questions,
-            Map<Long, String> answerMap
+            List<FollowupAnswer> answers,
+            Consumer<String> onRecommendation
     ) {
-        StringBuilder starQnA = new StringBuilder();
-        for (FollowupQuestion q : questions) {
-            String answerText = answerMap.getOrDefault(q.getId(), "(답변 없음)");
-            starQnA.append(String.format("""
-                    [%s]
-                    질문: %s
-                    답변: %s
-                    
-                    """, q.getType().name(), q.getQuestionText(), answerText));
-        }
+        log.info("Spring AI ChatClient 스트리밍으로 면접 추천 질문 생성 시작. applicationId: {}", applicationId);
 
-        return """
-                [과제]
-                아래 [자소서 원문]과 [STAR Q&A]를 검토하고, 현재 정보만으로는 판단하기 어려운 지점을 정확히 겨냥하는 면접 질문 3개를 생성하라.
-                
-                목적: AI가 생성했을 가능성이 있는 답변이나, 실제 경험 여부가 불확실한 부분을 검증한다.
-                규칙:
-                - 각 질문은 1문장으로 짧고 구체적으로 작성한다.
-                - 이미 답변된 내용을 단순 반복하는 질문은 금지한다.
-                - 증거/수치/과정에 대한 추가 검증 방향으로 작성한다.
-                - 아래 [출력 JSON 스키마]는 "형식 참고용"이다. 반드시 실제 내용에 맞는 질문을 생성해라.
-                
-                [자소서 원문]
-                %s
-                
-                [STAR Q&A]
-                %s
-                
-                [출력 JSON 스키마]
-                ["면접 질문 1", "면접 질문 2", "면접 질문 3"]
-                """.formatted(coverLetterText, starQnA.toString().trim());
+        try {
+            Map<Long, String> answerMap = answers.stream()
+                    .collect(Collectors.toMap(FollowupAnswer::getQuestionId, FollowupAnswer::getAnswerText));
+
+            Prompt prompt = new Prompt(List.of(
+                    new SystemMessage(promptTemplates.recommendationSystemPrompt()),
+                    new UserMessage(promptTemplates.recommendationUserPrompt(coverLetterText, questions, answerMap))
+            ));
+
+            // JSON 문자열 원소가 완성되는 즉시 콜백으로 전달
+            List<String> recommendations = new ArrayList<>();
+            JsonArrayElementSplitter splitter = new JsonArrayElementSplitter(element -> {
+                try {
+                    String recommendation = jsonReader.readElement(element, String.class);
+                    recommendations.add(recommendation);
+                    onRecommendation.accept(recommendation);
+                } catch (IllegalStateException e) {
+                    // 문자열이 아닌 원소: 해당 원소만 제외하고 다음 원소를 계속 전달
+                    log.warn("스트리밍 면접 추천 질문 원소 제외. applicationId: {}, element: {}", applicationId, element);
+                }
+            });
+
+            llmClient.stream(LlmOperation.INTERVIEW_RECOMMENDATIONS, prompt)
+                    .doOnNext(splitter::feed)
+                    .blockLast();
+
+            log.info("Spring AI 면접 추천 질문 스트리밍 완료. applicationId: {}, 질문 수: {}",
+                    applicationId, recommendations.size());
+            return recommendations;
+
+        } catch (LlmUnavailableException | LlmTimeoutException e) {
+            // 유량 제어 거절(503 + Retry-After)과 마지막 모델 프로파일의 대기 한도 초과(504)는 그대로 전달
+            throw e;
+        } catch (Exception e) {
+            log.error("Spring AI 면접 추천 질문 스트리밍 중 오류 발생. Exception type: {}, message: {}",
+                    e.getClass().getSimpleName(), e.getMessage(), e);
+            return new ArrayList<>();
+        }
     }
 
     private List<String> parseRecommendations(String content) {
         try {
-            // JSON 배열 추출 (마크다운 코드 블록 제거)
-            String jsonContent = content.trim();
-            if (jsonContent.startsWith("```json")) {
-                jsonContent = jsonContent.substring(7);
-            }
-            if (jsonContent.startsWith("```")) {
-                jsonContent = jsonContent.substring(3);
-            }
-            if (jsonContent.endsWith("```")) {
-                jsonContent = jsonContent.substring(0, jsonContent.length() - 3);
-            }
-            jsonContent = jsonContent.trim();
-
-            // JSON 문자열 배열 파싱
-            List<String> recommendations = objectMapper.readValue(
-                    jsonContent,
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, String.class)
-            );
+            // 응답 내 첫 JSON 배열을 원소 단위로 파싱 (코드 블록·설명 문장·형식 오류 원소는 건너뜀)
+            List<String> recommendations = jsonReader.readElements(content, String.class);
 
             log.info("면접 추천 질문 파싱 완료. 총 {}개", recommendations.size());
             return recommendations;
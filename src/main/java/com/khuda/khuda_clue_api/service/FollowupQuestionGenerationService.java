@@ -3,6 +3,7 @@ package com.khuda.khuda_clue_api.service;
 import com.khuda.khuda_clue_api.entity.FollowupQuestion;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * STAR 후속 질문 생성 서비스 인터페이스
@@ -19,4 +20,25 @@ public interface FollowupQuestionGenerationService {
      * @return S/T/A/R 질문 목록 (4개)
      */
     List<FollowupQuestion> generateFollowupQuestions(Long experienceId, String experienceTitle, String coverLetterText);
+
+    /**
+     * STAR 질문을 생성하면서, 질문이 하나씩 완성될 때마다 콜백으로 전달합니다. (SSE 스트리밍용)
+     * 기본 구현은 전체 생성이 끝난 뒤 순서대로 콜백을 호출합니다.
+     *
+     * @param experienceId     경험 ID
+     * @param experienceTitle  경험 제목 (자소서 발췌)
+     * @param coverLetterText  자소서 원문 (경험 구간 포함)
+     * @param onQuestion       질문 1개가 완성될 때마다 호출되는 콜백
+     * @return S/T/A/R 질문 목록 (4개)
+     */
+    default List<FollowupQuestion> streamFollowupQuestions(
+            Long experienceId,
+            String experienceTitle,
+            String coverLetterText,
+            Consumer<FollowupQuestion> onQuestion
+    ) {
+        List<FollowupQuestion> questions = generateFollowupQuestions(experienceId, experienceTitle, coverLetterText);
+        questions.forEach(onQuestion);
+        return questions;
+    }
 }
@@ -0,0 +1,265 @@
+package com.khuda.khuda_clue_api.service;
+
+import com.khuda.khuda_clue_api.config.HeuristicExtractionProperties;
+import com.khuda.khuda_clue_api.entity.Experience;
+import com.khuda.khuda_clue_api.prompt.SentenceSegmenter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LLM 없이 STAR 단서로 경험 구간을 고르는 규칙 기반 추출기
+ * - 자소서를 문장 단위로 나누고(SentenceSegmenter), 문장마다 상황·과제·행동·결과 단서어와 수치(숫자, %, 단위)를 센다.
+ * - 연속한 minSentences~maxSentences 문장 구간마다 STAR 유형 충족 수 + 행동·결과·수치 가점으로 점수를 매기고,
+ *   서로 겹치지 않는 상위 구간을 원문 기준 정확한 [startIdx, endIdx) 오프셋으로 반환한다.
+ * - 단서어 표는 기동 시 첫 글자 기준으로 정렬해 두고, 요청마다 원문을 한 번만 훑는다 (부분 문자열·정규식 없음).
+ * - 상태가 없어 스레드 안전하며, 대량 선별·LLM 장애 시 대체·사전 필터로 쓸 수 있다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "clue.heuristic-extraction.enabled", havingValue = "true")
+public class HeuristicExperienceExtractionService implements ExperienceExtractionService {
+
+    private static final int SITUATION = 0;
+    private static final int TASK = 1;
+    private static final int ACTION = 2;
+    private static final int RESULT = 3;
+    private static final int NUMBER = 4;
+    private static final int CATEGORIES = 5;
+
+    private static final String[][] CUES = {
+            {"당시", "경험", "인턴", "프로젝트", "동아리", "근무", "재직", "활동", "대회", "학기", "참여", "팀에서", "회사에서"},
+            {"목표", "과제", "문제", "해결", "담당", "맡", "역할", "필요", "요구", "어려움"},
+            {"분석", "기획", "제작", "개발", "설계", "도입", "제안", "운영", "진행", "주도", "협업", "구축", "시도",
+                    "도전", "실행", "조사", "수립", "설득", "작성", "촬영", "론칭"},
+            {"성과", "매출", "개선", "증가", "감소", "달성", "향상", "절감", "수상", "성장", "신장", "결과", "효과",
+                    "기록", "확보", "단축"}
+    };
+
+    // 숫자 바로 뒤에 오면 수치 근거로 한 번 더 세는 단위
+    private static final String NUMBER_UNITS = "%배명건원회개위점만천억";
+
+    // 점수 = STAR 유형 충족 수 + 행동·결과·수치 가점(각 3개까지) - 길이 감점, 최대값으로 나눠 0~1로 정규화
+    private static final double ACTION_WEIGHT = 0.3;
+    private static final double RESULT_WEIGHT = 0.4;
+    private static final double NUMBER_WEIGHT = 0.3;
+    private static final int BONUS_CAP = 3;
+    private static final double LENGTH_PENALTY = 0.1;
+    private static final double MAX_SCORE = 4 + BONUS_CAP * (ACTION_WEIGHT + RESULT_WEIGHT + NUMBER_WEIGHT);
+    private static final int MIN_COVERED_TYPES = 2;
+    private static final int TITLE_MAX_LENGTH = 40;
+
+    private final HeuristicExtractionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Timer extractionTimer;
+
+    // 단서어 첫 글자(정렬) → 해당 글자로 시작하는 단서어와 유형
+    private final char[] cueFirstChars;
+    private final String[][] cuesByFirstChar;
+    private final int[][] categoriesByFirstChar;
+
+    public HeuristicExperienceExtractionService(HeuristicExtractionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.extractionTimer = Timer.builder("clue.heuristic_extraction.duration")
+                .description("Time spent extracting experiences with the local heuristic")
+                .register(meterRegistry);
+
+        Map<Character, List<int[]>> grouped = new TreeMap<>();
+        for (int category = 0; category < CUES.length; category++) {
+            for (int i = 0; i < CUES[category].length; i++) {
+                grouped.computeIfAbsent(CUES[category][i].charAt(0), c -> new ArrayList<>())
+                        .add(new int[]{category, i});
+            }
+        }
+        this.cueFirstChars = new char[grouped.size()];
+        this.cuesByFirstChar = new String[grouped.size()][];
+        this.categoriesByFirstChar = new int[grouped.size()][];
+        int slot = 0;
+        for (Map.Entry<Character, List<int[]>> entry : grouped.entrySet()) {
+            List<int[]> refs = entry.getValue();
+            cueFirstChars[slot] = entry.getKey();
+            cuesByFirstChar[slot] = new String[refs.size()];
+            categoriesByFirstChar[slot] = new int[refs.size()];
+            for (int i = 0; i < refs.size(); i++) {
+                cuesByFirstChar[slot][i] = CUES[refs.get(i)[0]][refs.get(i)[1]];
+                categoriesByFirstChar[slot][i] = refs.get(i)[0];
+            }
+            slot++;
+        }
+    }
+
+    @Override
+    public List<Experience> extractExperiences(Long applicationId, String coverLetterText) {
+        long started = System.nanoTime();
+        try {
+            return extract(applicationId, coverLetterText);
+        } finally {
+            extractionTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * LLM 추출 대신 규칙 기반 결과 사용 (사유별 횟수 기록)
+     *
+     * @param reason llm_unavailable, timeout, empty 등 메트릭 태그 값
+     */
+    public List<Experience> fallback(Long applicationId, String coverLetterText, String reason) {
+        Counter.builder("clue.heuristic_extraction.fallbacks")
+                .description("Experience extractions served by the local heuristic instead of the LLM")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        log.warn("LLM 경험 추출 대신 규칙 기반 추출 사용. applicationId: {}, reason: {}", applicationId, reason);
+        return extractExperiences(applicationId, coverLetterText);
+    }
+
+    public boolean isFallbackEnabled() {
+        return properties.fallback();
+    }
+
+    private List<Experience> extract(Long applicationId, String text) {
+        List<Experience> experiences = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return experiences;
+        }
+        List<SentenceSegmenter.Sentence> sentences = SentenceSegmenter.split(text);
+        int n = sentences.size();
+        if (n == 0) {
+            return experiences;
+        }
+
+        // prefix[(i + 1) * CATEGORIES + c] = 0..i 문장의 유형 c 단서 누적 수
+        int[] prefix = new int[(n + 1) * CATEGORIES];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(prefix, i * CATEGORIES, prefix, (i + 1) * CATEGORIES, CATEGORIES);
+            SentenceSegmenter.Sentence sentence = sentences.get(i);
+            countCues(text, sentence.start(), sentence.end(), prefix, (i + 1) * CATEGORIES);
+        }
+
+        int minSentences = Math.max(1, Math.min(properties.minSentences(), n));
+        int maxSentences = Math.max(minSentences, properties.maxSentences());
+        // 선택된 구간의 [시작 문장, 끝 문장) (겹침 확인용)
+        int[] chosenFrom = new int[properties.maxResults()];
+        int[] chosenTo = new int[properties.maxResults()];
+        for (int k = 0; k < properties.maxResults(); k++) {
+            int bestFrom = -1;
+            int bestTo = -1;
+            double bestScore = 0;
+            for (int from = 0; from < n; from++) {
+                for (int to = from + minSentences; to <= Math.min(n, from + maxSentences); to++) {
+                    if (overlaps(chosenFrom, chosenTo, k, from, to)) {
+                        break;
+                    }
+                    double score = score(prefix, from, to, minSentences);
+                    if (score > bestScore) {
+                        bestScore = score;
+                        bestFrom = from;
+                        bestTo = to;
+                    }
+                }
+            }
+            if (bestFrom < 0) {
+                break;
+            }
+            chosenFrom[k] = bestFrom;
+            chosenTo[k] = bestTo;
+
+            int startIdx = sentences.get(bestFrom).start();
+            int endIdx = sentences.get(bestTo - 1).end();
+            double rankScore = Math.max(0.0, Math.min(1.0, bestScore / MAX_SCORE));
+            experiences.add(Experience.createCandidate(
+                    applicationId, title(text, startIdx, sentences.get(bestFrom).end()), startIdx, endIdx, rankScore));
+        }
+        return experiences;
+    }
+
+    /**
+     * [start, end) 구간의 단서어·수치를 counts[offset + 유형]에 더한다.
+     */
+    private void countCues(String text, int start, int end, int[] counts, int offset) {
+        int i = start;
+        while (i < end) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                int j = i + 1;
+                while (j < end && ((text.charAt(j) >= '0' && text.charAt(j) <= '9')
+                        || text.charAt(j) == ',' || text.charAt(j) == '.')) {
+                    j++;
+                }
+                counts[offset + NUMBER]++;
+                if (j < end && NUMBER_UNITS.indexOf(text.charAt(j)) >= 0) {
+                    counts[offset + NUMBER]++;
+                }
+                i = j;
+                continue;
+            }
+            int slot = Arrays.binarySearch(cueFirstChars, c);
+            if (slot >= 0) {
+                String[] cues = cuesByFirstChar[slot];
+                for (int k = 0; k < cues.length; k++) {
+                    String cue = cues[k];
+                    if (i + cue.length() <= end && text.startsWith(cue, i)) {
+                        counts[offset + categoriesByFirstChar[slot][k]]++;
+                    }
+                }
+            }
+            i++;
+        }
+    }
+
+    private static double score(int[] prefix, int from, int to, int minSentences) {
+        int covered = 0;
+        for (int c = SITUATION; c <= RESULT; c++) {
+            if (count(prefix, from, to, c) > 0) {
+                covered++;
+            }
+        }
+        int actions = count(prefix, from, to, ACTION);
+        if (covered < MIN_COVERED_TYPES || actions == 0) {
+            return 0;
+        }
+        return covered
+                + ACTION_WEIGHT * Math.min(actions, BONUS_CAP)
+                + RESULT_WEIGHT * Math.min(count(prefix, from, to, RESULT), BONUS_CAP)
+                + NUMBER_WEIGHT * Math.min(count(prefix, from, to, NUMBER), BONUS_CAP)
+                - LENGTH_PENALTY * (to - from - minSentences);
+    }
+
+    private static int count(int[] prefix, int from, int to, int category) {
+        return prefix[to * CATEGORIES + category] - prefix[from * CATEGORIES + category];
+    }
+
+    private static boolean overlaps(int[] chosenFrom, int[] chosenTo, int chosen, int from, int to) {
+        for (int i = 0; i < chosen; i++) {
+            if (from < chosenTo[i] && chosenFrom[i] < to) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 구간 첫 문장을 제목으로 사용 (길면 공백 경계에서 잘라 "…" 추가)
+     */
+    private static String title(String text, int start, int end) {
+        if (end - start <= TITLE_MAX_LENGTH) {
+            return text.substring(start, end);
+        }
+        int cut = text.lastIndexOf(' ', start + TITLE_MAX_LENGTH);
+        if (cut <= start) {
+            cut = start + TITLE_MAX_LENGTH;
+        }
+        return text.substring(start, cut) + "…";
+    }
+}
@@ -0,0 +1,411 @@
+package com.khuda.khuda_clue_api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.khuda.khuda_clue_api.config.IdempotencyProperties;
+import com.khuda.khuda_clue_api.domain.JobStatus;
+import com.khuda.khuda_clue_api.entity.IdempotencyRecord;
+import com.khuda.khuda_clue_api.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더 기반 POST 요청 멱등 처리
+ * - 키를 처음 선점한 요청만 실제로 실행하고, 응답(상태·Location·본문)을 idempotency_record에 ttl 동안 보관한다.
+ *   이후 같은 키의 재요청(게이트웨이 재시도 등)은 다시 실행하지 않고 저장된 응답을 Idempotent-Replayed: true와 함께 돌려준다.
+ * - 처리 중인 키의 동시 요청은 같은 노드면 선점 요청의 Future를, 다른 노드면 행을 폴링해 결과를 기다린다 (StageSingleFlight와 같은 방식).
+ * - 4xx(상태 불일치·검증 실패 등)는 재시도해도 같은 결과이므로 함께 보관하고, 5xx·503(LLM 한도)은 선점을 풀어 재시도 시 다시 실행되게 한다.
+ * - 키는 scope(메서드와 경로)별로 구분한다. 같은 키라도 다른 엔드포인트·다른 지원서 경로면 독립적으로 실행된다.
+ * - 같은 scope·키를 다른 본문에 재사용하면 422, 기다리다 maxWait를 넘기면 409로 응답한다.
+ * - 이 API에는 호출자 인증이 없어 같은 scope 안에서는 호출자 구분 없이 키가 하나다. (클라이언트는 UUID처럼 겹치지 않는 값을 써야 하며,
+ *   인증이 생기면 호출자 식별자도 scope에 포함해야 한다)
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int MAX_SCOPE_LENGTH = 255;
+    private static final int MAX_LOCATION_LENGTH = 512;
+
+    private static final String OUTCOME_EXECUTED = "executed";
+    private static final String OUTCOME_REPLAYED = "replayed";
+    private static final String OUTCOME_WAITED = "waited";
+    private static final String OUTCOME_LOCAL_WAITED = "local_waited";
+    private static final String OUTCOME_MISMATCH = "mismatch";
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final IdempotencyProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ConcurrentHashMap<ScopedKey, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(
+            IdempotencyRecordRepository idempotencyRecordRepository,
+            IdempotencyProperties properties,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param key         Idempotency-Key 헤더 값 (없으면 그냥 실행). scope 안에서 유일한 키
+     * @param scope       메서드와 경로(쿼리 포함). 키와 함께 처리 기록을 구분한다
+     * @param requestBody 요청 본문 DTO (없으면 null)
+     * @param bodyType    다른 요청이 저장된 응답 본문을 역직렬화할 타입
+     * @param action      키를 선점했을 때만 실행되는 요청 처리
+     */
+    public <T> ResponseEntity<T> execute(String key, String scope, Object requestBody, Class<T> bodyType,
+                                         Supplier<ResponseEntity<T>> action) {
+        if (key == null || !properties.enabled()) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters.");
+        }
+        if (scope.length() > MAX_SCOPE_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Request path is too long to be used with " + HEADER + ".");
+        }
+
+        String requestHash = requestHash(scope, requestBody);
+        InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+        ScopedKey scopedKey = new ScopedKey(scope, key);
+        InFlight existing = inFlight.putIfAbsent(scopedKey, mine);
+        if (existing != null) {
+            checkSameRequest(existing.requestHash(), requestHash);
+            count(OUTCOME_LOCAL_WAITED);
+            return replayed(bodyType, awaitLocal(existing.future()));
+        }
+
+        try {
+            ResponseEntity<T> response = executeClusterWide(scopedKey, requestHash, bodyType, action);
+            mine.future().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.future().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(scopedKey, mine);
+        }
+    }
+
+    private <T> ResponseEntity<T> executeClusterWide(ScopedKey key, String requestHash, Class<T> bodyType,
+                                                     Supplier<ResponseEntity<T>> action) {
+        long deadline = System.nanoTime() + properties.maxWait().toNanos();
+        while (true) {
+            String token = UUID.randomUUID().toString();
+            Optional<IdempotencyRecord> holder = tryClaim(key, requestHash, token);
+            if (holder.isEmpty()) {
+                count(OUTCOME_EXECUTED);
+                return lead(key, token, action);
+            }
+
+            checkSameRequest(holder.get().getRequestHash(), requestHash);
+            IdempotencyRecord finished = holder.get();
+            if (finished.isRunning()) {
+                log.info("같은 Idempotency-Key 요청 처리 중, 결과 대기. owner: {}", finished.getOwnerId());
+                finished = awaitRecord(finished, deadline);
+                if (finished == null) {
+                    // 선점 요청의 리스 만료 또는 5xx로 선점 해제: 다시 선점 시도
+                    continue;
+                }
+                count(OUTCOME_WAITED);
+            } else {
+                count(OUTCOME_REPLAYED);
+            }
+            return replay(finished, bodyType);
+        }
+    }
+
+    /**
+     * 선점 시도
+     *
+     * @return 선점에 성공했으면 empty, 유효한 기록이 있거나 다른 요청이 처리 중이면 그 기록
+     */
+    private Optional<IdempotencyRecord> tryClaim(ScopedKey key, String requestHash, String token) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(properties.lease());
+        LocalDateTime expiresAt = now.plus(properties.ttl());
+        try {
+            return transactionTemplate.execute(tx -> {
+                if (find(key).isEmpty()) {
+                    idempotencyRecordRepository.saveAndFlush(new IdempotencyRecord(
+                            key.scope(), key.key(), requestHash, token, instanceId, leaseUntil, expiresAt));
+                    return Optional.empty();
+                }
+                int claimed = idempotencyRecordRepository.takeOver(key.scope(), key.key(),
+                        requestHash, token, instanceId, JobStatus.RUNNING, now, leaseUntil, expiresAt);
+                if (claimed == 1) {
+                    return Optional.empty();
+                }
+                return find(key);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드의 요청이 같은 순간 첫 선점 행을 만든 경우
+            return find(key);
+        }
+    }
+
+    private <T> ResponseEntity<T> lead(ScopedKey key, String token, Supplier<ResponseEntity<T>> action) {
+        ResponseEntity<T> response;
+        try {
+            response = action.get();
+        } catch (ResponseStatusException e) {
+            if (isReplayable(e.getStatusCode())) {
+                complete(key, token, JobStatus.FAILED, e.getStatusCode().value(), null, e.getReason());
+            } else {
+                release(key, token);
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            release(key, token);
+            throw e;
+        }
+
+        String body = serialize(response.getBody());
+        URI location = response.getHeaders().getLocation();
+        String locationValue = location != null ? location.toString() : null;
+        if ((response.getBody() != null && body == null)
+                || (locationValue != null && locationValue.length() > MAX_LOCATION_LENGTH)) {
+            // 응답을 그대로 재현할 수 없으면 보관하지 않음 (재요청 시 다시 실행)
+            release(key, token);
+            return response;
+        }
+        complete(key, token, JobStatus.SUCCEEDED, response.getStatusCode().value(), locationValue, body);
+        return response;
+    }
+
+    /**
+     * 재시도해도 결과가 같은 4xx만 보관 (408·429는 일시적인 거절이므로 제외)
+     */
+    private static boolean isReplayable(HttpStatusCode status) {
+        return status.is4xxClientError()
+                && status.value() != HttpStatus.REQUEST_TIMEOUT.value()
+                && status.value() != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private void complete(ScopedKey key, String token, JobStatus status, int responseStatus,
+                          String responseLocation, String responseBody) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(properties.ttl());
+        try {
+            int updated = transactionTemplate.execute(tx -> idempotencyRecordRepository.complete(
+                    key.scope(), key.key(), token, status, responseStatus, responseLocation, responseBody, expiresAt));
+            if (updated == 0) {
+                log.debug("Idempotency-Key 결과 기록 생략 (리스 만료로 다른 요청이 이어받음)");
+            }
+        } catch (DataAccessException e) {
+            // 기록 실패 시 대기 요청은 리스 만료 후 이어받는다
+            log.warn("Idempotency-Key 결과 기록 실패. reason: {}", e.getMessage());
+        }
+    }
+
+    private void release(ScopedKey key, String token) {
+        try {
+            transactionTemplate.execute(tx -> idempotencyRecordRepository.release(key.scope(), key.key(), token));
+        } catch (DataAccessException e) {
+            // 해제 실패 시 리스 만료 후 다음 요청이 이어받는다
+            log.warn("Idempotency-Key 선점 해제 실패. reason: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 처리 중인 요청의 결과 대기 (행 폴링, 간격은 지수적으로 증가)
+     *
+     * @return 끝난 기록, 선점 요청의 리스가 만료됐거나 선점이 해제됐으면 null
+     */
+    private IdempotencyRecord awaitRecord(IdempotencyRecord observed, long deadline) {
+        IdempotencyRecord current = observed;
+        long sleepMillis = properties.pollInterval().toMillis();
+        while (current.isRunning()) {
+            if (current.getLeaseUntil().isBefore(LocalDateTime.now())) {
+                return null;
+            }
+            if (System.nanoTime() > deadline) {
+                throw inProgress();
+            }
+            sleep(sleepMillis);
+            sleepMillis = Math.min(sleepMillis * 2, properties.maxPollInterval().toMillis());
+
+            Optional<IdempotencyRecord> reloaded = idempotencyRecordRepository.findByScopeAndIdempotencyKey(
+                    current.getScope(), current.getIdempotencyKey());
+            if (reloaded.isEmpty() || !reloaded.get().getClaimToken().equals(observed.getClaimToken())) {
+                return null;
+            }
+            current = reloaded.get();
+        }
+        return current;
+    }
+
+    private Optional<IdempotencyRecord> find(ScopedKey key) {
+        return idempotencyRecordRepository.findByScopeAndIdempotencyKey(key.scope(), key.key());
+    }
+
+    private <T> ResponseEntity<T> replay(IdempotencyRecord record, Class<T> bodyType) {
+        if (record.getStatus() != JobStatus.SUCCEEDED) {
+            throw new ResponseStatusException(HttpStatusCode.valueOf(record.getResponseStatus()), record.getResponseBody());
+        }
+        T body;
+        try {
+            body = record.getResponseBody() != null ? objectMapper.readValue(record.getResponseBody(), bodyType) : null;
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Failed to deserialize stored response: " + e.getMessage());
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(record.getResponseStatus())
+                .header(REPLAYED_HEADER, "true");
+        if (record.getResponseLocation() != null) {
+            builder.location(URI.create(record.getResponseLocation()));
+        }
+        return builder.body(body);
+    }
+
+    private static <T> ResponseEntity<T> replayed(Class<T> bodyType, ResponseEntity<?> response) {
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header(REPLAYED_HEADER, "true")
+                .body(bodyType.cast(response.getBody()));
+    }
+
+    private ResponseEntity<?> awaitLocal(CompletableFuture<ResponseEntity<?>> future) {
+        try {
+            return future.get(properties.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException e) {
+            throw inProgress();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress();
+        }
+    }
+
+    private void checkSameRequest(String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            count(OUTCOME_MISMATCH);
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    HEADER + " has already been used for a different request.");
+        }
+    }
+
+    private static ResponseStatusException inProgress() {
+        return new ResponseStatusException(HttpStatus.CONFLICT,
+                "A request with the same " + HEADER + " is still in progress.");
+    }
+
+    /**
+     * 만료된 처리 기록 정리
+     */
+    @Scheduled(initialDelayString = "PT5M", fixedDelayString = "${clue.idempotency.purge-interval:PT1H}")
+    public void purgeExpired() {
+        if (!properties.enabled()) {
+            return;
+        }
+        int deleted = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 Idempotency-Key 처리 기록 삭제. count: {}", deleted);
+        }
+    }
+
+    private String requestHash(String scope, Object requestBody) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        update(digest, scope);
+        update(digest, requestBody != null ? serialize(requestBody) : null);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        // 필드 경계가 섞이지 않도록 길이 접두 + 구분자
+        String safe = value == null ? "" : value;
+        byte[] bytes = safe.getBytes(StandardCharsets.UTF_8);
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    private String serialize(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.warn("Idempotency-Key 응답 직렬화 실패. reason: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress();
+        }
+    }
+
+    private void count(String outcome) {
+        Counter.builder("clue.idempotency.requests")
+                .description("POST requests carrying an Idempotency-Key by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record ScopedKey(String scope, String key) {
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<ResponseEntity<?>> future) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.khuda.khuda_clue_api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khuda.khuda_clue_api.domain.OutboxEventType;
+import com.khuda.khuda_clue_api.dto.response.RecommendInterviewQuestionsResponse;
+import com.khuda.khuda_clue_api.entity.OutboxEvent;
+import com.khuda.khuda_clue_api.entity.PipelineJob;
+import com.khuda.khuda_clue_api.outbox.OutboxEventHandler;
+import com.khuda.khuda_clue_api.repository.PipelineJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 답변 제출 후 면접 추천 질문 생성 (아웃박스 INTERVIEW_RECOMMENDATIONS_REQUESTED 처리기)
+ * - ApplicationService의 추천 생성(ANSWERED → REVIEW_READY)을 실행하고 진행 상태를 pipeline_job에 반영한다.
+ *   성공 결과는 상태 전이와 같은 트랜잭션에 기록하므로, 커밋 직후 노드가 내려가 이벤트가 다시 전달되어도 작업은 이미 끝난 상태다.
+ * - 재시도 예약·최종 실패도 작업에 기록해 클라이언트가 GET /jobs/{jobId}로 확인할 수 있게 한다.
+ * - 이미 끝난 작업은 다시 실행하지 않고, 상태 불일치·지원서 없음(4xx)은 재시도하지 않는다.
+ * - 리스 만료로 실행 중(RUNNING)인 작업이 다시 전달되면 다시 실행하되(앞선 워커가 사라졌을 수 있음),
+ *   끝난 작업의 결과는 PipelineJob이 덮어쓰지 않으므로 먼저 기록된 성공이 늦게 끝난 쪽의 409 실패로 바뀌지 않는다.
+ */
+@Slf4j
+@Component
+public class InterviewRecommendationJobHandler implements OutboxEventHandler {
+
+    private static final String JOB_ID = "jobId";
+
+    private final ApplicationService applicationService;
+    private final PipelineJobRepository pipelineJobRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public InterviewRecommendationJobHandler(
+            ApplicationService applicationService,
+            PipelineJobRepository pipelineJobRepository,
+            TransactionTemplate transactionTemplate
+    ) {
+        this.applicationService = applicationService;
+        this.pipelineJobRepository = pipelineJobRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public OutboxEventType eventType() {
+        return OutboxEventType.INTERVIEW_RECOMMENDATIONS_REQUESTED;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        Long jobId = jobId(event);
+        Long applicationId = event.getAggregateId();
+
+        // 리스 만료로 같은 이벤트가 다시 전달된 경우: 이미 끝난 작업은 건너뛰고, 실행 중 상태는 이어서 실행
+        Boolean active = transactionTemplate.execute(tx -> pipelineJobRepository.findById(jobId)
+                .filter(PipelineJob::isActive)
+                .map(job -> {
+                    job.markRunning();
+                    return true;
+                })
+                .orElse(false));
+        if (!Boolean.TRUE.equals(active)) {
+            return;
+        }
+
+        try {
+            applicationService.generateInterviewRecommendations(applicationId,
+                    response -> pipelineJobRepository.findById(jobId)
+                            .ifPresent(job -> job.markSucceeded(serialize(response))));
+        } catch (ResponseStatusException e) {
+            if (!e.getStatusCode().is4xxClientError()) {
+                throw e;
+            }
+            // 지원서 삭제·상태 불일치는 재시도해도 같은 결과
+            log.warn("추천 질문 생성 작업 중단. jobId: {}, applicationId: {}, reason: {}",
+                    jobId, applicationId, e.getReason());
+            updateJob(jobId, job -> job.markFailed(e.getReason()));
+            return;
+        }
+        log.info("추천 질문 생성 작업 완료. jobId: {}, applicationId: {}", jobId, applicationId);
+    }
+
+    @Override
+    public void onRetry(OutboxEvent event, String errorMessage, LocalDateTime nextAttemptAt) {
+        updateJob(jobId(event), job -> job.markRetry(errorMessage, nextAttemptAt));
+    }
+
+    @Override
+    public void onFailure(OutboxEvent event, String errorMessage) {
+        updateJob(jobId(event), job -> job.markFailed(errorMessage));
+    }
+
+    private String serialize(RecommendInterviewQuestionsResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize job result: " + e.getMessage(), e);
+        }
+    }
+
+    private Long jobId(OutboxEvent event) {
+        try {
+            return objectMapper.readTree(event.getPayloadJson()).get(JOB_ID).asLong();
+        } catch (Exception e) {
+            throw new IllegalStateException("Invalid outbox payload for eventId: " + event.getId(), e);
+        }
+    }
+
+    private void updateJob(Long jobId, Consumer<PipelineJob> action) {
+        transactionTemplate.executeWithoutResult(tx -> pipelineJobRepository.findById(jobId).ifPresent(action));
+    }
+}
@@ -0,0 +1,244 @@
+package com.khuda.khuda_clue_api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khuda.khuda_clue_api.config.RecommendationPoolProperties;
+import com.khuda.khuda_clue_api.domain.ApplicationStatus;
+import com.khuda.khuda_clue_api.entity.Application;
+import com.khuda.khuda_clue_api.entity.Experience;
+import com.khuda.khuda_clue_api.entity.FollowupAnswer;
+import com.khuda.khuda_clue_api.entity.FollowupQuestion;
+import com.khuda.khuda_clue_api.entity.InterviewRecommendationSet;
+import com.khuda.khuda_clue_api.llm.LlmOperation;
+import com.khuda.khuda_clue_api.prompt.CoverLetterWindower;
+import com.khuda.khuda_clue_api.repository.ApplicationRepository;
+import com.khuda.khuda_clue_api.repository.ExperienceRepository;
+import com.khuda.khuda_clue_api.repository.FollowupAnswerRepository;
+import com.khuda.khuda_clue_api.repository.FollowupQuestionRepository;
+import com.khuda.khuda_clue_api.repository.InterviewRecommendationSetRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 면접 추천 질문 변형 사전 생성 풀
+ * - REVIEW_READY 지원서마다 아직 보여주지 않은 추천 질문 세트를 size개 미리 생성해 interview_recommendation_set에 보관한다.
+ * - 재생성 요청은 LLM을 기다리지 않고 가장 오래된 미제공 변형을 꺼내 제공하며(pop), 꺼낸 만큼 전용 풀에서 비동기로 보충한다.
+ * - 전용 풀(recommendationPoolExecutor)은 concurrency개 워커로 제한돼, 보충이 몰려도 요청 경로 작업의 pipelineTaskExecutor를 차지하지 않는다.
+ * - 보충은 지원서 단위로 노드 안에서 하나만 실행하고, 저장 직전 지원서 행 잠금 아래 상태·풀 크기를 재검증해
+ *   다른 노드와 동시에 보충해도 size개를 넘기지 않는다 (넘치는 결과는 버림).
+ * - 큐 포화·LLM 실패로 보충하지 못한 지원서는 주기 스캔이 다시 예약한다 (재시작 후 복구 포함).
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "clue.recommendation-pool.enabled", havingValue = "true")
+public class InterviewRecommendationPool {
+
+    private final InterviewRecommendationSetRepository recommendationSetRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ExperienceRepository experienceRepository;
+    private final FollowupQuestionRepository followupQuestionRepository;
+    private final FollowupAnswerRepository followupAnswerRepository;
+    private final InterviewRecommendationService interviewRecommendationService;
+    private final CoverLetterWindower coverLetterWindower;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor recommendationPoolExecutor;
+    private final RecommendationPoolProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 이 노드에서 보충 중인 지원서 (같은 지원서 중복 예약 방지)
+    private final Set<Long> replenishing = ConcurrentHashMap.newKeySet();
+
+    // 주기 스캔 키셋 커서 (스캐너 스레드만 사용, 끝까지 돌면 0으로 되돌림)
+    private long scanCursor;
+
+    public InterviewRecommendationPool(
+            InterviewRecommendationSetRepository recommendationSetRepository,
+            ApplicationRepository applicationRepository,
+            ExperienceRepository experienceRepository,
+            FollowupQuestionRepository followupQuestionRepository,
+            FollowupAnswerRepository followupAnswerRepository,
+            InterviewRecommendationService interviewRecommendationService,
+            CoverLetterWindower coverLetterWindower,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("recommendationPoolExecutor") TaskExecutor recommendationPoolExecutor,
+            RecommendationPoolProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.recommendationSetRepository = recommendationSetRepository;
+        this.applicationRepository = applicationRepository;
+        this.experienceRepository = experienceRepository;
+        this.followupQuestionRepository = followupQuestionRepository;
+        this.followupAnswerRepository = followupAnswerRepository;
+        this.interviewRecommendationService = interviewRecommendationService;
+        this.coverLetterWindower = coverLetterWindower;
+        this.transactionTemplate = transactionTemplate;
+        this.recommendationPoolExecutor = recommendationPoolExecutor;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 가장 오래된 미제공 변형을 제공된 세트로 표시하고 반환
+     * - 호출 측 쓰기 트랜잭션(지원서 행 잠금) 안에서 호출해야 같은 변형이 두 번 제공되지 않는다.
+     */
+    public Optional<InterviewRecommendationSet> pop(Long applicationId) {
+        Optional<InterviewRecommendationSet> next = recommendationSetRepository
+                .findFirstByApplicationIdAndServedAtIsNullOrderByIdAsc(applicationId);
+        next.ifPresent(set -> set.markServed(LocalDateTime.now()));
+        count("clue.recommendation_pool.pops", "Interview recommendation regenerations by pool hit or miss",
+                next.isPresent() ? "hit" : "miss");
+        return next;
+    }
+
+    /**
+     * LLM으로 바로 생성해 제공한 세트를 이력에 기록 (호출 측 쓰기 트랜잭션 안에서 호출)
+     */
+    public void recordServed(Long applicationId, String recommendationsJson) {
+        InterviewRecommendationSet set = new InterviewRecommendationSet(applicationId, recommendationsJson);
+        set.markServed(LocalDateTime.now());
+        recommendationSetRepository.save(set);
+    }
+
+    /**
+     * 전용 풀에 보충 예약
+     * - 이 노드에서 같은 지원서를 이미 보충 중이면 무시하고, 큐가 가득 차면 주기 스캔에 맡긴다.
+     */
+    public void replenishAsync(Long applicationId) {
+        if (!replenishing.add(applicationId)) {
+            return;
+        }
+        try {
+            recommendationPoolExecutor.execute(() -> {
+                try {
+                    replenish(applicationId);
+                } finally {
+                    replenishing.remove(applicationId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            replenishing.remove(applicationId);
+            log.warn("보충 큐 포화로 추천 질문 변형 보충 보류. applicationId: {}", applicationId);
+        }
+    }
+
+    /**
+     * 미제공 변형이 모자란 REVIEW_READY 지원서를 scanBatch개씩 찾아 보충 예약
+     */
+    @Scheduled(initialDelayString = "PT30S", fixedDelayString = "${clue.recommendation-pool.scan-interval:PT1M}")
+    public void replenishMissing() {
+        List<Long> ids = recommendationSetRepository.findIdsNeedingVariants(
+                ApplicationStatus.REVIEW_READY, scanCursor, properties.size(),
+                PageRequest.of(0, properties.scanBatch()));
+        scanCursor = ids.size() < properties.scanBatch() ? 0 : ids.get(ids.size() - 1);
+        ids.forEach(this::replenishAsync);
+    }
+
+    /**
+     * 미제공 변형이 size개가 될 때까지 하나씩 생성·저장
+     * - 읽기 트랜잭션 → LLM 호출(트랜잭션 없음) → 행 잠금 후 상태·풀 크기 재검증 및 저장
+     * - 재생성 API와 같은 이유로 캐시를 거치지 않는 regenerate 경로를 사용한다 (변형마다 다른 결과가 필요).
+     */
+    private void replenish(Long applicationId) {
+        for (int i = 0; i < properties.size(); i++) {
+            GenerationContext context = transactionTemplate.execute(tx -> loadContext(applicationId));
+            if (context == null) {
+                return;
+            }
+
+            String recommendationsJson;
+            try {
+                List<String> recommendations = interviewRecommendationService.regenerateInterviewRecommendations(
+                        applicationId, context.coverLetterText(), context.questions(), context.answers());
+                if (recommendations.isEmpty()) {
+                    countVariant("failed");
+                    log.warn("추천 질문 변형 생성 결과 없음. applicationId: {}", applicationId);
+                    return;
+                }
+                recommendationsJson = objectMapper.writeValueAsString(recommendations);
+            } catch (JsonProcessingException | RuntimeException e) {
+                countVariant("failed");
+                log.warn("추천 질문 변형 생성 실패. applicationId: {}, reason: {}", applicationId, e.getMessage());
+                return;
+            }
+
+            Boolean stored = transactionTemplate.execute(tx -> {
+                Application locked = applicationRepository.findByIdForUpdate(applicationId).orElse(null);
+                if (locked == null || locked.getStatus() != ApplicationStatus.REVIEW_READY
+                        || unseenCount(applicationId) >= properties.size()) {
+                    return false;
+                }
+                recommendationSetRepository.save(new InterviewRecommendationSet(applicationId, recommendationsJson));
+                return true;
+            });
+            if (!Boolean.TRUE.equals(stored)) {
+                countVariant("discarded");
+                return;
+            }
+            countVariant("stored");
+        }
+    }
+
+    /**
+     * 보충이 필요 없거나(상태 불일치·풀 가득 참) 입력을 구성할 수 없으면 null
+     */
+    private GenerationContext loadContext(Long applicationId) {
+        Application application = applicationRepository.findById(applicationId).orElse(null);
+        if (application == null || application.getStatus() != ApplicationStatus.REVIEW_READY
+                || unseenCount(applicationId) >= properties.size()) {
+            return null;
+        }
+        Experience selectedExperience = experienceRepository
+                .findByApplicationIdAndIsSelectedTrue(applicationId).orElse(null);
+        if (selectedExperience == null) {
+            return null;
+        }
+        List<FollowupQuestion> questions = followupQuestionRepository
+                .findByExperienceIdOrderByTypeAsc(selectedExperience.getId());
+        if (questions.isEmpty()) {
+            return null;
+        }
+        List<FollowupAnswer> answers = followupAnswerRepository.findByQuestionIdIn(
+                questions.stream().map(FollowupQuestion::getId).toList());
+        String coverLetterText = coverLetterWindower.excerpt(LlmOperation.INTERVIEW_RECOMMENDATIONS,
+                application.getCoverLetterText(), selectedExperience);
+        return new GenerationContext(coverLetterText, questions, answers);
+    }
+
+    private long unseenCount(Long applicationId) {
+        return recommendationSetRepository.countByApplicationIdAndServedAtIsNull(applicationId);
+    }
+
+    private void countVariant(String outcome) {
+        count("clue.recommendation_pool.variants", "Pre-generated interview recommendation variants by outcome",
+                outcome);
+    }
+
+    private void count(String name, String description, String outcome) {
+        Counter.builder(name)
+                .description(description)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record GenerationContext(String coverLetterText, List<FollowupQuestion> questions,
+                                     List<FollowupAnswer> answers) {
+    }
+}
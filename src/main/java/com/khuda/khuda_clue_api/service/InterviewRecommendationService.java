@@ -4,6 +4,7 @@ import com.khuda.khuda_clue_api.entity.FollowupAnswer;
 import com.khuda.khuda_clue_api.entity.FollowupQuestion;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 면접 추천 질문 생성 서비스 인터페이스
@@ -26,4 +27,46 @@ public interface InterviewRecommendationService {
             List<FollowupQuestion> questions,
             List<FollowupAnswer> answers
     );
+
+    /**
+     * 면접 추천 질문을 재생성합니다. (평가자의 재생성 요청용)
+     * 동일한 입력이라도 이전 결과를 재사용하지 않고 새로 생성해야 합니다. 기본 구현은 generateInterviewRecommendations와 같습니다.
+     *
+     * @param applicationId    지원서 ID (로깅 용도)
+     * @param coverLetterText  자소서 원문
+     * @param questions        STAR 후속 질문 목록 (4개)
+     * @param answers          STAR 후속 답변 목록 (4개)
+     * @return 추천 면접 질문 목록 (3개)
+     */
+    default List<String> regenerateInterviewRecommendations(
+            Long applicationId,
+            String coverLetterText,
+            List<FollowupQuestion> questions,
+            List<FollowupAnswer> answers
+    ) {
+        return generateInterviewRecommendations(applicationId, coverLetterText, questions, answers);
+    }
+
+    /**
+     * 면접 추천 질문을 생성하면서, 질문이 하나씩 완성될 때마다 콜백으로 전달합니다. (SSE 스트리밍용)
+     * 기본 구현은 전체 생성이 끝난 뒤 순서대로 콜백을 호출합니다.
+     *
+     * @param applicationId     지원서 ID (로깅 용도)
+     * @param coverLetterText   자소서 원문
+     * @param questions         STAR 후속 질문 목록 (4개)
+     * @param answers           STAR 후속 답변 목록 (4개)
+     * @param onRecommendation  추천 질문 1개가 완성될 때마다 호출되는 콜백
+     * @return 추천 면접 질문 목록 (3개)
+     */
+    default List<String> streamInterviewRecommendations(
+            Long applicationId,
+            String coverLetterText,
+            List<FollowupQuestion> questions,
+            List<FollowupAnswer> answers,
+            Consumer<String> onRecommendation
+    ) {
+        List<String> recommendations = generateInterviewRecommendations(applicationId, coverLetterText, questions, answers);
+        recommendations.forEach(onRecommendation);
+        return recommendations;
+    }
 }
@@ -0,0 +1,147 @@
+package com.khuda.khuda_clue_api.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LLM 응답 텍스트에서 첫 JSON 배열을 찾아 원소 단위로 역직렬화하는 관대한(lenient) 판독기
+ * - 코드펜스·앞뒤 설명 문장이 섞여 있어도 trim/substring 복사 없이 Jackson 스트리밍 파서로 첫 '['부터 읽는다.
+ *   '['에서 원소를 하나도 읽지 못하면(예: "[참고]", "[1]") 다음 '['에서 다시 시도한다.
+ * - 원소마다 바로 바인딩하고, 타입이 맞지 않는 원소는 그 원소의 끝까지만 건너뛴다 (중간 트리·사본 없음).
+ * - 문법 오류(잘린 응답 등)를 만나면 그 앞까지 읽은 원소만 반환한다.
+ * - 타입별 ObjectReader를 재사용하며 스레드 안전하다 (ChatGptService·JsonParserWarmupTask 인스턴스당 1개).
+ */
+@Slf4j
+public final class JsonArrayElementReader {
+
+    // 배열로 해석되지 않는 '['가 반복될 때의 재시도 상한
+    private static final int MAX_ARRAY_START_ATTEMPTS = 8;
+
+    private final ObjectMapper objectMapper;
+    private final ConcurrentHashMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public JsonArrayElementReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return 읽을 수 있었던 원소 목록 (배열이 없으면 빈 목록)
+     */
+    public <T> List<T> readElements(String content, Class<T> type) {
+        List<T> elements = new ArrayList<>();
+        if (content == null) {
+            return elements;
+        }
+        ObjectReader reader = reader(type);
+        int from = content.indexOf('[');
+        for (int attempt = 0; from >= 0 && attempt < MAX_ARRAY_START_ATTEMPTS; attempt++) {
+            if (readArray(content, from, reader, type, elements)) {
+                return elements;
+            }
+            from = content.indexOf('[', from + 1);
+        }
+        return elements;
+    }
+
+    /**
+     * 스트리밍 중 완성된 JSON 원소 1개를 역직렬화
+     */
+    public <T> T readElement(String json, Class<T> type) {
+        try {
+            return reader(type).readValue(json);
+        } catch (IOException e) {
+            throw new IllegalStateException("JSON 원소 파싱 실패: " + json, e);
+        }
+    }
+
+    /**
+     * from 위치의 '['부터 배열 1개를 읽는다.
+     *
+     * @return 원소를 1개 이상 읽었으면 true, 다음 '['에서 다시 시도해야 하면 false
+     */
+    private <T> boolean readArray(String content, int from, ObjectReader reader, Class<T> type, List<T> elements) {
+        int read = 0;
+        int skipped = 0;
+        StringReader source = new StringReader(content);
+        try {
+            source.skip(from);
+        } catch (IOException e) {
+            // StringReader에서는 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+        try (JsonParser parser = objectMapper.getFactory().createParser(source)) {
+            parser.nextToken();
+            JsonStreamContext arrayContext = parser.getParsingContext();
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    // 배열이 닫히기 전에 입력 종료 (잘린 응답)
+                    break;
+                }
+                T element = bind(parser, arrayContext, reader);
+                if (element != null) {
+                    elements.add(element);
+                    read++;
+                } else {
+                    skipped++;
+                }
+            }
+        } catch (JsonProcessingException e) {
+            if (read == 0) {
+                return false;
+            }
+            log.warn("JSON 배열 파싱 중단, 앞선 원소만 사용. type: {}, read: {}, reason: {}",
+                    type.getSimpleName(), read, e.getOriginalMessage());
+        } catch (IOException e) {
+            // StringReader에서는 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+        if (read > 0 && skipped > 0) {
+            log.warn("형식이 맞지 않는 JSON 원소 제외. type: {}, read: {}, skipped: {}",
+                    type.getSimpleName(), read, skipped);
+        }
+        return read > 0;
+    }
+
+    /**
+     * 현재 토큰에서 시작하는 원소 1개 바인딩. 반환 시 파서는 항상 원소의 마지막 토큰에 위치한다.
+     *
+     * @param arrayContext 원소를 담은 배열의 파싱 컨텍스트 (바인딩 실패 시 원소 끝까지 건너뛰는 기준)
+     * @return 바인딩 실패 시 null (문법 오류는 JsonParseException으로 전파)
+     */
+    private <T> T bind(JsonParser parser, JsonStreamContext arrayContext, ObjectReader reader) throws IOException {
+        try {
+            return reader.readValue(parser);
+        } catch (JsonParseException e) {
+            throw e;
+        } catch (JsonProcessingException e) {
+            // 바인딩이 원소 중간에서 멈췄으면 원소가 닫힐 때까지 건너뜀
+            while (parser.getParsingContext() != arrayContext) {
+                JsonToken token = parser.nextToken();
+                if (token == null) {
+                    break;
+                }
+                if (token.isStructStart()) {
+                    parser.skipChildren();
+                }
+            }
+            return null;
+        }
+    }
+
+    private ObjectReader reader(Class<?> type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+}
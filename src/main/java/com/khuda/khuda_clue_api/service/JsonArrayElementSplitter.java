@@ -0,0 +1,107 @@
+package com.khuda.khuda_clue_api.service;
+
+import java.util.function.Consumer;
+
+/**
+ * 스트리밍 LLM 응답에서 최상위 JSON 배열의 원소를 완성되는 즉시 잘라내는 증분 분리기
+ * - 청크 단위로 feed() 하면, 원소(객체/배열/문자열/원시값)가 닫히는 시점에 원소 JSON 문자열을 콜백으로 전달한다.
+ * - 첫 '[' 이전의 텍스트(코드펜스 등)는 무시하고, 최상위 배열이 닫히면 이후 입력은 무시한다.
+ * - 문자열 내부의 괄호/쉼표와 이스케이프 문자를 구분하기 위해 문자열 상태를 추적한다.
+ * - 인스턴스는 응답 1건 전용이며 스레드 안전하지 않다.
+ */
+public final class JsonArrayElementSplitter {
+
+    private final Consumer<String> onElement;
+    private final StringBuilder element = new StringBuilder(256);
+
+    // 0: 최상위 배열 시작 전, 1: 최상위 배열 내부(원소 사이), 2 이상: 원소 내부
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private boolean finished;
+
+    public JsonArrayElementSplitter(Consumer<String> onElement) {
+        this.onElement = onElement;
+    }
+
+    public void feed(CharSequence chunk) {
+        for (int i = 0; i < chunk.length() && !finished; i++) {
+            accept(chunk.charAt(i));
+        }
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    private void accept(char c) {
+        if (depth == 0) {
+            if (c == '[') {
+                depth = 1;
+            }
+            return;
+        }
+
+        if (inString) {
+            element.append(c);
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                inString = false;
+                if (depth == 1) {
+                    // 문자열 원소 완성 (예: 면접 추천 질문 배열)
+                    emit();
+                }
+            }
+            return;
+        }
+
+        switch (c) {
+            case '"' -> {
+                inString = true;
+                element.append(c);
+            }
+            case '{', '[' -> {
+                depth++;
+                element.append(c);
+            }
+            case '}', ']' -> {
+                if (depth == 1) {
+                    // 최상위 배열 종료: 남은 원시값 원소가 있으면 전달
+                    emit();
+                    finished = true;
+                    return;
+                }
+                depth--;
+                element.append(c);
+                if (depth == 1) {
+                    emit();
+                }
+            }
+            case ',' -> {
+                if (depth == 1) {
+                    emit();
+                } else {
+                    element.append(c);
+                }
+            }
+            default -> {
+                if (depth == 1 && Character.isWhitespace(c)) {
+                    return;
+                }
+                element.append(c);
+            }
+        }
+    }
+
+    private void emit() {
+        if (element.isEmpty()) {
+            return;
+        }
+        String json = element.toString();
+        element.setLength(0);
+        onElement.accept(json);
+    }
+}
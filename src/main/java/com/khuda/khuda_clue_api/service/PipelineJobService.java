@@ -0,0 +1,279 @@
+package com.khuda.khuda_clue_api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khuda.khuda_clue_api.config.PipelineAsyncProperties;
+import com.khuda.khuda_clue_api.domain.ApplicationStatus;
+import com.khuda.khuda_clue_api.domain.JobStatus;
+import com.khuda.khuda_clue_api.domain.OutboxEventType;
+import com.khuda.khuda_clue_api.domain.PipelineStage;
+import com.khuda.khuda_clue_api.dto.response.PipelineJobResponse;
+import com.khuda.khuda_clue_api.dto.response.RecommendInterviewQuestionsResponse;
+import com.khuda.khuda_clue_api.dto.response.SelectExperienceResponse;
+import com.khuda.khuda_clue_api.entity.Application;
+import com.khuda.khuda_clue_api.entity.PipelineJob;
+import com.khuda.khuda_clue_api.outbox.OutboxPublisher;
+import com.khuda.khuda_clue_api.repository.ApplicationRepository;
+import com.khuda.khuda_clue_api.repository.PipelineJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 비동기 파이프라인 작업 서비스
+ * - 요청 스레드: 상태 가드 후 작업(PENDING) 등록 → 워커 풀에 제출 → 202 반환
+ * - 워커 스레드: ApplicationService의 동기 파이프라인을 그대로 실행하고 결과를 작업에 기록
+ * - 같은 지원서·단계에 진행 중인 작업이 있으면 새 작업을 만들지 않고 기존 작업을 반환
+ * - 경험 선택 작업은 lease_until 리스를 가지며, 이 인스턴스에서 대기·실행 중인 작업은 주기적으로 연장한다.
+ *   인스턴스가 내려가 리스가 만료된 작업은 주기 스캔이 FAILED로 정리하고, 그 전에 들어온 제출은 만료된 작업을 이어받아 새 작업을 만든다.
+ * - 면접 추천 질문 생성(INTERVIEW_RECOMMENDATIONS) 작업은 답변 제출 시 등록되어 아웃박스 워커(InterviewRecommendationJobHandler)가
+ *   실행한다. 재시도를 모두 소진해 ANSWERED에 남은 지원서는 여기서 작업을 다시 등록한다.
+ */
+@Slf4j
+@Service
+public class PipelineJobService {
+
+    private static final List<JobStatus> ACTIVE_STATUSES = List.of(JobStatus.PENDING, JobStatus.RUNNING);
+    private static final String LEASE_EXPIRED_MESSAGE = "Job lease expired before completion";
+
+    private final PipelineJobRepository pipelineJobRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationService applicationService;
+    private final TaskExecutor pipelineTaskExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final PipelineAsyncProperties properties;
+    private final OutboxPublisher outboxPublisher;
+
+    // 이 인스턴스의 워커 풀에 제출되어 아직 끝나지 않은 작업 (리스 연장 대상)
+    private final Set<Long> localJobs = ConcurrentHashMap.newKeySet();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public PipelineJobService(
+            PipelineJobRepository pipelineJobRepository,
+            ApplicationRepository applicationRepository,
+            ApplicationService applicationService,
+            @Qualifier("pipelineTaskExecutor") TaskExecutor pipelineTaskExecutor,
+            TransactionTemplate transactionTemplate,
+            PipelineAsyncProperties properties,
+            OutboxPublisher outboxPublisher
+    ) {
+        this.pipelineJobRepository = pipelineJobRepository;
+        this.applicationRepository = applicationRepository;
+        this.applicationService = applicationService;
+        this.pipelineTaskExecutor = pipelineTaskExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.outboxPublisher = outboxPublisher;
+    }
+
+    /**
+     * 경험 추출·선택 작업 등록
+     * - 상태 가드: SUBMITTED 상태만 허용 (진행 중인 작업이 있으면 해당 작업 반환)
+     * - 진행 중인 작업의 리스가 만료되었으면 FAILED로 정리하고 상태 가드를 거쳐 새 작업을 등록
+     * - 워커 큐가 가득 차면 503 반환
+     */
+    public PipelineJobResponse submitSelectExperience(Long applicationId) {
+        Submission submission = transactionTemplate.execute(tx -> {
+            // 행 잠금으로 동시 제출을 직렬화하여 작업이 중복 생성되지 않도록 함
+            Application application = applicationRepository.findByIdForUpdate(applicationId)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found"));
+
+            var activeJob = pipelineJobRepository.findFirstByApplicationIdAndStageAndStatusInOrderByIdDesc(
+                    applicationId, PipelineStage.SELECT_EXPERIENCE, ACTIVE_STATUSES);
+            LocalDateTime now = LocalDateTime.now();
+            if (activeJob.isPresent()) {
+                PipelineJob existing = activeJob.get();
+                if (!existing.isLeaseExpired(now)) {
+                    return new Submission(existing, false);
+                }
+                log.warn("리스가 만료된 경험 선택 작업을 정리하고 새로 등록. jobId: {}, applicationId: {}",
+                        existing.getId(), applicationId);
+                existing.markFailed(LEASE_EXPIRED_MESSAGE);
+            }
+
+            if (application.getStatus() != ApplicationStatus.SUBMITTED) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Experience selection is only allowed for SUBMITTED applications. Current status: "
+                                + application.getStatus());
+            }
+
+            PipelineJob job = new PipelineJob(applicationId, PipelineStage.SELECT_EXPERIENCE);
+            job.renewLease(now.plus(properties.jobLease()));
+            return new Submission(pipelineJobRepository.save(job), true);
+        });
+
+        PipelineJob job = submission.job();
+        if (submission.created()) {
+            localJobs.add(job.getId());
+            try {
+                pipelineTaskExecutor.execute(() -> runSelectExperience(job.getId(), applicationId));
+            } catch (TaskRejectedException e) {
+                localJobs.remove(job.getId());
+                log.warn("비동기 작업 큐 포화로 작업 거절. jobId: {}, applicationId: {}", job.getId(), applicationId);
+                updateJob(job.getId(), rejected -> rejected.markFailed("Job queue is full"));
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                        "Select-experience job queue is full. Retry later.");
+            }
+        }
+
+        return toResponse(job);
+    }
+
+    /**
+     * 면접 추천 질문 생성 작업 재등록
+     * - 아웃박스 재시도를 모두 소진해 작업이 FAILED로 끝나면 지원서는 답변이 저장된 ANSWERED에 남으므로, 새 작업과 이벤트를 다시 등록한다.
+     * - 상태 가드: ANSWERED 상태만 허용 (진행 중인 작업이 있으면 해당 작업 반환)
+     */
+    public PipelineJobResponse retryInterviewRecommendations(Long applicationId) {
+        PipelineJob job = transactionTemplate.execute(tx -> {
+            // 답변 제출과 같은 행 잠금으로 직렬화하여 작업이 중복 생성되지 않도록 함
+            Application application = applicationRepository.findByIdForUpdate(applicationId)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found"));
+
+            var activeJob = pipelineJobRepository.findFirstByApplicationIdAndStageAndStatusInOrderByIdDesc(
+                    applicationId, PipelineStage.INTERVIEW_RECOMMENDATIONS, ACTIVE_STATUSES);
+            if (activeJob.isPresent()) {
+                return activeJob.get();
+            }
+
+            if (application.getStatus() != ApplicationStatus.ANSWERED) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Interview recommendation retry is only allowed for ANSWERED applications. Current status: "
+                                + application.getStatus());
+            }
+
+            PipelineJob saved = pipelineJobRepository.save(
+                    new PipelineJob(applicationId, PipelineStage.INTERVIEW_RECOMMENDATIONS));
+            outboxPublisher.append(OutboxEventType.INTERVIEW_RECOMMENDATIONS_REQUESTED, applicationId,
+                    Map.of("jobId", saved.getId()));
+            log.info("면접 추천 질문 생성 작업 재등록. jobId: {}, applicationId: {}", saved.getId(), applicationId);
+            return saved;
+        });
+        return toResponse(job);
+    }
+
+    /**
+     * 작업 상태 조회 (폴링용)
+     */
+    public PipelineJobResponse getJob(Long applicationId, Long jobId) {
+        PipelineJob job = pipelineJobRepository.findByIdAndApplicationId(jobId, applicationId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Job not found"));
+        return toResponse(job);
+    }
+
+    /**
+     * 이 인스턴스에서 대기·실행 중인 경험 선택 작업의 리스를 연장하고, 리스가 만료된 작업(실행 인스턴스가 사라진 작업)을 FAILED로 정리
+     * - job-lease는 lease-scan-interval보다 충분히 길어야 한다.
+     */
+    @Scheduled(initialDelayString = "PT30S", fixedDelayString = "${clue.async.lease-scan-interval:PT1M}")
+    public void maintainLeases() {
+        LocalDateTime now = LocalDateTime.now();
+        if (!localJobs.isEmpty()) {
+            List<Long> jobIds = List.copyOf(localJobs);
+            transactionTemplate.executeWithoutResult(tx -> pipelineJobRepository.renewLeases(
+                    jobIds, ACTIVE_STATUSES, now.plus(properties.jobLease())));
+        }
+        Integer expired = transactionTemplate.execute(tx -> pipelineJobRepository.failExpired(
+                PipelineStage.SELECT_EXPERIENCE, ACTIVE_STATUSES, JobStatus.FAILED, LEASE_EXPIRED_MESSAGE, now));
+        if (expired != null && expired > 0) {
+            log.warn("리스가 만료된 경험 선택 작업 정리. count: {}", expired);
+        }
+    }
+
+    private void runSelectExperience(Long jobId, Long applicationId) {
+        try {
+            Integer started = transactionTemplate.execute(tx -> pipelineJobRepository.start(
+                    jobId, JobStatus.PENDING, JobStatus.RUNNING, LocalDateTime.now().plus(properties.jobLease())));
+            if (started == null || started == 0) {
+                log.info("이미 시작되었거나 정리된 경험 선택 작업이라 실행하지 않음. jobId: {}", jobId);
+                return;
+            }
+            executeSelectExperience(jobId, applicationId);
+        } finally {
+            localJobs.remove(jobId);
+        }
+    }
+
+    private void executeSelectExperience(Long jobId, Long applicationId) {
+        try {
+            SelectExperienceResponse response = applicationService.selectExperience(applicationId);
+            String resultJson = objectMapper.writeValueAsString(response);
+            completeJob(jobId, job -> job.markSucceeded(resultJson));
+            log.info("비동기 경험 선택 작업 완료. jobId: {}, applicationId: {}", jobId, applicationId);
+        } catch (ResponseStatusException e) {
+            log.warn("비동기 경험 선택 작업 실패. jobId: {}, applicationId: {}, reason: {}",
+                    jobId, applicationId, e.getReason());
+            completeJob(jobId, job -> job.markFailed(e.getReason()));
+        } catch (Exception e) {
+            log.error("비동기 경험 선택 작업 중 오류 발생. jobId: {}, applicationId: {}", jobId, applicationId, e);
+            completeJob(jobId, job -> job.markFailed(e.getClass().getSimpleName() + ": " + e.getMessage()));
+        }
+    }
+
+    private void updateJob(Long jobId, Consumer<PipelineJob> action) {
+        transactionTemplate.executeWithoutResult(tx -> pipelineJobRepository.findById(jobId).ifPresent(action));
+    }
+
+    /**
+     * 실행 결과 기록. 리스 만료로 이미 정리된 작업이면 덮어쓰지 않는다.
+     */
+    private void completeJob(Long jobId, Consumer<PipelineJob> action) {
+        updateJob(jobId, job -> {
+            if (job.getStatus() == JobStatus.RUNNING) {
+                action.accept(job);
+            } else {
+                log.warn("실행 중 상태가 아닌 작업이라 결과를 기록하지 않음. jobId: {}, status: {}", jobId, job.getStatus());
+            }
+        });
+    }
+
+    private PipelineJobResponse toResponse(PipelineJob job) {
+        return new PipelineJobResponse(
+                job.getId(),
+                job.getApplicationId(),
+                job.getStage(),
+                job.getStatus(),
+                deserializeResult(job),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getUpdatedAt()
+        );
+    }
+
+    /**
+     * result_json → 단계별 응답 DTO 역직렬화
+     */
+    private Object deserializeResult(PipelineJob job) {
+        if (job.getResultJson() == null) {
+            return null;
+        }
+        try {
+            return switch (job.getStage()) {
+                case SELECT_EXPERIENCE -> objectMapper.readValue(job.getResultJson(), SelectExperienceResponse.class);
+                case INTERVIEW_RECOMMENDATIONS ->
+                        objectMapper.readValue(job.getResultJson(), RecommendInterviewQuestionsResponse.class);
+            };
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Failed to deserialize job result: " + e.getMessage());
+        }
+    }
+
+    private record Submission(PipelineJob job, boolean created) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.khuda.khuda_clue_api.service;
+
+import com.khuda.khuda_clue_api.domain.ApplicationStatus;
+import com.khuda.khuda_clue_api.dto.response.StreamErrorDto;
+import com.khuda.khuda_clue_api.dto.response.StreamedQuestionDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * LLM 생성 결과를 SSE로 스트리밍하는 서비스
+ * - 이벤트: question / recommendation (원소 완성 시마다) → complete (저장 완료 후 최종 응답) 또는 error
+ * - 404/409는 스트림을 열기 전에 검증하여 일반 HTTP 상태 코드로 반환
+ * - 클라이언트가 연결을 끊어도 생성·저장은 끝까지 수행 (동기 API와 동일한 최종 상태 보장)
+ */
+@Slf4j
+@Service
+public class PipelineStreamService {
+
+    private static final Duration STREAM_TIMEOUT = Duration.ofMinutes(3);
+
+    private final ApplicationService applicationService;
+    private final TaskExecutor pipelineTaskExecutor;
+
+    public PipelineStreamService(
+            ApplicationService applicationService,
+            @Qualifier("pipelineTaskExecutor") TaskExecutor pipelineTaskExecutor
+    ) {
+        this.applicationService = applicationService;
+        this.pipelineTaskExecutor = pipelineTaskExecutor;
+    }
+
+    public SseEmitter streamFollowupQuestions(Long applicationId) {
+        applicationService.verifyStatus(applicationId, ApplicationStatus.EXPERIENCE_SELECTED);
+
+        return startStream(applicationId, sender -> {
+            var response = applicationService.streamFollowupQuestions(applicationId, question ->
+                    sender.send("question", new StreamedQuestionDto(question.getType().name(), question.getQuestionText())));
+            sender.send("complete", response);
+        });
+    }
+
+    public SseEmitter streamInterviewQuestions(Long applicationId) {
+        applicationService.verifyStatus(applicationId, ApplicationStatus.REVIEW_READY);
+
+        return startStream(applicationId, sender -> {
+            var response = applicationService.streamInterviewQuestions(applicationId, recommendation ->
+                    sender.send("recommendation", recommendation));
+            sender.send("complete", response);
+        });
+    }
+
+    private SseEmitter startStream(Long applicationId, StreamTask task) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT.toMillis());
+        EventSender sender = new EventSender(emitter, applicationId);
+
+        try {
+            pipelineTaskExecutor.execute(() -> {
+                try {
+                    task.run(sender);
+                    emitter.complete();
+                } catch (ResponseStatusException e) {
+                    sender.send("error", new StreamErrorDto(e.getStatusCode().value(), e.getReason()));
+                    emitter.complete();
+                } catch (Exception e) {
+                    log.error("SSE 스트리밍 중 오류 발생. applicationId: {}", applicationId, e);
+                    sender.send("error", new StreamErrorDto(HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getMessage()));
+                    emitter.complete();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Stream worker queue is full. Retry later.");
+        }
+
+        return emitter;
+    }
+
+    @FunctionalInterface
+    private interface StreamTask {
+        void run(EventSender sender);
+    }
+
+    /**
+     * 클라이언트 연결이 끊긴 뒤에는 전송만 건너뛰고 작업은 계속 진행
+     */
+    private static final class EventSender {
+
+        private final SseEmitter emitter;
+        private final Long applicationId;
+        private final AtomicBoolean disconnected = new AtomicBoolean(false);
+
+        private EventSender(SseEmitter emitter, Long applicationId) {
+            this.emitter = emitter;
+            this.applicationId = applicationId;
+            emitter.onTimeout(() -> disconnected.set(true));
+            emitter.onError(e -> disconnected.set(true));
+        }
+
+        void send(String eventName, Object data) {
+            if (disconnected.get()) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(eventName).data(data));
+            } catch (IOException | IllegalStateException e) {
+                disconnected.set(true);
+                log.info("SSE 클라이언트 연결 종료. 생성은 계속 진행. applicationId: {}", applicationId);
+            }
+        }
+    }
+}
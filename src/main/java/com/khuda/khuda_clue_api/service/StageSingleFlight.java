@@ -0,0 +1,340 @@
+package com.khuda.khuda_clue_api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.khuda.khuda_clue_api.config.SingleFlightProperties;
+import com.khuda.khuda_clue_api.domain.ClaimStage;
+import com.khuda.khuda_clue_api.domain.JobStatus;
+import com.khuda.khuda_clue_api.entity.StageClaim;
+import com.khuda.khuda_clue_api.entity.StageClaimResult;
+import com.khuda.khuda_clue_api.llm.LlmUnavailableException;
+import com.khuda.khuda_clue_api.repository.StageClaimRepository;
+import com.khuda.khuda_clue_api.repository.StageClaimResultRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 지원서·단계별 단일 실행(single-flight)
+ * - 같은 (applicationId, stage)의 동시 요청 중 stage_claim 행을 선점한 요청(리더)만 실제 파이프라인(LLM 호출)을 실행한다.
+ * - 같은 노드의 나머지 요청은 리더의 Future를, 다른 노드의 요청은 stage_claim 행을 폴링해 리더의 결과(또는 같은 상태 코드의 오류)를 그대로 돌려받는다.
+ * - 선점은 리스(lease_until)를 가지며, 리더가 실행 중인 동안 renewInterval마다 연장한다.
+ *   리더가 결과를 남기지 못하고 사라지면 연장이 멈춰 리스가 만료되고, 대기 중인 요청이 이어받는다.
+ * - 끝난 선점은 이후 들어온 요청이 곧바로 새로 선점해 정상 경로(상태 가드 등)를 탄다.
+ *   리더의 결과는 선점 토큰별로 stage_claim_result에 따로 남기므로, 그사이 행이 이어받혀도 대기 요청은 자신이 본 토큰으로 결과를 찾는다.
+ */
+@Slf4j
+@Service
+public class StageSingleFlight {
+
+    private static final String ROLE_LEADER = "leader";
+    private static final String ROLE_FOLLOWER = "follower";
+    private static final String ROLE_LOCAL_FOLLOWER = "local_follower";
+
+    private final StageClaimRepository stageClaimRepository;
+    private final StageClaimResultRepository stageClaimResultRepository;
+    private final SingleFlightProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ConcurrentHashMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    // 이 인스턴스가 리더로 실행 중인 선점 토큰 (리스 연장 대상)
+    private final Set<String> leading = ConcurrentHashMap.newKeySet();
+
+    public StageSingleFlight(
+            StageClaimRepository stageClaimRepository,
+            StageClaimResultRepository stageClaimResultRepository,
+            SingleFlightProperties properties,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.stageClaimRepository = stageClaimRepository;
+        this.stageClaimResultRepository = stageClaimResultRepository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param resultType 다른 노드의 대기 요청이 result_json을 역직렬화할 응답 타입
+     * @param action     리더로 선정됐을 때만 실행되는 파이프라인
+     */
+    public <T> T execute(Long applicationId, ClaimStage stage, Class<T> resultType, Supplier<T> action) {
+        if (!properties.enabled()) {
+            return action.get();
+        }
+
+        Key key = new Key(applicationId, stage);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            count(stage, ROLE_LOCAL_FOLLOWER);
+            return resultType.cast(awaitLocal(existing));
+        }
+
+        try {
+            T result = executeClusterWide(applicationId, stage, resultType, action);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private <T> T executeClusterWide(Long applicationId, ClaimStage stage, Class<T> resultType, Supplier<T> action) {
+        long deadline = System.nanoTime() + properties.maxWait().toNanos();
+        while (true) {
+            String token = UUID.randomUUID().toString();
+            Optional<StageClaim> holder = tryClaim(applicationId, stage, token);
+            if (holder.isEmpty()) {
+                count(stage, ROLE_LEADER);
+                return lead(applicationId, stage, token, action);
+            }
+
+            count(stage, ROLE_FOLLOWER);
+            log.info("동일 단계 요청 실행 중, 결과 대기. applicationId: {}, stage: {}, leader: {}",
+                    applicationId, stage, holder.get().getOwnerId());
+            StageClaimResult finished = awaitResult(holder.get(), deadline);
+            if (finished != null) {
+                return share(finished, resultType);
+            }
+            // 리더가 결과 없이 리스 만료: 다시 선점 시도
+        }
+    }
+
+    /**
+     * 선점 시도
+     *
+     * @return 선점에 성공했으면 empty, 다른 요청이 실행 중이면 그 선점
+     */
+    private Optional<StageClaim> tryClaim(Long applicationId, ClaimStage stage, String token) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(properties.lease());
+        try {
+            return transactionTemplate.execute(tx -> {
+                if (stageClaimRepository.findByApplicationIdAndStage(applicationId, stage).isEmpty()) {
+                    stageClaimRepository.saveAndFlush(new StageClaim(applicationId, stage, token, instanceId, leaseUntil));
+                    return Optional.empty();
+                }
+                int claimed = stageClaimRepository.takeOver(
+                        applicationId, stage, token, instanceId, JobStatus.RUNNING, now, leaseUntil);
+                if (claimed == 1) {
+                    return Optional.empty();
+                }
+                return stageClaimRepository.findByApplicationIdAndStage(applicationId, stage);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 순간 첫 선점 행을 만들었거나, 지원서가 없어 FK 위반이 난 경우
+            // 후자는 선점 없이 실행해 파이프라인의 404가 그대로 응답되게 한다
+            return stageClaimRepository.findByApplicationIdAndStage(applicationId, stage);
+        }
+    }
+
+    private <T> T lead(Long applicationId, ClaimStage stage, String token, Supplier<T> action) {
+        leading.add(token);
+        try {
+            T result;
+            try {
+                result = action.get();
+            } catch (ResponseStatusException e) {
+                complete(applicationId, stage, token, JobStatus.FAILED, null, e.getStatusCode().value(), e.getReason());
+                throw e;
+            } catch (RuntimeException e) {
+                complete(applicationId, stage, token, JobStatus.FAILED, null,
+                        HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getClass().getSimpleName() + ": " + e.getMessage());
+                throw e;
+            }
+            complete(applicationId, stage, token, JobStatus.SUCCEEDED, serialize(result), null, null);
+            return result;
+        } finally {
+            leading.remove(token);
+        }
+    }
+
+    /**
+     * 이 인스턴스가 리더로 실행 중인 선점의 리스 연장
+     * - LLM 호출이 lease보다 길어져도 대기 요청이 리더를 사라진 것으로 보고 중복 실행하지 않게 한다.
+     */
+    @Scheduled(initialDelayString = "PT30S", fixedDelayString = "${clue.single-flight.renew-interval:PT1M}")
+    public void renewLeases() {
+        if (leading.isEmpty()) {
+            return;
+        }
+        List<String> tokens = List.copyOf(leading);
+        LocalDateTime leaseUntil = LocalDateTime.now().plus(properties.lease());
+        try {
+            transactionTemplate.executeWithoutResult(tx -> stageClaimRepository.renewLeases(
+                    tokens, JobStatus.RUNNING, leaseUntil));
+        } catch (DataAccessException e) {
+            // 연장 실패 시 다음 주기에 다시 시도 (그사이 리스가 만료되면 대기 요청이 이어받는다)
+            log.warn("선점 리스 연장 실패. count: {}, reason: {}", tokens.size(), e.getMessage());
+        }
+    }
+
+    private void complete(Long applicationId, ClaimStage stage, String token, JobStatus status,
+                          String resultJson, Integer errorStatus, String errorMessage) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(properties.resultRetention());
+        try {
+            int updated = transactionTemplate.execute(tx -> {
+                int completed = stageClaimRepository.complete(applicationId, stage, token, status);
+                if (completed == 1) {
+                    stageClaimResultRepository.save(new StageClaimResult(
+                            token, applicationId, stage, status, resultJson, errorStatus, errorMessage, expiresAt));
+                }
+                return completed;
+            });
+            if (updated == 0) {
+                // 리스 만료로 다른 요청이 이어받았거나, 지원서가 없어 선점 없이 실행한 경우
+                log.debug("선점 결과 기록 생략. applicationId: {}, stage: {}",
+                        applicationId, stage);
+            }
+        } catch (DataAccessException e) {
+            // 기록 실패 시 대기 요청은 리스 만료 후 이어받는다
+            log.warn("선점 결과 기록 실패. applicationId: {}, stage: {}, reason: {}", applicationId, stage, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드 리더의 결과 대기 (행 폴링, 간격은 지수적으로 증가)
+     * 행이 끝났거나 다른 토큰으로 바뀌면, 처음 본 선점의 토큰으로 결과를 찾는다.
+     *
+     * @return 처음 본 선점의 결과, 리더가 결과를 남기지 못하고 리스가 만료됐으면 null
+     */
+    private StageClaimResult awaitResult(StageClaim observed, long deadline) {
+        String token = observed.getClaimToken();
+        StageClaim current = observed;
+        long sleepMillis = properties.pollInterval().toMillis();
+        while (current.isRunning() && token.equals(current.getClaimToken())) {
+            if (current.getLeaseUntil().isBefore(LocalDateTime.now())) {
+                return null;
+            }
+            if (System.nanoTime() > deadline) {
+                throw new LlmUnavailableException(
+                        "Timed out waiting for a concurrent request on the same application stage",
+                        properties.pollInterval());
+            }
+            sleep(sleepMillis);
+            sleepMillis = Math.min(sleepMillis * 2, properties.maxPollInterval().toMillis());
+
+            Optional<StageClaim> reloaded = stageClaimRepository.findByApplicationIdAndStage(
+                    current.getApplicationId(), current.getStage());
+            if (reloaded.isEmpty()) {
+                break;
+            }
+            current = reloaded.get();
+        }
+        return stageClaimResultRepository.findById(token).orElse(null);
+    }
+
+    private <T> T share(StageClaimResult result, Class<T> resultType) {
+        if (result.getStatus() == JobStatus.SUCCEEDED && result.getResultJson() != null) {
+            try {
+                return objectMapper.readValue(result.getResultJson(), resultType);
+            } catch (IOException e) {
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                        "Failed to deserialize shared result: " + e.getMessage());
+            }
+        }
+        int status = result.getErrorStatus() != null ? result.getErrorStatus() : HttpStatus.INTERNAL_SERVER_ERROR.value();
+        if (status == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+            // 리더가 LLM 한도로 거절된 경우 대기 요청도 동일하게 재시도 안내
+            throw new LlmUnavailableException(result.getErrorMessage(), properties.pollInterval());
+        }
+        throw new ResponseStatusException(HttpStatusCode.valueOf(status), result.getErrorMessage());
+    }
+
+    @Scheduled(initialDelayString = "PT5M", fixedDelayString = "${clue.single-flight.purge-interval:PT10M}")
+    public void purgeExpiredResults() {
+        if (!properties.enabled()) {
+            return;
+        }
+        int deleted = stageClaimResultRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 선점 결과 삭제. count: {}", deleted);
+        }
+    }
+
+    private Object awaitLocal(CompletableFuture<Object> future) {
+        try {
+            return future.get(properties.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException e) {
+            throw new LlmUnavailableException(
+                    "Timed out waiting for a concurrent request on the same application stage",
+                    properties.pollInterval());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LlmUnavailableException("Interrupted while waiting for a concurrent request",
+                    properties.pollInterval());
+        }
+    }
+
+    private String serialize(Object result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            // 결과 공유만 불가할 뿐 리더의 응답에는 영향 없음 (대기 요청은 500)
+            log.warn("선점 결과 직렬화 실패. reason: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LlmUnavailableException("Interrupted while waiting for a concurrent request",
+                    properties.pollInterval());
+        }
+    }
+
+    private void count(ClaimStage stage, String role) {
+        Counter.builder("clue.single_flight.requests")
+                .description("Pipeline stage requests by single-flight role")
+                .tag("stage", stage.name().toLowerCase())
+                .tag("role", role)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record Key(Long applicationId, ClaimStage stage) {
+    }
+}
@@ -0,0 +1,279 @@
+package com.khuda.khuda_clue_api.service;
+
+import com.khuda.khuda_clue_api.domain.QuestionEngine;
+import com.khuda.khuda_clue_api.domain.QuestionType;
+import com.khuda.khuda_clue_api.entity.Experience;
+import com.khuda.khuda_clue_api.entity.FollowupQuestion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * LLM 없이 템플릿으로 STAR 질문 4개를 만드는 규칙 기반 생성기
+ * - 경험 구간에서 활동(인턴, 프로젝트 등)·과제·행동·성과(수치) 단서어를 찾아 "앞 어절 + 단서어"를 슬롯 값으로 뽑는다.
+ *   예: "마케팅 인턴", "데이터 분석", "참여율 30%"
+ * - 슬롯을 채우면 구체적인 템플릿, 못 채우면 일반 템플릿을 사용하므로 항상 S/T/A/R 4개를 반환한다.
+ * - 같은 입력에는 항상 같은 질문을 만든다 (결정적). LLM 질문 생성이 불가할 때 대체 용도로 쓴다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "clue.template-questions.enabled", havingValue = "true")
+public class TemplateFollowupQuestionGenerationService implements FollowupQuestionGenerationService {
+
+    private static final String[] ACTIVITY_CUES = {"인턴", "프로젝트", "동아리", "공모전", "대회", "학회", "서포터즈",
+            "아르바이트", "봉사", "연구실", "스터디", "해커톤", "캠페인", "회사"};
+    private static final String[] TASK_CUES = {"목표", "과제", "문제", "어려움", "한계", "요구", "역할"};
+    private static final String[] ACTION_CUES = {"분석", "기획", "제작", "개발", "설계", "도입", "제안", "운영", "구축",
+            "조사", "수립", "설득", "작성", "촬영", "론칭", "개선", "협업", "진행"};
+    private static final String[] RESULT_CUES = {"매출", "증가", "감소", "달성", "향상", "절감", "수상", "성장", "단축",
+            "확보", "성과"};
+
+    // 어절 끝에서 떼어 낼 조사 (긴 것부터)
+    private static final String[] PARTICLES = {"에서는", "에서", "으로", "에게", "까지", "부터", "처럼", "보다",
+            "을", "를", "이", "가", "은", "는", "의", "에", "와", "과", "로", "도", "만"};
+    // 슬롯 앞 어절로 쓰지 않고 한 어절 더 앞을 보는 기능어
+    private static final Set<String> FUNCTION_WORDS = Set.of("등", "등을", "등의", "및", "또한", "그리고", "총", "약",
+            "이를", "그", "이", "직접", "함께");
+    private static final String NUMBER_UNITS = "%배명건원회개위점만천억";
+    // 변화율을 나타내는 단위 (성과 수치로 우선 사용)
+    private static final String RATE_UNITS = "%배";
+    private static final int SLOT_MAX_LENGTH = 24;
+    private static final int TITLE_SLOT_MAX_LENGTH = 30;
+
+    private final MeterRegistry meterRegistry;
+
+    public TemplateFollowupQuestionGenerationService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 경험 제목이 원문에 있으면 그 위치부터, 없으면 전달된 원문(발췌) 전체에서 슬롯을 찾는다.
+     */
+    @Override
+    public List<FollowupQuestion> generateFollowupQuestions(Long experienceId, String experienceTitle, String coverLetterText) {
+        String text = coverLetterText == null ? "" : coverLetterText;
+        int titleAt = experienceTitle == null || experienceTitle.isBlank() ? -1 : text.indexOf(experienceTitle);
+        return generate(experienceId, experienceTitle, text, Math.max(0, titleAt), text.length());
+    }
+
+    /**
+     * LLM 질문 생성 대신 템플릿 결과 사용 (사유별 횟수 기록, 슬롯은 경험 구간 [startIdx, endIdx)에서 찾는다)
+     *
+     * @param reason llm_unavailable, timeout, empty 등 메트릭 태그 값
+     */
+    public List<FollowupQuestion> fallback(Experience experience, String coverLetterText, String reason) {
+        Counter.builder("clue.template_questions.fallbacks")
+                .description("Follow-up question sets served by the template generator instead of the LLM")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        log.warn("LLM STAR 질문 생성 대신 템플릿 질문 사용. experienceId: {}, reason: {}", experience.getId(), reason);
+
+        String text = coverLetterText == null ? "" : coverLetterText;
+        int end = Math.min(Math.max(experience.getEndIdx(), 0), text.length());
+        int start = Math.min(Math.max(experience.getStartIdx(), 0), end);
+        return generate(experience.getId(), experience.getTitle(), text, start, end);
+    }
+
+    private List<FollowupQuestion> generate(Long experienceId, String title, String text, int start, int end) {
+        String activity = slot(text, start, end, ACTIVITY_CUES, true);
+        String task = slot(text, start, end, TASK_CUES, false);
+        String action = slot(text, start, end, ACTION_CUES, false);
+        String result = numberSlot(text, start, end);
+        if (result == null) {
+            result = slot(text, start, end, RESULT_CUES, false);
+        }
+        String subject = activity != null ? activity : clip(title, TITLE_SLOT_MAX_LENGTH);
+
+        String situation = subject == null
+                ? "이 경험을 하게 된 시기와 장소, 함께한 팀의 규모와 본인의 역할을 구체적으로 적어주세요."
+                : "'" + subject + "' 경험 당시의 시기와 장소, 함께한 팀의 규모와 본인의 역할을 구체적으로 적어주세요.";
+        String taskQuestion = task == null
+                ? "이 경험에서 본인이 해결하려던 과제와 그 성공 기준을 1개로 적어주세요."
+                : "'" + task + "'에 대해 본인이 해결하려던 과제와 그 성공 기준을 1개로 적어주세요.";
+        String actionQuestion = action == null
+                ? "과제를 해결하기 위해 본인이 직접 수행한 행동을 순서대로 3단계로 적어주세요."
+                : "'" + action + "' 과정에서 본인이 직접 수행한 행동을 순서대로 3단계로 적어주세요.";
+        String resultQuestion = result == null
+                ? "그 결과 무엇이 어떻게 달라졌는지 전후 수치나 확인 가능한 근거와 함께 적어주세요."
+                : "'" + result + "' 결과를 어떻게 측정했는지, 전후 변화와 확인 가능한 근거를 적어주세요.";
+
+        return List.of(
+                new FollowupQuestion(experienceId, QuestionType.S, situation, QuestionEngine.TEMPLATE),
+                new FollowupQuestion(experienceId, QuestionType.T, taskQuestion, QuestionEngine.TEMPLATE),
+                new FollowupQuestion(experienceId, QuestionType.A, actionQuestion, QuestionEngine.TEMPLATE),
+                new FollowupQuestion(experienceId, QuestionType.R, resultQuestion, QuestionEngine.TEMPLATE)
+        );
+    }
+
+    /**
+     * [start, end)에서 가장 먼저 나오는 단서어를 찾아 "앞 어절(조사 제거) + 단서어"를 반환 (없으면 null)
+     *
+     * @param wholeWord 단서어 대신 단서어가 든 어절 전체(조사 제거)를 사용 (예: "인턴십에서" → "인턴십")
+     */
+    private static String slot(String text, int start, int end, String[] cues, boolean wholeWord) {
+        int bestAt = -1;
+        String bestCue = null;
+        for (String cue : cues) {
+            int at = text.indexOf(cue, start);
+            if (at >= 0 && at + cue.length() <= end && (bestAt < 0 || at < bestAt)) {
+                bestAt = at;
+                bestCue = cue;
+            }
+        }
+        if (bestCue == null) {
+            return null;
+        }
+        int wordStart = bestAt;
+        while (wordStart > start && isWordChar(text.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+        String word = bestCue;
+        if (wholeWord) {
+            int wordEnd = bestAt + bestCue.length();
+            while (wordEnd < end && isWordChar(text.charAt(wordEnd))) {
+                wordEnd++;
+            }
+            word = stripParticle(text.substring(bestAt, wordEnd));
+        }
+        // 단서어가 어절 중간에 있으면("마케팅인턴") 어절 앞부분까지, 어절 처음이면 바로 앞 어절까지 붙인다
+        String phrase = wordStart < bestAt
+                ? text.substring(wordStart, bestAt) + word
+                : join(previousWord(text, start, wordStart), word);
+        return clip(phrase, SLOT_MAX_LENGTH);
+    }
+
+    /**
+     * [start, end)에서 단위가 붙은 수치를 찾아 "앞 어절(조사 제거) + 수치"를 반환 (예: "참여율 30%", 없으면 null)
+     * - 변화율(%, 배) 수치를 우선하고, 없으면 결과가 뒤에 오는 자소서 특성상 마지막 수치를 사용한다.
+     * - 수치 바로 뒤 어절이 성과 단서어로 시작하면 앞 어절 대신 뒤 어절을 붙인다 (예: "210% 매출").
+     */
+    private static String numberSlot(String text, int start, int end) {
+        int bestStart = -1;
+        int bestEnd = -1;
+        boolean bestRate = false;
+        for (int i = start; i < end; i++) {
+            if (!isDigit(text.charAt(i)) || (i > start && isWordChar(text.charAt(i - 1)))) {
+                continue;
+            }
+            int j = i + 1;
+            while (j < end && (isDigit(text.charAt(j)) || text.charAt(j) == ',' || text.charAt(j) == '.')) {
+                j++;
+            }
+            if (j < end && NUMBER_UNITS.indexOf(text.charAt(j)) >= 0) {
+                boolean rate = RATE_UNITS.indexOf(text.charAt(j)) >= 0;
+                int unitEnd = j + 1;
+                while (unitEnd < end && NUMBER_UNITS.indexOf(text.charAt(unitEnd)) >= 0) {
+                    unitEnd++;
+                }
+                if (rate || !bestRate) {
+                    bestStart = i;
+                    bestEnd = unitEnd;
+                    bestRate = rate;
+                }
+                j = unitEnd;
+            }
+            i = j;
+        }
+        if (bestStart < 0) {
+            return null;
+        }
+        String number = text.substring(bestStart, bestEnd);
+        String next = nextWord(text, bestEnd, end);
+        if (next != null && startsWithAny(next, RESULT_CUES)) {
+            return clip(number + " " + next, SLOT_MAX_LENGTH);
+        }
+        return clip(join(previousWord(text, start, bestStart), number), SLOT_MAX_LENGTH);
+    }
+
+    /**
+     * wordStart 바로 앞 어절 (같은 문장 안, 조사 제거, 기능어는 건너뜀, 없으면 null)
+     */
+    private static String previousWord(String text, int start, int wordStart) {
+        int from = wordStart;
+        while (true) {
+            int end = from;
+            while (end > start && text.charAt(end - 1) == ' ') {
+                end--;
+            }
+            if (end == from || end == start) {
+                return null;
+            }
+            int begin = end;
+            while (begin > start && isWordChar(text.charAt(begin - 1))) {
+                begin--;
+            }
+            if (begin == end) {
+                return null;
+            }
+            String word = text.substring(begin, end);
+            if (!FUNCTION_WORDS.contains(word)) {
+                return stripParticle(word);
+            }
+            from = begin;
+        }
+    }
+
+    /**
+     * from 바로 뒤 어절 (같은 문장 안, 조사 제거, 없으면 null)
+     */
+    private static String nextWord(String text, int from, int end) {
+        if (from >= end || text.charAt(from) != ' ') {
+            return null;
+        }
+        int begin = from;
+        while (begin < end && text.charAt(begin) == ' ') {
+            begin++;
+        }
+        int wordEnd = begin;
+        while (wordEnd < end && isWordChar(text.charAt(wordEnd))) {
+            wordEnd++;
+        }
+        return begin == wordEnd ? null : stripParticle(text.substring(begin, wordEnd));
+    }
+
+    private static boolean startsWithAny(String word, String[] cues) {
+        for (String cue : cues) {
+            if (word.startsWith(cue)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripParticle(String word) {
+        for (String particle : PARTICLES) {
+            // 한 글자 조사는 두 글자 이상 남을 때만 뗀다 ("나이" → "나" 방지)
+            int minRest = particle.length() == 1 ? 2 : 1;
+            if (word.length() >= particle.length() + minRest && word.endsWith(particle)) {
+                return word.substring(0, word.length() - particle.length());
+            }
+        }
+        return word;
+    }
+
+    private static String join(String previous, String cue) {
+        return previous == null ? cue : previous + " " + cue;
+    }
+
+    private static String clip(String value, int maxLength) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.strip();
+        return trimmed.length() <= maxLength ? trimmed : trimmed.substring(0, maxLength) + "…";
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
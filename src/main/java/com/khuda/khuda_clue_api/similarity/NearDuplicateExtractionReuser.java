@@ -0,0 +1,182 @@
+package com.khuda.khuda_clue_api.similarity;
+
+import com.khuda.khuda_clue_api.config.NearDuplicateProperties;
+import com.khuda.khuda_clue_api.entity.Application;
+import com.khuda.khuda_clue_api.entity.Experience;
+import com.khuda.khuda_clue_api.repository.ApplicationRepository;
+import com.khuda.khuda_clue_api.repository.ExperienceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유사 자소서의 경험 추출 결과 재사용
+ * - 지원서 생성 시 자소서 SimHash 지문을 인메모리 색인에 등록한다.
+ * - 경험 추출 시 해밍 거리가 가까운 지원서 중 이미 경험이 선택된 것을 찾아, 문자 3-gram 자카드 유사도로 확정한 뒤
+ *   선택 경험의 구간을 새 자소서 위치로 옮겨 LLM 호출 없이 후보로 반환한다. 정렬에 실패하면 LLM 경로로 넘어간다.
+ * - 색인은 기동 직후 DB 키셋 스캔으로 재구성하고, 이후에도 주기적으로 새 지원서를 따라잡는다 (다른 노드에서 생성된 지원서 포함).
+ */
+@Slf4j
+@Component
+public class NearDuplicateExtractionReuser {
+
+    private static final String OUTCOME_REUSED = "reused";
+    private static final String OUTCOME_NO_MATCH = "no_match";
+    private static final String OUTCOME_NOT_SIMILAR = "not_similar";
+    private static final String OUTCOME_ALIGN_FAILED = "align_failed";
+
+    private final NearDuplicateProperties properties;
+    private final ApplicationRepository applicationRepository;
+    private final ExperienceRepository experienceRepository;
+    private final MeterRegistry meterRegistry;
+    private final SimHashIndex index;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    // 키셋 스캔으로 색인에 반영한 마지막 지원서 id
+    private long watermark;
+
+    public NearDuplicateExtractionReuser(
+            NearDuplicateProperties properties,
+            ApplicationRepository applicationRepository,
+            ExperienceRepository experienceRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.applicationRepository = applicationRepository;
+        this.experienceRepository = experienceRepository;
+        this.meterRegistry = meterRegistry;
+        // 비활성 상태에서는 색인 배열을 할당하지 않는다
+        this.index = properties.enabled() ? new SimHashIndex(properties.maxEntries()) : null;
+
+        if (index != null) {
+            Gauge.builder("clue.near_duplicate.index_size", index, SimHashIndex::size)
+                    .description("Cover letters held in the near-duplicate index")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 새 지원서 자소서 등록
+     */
+    public void register(Long applicationId, String coverLetterText) {
+        if (index == null) {
+            return;
+        }
+        index.add(applicationId, SimHash.fingerprint(coverLetterText));
+    }
+
+    /**
+     * 재사용 가능한 경험 후보 조회
+     *
+     * @return 새 자소서 기준으로 구간을 옮긴 경험 후보 (저장 전 엔티티), 없으면 empty
+     */
+    public Optional<Experience> findReusable(Long applicationId, String coverLetterText) {
+        if (index == null) {
+            return Optional.empty();
+        }
+        List<SimHashIndex.Match> matches = index.query(
+                SimHash.fingerprint(coverLetterText),
+                properties.maxHammingDistance(),
+                applicationId,
+                properties.maxCandidates());
+        if (matches.isEmpty()) {
+            count(OUTCOME_NO_MATCH);
+            return Optional.empty();
+        }
+
+        long[] shingles = SimHash.shingles(coverLetterText);
+        String outcome = OUTCOME_NOT_SIMILAR;
+        for (SimHashIndex.Match match : matches) {
+            Optional<Experience> prior = experienceRepository.findByApplicationIdAndIsSelectedTrue(match.applicationId());
+            Optional<Application> source = applicationRepository.findById(match.applicationId());
+            if (prior.isEmpty() || source.isEmpty()) {
+                continue;
+            }
+            String sourceText = source.get().getCoverLetterText();
+            double similarity = SimHash.jaccard(shingles, SimHash.shingles(sourceText));
+            if (similarity < properties.minSimilarity()) {
+                continue;
+            }
+
+            Experience experience = prior.get();
+            Optional<SpanAligner.Span> span = SpanAligner.align(
+                    sourceText, experience.getStartIdx(), experience.getEndIdx(), coverLetterText);
+            if (span.isEmpty()) {
+                outcome = OUTCOME_ALIGN_FAILED;
+                continue;
+            }
+
+            count(OUTCOME_REUSED);
+            log.info("유사 자소서 경험 추출 결과 재사용. applicationId: {}, sourceApplicationId: {}, distance: {}, similarity: {}",
+                    applicationId, match.applicationId(), match.distance(), String.format("%.3f", similarity));
+            return Optional.of(Experience.createCandidate(
+                    applicationId,
+                    experience.getTitle(),
+                    span.get().startIdx(),
+                    span.get().endIdx(),
+                    experience.getRankScore()));
+        }
+        count(outcome);
+        return Optional.empty();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (index == null) {
+            return;
+        }
+        // 기동을 막지 않도록 별도 스레드에서 재구성 (재구성 중에는 색인 미스로 LLM 경로를 탄다)
+        Thread.ofPlatform().name("near-duplicate-rebuild").daemon(true).start(this::refresh);
+    }
+
+    @Scheduled(initialDelayString = "PT1M", fixedDelayString = "${clue.near-duplicate.refresh-interval:PT1M}")
+    public void refresh() {
+        if (index == null || !refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            int added = 0;
+            while (true) {
+                List<ApplicationRepository.CoverLetterView> page = applicationRepository.findCoverLettersAfter(
+                        watermark, PageRequest.of(0, properties.rebuildPageSize()));
+                for (ApplicationRepository.CoverLetterView view : page) {
+                    if (index.add(view.getId(), SimHash.fingerprint(view.getCoverLetterText()))) {
+                        added++;
+                    }
+                    watermark = view.getId();
+                }
+                if (page.size() < properties.rebuildPageSize()) {
+                    break;
+                }
+            }
+            if (added > 0) {
+                log.info("유사 자소서 색인 갱신. added: {}, size: {}, watermark: {}, elapsedMs: {}",
+                        added, index.size(), watermark, (System.nanoTime() - started) / 1_000_000);
+            }
+        } catch (DataAccessException e) {
+            log.warn("유사 자소서 색인 갱신 실패, 다음 주기에 재시도. reason: {}", e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void count(String outcome) {
+        Counter.builder("clue.near_duplicate.lookups")
+                .description("Near-duplicate extraction reuse lookups by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
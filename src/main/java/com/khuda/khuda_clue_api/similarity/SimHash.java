@@ -0,0 +1,112 @@
+package com.khuda.khuda_clue_api.similarity;
+
+import java.util.Arrays;
+
+/**
+ * 자소서 유사도 계산용 SimHash / 문자 3-gram 유틸리티
+ * - 공백·문장부호를 제거하고 소문자로 정규화한 뒤 문자 3-gram(shingle)을 만든다. 한글은 형태소 분석 없이도 3-gram이 충분히 변별력이 있다.
+ * - 지문(fingerprint): shingle 해시의 비트별 가중 투표로 만든 64비트 SimHash. 문서가 비슷할수록 해밍 거리가 작다.
+ * - 확정 단계에서는 정렬된 shingle 해시 집합의 자카드 유사도를 계산한다.
+ */
+final class SimHash {
+
+    static final int SHINGLE_SIZE = 3;
+
+    private SimHash() {
+    }
+
+    static long fingerprint(String text) {
+        char[] normalized = normalize(text);
+        if (normalized.length < SHINGLE_SIZE) {
+            return mix(Arrays.hashCode(normalized));
+        }
+        int[] votes = new int[Long.SIZE];
+        for (int i = 0; i + SHINGLE_SIZE <= normalized.length; i++) {
+            long hash = shingleHash(normalized, i);
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                votes[bit] += ((hash >>> bit) & 1L) != 0 ? 1 : -1;
+            }
+        }
+        long fingerprint = 0L;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (votes[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * 중복 제거·정렬된 shingle 해시 집합
+     */
+    static long[] shingles(String text) {
+        char[] normalized = normalize(text);
+        if (normalized.length < SHINGLE_SIZE) {
+            return new long[]{mix(Arrays.hashCode(normalized))};
+        }
+        long[] hashes = new long[normalized.length - SHINGLE_SIZE + 1];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = shingleHash(normalized, i);
+        }
+        Arrays.sort(hashes);
+        int distinct = 0;
+        for (int i = 0; i < hashes.length; i++) {
+            if (i == 0 || hashes[i] != hashes[distinct - 1]) {
+                hashes[distinct++] = hashes[i];
+            }
+        }
+        return Arrays.copyOf(hashes, distinct);
+    }
+
+    static double jaccard(long[] left, long[] right) {
+        int i = 0;
+        int j = 0;
+        int intersection = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] == right[j]) {
+                intersection++;
+                i++;
+                j++;
+            } else if (left[i] < right[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        int union = left.length + right.length - intersection;
+        return union == 0 ? 1.0 : (double) intersection / union;
+    }
+
+    static int distance(long left, long right) {
+        return Long.bitCount(left ^ right);
+    }
+
+    private static char[] normalize(String text) {
+        char[] buffer = new char[text.length()];
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                buffer[length++] = Character.toLowerCase(c);
+            }
+        }
+        return Arrays.copyOf(buffer, length);
+    }
+
+    private static long shingleHash(char[] chars, int offset) {
+        // char 3개(각 16비트)를 48비트에 그대로 담아 충돌 없이 키를 만든 뒤 비트를 고르게 섞는다
+        long key = ((long) chars[offset] << 32) | ((long) chars[offset + 1] << 16) | chars[offset + 2];
+        return mix(key);
+    }
+
+    private static long mix(long value) {
+        // MurmurHash3 fmix64
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,161 @@
+package com.khuda.khuda_clue_api.similarity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 용량 제한이 있는 SimHash 근접 이웃 색인 (LSH 밴드 방식)
+ * - 64비트 지문을 16비트 밴드 4개로 나누고, 밴드별로 65,536개 버킷에 슬롯 번호를 기록한다.
+ *   해밍 거리가 3 이하인 두 지문은 비둘기집 원리상 최소 한 밴드가 같으므로 같은 버킷에서 반드시 만난다.
+ * - 엔트리는 원형 슬롯 배열(id, 지문)에 저장하고, 용량을 넘으면 가장 오래된 슬롯을 덮어쓰며 버킷에서도 제거한다.
+ *   본문은 보관하지 않으므로 50만 건 기준 약 16MB(배열) + 버킷 오버헤드 수준으로 유지된다.
+ * - 읽기/쓰기 잠금으로 보호하며 스레드 안전하다.
+ */
+final class SimHashIndex {
+
+    private static final int BANDS = 4;
+    private static final int BAND_BITS = 16;
+    private static final int BUCKETS = 1 << BAND_BITS;
+    private static final int BAND_MASK = BUCKETS - 1;
+    private static final int INITIAL_BUCKET_CAPACITY = 2;
+
+    record Match(long applicationId, int distance) {
+    }
+
+    private final int capacity;
+    private final long[] ids;
+    private final long[] fingerprints;
+    private final int[][][] buckets = new int[BANDS][BUCKETS][];
+    private final int[][] bucketSizes = new int[BANDS][BUCKETS];
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 지금까지 기록된 총 건수 (다음 슬롯 = sequence % capacity)
+    private long sequence;
+
+    SimHashIndex(int capacity) {
+        this.capacity = capacity;
+        this.ids = new long[capacity];
+        this.fingerprints = new long[capacity];
+    }
+
+    /**
+     * @return 새로 기록했으면 true, 같은 id가 이미 있으면 false
+     */
+    boolean add(long applicationId, long fingerprint) {
+        lock.writeLock().lock();
+        try {
+            if (contains(applicationId, fingerprint)) {
+                return false;
+            }
+            int slot = (int) (sequence % capacity);
+            if (sequence >= capacity) {
+                for (int band = 0; band < BANDS; band++) {
+                    removeFromBucket(band, bandValue(fingerprints[slot], band), slot);
+                }
+            }
+            ids[slot] = applicationId;
+            fingerprints[slot] = fingerprint;
+            for (int band = 0; band < BANDS; band++) {
+                addToBucket(band, bandValue(fingerprint, band), slot);
+            }
+            sequence++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 해밍 거리 오름차순 후보 목록
+     */
+    List<Match> query(long fingerprint, int maxDistance, long excludeId, int limit) {
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int band = 0; band < BANDS; band++) {
+                int bucket = bandValue(fingerprint, band);
+                int[] slots = buckets[band][bucket];
+                int size = bucketSizes[band][bucket];
+                for (int i = 0; i < size; i++) {
+                    int slot = slots[i];
+                    long id = ids[slot];
+                    if (id == excludeId || alreadyMatched(matches, id)) {
+                        continue;
+                    }
+                    int distance = SimHash.distance(fingerprint, fingerprints[slot]);
+                    if (distance <= maxDistance) {
+                        matches.add(new Match(id, distance));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(Comparator.comparingInt(Match::distance));
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return (int) Math.min(sequence, capacity);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean contains(long applicationId, long fingerprint) {
+        // 같은 id는 같은 지문을 가지므로 첫 밴드 버킷만 확인하면 된다
+        int bucket = bandValue(fingerprint, 0);
+        int[] slots = buckets[0][bucket];
+        int size = bucketSizes[0][bucket];
+        for (int i = 0; i < size; i++) {
+            if (ids[slots[i]] == applicationId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean alreadyMatched(List<Match> matches, long id) {
+        // 한 요청의 후보는 소수이므로 선형 탐색으로 충분
+        for (Match match : matches) {
+            if (match.applicationId() == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addToBucket(int band, int bucket, int slot) {
+        int[] slots = buckets[band][bucket];
+        int size = bucketSizes[band][bucket];
+        if (slots == null) {
+            slots = new int[INITIAL_BUCKET_CAPACITY];
+        } else if (size == slots.length) {
+            slots = Arrays.copyOf(slots, size * 2);
+        }
+        slots[size] = slot;
+        buckets[band][bucket] = slots;
+        bucketSizes[band][bucket] = size + 1;
+    }
+
+    private void removeFromBucket(int band, int bucket, int slot) {
+        int[] slots = buckets[band][bucket];
+        int size = bucketSizes[band][bucket];
+        for (int i = 0; i < size; i++) {
+            if (slots[i] == slot) {
+                slots[i] = slots[size - 1];
+                bucketSizes[band][bucket] = size - 1;
+                return;
+            }
+        }
+    }
+
+    private static int bandValue(long fingerprint, int band) {
+        return (int) (fingerprint >>> (band * BAND_BITS)) & BAND_MASK;
+    }
+}
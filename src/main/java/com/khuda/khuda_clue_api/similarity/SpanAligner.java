@@ -0,0 +1,68 @@
+package com.khuda.khuda_clue_api.similarity;
+
+import java.util.Optional;
+
+/**
+ * 이전 자소서의 경험 구간을 새 자소서의 구간으로 옮기는 정렬기
+ * - 1순위: 구간 원문이 새 자소서에 그대로 있으면 원래 위치에 가장 가까운 출현 위치를 사용한다.
+ * - 2순위: 구간의 앞/뒤 앵커(각 최대 32자)를 순서대로 찾아 그 사이를 새 구간으로 본다.
+ *   길이가 원래 구간과 크게 다르면(±20% 초과) 다른 내용이 끼어든 것으로 보고 실패 처리한다.
+ */
+final class SpanAligner {
+
+    private static final int MAX_ANCHOR_LENGTH = 32;
+    private static final int MIN_ANCHOR_LENGTH = 8;
+    private static final double MAX_LENGTH_DRIFT = 0.2;
+
+    record Span(int startIdx, int endIdx) {
+    }
+
+    private SpanAligner() {
+    }
+
+    static Optional<Span> align(String source, int startIdx, int endIdx, String target) {
+        int start = Math.max(0, Math.min(startIdx, source.length()));
+        int end = Math.max(start, Math.min(endIdx, source.length()));
+        if (start == end) {
+            return Optional.empty();
+        }
+        String span = source.substring(start, end);
+
+        int exact = closestIndexOf(target, span, start);
+        if (exact >= 0) {
+            return Optional.of(new Span(exact, exact + span.length()));
+        }
+
+        int anchorLength = Math.min(MAX_ANCHOR_LENGTH, span.length() / 3);
+        if (anchorLength < MIN_ANCHOR_LENGTH) {
+            return Optional.empty();
+        }
+        String head = span.substring(0, anchorLength);
+        String tail = span.substring(span.length() - anchorLength);
+
+        int newStart = closestIndexOf(target, head, start);
+        if (newStart < 0) {
+            return Optional.empty();
+        }
+        int tailIdx = target.indexOf(tail, newStart + anchorLength);
+        if (tailIdx < 0) {
+            return Optional.empty();
+        }
+        int newEnd = tailIdx + anchorLength;
+        int drift = Math.abs((newEnd - newStart) - span.length());
+        if (drift > span.length() * MAX_LENGTH_DRIFT) {
+            return Optional.empty();
+        }
+        return Optional.of(new Span(newStart, newEnd));
+    }
+
+    private static int closestIndexOf(String target, String needle, int hint) {
+        int best = -1;
+        for (int idx = target.indexOf(needle); idx >= 0; idx = target.indexOf(needle, idx + 1)) {
+            if (best < 0 || Math.abs(idx - hint) < Math.abs(best - hint)) {
+                best = idx;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,85 @@
+package com.khuda.khuda_clue_api.warmup;
+
+import com.khuda.khuda_clue_api.domain.ApplicationStatus;
+import com.khuda.khuda_clue_api.domain.ClaimStage;
+import com.khuda.khuda_clue_api.domain.JobStatus;
+import com.khuda.khuda_clue_api.domain.PipelineStage;
+import com.khuda.khuda_clue_api.repository.ApplicationRepository;
+import com.khuda.khuda_clue_api.repository.ExperienceRepository;
+import com.khuda.khuda_clue_api.repository.FollowupAnswerRepository;
+import com.khuda.khuda_clue_api.repository.FollowupQuestionRepository;
+import com.khuda.khuda_clue_api.repository.PipelineJobRepository;
+import com.khuda.khuda_clue_api.repository.StageClaimRepository;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * JPA 경로 워밍업
+ * - 요청 경로에서 쓰는 조회 쿼리를 존재하지 않는 id(0)로 한 번씩 실행해 Hibernate 쿼리 계획 컴파일,
+ *   JDBC 커넥션 획득, PreparedStatement 준비를 첫 요청 전에 끝낸다.
+ * - 읽기 전용 트랜잭션이며 행이 없으므로 잠금·쓰기가 발생하지 않는다.
+ */
+@Component
+@Order(20)
+public class JpaWarmupTask implements WarmupTask {
+
+    private static final long MISSING_ID = 0L;
+
+    private final ApplicationRepository applicationRepository;
+    private final ExperienceRepository experienceRepository;
+    private final FollowupQuestionRepository followupQuestionRepository;
+    private final FollowupAnswerRepository followupAnswerRepository;
+    private final PipelineJobRepository pipelineJobRepository;
+    private final StageClaimRepository stageClaimRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public JpaWarmupTask(ApplicationRepository applicationRepository,
+                         ExperienceRepository experienceRepository,
+                         FollowupQuestionRepository followupQuestionRepository,
+                         FollowupAnswerRepository followupAnswerRepository,
+                         PipelineJobRepository pipelineJobRepository,
+                         StageClaimRepository stageClaimRepository,
+                         PlatformTransactionManager transactionManager) {
+        this.applicationRepository = applicationRepository;
+        this.experienceRepository = experienceRepository;
+        this.followupQuestionRepository = followupQuestionRepository;
+        this.followupAnswerRepository = followupAnswerRepository;
+        this.pipelineJobRepository = pipelineJobRepository;
+        this.stageClaimRepository = stageClaimRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public String warmupName() {
+        return "jpa";
+    }
+
+    @Override
+    public void warmUp(int iterations) {
+        readOnlyTransaction.executeWithoutResult(tx -> {
+            applicationRepository.findById(MISSING_ID);
+            applicationRepository.findByStatusOrderByIdAsc(ApplicationStatus.SUBMITTED, PageRequest.of(0, 1));
+            applicationRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                    ApplicationStatus.SUBMITTED, Long.MAX_VALUE, PageRequest.of(0, 1));
+            applicationRepository.findIdsByStatusAfter(ApplicationStatus.SUBMITTED, Long.MAX_VALUE, PageRequest.of(0, 1));
+
+            experienceRepository.findByApplicationIdOrderByRankScoreDesc(MISSING_ID);
+            experienceRepository.findByApplicationIdAndIsSelectedTrue(MISSING_ID);
+            experienceRepository.existsByApplicationIdAndIsSelectedTrue(MISSING_ID);
+
+            followupQuestionRepository.findByExperienceIdOrderByTypeAsc(MISSING_ID);
+            followupAnswerRepository.findByQuestionIdIn(List.of(MISSING_ID));
+
+            pipelineJobRepository.findByIdAndApplicationId(MISSING_ID, MISSING_ID);
+            pipelineJobRepository.findFirstByApplicationIdAndStageAndStatusInOrderByIdDesc(
+                    MISSING_ID, PipelineStage.SELECT_EXPERIENCE, List.of(JobStatus.PENDING, JobStatus.RUNNING));
+            stageClaimRepository.findByApplicationIdAndStage(MISSING_ID, ClaimStage.SELECT_EXPERIENCE);
+        });
+    }
+}
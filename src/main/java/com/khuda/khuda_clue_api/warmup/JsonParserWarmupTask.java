@@ -0,0 +1,80 @@
+package com.khuda.khuda_clue_api.warmup;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.khuda.khuda_clue_api.prompt.PromptTemplates;
+import com.khuda.khuda_clue_api.service.JsonArrayElementReader;
+import com.khuda.khuda_clue_api.service.JsonArrayElementSplitter;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LLM 응답 파서·프롬프트 렌더링 워밍업 (LLM 호출 없음)
+ * - 실제 응답 형태(코드펜스·설명 문장 포함)의 합성 응답으로 JsonArrayElementReader·JsonArrayElementSplitter·
+ *   Jackson 바인딩과 프롬프트 렌더링을 iterations번 반복해 첫 요청 전에 JIT 컴파일을 유도한다.
+ * - ObjectMapper 캐시는 인스턴스별이므로 ChatGptService의 판독기와 공유되지 않는다 (코드 경로만 데움).
+ */
+@Component
+@Order(10)
+public class JsonParserWarmupTask implements WarmupTask {
+
+    private static final String EXPERIENCES = """
+            ```json
+            [{"title": "워밍업", "startIdx": 0, "endIdx": 10, "rankScore": 0.9},
+             {"title": "워밍업 2", "startIdx": 10, "endIdx": 20, "rankScore": 0.5, "extra": true}]
+            ```""";
+    private static final String QUESTIONS = """
+            [{"type": "S", "questionText": "S"}, {"type": "T", "questionText": "T"},
+             {"type": "A", "questionText": "A"}, {"type": "R", "questionText": "R"}]""";
+    private static final String RECOMMENDATIONS = "설명 문장 [\"질문 1\", \"질문 2\"]";
+
+    private final PromptTemplates promptTemplates;
+    private final JsonArrayElementReader jsonReader = new JsonArrayElementReader(new ObjectMapper());
+
+    public JsonParserWarmupTask(PromptTemplates promptTemplates) {
+        this.promptTemplates = promptTemplates;
+    }
+
+    @Override
+    public String warmupName() {
+        return "llm-parsers";
+    }
+
+    @Override
+    public void warmUp(int iterations) {
+        List<String> streamed = new ArrayList<>();
+        for (int i = 0; i < iterations; i++) {
+            jsonReader.readElements(EXPERIENCES, ExperienceJson.class);
+            jsonReader.readElements(QUESTIONS, QuestionJson.class);
+            jsonReader.readElements(RECOMMENDATIONS, String.class);
+
+            streamed.clear();
+            JsonArrayElementSplitter splitter = new JsonArrayElementSplitter(streamed::add);
+            for (int from = 0; from < QUESTIONS.length(); from += 16) {
+                splitter.feed(QUESTIONS.subSequence(from, Math.min(from + 16, QUESTIONS.length())));
+            }
+            streamed.forEach(element -> jsonReader.readElement(element, QuestionJson.class));
+
+            promptTemplates.experienceUserPrompt(RECOMMENDATIONS);
+            promptTemplates.questionUserPrompt(warmupName(), RECOMMENDATIONS);
+        }
+    }
+
+    // ChatGptService의 응답 DTO와 같은 형태
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class ExperienceJson {
+        public String title;
+        public int startIdx;
+        public int endIdx;
+        public double rankScore;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class QuestionJson {
+        public String type;
+        public String questionText;
+    }
+}
@@ -0,0 +1,35 @@
+package com.khuda.khuda_clue_api.warmup;
+
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실제 채팅 완성 1회 호출 워밍업 (clue.warmup.llm-call=true일 때만, 과금됨)
+ * - Spring AI 요청 직렬화·응답 역직렬화 경로와 실제 커넥션을 함께 데운다.
+ * - 출력 토큰 1개로 제한하며, LlmClient(유량 제어·캐시·메트릭)를 거치지 않는다.
+ */
+@Component
+@Order(40)
+@ConditionalOnProperty(name = "clue.warmup.llm-call", havingValue = "true")
+public class LlmCallWarmupTask implements WarmupTask {
+
+    private final ChatModel chatModel;
+
+    public LlmCallWarmupTask(ChatModel chatModel) {
+        this.chatModel = chatModel;
+    }
+
+    @Override
+    public String warmupName() {
+        return "llm-call";
+    }
+
+    @Override
+    public void warmUp(int iterations) {
+        chatModel.call(new Prompt("ping", ChatOptions.builder().maxTokens(1).build()));
+    }
+}
@@ -0,0 +1,64 @@
+package com.khuda.khuda_clue_api.warmup;
+
+import com.khuda.khuda_clue_api.config.WarmupProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+
+import java.util.List;
+
+/**
+ * OpenAI 전송 계층 워밍업
+ * - OpenAI 클라이언트와 공유하는 커넥션 풀(llmHttpClient)로 GET {base-url}/v1/models(모델 목록 조회, 과금 없음)를
+ *   transportConnections개 동시에 보내 DNS 조회, TLS 핸드셰이크, 커넥션 풀 채우기를 첫 요청 전에 끝낸다.
+ *   응답 상태(401 등)는 상관없다. HTTP/2로 협상되면 연결 1개에 다중화된다.
+ */
+@Slf4j
+@Component
+@Order(30)
+public class LlmTransportWarmupTask implements WarmupTask {
+
+    private final WarmupProperties properties;
+    private final HttpClient llmHttpClient;
+    private final String baseUrl;
+    private final String apiKey;
+
+    public LlmTransportWarmupTask(
+            WarmupProperties properties,
+            HttpClient llmHttpClient,
+            @Value("${spring.ai.openai.base-url:https://api.openai.com}") String baseUrl,
+            @Value("${spring.ai.openai.api-key:}") String apiKey
+    ) {
+        this.properties = properties;
+        this.llmHttpClient = llmHttpClient;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.apiKey = apiKey;
+    }
+
+    @Override
+    public String warmupName() {
+        return "llm-transport";
+    }
+
+    @Override
+    public void warmUp(int iterations) {
+        if (!properties.transport()) {
+            return;
+        }
+        HttpClient client = apiKey == null || apiKey.isBlank()
+                ? llmHttpClient
+                : llmHttpClient.headers(headers -> headers.set("Authorization", "Bearer " + apiKey));
+        List<HttpClientResponse> responses = Flux.range(0, Math.max(1, properties.transportConnections()))
+                .flatMap(i -> client.get().uri(baseUrl + "/v1/models").response())
+                .collectList()
+                .block(properties.transportTimeout());
+        if (responses != null && !responses.isEmpty()) {
+            log.debug("OpenAI 연결 예열 완료. status: {}, protocol: {}",
+                    responses.get(0).status().code(), responses.get(0).version());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.khuda.khuda_clue_api.warmup;
+
+import com.khuda.khuda_clue_api.config.WarmupProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 워밍업 실행기
+ * - ApplicationRunner는 readiness가 ACCEPTING_TRAFFIC으로 바뀌기 전에 실행되므로,
+ *   워밍업이 끝날 때까지 /actuator/health/readiness는 OUT_OF_SERVICE로 남아 트래픽이 들어오지 않는다.
+ * - WarmupTask 빈을 @Order 순서대로 실행하고 단계별 소요 시간을 로그 1줄과 clue.warmup.duration{step,outcome}에 남긴다.
+ * - 단계 실패는 경고만 남기고 다음 단계로 넘어간다 (워밍업 실패로 기동을 막지 않음).
+ */
+@Slf4j
+@Component
+public class StartupWarmup implements ApplicationRunner {
+
+    private final WarmupProperties properties;
+    private final ObjectProvider<WarmupTask> tasks;
+    private final MeterRegistry meterRegistry;
+
+    public StartupWarmup(WarmupProperties properties, ObjectProvider<WarmupTask> tasks, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.tasks = tasks;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.enabled()) {
+            log.info("기동 워밍업 비활성화됨");
+            return;
+        }
+        List<WarmupTask> ordered = tasks.orderedStream().toList();
+        StringJoiner summary = new StringJoiner(", ");
+        long started = System.nanoTime();
+        for (WarmupTask task : ordered) {
+            long stepStarted = System.nanoTime();
+            String outcome = "ok";
+            try {
+                task.warmUp(properties.iterations());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                outcome = "failed";
+            } catch (Exception e) {
+                outcome = "failed";
+                log.warn("워밍업 단계 실패. step: {}, Exception type: {}, message: {}",
+                        task.warmupName(), e.getClass().getSimpleName(), e.getMessage());
+            }
+            long elapsed = System.nanoTime() - stepStarted;
+            Timer.builder("clue.warmup.duration")
+                    .description("Startup warm-up step duration")
+                    .tag("step", task.warmupName())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            summary.add(task.warmupName() + "=" + TimeUnit.NANOSECONDS.toMillis(elapsed) + "ms"
+                    + ("ok".equals(outcome) ? "" : "(" + outcome + ")"));
+        }
+        log.info("기동 워밍업 완료 ({}ms): {}",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), summary);
+    }
+}
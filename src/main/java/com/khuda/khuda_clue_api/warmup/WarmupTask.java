@@ -0,0 +1,20 @@
+package com.khuda.khuda_clue_api.warmup;
+
+/**
+ * 기동 워밍업 단계
+ * - StartupWarmup이 readiness 전환 전에 @Order 순서대로 한 번씩 실행한다.
+ * - 합성 데이터만 사용하며 상태를 바꾸지 않아야 한다 (DB 쓰기 금지).
+ * - 과금되는 LLM 호출은 명시적으로 켠 경우에만 허용한다 (예: clue.warmup.llm-call=true일 때의 LlmCallWarmupTask).
+ */
+public interface WarmupTask {
+
+    /**
+     * 로그·메트릭(step 태그)에 쓰는 단계 이름
+     */
+    String warmupName();
+
+    /**
+     * @param iterations JIT 컴파일 유도가 필요한 단계의 반복 횟수 (반복이 의미 없는 단계는 무시)
+     */
+    void warmUp(int iterations) throws Exception;
+}
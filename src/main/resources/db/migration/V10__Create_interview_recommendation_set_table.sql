@@ -0,0 +1,24 @@
+-- V10: interview_recommendation_set 테이블 생성
+-- 지원서별 면접 추천 질문 세트 이력. 재생성 요청 시 LLM을 기다리지 않도록 미리 생성해 둔 변형을 보관한다
+-- served_at이 NULL이면 아직 평가자에게 보여주지 않은 변형(풀), 값이 있으면 해당 시각에 application.interview_recommendations_json으로 제공된 세트
+
+CREATE TABLE IF NOT EXISTS interview_recommendation_set (
+    id                   BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+    application_id       BIGINT UNSIGNED NOT NULL,
+    recommendations_json JSON            NOT NULL,
+    served_at            DATETIME(3)     NULL,
+    created_at           DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (id),
+
+    CONSTRAINT fk_interview_recommendation_set_application
+        FOREIGN KEY (application_id)
+            REFERENCES application (id)
+            ON DELETE CASCADE
+            ON UPDATE CASCADE,
+
+    KEY idx_interview_recommendation_set_application_served (application_id, served_at, id)
+
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_0900_ai_ci;
@@ -0,0 +1,8 @@
+-- V11: pipeline_job 재시도 컬럼 추가
+-- 답변 제출 후 면접 추천 질문 생성(INTERVIEW_RECOMMENDATIONS)을 답변과 같은 트랜잭션에서 작업으로 등록하고,
+-- 워커가 실패하면 next_attempt_at까지 PENDING으로 되돌려 지수 백오프로 재시도한다
+
+ALTER TABLE pipeline_job
+    ADD COLUMN attempts        INT         NOT NULL DEFAULT 0 AFTER status,
+    ADD COLUMN next_attempt_at DATETIME(3) NULL AFTER attempts,
+    ADD KEY idx_pipeline_job_stage_status_next_attempt (stage, status, next_attempt_at);
@@ -0,0 +1,27 @@
+-- V12: outbox_event 테이블 생성
+-- 커밋 후 실행해야 하는 부수 작업(예: 답변 제출 후 면접 추천 질문 생성)을 지원서 상태 변경과 같은 트랜잭션에 기록하는 아웃박스
+-- 워커는 SELECT ... FOR UPDATE SKIP LOCKED로 실행 가능한 행을 나눠 가져가며(노드 간 중복 없음), available_at 하나로 시각을 관리한다
+--   PENDING: 다음 시도 가능 시각 (재시도 백오프) / RUNNING: 리스 만료 시각 (지나면 다른 워커가 이어받음)
+
+CREATE TABLE IF NOT EXISTS outbox_event (
+    id             BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+    aggregate_id   BIGINT UNSIGNED NOT NULL,
+    event_type     VARCHAR(64)     NOT NULL,
+    payload_json   JSON            NULL,
+    status         ENUM('PENDING','RUNNING','SUCCEEDED','FAILED') NOT NULL DEFAULT 'PENDING',
+    attempts       INT             NOT NULL DEFAULT 0,
+    available_at   DATETIME(3)     NOT NULL,
+    lease_owner    VARCHAR(64)     NULL,
+    lease_token    CHAR(36)        NULL,
+    last_error     TEXT            NULL,
+    created_at     DATETIME(3)     NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    processed_at   DATETIME(3)     NULL,
+
+    PRIMARY KEY (id),
+
+    KEY idx_outbox_event_status_available (status, available_at),
+    KEY idx_outbox_event_aggregate (aggregate_id, event_type)
+
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_0900_ai_ci;
@@ -0,0 +1,28 @@
+-- V13: idempotency_record 테이블 생성
+-- Idempotency-Key 헤더가 있는 POST 요청의 처리 결과를 보관해, 게이트웨이 재시도 등 같은 키의 재요청에는 다시 실행하지 않고 저장된 응답을 돌려준다
+-- 처리 중인 키는 lease_until까지 선점되며, 같은 키의 동시 요청은 행을 폴링해 선점자의 결과를 기다린다 (선점자가 사라지면 리스 만료 후 이어받음)
+-- request_hash는 메서드·경로·요청 본문의 SHA-256으로, 같은 키를 다른 요청에 재사용하면 422로 거절한다
+-- expires_at이 지난 행은 주기적으로 삭제한다
+
+CREATE TABLE IF NOT EXISTS idempotency_record (
+    id                BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+    idempotency_key   VARCHAR(255)    NOT NULL,
+    request_hash      CHAR(64)        NOT NULL,
+    status            ENUM('PENDING','RUNNING','SUCCEEDED','FAILED') NOT NULL DEFAULT 'RUNNING',
+    claim_token       CHAR(36)        NOT NULL,
+    owner_id          VARCHAR(64)     NOT NULL,
+    lease_until       DATETIME(3)     NOT NULL,
+    response_status   SMALLINT        NULL,
+    response_location VARCHAR(512)    NULL,
+    response_body     MEDIUMTEXT      NULL,
+    created_at        DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at        DATETIME(3)     NOT NULL,
+
+    PRIMARY KEY (id),
+
+    UNIQUE KEY uq_idempotency_record_key (idempotency_key),
+    KEY idx_idempotency_record_expires_at (expires_at)
+
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_0900_ai_ci;
@@ -0,0 +1,8 @@
+-- V14: pipeline_job 리스 컬럼 추가
+-- 경험 선택(SELECT_EXPERIENCE) 작업은 요청을 받은 인스턴스의 워커 풀에서만 실행되므로,
+-- 인스턴스가 내려가면 PENDING/RUNNING 작업이 영원히 남아 이후 제출이 그 작업을 계속 재사용했다.
+-- 실행 중인 인스턴스가 lease_until을 주기적으로 연장하고, 만료된 작업은 FAILED로 정리하거나 새 제출이 이어받는다
+
+ALTER TABLE pipeline_job
+    ADD COLUMN lease_until DATETIME(3) NULL AFTER next_attempt_at,
+    ADD KEY idx_pipeline_job_stage_status_lease (stage, status, lease_until);
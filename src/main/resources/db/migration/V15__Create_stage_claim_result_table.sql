@@ -0,0 +1,29 @@
+-- V15: stage_claim_result 테이블 생성
+-- 선점 결과를 stage_claim 행에 두면, 리더가 끝난 직후 새 요청이 행을 이어받으며 결과를 지워
+-- 아직 폴링하지 못한 다른 노드의 대기 요청이 결과를 잃었다.
+-- 결과를 선점 토큰(claim_token)별로 따로 보관해, 대기 요청은 자신이 기다리던 선점의 결과를 토큰으로 찾는다
+-- expires_at이 지난 행은 주기적으로 삭제한다
+
+CREATE TABLE IF NOT EXISTS stage_claim_result (
+    claim_token    CHAR(36)        NOT NULL,
+    application_id BIGINT UNSIGNED NOT NULL,
+    stage          VARCHAR(32)     NOT NULL,
+    status         ENUM('PENDING','RUNNING','SUCCEEDED','FAILED') NOT NULL,
+    result_json    JSON            NULL,
+    error_status   INT             NULL,
+    error_message  TEXT            NULL,
+    created_at     DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at     DATETIME(3)     NOT NULL,
+
+    PRIMARY KEY (claim_token),
+
+    KEY idx_stage_claim_result_expires_at (expires_at)
+
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_0900_ai_ci;
+
+ALTER TABLE stage_claim
+    DROP COLUMN result_json,
+    DROP COLUMN error_status,
+    DROP COLUMN error_message;
@@ -0,0 +1,15 @@
+-- V16: idempotency_record 키를 (scope, idempotency_key)로 구분
+-- 키가 전역으로 하나여서 같은 키를 다른 엔드포인트·다른 지원서에 쓰면 422로 거절됐다.
+-- scope(메서드와 경로, 쿼리 포함)를 유일 키에 넣어 엔드포인트마다 독립적으로 처리하고,
+-- 같은 scope 안에서 본문만 다른 재사용만 request_hash로 422를 반환한다 (호출자 인증이 생기면 호출자 식별자도 유일 키에 추가)
+-- 기존 행은 scope가 빈 문자열로 남아 새 요청과 겹치지 않으며 expires_at이 지나면 삭제된다
+-- PENDING은 쓰지 않는 상태이므로 status ENUM에서 제거한다 (행은 RUNNING으로 생성됨)
+
+ALTER TABLE idempotency_record
+    ADD COLUMN scope VARCHAR(255) NOT NULL DEFAULT '' AFTER id,
+    DROP INDEX uq_idempotency_record_key,
+    ADD UNIQUE KEY uq_idempotency_record_scope_key (scope, idempotency_key),
+    MODIFY COLUMN status ENUM('RUNNING','SUCCEEDED','FAILED') NOT NULL DEFAULT 'RUNNING';
+
+ALTER TABLE idempotency_record
+    ALTER COLUMN scope DROP DEFAULT;
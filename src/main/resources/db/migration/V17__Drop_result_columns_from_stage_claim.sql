@@ -0,0 +1,7 @@
+-- V17: stage_claim 결과 컬럼 삭제
+-- 리더의 결과·오류는 V15부터 선점 토큰별로 stage_claim_result에 기록하므로 stage_claim.result_json·error_status·error_message는 쓰이지 않는다
+
+ALTER TABLE stage_claim
+    DROP COLUMN result_json,
+    DROP COLUMN error_status,
+    DROP COLUMN error_message;
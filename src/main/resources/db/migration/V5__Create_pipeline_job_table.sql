@@ -0,0 +1,27 @@
+-- V5: pipeline_job 테이블 생성
+-- 비동기 파이프라인 작업(예: select-experience?async=true)의 진행 상태를 저장하는 테이블
+-- 클라이언트는 202 응답의 jobId로 GET /applications/{id}/jobs/{jobId} 를 폴링한다
+
+CREATE TABLE IF NOT EXISTS pipeline_job (
+    id             BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+    application_id BIGINT UNSIGNED NOT NULL,
+    stage          VARCHAR(32)     NOT NULL,
+    status         ENUM('PENDING','RUNNING','SUCCEEDED','FAILED') NOT NULL DEFAULT 'PENDING',
+    result_json    JSON            NULL,
+    error_message  TEXT            NULL,
+    created_at     DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at     DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (id),
+
+    CONSTRAINT fk_pipeline_job_application
+        FOREIGN KEY (application_id)
+            REFERENCES application (id)
+            ON DELETE CASCADE
+            ON UPDATE CASCADE,
+
+    KEY idx_pipeline_job_application_stage_status (application_id, stage, status)
+
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_0900_ai_ci;
@@ -0,0 +1,30 @@
+-- V6: bulk_run 테이블 생성
+-- 특정 상태의 지원서를 백그라운드에서 일괄 진행시키는 배치 실행 단위
+-- last_application_id 체크포인트(키셋)로 재시작 후 이어서 처리하며, owner_id/heartbeat_at 리스로 다중 노드 중복 실행을 막는다
+
+CREATE TABLE IF NOT EXISTS bulk_run (
+    id                  BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+    source_status       ENUM('SUBMITTED','EXPERIENCE_SELECTED','QUESTIONS_SENT','ANSWERED','REVIEW_READY') NOT NULL,
+    state               ENUM('RUNNING','COMPLETED','CANCELLED','FAILED') NOT NULL DEFAULT 'RUNNING',
+    concurrency         INT             NOT NULL,
+    last_application_id BIGINT UNSIGNED NOT NULL DEFAULT 0,
+    processed_count     BIGINT          NOT NULL DEFAULT 0,
+    succeeded_count     BIGINT          NOT NULL DEFAULT 0,
+    failed_count        BIGINT          NOT NULL DEFAULT 0,
+    owner_id            VARCHAR(64)     NULL,
+    heartbeat_at        DATETIME        NULL,
+    error_message       TEXT            NULL,
+    started_at          DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at         DATETIME        NULL,
+    updated_at          DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (id),
+    KEY idx_bulk_run_state (state)
+
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_0900_ai_ci;
+
+-- 일괄 처리 키셋 스캔(status = ? AND id > ? ORDER BY id)용 인덱스
+ALTER TABLE application
+    ADD KEY idx_application_status_id (status, id);
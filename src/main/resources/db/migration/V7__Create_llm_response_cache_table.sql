@@ -0,0 +1,19 @@
+-- V7: llm_response_cache 테이블 생성
+-- LLM 응답 영속 캐시 (선택적 2차 계층). cache_key는 모델·옵션·프롬프트 버전·메시지 전체의 SHA-256
+
+CREATE TABLE IF NOT EXISTS llm_response_cache (
+    cache_key       CHAR(64)        NOT NULL,
+    operation       VARCHAR(64)     NOT NULL,
+    model           VARCHAR(64)     NOT NULL,
+    prompt_version  VARCHAR(32)     NOT NULL,
+    response_text   MEDIUMTEXT      NOT NULL,
+    response_bytes  INT             NOT NULL,
+    created_at      DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at      DATETIME        NOT NULL,
+
+    PRIMARY KEY (cache_key),
+    KEY idx_llm_response_cache_expires_at (expires_at)
+
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_0900_ai_ci;
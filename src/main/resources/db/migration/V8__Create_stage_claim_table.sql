@@ -0,0 +1,32 @@
+-- V8: stage_claim 테이블 생성
+-- 같은 지원서·단계에 대한 동시 요청(더블 클릭, 게이트웨이 재시도 등)을 노드와 무관하게 하나의 실행으로 합치기 위한 선점 테이블
+-- (application_id, stage) 행을 먼저 선점한 요청만 LLM을 호출하고, 나머지는 행을 폴링해 선점자의 결과(result_json) 또는 오류를 그대로 돌려받는다
+-- lease_until이 지나도록 끝나지 않은 선점(노드 장애 등)은 다음 요청이 이어받는다
+
+CREATE TABLE IF NOT EXISTS stage_claim (
+    id             BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+    application_id BIGINT UNSIGNED NOT NULL,
+    stage          VARCHAR(32)     NOT NULL,
+    status         ENUM('PENDING','RUNNING','SUCCEEDED','FAILED') NOT NULL DEFAULT 'RUNNING',
+    claim_token    CHAR(36)        NOT NULL,
+    owner_id       VARCHAR(64)     NOT NULL,
+    lease_until    DATETIME(3)     NOT NULL,
+    result_json    JSON            NULL,
+    error_status   INT             NULL,
+    error_message  TEXT            NULL,
+    created_at     DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at     DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (id),
+
+    CONSTRAINT fk_stage_claim_application
+        FOREIGN KEY (application_id)
+            REFERENCES application (id)
+            ON DELETE CASCADE
+            ON UPDATE CASCADE,
+
+    UNIQUE KEY uq_stage_claim_application_stage (application_id, stage)
+
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_0900_ai_ci;
@@ -0,0 +1,6 @@
+-- V9: followup_question에 생성기(engine) 컬럼 추가
+-- LLM: LLM이 생성한 질문 (기존 행 포함 기본값)
+-- TEMPLATE: LLM이 503(한도·브레이커)·타임아웃·빈 응답일 때 규칙 기반 템플릿으로 대체 생성한 질문
+
+ALTER TABLE followup_question
+    ADD COLUMN engine ENUM('LLM','TEMPLATE') NOT NULL DEFAULT 'LLM' AFTER question_text;
@@ -0,0 +1,242 @@
+package com.khuda.khuda_clue_api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenAiHttpClientConfigTest {
+
+    private static final String BODY = "{\"object\": \"list\"}";
+
+    private final OpenAiHttpClientConfig config = new OpenAiHttpClientConfig();
+
+    private MeterRegistry meterRegistry;
+    private StubServer server;
+    private ConnectionProvider connectionProvider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    @DisplayName("응답마다 ttfb(헤더 수신)와 total(본문 끝 수신)을 uri·status·protocol 태그로 기록한다")
+    void call_shouldRecordTtfbAndTotalPerResponse() throws IOException {
+        // Given - 헤더를 먼저 보내고 본문은 200ms 뒤에 보내는 서버
+        server = new StubServer(Duration.ZERO, Duration.ofMillis(200));
+        RestClient client = newClient(properties(10, Duration.ofSeconds(5)));
+
+        // When
+        String body = client.get().uri("/v1/models?limit=1").retrieve().body(String.class);
+
+        // Then
+        assertThat(body).isEqualTo(BODY);
+        Timer ttfb = timer("clue.llm.http.ttfb");
+        Timer total = timer("clue.llm.http.total");
+        assertThat(ttfb.count()).isEqualTo(1);
+        assertThat(total.count()).isEqualTo(1);
+        // 본문 지연만큼 total이 ttfb보다 길다 (네트워크 구간과 본문 수신 구간이 분리되어 기록됨)
+        assertThat(total.totalTime(TimeUnit.MILLISECONDS) - ttfb.totalTime(TimeUnit.MILLISECONDS))
+                .isGreaterThanOrEqualTo(150);
+    }
+
+    @Test
+    @DisplayName("keep-alive로 순차 호출은 연결 하나를 재사용한다")
+    void sequentialCalls_shouldReuseOneConnection() throws IOException {
+        // Given
+        server = new StubServer(Duration.ZERO, Duration.ZERO);
+        RestClient client = newClient(properties(10, Duration.ofSeconds(5)));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            client.get().uri("/v1/models").retrieve().body(String.class);
+        }
+
+        // Then
+        assertThat(server.requests()).isEqualTo(3);
+        assertThat(server.connections()).isEqualTo(1);
+        assertThat(timer("clue.llm.http.total").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("라우트별 최대 연결 수를 넘는 동시 호출은 새 연결을 열지 않고 풀에서 연결을 기다린다")
+    void concurrentCalls_shouldNotExceedMaxConnectionsPerRoute() throws Exception {
+        // Given - 연결 1개, 응답마다 100ms
+        server = new StubServer(Duration.ofMillis(100), Duration.ZERO);
+        RestClient client = newClient(properties(1, Duration.ofSeconds(5)));
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        // When
+        List<Future<String>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 3; i++) {
+                futures.add(executor.submit(() -> client.get().uri("/v1/models").retrieve().body(String.class)));
+            }
+            for (Future<String> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(BODY);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(server.requests()).isEqualTo(3);
+        assertThat(server.connections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답이 읽기 타임아웃 안에 오지 않으면 서버 응답을 기다리지 않고 실패하며 지연 메트릭을 남기지 않는다")
+    void call_whenResponseExceedsReadTimeout_shouldFail() throws IOException {
+        // Given - 헤더를 2초 뒤에 보내는 서버, 읽기 타임아웃 200ms
+        server = new StubServer(Duration.ofSeconds(2), Duration.ZERO);
+        RestClient client = newClient(properties(10, Duration.ofMillis(200)));
+        long startedAt = System.nanoTime();
+
+        // When & Then
+        assertThatThrownBy(() -> client.get().uri("/v1/models").retrieve().body(String.class))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+        assertThat(meterRegistry.find("clue.llm.http.ttfb").timer()).isNull();
+    }
+
+    // =========================================================
+    // helper
+    // =========================================================
+
+    /**
+     * 평문 스텁 서버는 TLS가 없어 ALPN(HTTP/2) 협상을 할 수 없으므로 HTTP/1.1로 고정한다.
+     */
+    private static LlmTransportProperties properties(int maxConnectionsPerRoute, Duration readTimeout) {
+        return new LlmTransportProperties(false, maxConnectionsPerRoute, 500, Duration.ofSeconds(10),
+                Duration.ofSeconds(55), Duration.ofMinutes(10), Duration.ofSeconds(5), readTimeout);
+    }
+
+    private RestClient newClient(LlmTransportProperties properties) {
+        connectionProvider = config.llmConnectionProvider(properties);
+        return config.restClientBuilder(config.llmHttpClient(connectionProvider, properties, meterRegistry))
+                .baseUrl("http://127.0.0.1:" + server.port())
+                .build();
+    }
+
+    private Timer timer(String name) {
+        return meterRegistry.get(name)
+                .tags("uri", "/v1/models", "status", "200", "protocol", "HTTP/1.1")
+                .timer();
+    }
+
+    /**
+     * HTTP/1.1 keep-alive 스텁 서버 (헤더 전송 시점과 본문 전송 시점을 따로 지연, 받은 연결·요청 수 집계)
+     */
+    private static final class StubServer implements AutoCloseable {
+
+        private final ServerSocket serverSocket;
+        private final Duration headerDelay;
+        private final Duration bodyDelay;
+        private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+        private final AtomicInteger connections = new AtomicInteger();
+        private final AtomicInteger requests = new AtomicInteger();
+
+        StubServer(Duration headerDelay, Duration bodyDelay) throws IOException {
+            this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            this.headerDelay = headerDelay;
+            this.bodyDelay = bodyDelay;
+            Thread.ofPlatform().daemon().start(this::acceptLoop);
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        int connections() {
+            return connections.get();
+        }
+
+        int requests() {
+            return requests.get();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+
+        private void acceptLoop() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    sockets.add(socket);
+                    connections.incrementAndGet();
+                    Thread.ofPlatform().daemon().start(() -> serve(socket));
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void serve(Socket socket) {
+            try (socket) {
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+                OutputStream out = socket.getOutputStream();
+                byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+                // 요청 헤더 끝(빈 줄)까지 읽고 응답, 연결이 닫힐 때까지 반복 (GET이라 요청 본문 없음)
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (!line.isEmpty()) {
+                        continue;
+                    }
+                    requests.incrementAndGet();
+                    Thread.sleep(headerDelay.toMillis());
+                    out.write(("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: "
+                            + body.length + "\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+                    out.flush();
+                    Thread.sleep(bodyDelay.toMillis());
+                    out.write(body);
+                    out.flush();
+                }
+            } catch (IOException | InterruptedException e) {
+                // 테스트 종료 시 소켓이 닫히면 끝낸다
+            }
+        }
+    }
+}
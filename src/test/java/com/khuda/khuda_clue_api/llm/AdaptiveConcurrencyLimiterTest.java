@@ -0,0 +1,134 @@
+package com.khuda.khuda_clue_api.llm;
+
+import com.khuda.khuda_clue_api.config.LlmLimiterProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final Duration FAST = Duration.ofMillis(100);
+    private static final Duration SLOW = Duration.ofSeconds(5);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = newLimiter(4, 200);
+    }
+
+    @Test
+    @DisplayName("지연 임계 이하 응답은 한도를 1/limit 씩 올리고 maxLimit을 넘지 않는다")
+    void onSuccess_withFastResponses_shouldIncreaseAdditivelyUpToMaxLimit() throws InterruptedException {
+        // When
+        completeSuccessfully(FAST);
+
+        // Then
+        assertThat(limiter.snapshot().limit()).isCloseTo(4.25, within(1e-9));
+
+        // When - 한도만큼 더 성공하면 약 +1
+        for (int i = 0; i < 100; i++) {
+            completeSuccessfully(FAST);
+        }
+
+        // Then
+        assertThat(limiter.snapshot().limit()).isEqualTo(8.0);
+        assertThat(limiter.snapshot().inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("지연 임계 초과 응답은 한도를 latencyBackoffRatio 배로 줄이되, 1초 안의 연속 감소는 한 번만 반영한다")
+    void onSuccess_withSlowResponses_shouldDecreaseOncePerInterval() throws InterruptedException {
+        // When
+        completeSuccessfully(SLOW);
+        completeSuccessfully(SLOW);
+
+        // Then - 같은 순간 돌아온 느린 응답 두 건은 한 번만 감소
+        assertThat(limiter.snapshot().limit()).isCloseTo(3.6, within(1e-9));
+
+        // When - 감소 간격이 지난 뒤
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        completeSuccessfully(SLOW);
+
+        // Then
+        assertThat(limiter.snapshot().limit()).isCloseTo(3.24, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("상류 429는 한도를 throttleBackoffRatio 배로 줄이고 minLimit 아래로는 내려가지 않는다")
+    void onThrottled_shouldDecreaseMultiplicativelyDownToMinLimit() throws InterruptedException {
+        // When
+        assertThat(limiter.acquire(0)).isTrue();
+        limiter.onThrottled();
+
+        // Then
+        assertThat(limiter.snapshot().limit()).isEqualTo(2.0);
+
+        // When - 간격을 두고 계속 429
+        for (int i = 0; i < 3; i++) {
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            assertThat(limiter.acquire(0)).isTrue();
+            limiter.onThrottled();
+        }
+
+        // Then
+        assertThat(limiter.snapshot().limit()).isEqualTo(1.0);
+        assertThat(limiter.snapshot().inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("혼잡과 무관한 종료는 한도를 바꾸지 않고 슬롯만 돌려준다")
+    void onIgnored_shouldReleaseSlotWithoutChangingLimit() throws InterruptedException {
+        // Given - 한도(4)만큼 슬롯 점유
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.acquire(0)).isTrue();
+        }
+        assertThat(limiter.acquire(0)).isFalse();
+
+        // When
+        limiter.onIgnored();
+
+        // Then
+        assertThat(limiter.acquire(0)).isTrue();
+        assertThat(limiter.snapshot().limit()).isEqualTo(4.0);
+        assertThat(limiter.snapshot().inFlight()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 즉시 거절한다")
+    void acquire_withFullQueue_shouldRejectWithoutWaiting() throws InterruptedException {
+        // Given
+        limiter = newLimiter(1, 0);
+        assertThat(limiter.acquire(0)).isTrue();
+
+        // When
+        long start = System.nanoTime();
+        boolean acquired = limiter.acquire(TimeUnit.SECONDS.toNanos(30));
+
+        // Then
+        assertThat(acquired).isFalse();
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.snapshot().queued()).isZero();
+    }
+
+    private void completeSuccessfully(Duration latency) throws InterruptedException {
+        assertThat(limiter.acquire(0)).isTrue();
+        limiter.onSuccess(latency);
+    }
+
+    private AdaptiveConcurrencyLimiter newLimiter(int initialLimit, int maxQueued) {
+        LlmLimiterProperties properties = new LlmLimiterProperties(
+                initialLimit, 1, 8, Duration.ofSeconds(1), 0.9, 0.5,
+                Duration.ofSeconds(30), maxQueued, 500, 200_000, 3, Duration.ofSeconds(1));
+        return new AdaptiveConcurrencyLimiter(properties, clock::get);
+    }
+}
@@ -0,0 +1,83 @@
+package com.khuda.khuda_clue_api.llm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkheadTest {
+
+    private static final long LONG_WAIT = TimeUnit.SECONDS.toNanos(10);
+
+    @Test
+    @DisplayName("동시 실행 상한까지는 즉시 슬롯을 주고, 대기 한도 안에 슬롯이 나지 않으면 거절한다")
+    void acquire_overMaxConcurrent_shouldTimeOut() throws InterruptedException {
+        // Given
+        Bulkhead bulkhead = new Bulkhead(2, 1);
+
+        // When & Then
+        assertThat(bulkhead.acquire(0)).isTrue();
+        assertThat(bulkhead.acquire(0)).isTrue();
+        assertThat(bulkhead.acquire(TimeUnit.MILLISECONDS.toNanos(50))).isFalse();
+        assertThat(bulkhead.inFlight()).isEqualTo(2);
+        assertThat(bulkhead.queued()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 중인 호출자는 슬롯이 반환되면 이어서 실행된다")
+    void release_shouldHandSlotToQueuedCaller() throws Exception {
+        // Given
+        Bulkhead bulkhead = new Bulkhead(1, 1);
+        assertThat(bulkhead.acquire(0)).isTrue();
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> acquireQuietly(bulkhead, LONG_WAIT));
+        awaitQueued(bulkhead, 1);
+
+        // When
+        bulkhead.release();
+
+        // Then
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(bulkhead.inFlight()).isEqualTo(1);
+        assertThat(bulkhead.queued()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 즉시 거절한다")
+    void acquire_withFullQueue_shouldRejectImmediately() throws Exception {
+        // Given
+        Bulkhead bulkhead = new Bulkhead(1, 1);
+        assertThat(bulkhead.acquire(0)).isTrue();
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> acquireQuietly(bulkhead, LONG_WAIT));
+        awaitQueued(bulkhead, 1);
+
+        // When
+        long start = System.nanoTime();
+        boolean acquired = bulkhead.acquire(LONG_WAIT);
+
+        // Then
+        assertThat(acquired).isFalse();
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+
+        bulkhead.release();
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static void awaitQueued(Bulkhead bulkhead, int expected) throws InterruptedException {
+        for (int attempt = 0; attempt < 50 && bulkhead.queued() != expected; attempt++) {
+            Thread.sleep(100);
+        }
+        assertThat(bulkhead.queued()).isEqualTo(expected);
+    }
+
+    private static boolean acquireQuietly(Bulkhead bulkhead, long maxWaitNanos) {
+        try {
+            return bulkhead.acquire(maxWaitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.khuda.khuda_clue_api.llm;
+
+import com.khuda.khuda_clue_api.config.LlmResilienceProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(5);
+    private static final long OPEN_DURATION = TimeUnit.SECONDS.toNanos(10);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        // 최근 4건 중 50% 이상 실패(최소 4건)면 OPEN, 10초 뒤 시험 호출 2건
+        LlmResilienceProperties.Settings settings = new LlmResilienceProperties.Settings(
+                8, 50, Duration.ofSeconds(10), 4, 4, 50, Duration.ofSeconds(1),
+                Duration.ofNanos(OPEN_DURATION), 2);
+        breaker = new CircuitBreaker(settings, clock::get);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수를 채우기 전에는 실패가 이어져도 CLOSED를 유지하고, 채운 뒤 실패율이 임계 이상이면 OPEN")
+    void record_shouldOpenOnlyAfterMinimumCalls() {
+        // When
+        fail(3);
+
+        // Then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // When - 4번째 호출은 성공이지만 실패율 75%
+        succeed(FAST);
+
+        // Then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("느린 호출은 예외 없이 끝나도 실패로 집계한다")
+    void onSuccess_withSlowCall_shouldCountAsFailure() {
+        // When
+        succeed(FAST);
+        succeed(FAST);
+        succeed(SLOW);
+        succeed(SLOW);
+
+        // Then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("OPEN은 openDuration 동안 거절하고 남은 시간을 Retry-After로 알려준 뒤, 지나면 HALF_OPEN으로 시험 호출을 허용한다")
+    void tryAcquire_shouldMoveFromOpenToHalfOpenAfterOpenDuration() {
+        // Given
+        fail(4);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(4));
+
+        // When & Then
+        assertThat(breaker.tryAcquire()).isEqualTo(-1);
+        assertThat(breaker.retryAfterNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(6));
+
+        // When
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        long first = breaker.tryAcquire();
+        long second = breaker.tryAcquire();
+
+        // Then - 시험 호출은 halfOpenCalls(2)건까지만
+        assertThat(first).isGreaterThanOrEqualTo(0);
+        assertThat(second).isEqualTo(first);
+        assertThat(breaker.tryAcquire()).isEqualTo(-1);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 모두 성공하면 CLOSED로 돌아간다")
+    void halfOpen_withAllTrialCallsSucceeding_shouldClose() {
+        // Given
+        long permit = openThenHalfOpen();
+        long second = breaker.tryAcquire();
+
+        // When
+        breaker.onSuccess(permit, FAST);
+        breaker.onSuccess(second, FAST);
+
+        // Then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 하나라도 실패하면 다시 OPEN")
+    void halfOpen_withTrialCallFailing_shouldReopen() {
+        // Given
+        long permit = openThenHalfOpen();
+
+        // When
+        breaker.onFailure(permit);
+
+        // Then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.retryAfterNanos()).isEqualTo(OPEN_DURATION);
+    }
+
+    @Test
+    @DisplayName("집계하지 않는 종료(onIgnored)는 HALF_OPEN 시험 호출 슬롯만 돌려준다")
+    void onIgnored_inHalfOpen_shouldReleaseTrialSlot() {
+        // Given
+        long permit = openThenHalfOpen();
+        long second = breaker.tryAcquire();
+        assertThat(breaker.tryAcquire()).isEqualTo(-1);
+
+        // When
+        breaker.onIgnored(permit);
+
+        // Then - 상태는 그대로이고 시험 호출 1건을 다시 허용
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        long retried = breaker.tryAcquire();
+        assertThat(retried).isEqualTo(second);
+        assertThat(breaker.tryAcquire()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("이전 세대에서 시작된 호출의 늦은 결과는 현재 상태에 반영하지 않는다")
+    void record_withStaleGeneration_shouldBeIgnored() {
+        // Given - CLOSED에서 시작한 호출이 끝나기 전에 브레이커가 열리고 HALF_OPEN까지 진행
+        long stalePermit = breaker.tryAcquire();
+        long halfOpenPermit = openThenHalfOpen();
+
+        // When
+        breaker.onFailure(stalePermit);
+
+        // Then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        // When
+        breaker.onIgnored(stalePermit);
+
+        // Then - 늦은 onIgnored가 현재 세대의 시험 호출 슬롯을 풀어주지도 않음
+        assertThat(breaker.tryAcquire()).isEqualTo(halfOpenPermit);
+        assertThat(breaker.tryAcquire()).isEqualTo(-1);
+    }
+
+    private long openThenHalfOpen() {
+        fail(4);
+        clock.addAndGet(OPEN_DURATION);
+        long permit = breaker.tryAcquire();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        return permit;
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.onFailure(breaker.tryAcquire());
+        }
+    }
+
+    private void succeed(long latencyNanos) {
+        breaker.onSuccess(breaker.tryAcquire(), latencyNanos);
+    }
+}
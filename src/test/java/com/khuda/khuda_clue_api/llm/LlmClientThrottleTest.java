@@ -0,0 +1,56 @@
+package com.khuda.khuda_clue_api.llm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LlmClientThrottleTest {
+
+    @Test
+    @DisplayName("RestClient·WebClient 응답 예외는 상태 코드가 429일 때만 스로틀로 판단한다")
+    void isThrottled_withHttpResponseException_shouldUseStatusCode() {
+        // Given
+        var restThrottled = HttpClientErrorException.create(
+                HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", new HttpHeaders(), new byte[0], null);
+        var webThrottled = WebClientResponseException.create(
+                HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", new HttpHeaders(), new byte[0], null);
+        var serverError = HttpServerErrorException.create(
+                HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", new HttpHeaders(),
+                "{\"error\": \"retry after 429 ms\"}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+
+        // When & Then
+        assertThat(LlmClient.isThrottled(restThrottled)).isTrue();
+        assertThat(LlmClient.isThrottled(webThrottled)).isTrue();
+        assertThat(LlmClient.isThrottled(new IllegalStateException("call failed", restThrottled))).isTrue();
+        assertThat(LlmClient.isThrottled(serverError)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Spring AI 재시도 예외는 메시지 선두의 상태 코드로 판단한다")
+    void isThrottled_withSpringAiException_shouldUseLeadingStatusCode() {
+        // When & Then
+        assertThat(LlmClient.isThrottled(new NonTransientAiException(
+                "429 - {\"error\": {\"code\": \"rate_limit_exceeded\"}}"))).isTrue();
+        assertThat(LlmClient.isThrottled(new TransientAiException("HTTP 429 - Too Many Requests"))).isTrue();
+        assertThat(LlmClient.isThrottled(new NonTransientAiException(
+                "400 - max_tokens 4290 is too large"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("HTTP 상태가 없는 예외는 메시지에 429가 있어도 스로틀로 보지 않는다")
+    void isThrottled_withPlainMessage_shouldNotMatchSubstring() {
+        // When & Then
+        assertThat(LlmClient.isThrottled(new IllegalStateException("parsed 429 tokens before failure"))).isFalse();
+        assertThat(LlmClient.isThrottled(new RuntimeException("Too Many Requests"))).isFalse();
+    }
+}
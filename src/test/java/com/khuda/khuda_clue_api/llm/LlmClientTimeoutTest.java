@@ -0,0 +1,196 @@
+package com.khuda.khuda_clue_api.llm;
+
+import com.khuda.khuda_clue_api.config.LlmCacheProperties;
+import com.khuda.khuda_clue_api.config.LlmHedgingProperties;
+import com.khuda.khuda_clue_api.config.LlmLimiterProperties;
+import com.khuda.khuda_clue_api.config.LlmResilienceProperties;
+import com.khuda.khuda_clue_api.config.LlmRoutingProperties;
+import com.khuda.khuda_clue_api.repository.LlmResponseCacheRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LlmClientTimeoutTest {
+
+    private static final LlmOperation OPERATION = LlmOperation.EXPERIENCE_EXTRACTION;
+    private static final Duration PROFILE_TIMEOUT = Duration.ofMillis(100);
+    private static final LlmResponseHandler<String> HANDLER = LlmResponseHandler.of(content -> content, content -> true);
+
+    private MeterRegistry meterRegistry;
+    private SlowChatModel model;
+    private LlmClient client;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        model = new SlowChatModel();
+    }
+
+    @AfterEach
+    void tearDown() {
+        model.release();
+        if (client != null) {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("마지막 모델 프로파일이 타임아웃을 넘기면 504(LlmTimeoutException)를 던진다")
+    void call_whenLastProfileTimesOut_shouldThrowGatewayTimeout() {
+        // Given
+        client = newClient(new LlmRoutingProperties.Profile("fast", null, null, null, PROFILE_TIMEOUT));
+
+        // When & Then
+        assertThatThrownBy(() -> client.call(OPERATION, "v1", new Prompt("자소서"), HANDLER))
+                .isInstanceOfSatisfying(LlmTimeoutException.class, e ->
+                        assertThat(e.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT));
+        assertThat(model.calls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("타임아웃된 호출은 모델이 실제로 끝날 때까지 동시성·벌크헤드 슬롯을 유지하고, 끝나면 반환한다")
+    void call_afterTimeout_shouldHoldSlotsUntilModelReturns() throws InterruptedException {
+        // Given
+        client = newClient(new LlmRoutingProperties.Profile("fast", null, null, null, PROFILE_TIMEOUT));
+        assertThatThrownBy(() -> client.call(OPERATION, "v1", new Prompt("자소서"), HANDLER))
+                .isInstanceOf(LlmTimeoutException.class);
+
+        // When - 호출자는 돌아갔지만 상류 호출은 아직 진행 중
+        Map<String, Object> limiterWhileRunning = client.limiterState();
+        Object bulkheadWhileRunning = guardState().get("bulkheadInFlight");
+        model.release();
+
+        // Then
+        assertThat(limiterWhileRunning.get("inFlight")).isEqualTo(1);
+        assertThat(limiterWhileRunning.get("detached")).isEqualTo(1);
+        assertThat(bulkheadWhileRunning).isEqualTo(1);
+
+        awaitTrue(() -> Integer.valueOf(0).equals(client.limiterState().get("detached")));
+        assertThat(client.limiterState().get("inFlight")).isEqualTo(0);
+        assertThat(guardState().get("bulkheadInFlight")).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("앞 프로파일이 타임아웃이면 다음 프로파일로 올려 응답을 받는다")
+    void call_whenFirstProfileTimesOut_shouldEscalate() {
+        // Given - 두 번째 프로파일은 타임아웃 없음, 두 번째 호출부터는 즉시 응답
+        model.blockFirstCallOnly();
+        client = newClient(
+                new LlmRoutingProperties.Profile("fast", null, null, null, PROFILE_TIMEOUT),
+                new LlmRoutingProperties.Profile("strong", "gpt-strong", null, null, null));
+
+        // When
+        String content = client.call(OPERATION, "v1", new Prompt("자소서"), HANDLER);
+
+        // Then
+        assertThat(content).isEqualTo(SlowChatModel.CONTENT);
+        assertThat(model.calls()).isEqualTo(2);
+    }
+
+    // =========================================================
+    // helper
+    // =========================================================
+
+    private LlmClient newClient(LlmRoutingProperties.Profile... profiles) {
+        LlmLimiterProperties limiter = new LlmLimiterProperties(4, 1, 32, Duration.ofSeconds(15), 0.9, 0.5,
+                Duration.ofSeconds(5), 200, 500, 200_000, 3, Duration.ofSeconds(1));
+        LlmResilienceProperties.Settings settings = new LlmResilienceProperties.Settings(8, 50, Duration.ofSeconds(5),
+                20, 10, 50, Duration.ofSeconds(30), Duration.ofSeconds(30), 3);
+        LlmHedgingProperties hedging = new LlmHedgingProperties(false, 95, 200, 20, Duration.ofSeconds(10),
+                Duration.ofSeconds(1), Duration.ofSeconds(30), 0.05, 10);
+        List<LlmRoutingProperties.Profile> route = List.of(profiles);
+        LlmResponseCache cache = new LlmResponseCache(
+                new LlmCacheProperties(false, DataSize.ofMegabytes(1), Duration.ofHours(1), false),
+                Mockito.mock(LlmResponseCacheRepository.class), meterRegistry);
+        return new LlmClient(ChatClient.builder(model), limiter,
+                new LlmResilienceProperties(settings, settings, settings), hedging,
+                new LlmRoutingProperties(route, route, route), cache, meterRegistry,
+                "gpt-test", 0.2, 100, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> guardState() {
+        return (Map<String, Object>) client.guardState().get(OPERATION.tag());
+    }
+
+    private static void awaitTrue(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.get()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("condition not met within 5s");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * release() 전까지 응답하지 않는 스텁 모델 (인터럽트에도 멈추지 않는 HTTP 호출을 재현)
+     */
+    private static final class SlowChatModel implements ChatModel {
+
+        static final String CONTENT = "[\"응답\"]";
+
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile boolean firstCallOnly;
+
+        @Override
+        public ChatResponse call(Prompt prompt) {
+            int call = calls.incrementAndGet();
+            if (!firstCallOnly || call == 1) {
+                awaitRelease();
+            }
+            return new ChatResponse(List.of(new Generation(AssistantMessage.builder().content(CONTENT).build())));
+        }
+
+        void blockFirstCallOnly() {
+            firstCallOnly = true;
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        int calls() {
+            return calls.get();
+        }
+
+        private void awaitRelease() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    released.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
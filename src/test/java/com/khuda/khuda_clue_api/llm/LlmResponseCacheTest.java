@@ -0,0 +1,175 @@
+package com.khuda.khuda_clue_api.llm;
+
+import com.khuda.khuda_clue_api.config.LlmCacheProperties;
+import com.khuda.khuda_clue_api.entity.LlmResponseCacheEntry;
+import com.khuda.khuda_clue_api.repository.LlmResponseCacheRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class LlmResponseCacheTest {
+
+    private static final LlmOperation OPERATION = LlmOperation.EXPERIENCE_EXTRACTION;
+    private static final String RESPONSE = "[{\"startIdx\": 0, \"endIdx\": 10, \"rankScore\": 0.9}]";
+
+    private LlmResponseCacheRepository repository;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        repository = Mockito.mock(LlmResponseCacheRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("키는 모델·옵션·프롬프트 버전·메시지가 모두 같을 때만 같고, 필드 경계가 달라지면 다르다")
+    void key_shouldDependOnEveryComponent() {
+        // Given
+        LlmResponseCache cache = newCache(true, false);
+        Prompt prompt = prompt("시스템", "자소서");
+
+        // When
+        String key = cache.key("gpt-4o-mini", "t=0.3", "v1", prompt);
+
+        // Then
+        assertThat(cache.key("gpt-4o-mini", "t=0.3", "v1", prompt("시스템", "자소서"))).isEqualTo(key);
+        assertThat(cache.key("gpt-4o-mini", "t=0.3", "v2", prompt)).isNotEqualTo(key);
+        assertThat(cache.key("gpt-4o", "t=0.3", "v1", prompt)).isNotEqualTo(key);
+        assertThat(cache.key("gpt-4o-mini", "t=0.3", "v1", prompt("시스템자", "소서"))).isNotEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("저장 전에는 미스, 저장 후에는 메모리 계층에서 적중하고 절약한 전송량을 집계한다")
+    void get_afterPut_shouldHitMemoryTier() {
+        // Given
+        LlmResponseCache cache = newCache(true, false);
+        String key = cache.key("gpt-4o-mini", "", "v1", prompt("시스템", "자소서"));
+
+        // When
+        String miss = cache.get(OPERATION, key, 100);
+        cache.put(OPERATION, key, "gpt-4o-mini", "v1", RESPONSE);
+        String hit = cache.get(OPERATION, key, 100);
+
+        // Then
+        assertThat(miss).isNull();
+        assertThat(hit).isEqualTo(RESPONSE);
+        assertThat(counter("clue.llm.cache.misses", null)).isEqualTo(1.0);
+        assertThat(counter("clue.llm.cache.hits", "memory")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("clue.llm.cache.bytes_saved").counter().count())
+                .isEqualTo(100.0 + RESPONSE.length());
+        assertThat(meterRegistry.get("clue.llm.cache.hit_ratio").gauge().value()).isEqualTo(0.5);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("메모리 계층 미스 시 DB 계층에서 적중하면 메모리 계층에 다시 올려 이후 조회는 DB를 거치지 않는다")
+    void get_withDatabaseHit_shouldPromoteToMemory() {
+        // Given
+        LlmResponseCache cache = newCache(true, true);
+        when(repository.findByCacheKeyAndExpiresAtAfter(eq("k1"), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(new LlmResponseCacheEntry(
+                        "k1", OPERATION.tag(), "gpt-4o-mini", "v1", RESPONSE, RESPONSE.length(),
+                        LocalDateTime.now().plusHours(1))));
+
+        // When
+        String first = cache.get(OPERATION, "k1", 0);
+        String second = cache.get(OPERATION, "k1", 0);
+
+        // Then
+        assertThat(first).isEqualTo(RESPONSE);
+        assertThat(second).isEqualTo(RESPONSE);
+        assertThat(counter("clue.llm.cache.hits", "database")).isEqualTo(1.0);
+        assertThat(counter("clue.llm.cache.hits", "memory")).isEqualTo(1.0);
+        verify(repository, times(1)).findByCacheKeyAndExpiresAtAfter(eq("k1"), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("DB 계층 조회가 실패하면 예외 없이 미스로 처리한다")
+    void get_withDatabaseFailure_shouldTreatAsMiss() {
+        // Given
+        LlmResponseCache cache = newCache(true, true);
+        when(repository.findByCacheKeyAndExpiresAtAfter(eq("k1"), any(LocalDateTime.class)))
+                .thenThrow(new QueryTimeoutException("lock wait timeout"));
+
+        // When
+        String content = cache.get(OPERATION, "k1", 0);
+
+        // Then
+        assertThat(content).isNull();
+        assertThat(counter("clue.llm.cache.misses", null)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("저장은 두 계층 모두에 기록하고, 무효화는 두 계층에서 모두 제거한다")
+    void putAndEvict_shouldWriteThroughBothTiers() {
+        // Given
+        LlmResponseCache cache = newCache(true, true);
+        when(repository.findByCacheKeyAndExpiresAtAfter(eq("k1"), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+
+        // When
+        cache.put(OPERATION, "k1", "gpt-4o-mini", "v1", RESPONSE);
+        cache.evict("k1");
+
+        // Then
+        verify(repository).save(any(LlmResponseCacheEntry.class));
+        verify(repository).deleteById("k1");
+        assertThat(cache.get(OPERATION, "k1", 0)).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시가 꺼져 있으면 조회·저장 모두 아무 일도 하지 않는다")
+    void disabledCache_shouldBypassBothTiers() {
+        // Given
+        LlmResponseCache cache = newCache(false, true);
+
+        // When
+        cache.put(OPERATION, "k1", "gpt-4o-mini", "v1", RESPONSE);
+        String content = cache.get(OPERATION, "k1", 0);
+
+        // Then
+        assertThat(content).isNull();
+        verify(repository, never()).save(any(LlmResponseCacheEntry.class));
+        verify(repository, never()).findByCacheKeyAndExpiresAtAfter(any(), any());
+    }
+
+    private LlmResponseCache newCache(boolean enabled, boolean persistentEnabled) {
+        LlmCacheProperties properties = new LlmCacheProperties(
+                enabled, DataSize.ofMegabytes(1), Duration.ofHours(1), persistentEnabled);
+        return new LlmResponseCache(properties, repository, meterRegistry);
+    }
+
+    private static Prompt prompt(String system, String user) {
+        return new Prompt(List.of(new SystemMessage(system), new UserMessage(user)));
+    }
+
+    private double counter(String name, String tier) {
+        var search = meterRegistry.get(name).tag("operation", OPERATION.tag());
+        if (tier != null) {
+            search = search.tag("tier", tier);
+        }
+        return search.counter().count();
+    }
+}
@@ -0,0 +1,193 @@
+package com.khuda.khuda_clue_api.llm;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LlmUsageRecorderTest {
+
+    private static final LlmOperation OPERATION = LlmOperation.EXPERIENCE_EXTRACTION;
+    private static final String DEFAULT_MODEL = "gpt-default";
+    private static final String CONTENT = "[{\"title\": \"경험\", \"startIdx\": 0, \"endIdx\": 10, \"rankScore\": 0.9}]";
+
+    private MeterRegistry meterRegistry;
+    private LlmUsageRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        recorder = new LlmUsageRecorder(meterRegistry, DEFAULT_MODEL);
+    }
+
+    @Test
+    @DisplayName("응답 usage가 있으면 보고된 토큰 수를 source=usage로 기록하고 호출 지연을 결과별로 남긴다")
+    void record_withUsage_shouldRecordReportedTokens() {
+        // Given
+        ChatResponse response = response("gpt-fast", new DefaultUsage(1200, 80, 1280, null));
+
+        // When
+        recorder.record(OPERATION, LlmUsageRecorder.OUTCOME_OK, TimeUnit.MILLISECONDS.toNanos(250),
+                prompt(null), response, CONTENT);
+
+        // Then
+        Timer calls = calls("gpt-fast", "ok");
+        assertThat(calls.count()).isEqualTo(1);
+        assertThat(calls.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(250);
+        assertThat(tokens("gpt-fast", "prompt", "usage").totalAmount()).isEqualTo(1200);
+        assertThat(tokens("gpt-fast", "completion", "usage").totalAmount()).isEqualTo(80);
+        assertThat(meterRegistry.find("clue.llm.tokens").tag("source", "estimate").summary()).isNull();
+        assertThat(meterRegistry.find("clue.llm.tokens").tag("type", "cached_prompt").summary()).isNull();
+    }
+
+    @Test
+    @DisplayName("usage 원본에 cached_tokens가 있으면 접두 캐시 적중 토큰을 cached_prompt로 기록한다")
+    void record_withCachedTokens_shouldRecordCachedPrompt() {
+        // Given
+        Map<String, Object> nativeUsage = Map.of(
+                "prompt_tokens", 1200,
+                "prompt_tokens_details", Map.of("cached_tokens", 1024));
+        ChatResponse response = response("gpt-fast", new DefaultUsage(1200, 80, 1280, nativeUsage));
+
+        // When
+        recorder.record(OPERATION, LlmUsageRecorder.OUTCOME_OK, 1_000_000, prompt(null), response, CONTENT);
+
+        // Then
+        assertThat(tokens("gpt-fast", "cached_prompt", "usage").totalAmount()).isEqualTo(1024);
+    }
+
+    @Test
+    @DisplayName("usage가 없으면 프롬프트와 응답 텍스트로 추정한 토큰 수를 source=estimate로 기록한다")
+    void record_withoutUsage_shouldRecordEstimates() {
+        // Given
+        Prompt prompt = prompt(null);
+
+        // When
+        recorder.record(OPERATION, LlmUsageRecorder.OUTCOME_OK, 1_000_000, prompt, null, CONTENT);
+
+        // Then
+        assertThat(tokens(DEFAULT_MODEL, "prompt", "estimate").totalAmount())
+                .isEqualTo(TokenEstimator.estimate(prompt.getContents()));
+        assertThat(tokens(DEFAULT_MODEL, "completion", "estimate").totalAmount())
+                .isEqualTo(TokenEstimator.estimate(CONTENT));
+        assertThat(meterRegistry.find("clue.llm.tokens").tag("source", "usage").summary()).isNull();
+    }
+
+    @Test
+    @DisplayName("usage에 completion 토큰이 없으면 0으로 기록한다")
+    void record_withoutCompletionTokens_shouldRecordZeroCompletion() {
+        // Given
+        ChatResponse response = response("gpt-fast", new DefaultUsage(500, null, 500, null));
+
+        // When
+        recorder.record(OPERATION, LlmUsageRecorder.OUTCOME_EMPTY, 1_000_000, prompt(null), response, "");
+
+        // Then
+        DistributionSummary completion = tokens("gpt-fast", "completion", "usage");
+        assertThat(completion.count()).isEqualTo(1);
+        assertThat(completion.totalAmount()).isZero();
+    }
+
+    @Test
+    @DisplayName("모델 태그는 응답 메타데이터 → 프롬프트 옵션 → 전역 설정 순으로 정한다")
+    void record_shouldResolveModelTag() {
+        // When
+        recorder.record(OPERATION, LlmUsageRecorder.OUTCOME_OK, 1_000_000,
+                prompt("gpt-strong"), response("gpt-fast", null), CONTENT);
+        recorder.record(OPERATION, LlmUsageRecorder.OUTCOME_OK, 1_000_000,
+                prompt("gpt-strong"), null, CONTENT);
+        recorder.record(OPERATION, LlmUsageRecorder.OUTCOME_OK, 1_000_000,
+                prompt(null), null, CONTENT);
+
+        // Then
+        assertThat(calls("gpt-fast", "ok").count()).isEqualTo(1);
+        assertThat(calls("gpt-strong", "ok").count()).isEqualTo(1);
+        assertThat(calls(DEFAULT_MODEL, "ok").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상류 호출이 예외로 끝나면 지연만 outcome=exception으로 기록하고 토큰은 남기지 않는다")
+    void recordFailure_shouldRecordLatencyOnly() {
+        // When
+        recorder.recordFailure(OPERATION, prompt("gpt-fast"), TimeUnit.SECONDS.toNanos(3));
+
+        // Then
+        Timer calls = calls("gpt-fast", "exception");
+        assertThat(calls.count()).isEqualTo(1);
+        assertThat(calls.totalTime(TimeUnit.SECONDS)).isEqualTo(3);
+        assertThat(meterRegistry.find("clue.llm.tokens").summary()).isNull();
+    }
+
+    @Test
+    @DisplayName("결과 태그는 빈 응답이면 empty, 해석에 성공하면 ok, 실패하면 parse_failure다")
+    void outcome_shouldClassifyResponse() {
+        // When & Then
+        assertThat(LlmUsageRecorder.outcome(null, false)).isEqualTo("empty");
+        assertThat(LlmUsageRecorder.outcome("  \n", true)).isEqualTo("empty");
+        assertThat(LlmUsageRecorder.outcome(CONTENT, true)).isEqualTo("ok");
+        assertThat(LlmUsageRecorder.outcome("죄송합니다.", false)).isEqualTo("parse_failure");
+    }
+
+    @Test
+    @DisplayName("cached_tokens는 usage 원본에 정수로 있을 때만 읽는다")
+    void cachedPromptTokens_shouldReadOnlyIntegerField() {
+        // When & Then
+        assertThat(LlmUsageRecorder.cachedPromptTokens(new DefaultUsage(10, 1, 11, null))).isNull();
+        assertThat(LlmUsageRecorder.cachedPromptTokens(new DefaultUsage(10, 1, 11, Map.of("prompt_tokens", 10))))
+                .isNull();
+        assertThat(LlmUsageRecorder.cachedPromptTokens(new DefaultUsage(10, 1, 11,
+                Map.of("prompt_tokens_details", Map.of("cached_tokens", "many"))))).isNull();
+        assertThat(LlmUsageRecorder.cachedPromptTokens(new DefaultUsage(10, 1, 11,
+                Map.of("prompt_tokens_details", Map.of("cached_tokens", 0))))).isZero();
+    }
+
+    // =========================================================
+    // helper
+    // =========================================================
+
+    private static Prompt prompt(String model) {
+        List<Message> messages = List.of(
+                new SystemMessage("너는 JSON만 출력하는 정보 추출기다."), new UserMessage("[입력 자소서]\n자소서 본문"));
+        return model == null
+                ? new Prompt(messages)
+                : new Prompt(messages, ChatOptions.builder().model(model).build());
+    }
+
+    private static ChatResponse response(String model, DefaultUsage usage) {
+        ChatResponseMetadata.Builder metadata = ChatResponseMetadata.builder().model(model);
+        if (usage != null) {
+            metadata.usage(usage);
+        }
+        return new ChatResponse(List.of(new Generation(AssistantMessage.builder().content(CONTENT).build())),
+                metadata.build());
+    }
+
+    private Timer calls(String model, String outcome) {
+        return meterRegistry.get("clue.llm.calls")
+                .tags("operation", OPERATION.tag(), "model", model, "outcome", outcome).timer();
+    }
+
+    private DistributionSummary tokens(String model, String type, String source) {
+        return meterRegistry.get("clue.llm.tokens")
+                .tags("operation", OPERATION.tag(), "model", model, "type", type, "source", source).summary();
+    }
+}
@@ -0,0 +1,177 @@
+package com.khuda.khuda_clue_api.llm;
+
+import com.khuda.khuda_clue_api.config.LlmHedgingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestHedgerTest {
+
+    private static final LlmOperation OPERATION = LlmOperation.FOLLOWUP_QUESTIONS;
+
+    // 느린 1차 요청을 붙잡아 두는 래치 (테스트 종료 시 해제)
+    private final CountDownLatch slowPrimary = new CountDownLatch(1);
+    private final AtomicInteger hedgeRequests = new AtomicInteger();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RequestHedger hedger;
+
+    @AfterEach
+    void tearDown() {
+        slowPrimary.countDown();
+        if (hedger != null) {
+            hedger.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("1차 요청이 헤지 지연 안에 끝나면 2차 요청을 보내지 않는다")
+    void execute_withFastPrimary_shouldNotHedge() {
+        // Given
+        hedger = newHedger(1.0);
+
+        // When
+        String result = hedger.execute(OPERATION, () -> "primary", hedgeReturning("hedge"));
+
+        // Then
+        assertThat(result).isEqualTo("primary");
+        assertThat(hedgeRequests).hasValue(0);
+        assertThat(counter("clue.llm.hedge.fired")).isZero();
+    }
+
+    @Test
+    @DisplayName("1차 요청이 헤지 지연을 넘기면 2차 요청을 보내고 먼저 도착한 응답을 사용한다")
+    void execute_withSlowPrimary_shouldReturnHedgeResult() {
+        // Given
+        hedger = newHedger(1.0);
+
+        // When
+        String result = hedger.execute(OPERATION, blockedUntilReleased("primary"), hedgeReturning("hedge"));
+
+        // Then
+        assertThat(result).isEqualTo("hedge");
+        assertThat(hedgeRequests).hasValue(1);
+        assertThat(counter("clue.llm.hedge.fired")).isEqualTo(1.0);
+        assertThat(counter("clue.llm.hedge.won")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("헤지 예산이 없으면 2차 요청 없이 1차 요청을 끝까지 기다린다")
+    void execute_withoutBudget_shouldWaitForPrimary() {
+        // Given - 요청당 적립 0
+        hedger = newHedger(0.0);
+
+        // When
+        String result = hedger.execute(OPERATION, sleeping("primary", 200), hedgeReturning("hedge"));
+
+        // Then
+        assertThat(result).isEqualTo("primary");
+        assertThat(hedgeRequests).hasValue(0);
+        assertThat(counter("clue.llm.hedge.fired")).isZero();
+    }
+
+    @Test
+    @DisplayName("요청/토큰 예산을 확보하지 못해 2차 요청을 만들지 못하면 헤지 예산을 돌려준다")
+    void execute_withHedgeNotAdmitted_shouldRefundBudget() {
+        // Given
+        hedger = newHedger(1.0);
+
+        // When
+        String result = hedger.execute(OPERATION, sleeping("primary", 200), () -> null);
+
+        // Then - 적립된 1만큼 그대로 남음
+        assertThat(result).isEqualTo("primary");
+        assertThat(meterRegistry.get("clue.llm.hedge.budget").gauge().value()).isEqualTo(1.0);
+        assertThat(counter("clue.llm.hedge.fired")).isZero();
+    }
+
+    @Test
+    @DisplayName("먼저 끝난 요청이 실패하면 나머지 요청의 결과를 기다리고, 둘 다 실패하면 예외를 전달한다")
+    void execute_withFailures_shouldWaitForOtherAttempt() {
+        // Given
+        hedger = newHedger(1.0);
+        Supplier<String> failingAfterDelay = () -> {
+            sleeping("unused", 100).get();
+            throw new IllegalStateException("primary failed");
+        };
+
+        // When - 1차 실패, 2차 성공
+        String result = hedger.execute(OPERATION, failingAfterDelay, () -> sleeping("hedge", 200));
+
+        // Then
+        assertThat(result).isEqualTo("hedge");
+
+        // When & Then - 둘 다 실패
+        assertThatThrownBy(() -> hedger.execute(OPERATION, failingAfterDelay, () -> () -> {
+            throw new IllegalStateException("hedge failed");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("1차 요청이 헤지 지연 전에 실패하면 2차 요청 없이 예외를 그대로 전달한다")
+    void execute_withPrimaryFailingFast_shouldPropagateWithoutHedge() {
+        // Given
+        hedger = newHedger(1.0);
+        LlmTimeoutException timeout = new LlmTimeoutException("LLM followup-questions timed out");
+
+        // When & Then
+        assertThatThrownBy(() -> hedger.execute(OPERATION, () -> {
+            throw timeout;
+        }, hedgeReturning("hedge"))).isSameAs(timeout);
+        assertThat(hedgeRequests).hasValue(0);
+    }
+
+    /**
+     * 샘플 수를 minSamples 미만으로 두어 헤지 지연은 항상 fallbackDelay(50ms)
+     */
+    private RequestHedger newHedger(double budgetRatio) {
+        LlmHedgingProperties properties = new LlmHedgingProperties(
+                true, 95, 10, 1_000, Duration.ofMillis(50), Duration.ofMillis(10), Duration.ofSeconds(1),
+                budgetRatio, 10);
+        return new RequestHedger(properties, meterRegistry, false);
+    }
+
+    private Supplier<Supplier<String>> hedgeReturning(String value) {
+        return () -> {
+            hedgeRequests.incrementAndGet();
+            return () -> value;
+        };
+    }
+
+    private Supplier<String> blockedUntilReleased(String value) {
+        return () -> {
+            try {
+                slowPrimary.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return value;
+        };
+    }
+
+    private static Supplier<String> sleeping(String value, long millis) {
+        return () -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return value;
+        };
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).tag("operation", OPERATION.tag()).counter().count();
+    }
+}
@@ -0,0 +1,102 @@
+package com.khuda.khuda_clue_api.llm;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TokenBucketTest {
+
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    // 분당 60 = 초당 1
+    private TokenBucket bucket;
+
+    @BeforeEach
+    void setUp() {
+        bucket = new TokenBucket(60, clock::get);
+    }
+
+    @Test
+    @DisplayName("잔량이 충분하면 대기 없이 차감하고, 부족하면 채워질 때까지의 대기 시간을 돌려준다")
+    void reserve_shouldReturnWaitUntilRefilled() {
+        // When
+        long first = bucket.reserve(60, 0);
+        long second = bucket.reserve(2, 5 * ONE_SECOND);
+
+        // Then - 두 번째 예약은 선차감되고 2초를 기다려야 함
+        assertThat(first).isZero();
+        assertThat(second).isCloseTo(2 * ONE_SECOND, within(1_000L));
+        assertThat(bucket.available()).isCloseTo(-2, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("대기 시간이 한도를 넘으면 차감하지 않고 -1을 돌려준다")
+    void reserve_withWaitOverLimit_shouldRejectWithoutDeducting() {
+        // Given
+        bucket.reserve(60, 0);
+
+        // When
+        long wait = bucket.reserve(10, 5 * ONE_SECOND);
+
+        // Then
+        assertThat(wait).isEqualTo(-1);
+        assertThat(bucket.available()).isCloseTo(0, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("경과 시간에 비례해 충전되고 용량을 넘지 않는다")
+    void available_shouldRefillByElapsedTimeUpToCapacity() {
+        // Given
+        bucket.reserve(60, 0);
+
+        // When
+        clock.addAndGet(30 * ONE_SECOND);
+
+        // Then
+        assertThat(bucket.available()).isCloseTo(30, within(1e-6));
+
+        // When
+        clock.addAndGet(120 * ONE_SECOND);
+
+        // Then
+        assertThat(bucket.available()).isCloseTo(60, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("환불은 용량을 넘지 않고, 0 이하 수량은 무시한다")
+    void refund_shouldBeCappedAtCapacity() {
+        // Given
+        bucket.reserve(10, 0);
+
+        // When
+        bucket.refund(-5);
+
+        // Then
+        assertThat(bucket.available()).isCloseTo(50, within(1e-6));
+
+        // When
+        bucket.refund(20);
+
+        // Then
+        assertThat(bucket.available()).isCloseTo(60, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("용량보다 큰 요청은 용량만큼만 예약해 영원히 대기하지 않는다")
+    void reserve_withPermitsOverCapacity_shouldClampToCapacity() {
+        // When
+        long wait = bucket.reserve(1_000, 0);
+
+        // Then
+        assertThat(wait).isZero();
+        assertThat(bucket.available()).isCloseTo(0, within(1e-6));
+    }
+}
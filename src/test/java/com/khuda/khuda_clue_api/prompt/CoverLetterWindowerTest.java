@@ -0,0 +1,187 @@
+package com.khuda.khuda_clue_api.prompt;
+
+import com.khuda.khuda_clue_api.config.ContextWindowProperties;
+import com.khuda.khuda_clue_api.entity.Experience;
+import com.khuda.khuda_clue_api.llm.LlmOperation;
+import com.khuda.khuda_clue_api.llm.TokenEstimator;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoverLetterWindowerTest {
+
+    private static final LlmOperation OPERATION = LlmOperation.FOLLOWUP_QUESTIONS;
+    private static final List<String> SENTENCES = List.of(
+            "저는 대학 시절 여러 동아리에서 활동했습니다.",
+            "그중 개발 동아리에서 가장 오래 활동했습니다.",
+            "2학년 때 출석 관리 서비스의 백엔드를 맡았습니다.",
+            "조회 쿼리에 인덱스를 추가해 응답 시간을 800ms에서 120ms로 줄였습니다.",
+            "이 개선으로 학기 말 사용자가 두 배로 늘었습니다.",
+            "이후 다른 동아리에도 서비스를 소개했습니다.",
+            "입사 후에도 성능 개선에 힘쓰겠습니다.");
+    private static final String COVER_LETTER = String.join(" ", SENTENCES);
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("비활성이면 자소서 전체를 그대로 보내고 메트릭을 남기지 않는다")
+    void excerpt_whenDisabled_shouldReturnFullText() {
+        // Given
+        CoverLetterWindower windower = newWindower(false, 2, 2, 1200);
+
+        // When
+        String excerpt = windower.excerpt(OPERATION, COVER_LETTER, selected(3));
+
+        // Then
+        assertThat(excerpt).isSameAs(COVER_LETTER);
+        assertThat(meterRegistry.find("clue.prompt.context_tokens_saved").summary()).isNull();
+    }
+
+    @Test
+    @DisplayName("선택 구간 앞뒤로 설정한 문장 수만큼 덧붙이고 잘린 쪽에 (…) 표시를 붙인다")
+    void excerpt_shouldAddSentencesAroundSelectedSpan() {
+        // Given
+        CoverLetterWindower windower = newWindower(true, 2, 2, 1200);
+
+        // When
+        String excerpt = windower.excerpt(OPERATION, COVER_LETTER, selected(3));
+
+        // Then
+        assertThat(excerpt).isEqualTo("(…)\n" + join(1, 5) + "\n(…)");
+    }
+
+    @Test
+    @DisplayName("선택 구간이 문장 중간에 걸치면 그 문장 전체를 핵심으로 삼는다")
+    void excerpt_withSpanInsideSentence_shouldExpandToSentenceBoundaries() {
+        // Given
+        CoverLetterWindower windower = newWindower(true, 0, 0, 1200);
+        int sentenceStart = COVER_LETTER.indexOf(SENTENCES.get(3));
+        Experience experience = new Experience(1L, "인덱스 추가", sentenceStart + 5, sentenceStart + 15, 0.9, true);
+
+        // When
+        String excerpt = windower.excerpt(OPERATION, COVER_LETTER, experience);
+
+        // Then
+        assertThat(excerpt).isEqualTo("(…)\n" + SENTENCES.get(3) + "\n(…)");
+    }
+
+    @Test
+    @DisplayName("앞뒤 문장을 번갈아 덧붙이다가 토큰 상한을 넘기기 직전에서 멈춘다")
+    void excerpt_shouldStopGrowingBeforeTokenLimit() {
+        // Given - 선택 문장 + 앞뒤 1문장씩까지만 들어가는 상한
+        int maxTokens = TokenEstimator.estimate(join(2, 4));
+        CoverLetterWindower windower = newWindower(true, 2, 2, maxTokens);
+
+        // When
+        String excerpt = windower.excerpt(OPERATION, COVER_LETTER, selected(3));
+
+        // Then
+        assertThat(excerpt).isEqualTo("(…)\n" + join(2, 4) + "\n(…)");
+    }
+
+    @Test
+    @DisplayName("선택 구간 자체가 상한을 넘으면 구간 시작부터 상한까지만 보낸다")
+    void excerpt_whenSpanExceedsLimit_shouldTruncateFromSpanStart() {
+        // Given
+        int maxTokens = 10;
+        CoverLetterWindower windower = newWindower(true, 2, 2, maxTokens);
+        String span = join(2, 4);
+        int start = COVER_LETTER.indexOf(span);
+        Experience experience = new Experience(1L, "백엔드", start, start + span.length(), 0.9, true);
+
+        // When
+        String excerpt = windower.excerpt(OPERATION, COVER_LETTER, experience);
+
+        // Then
+        String body = excerpt.substring("(…)\n".length(), excerpt.length() - "\n(…)".length());
+        assertThat(excerpt).startsWith("(…)\n").endsWith("\n(…)");
+        assertThat(span).startsWith(body);
+        assertThat(TokenEstimator.estimate(body)).isEqualTo(maxTokens);
+        assertThat(TokenEstimator.estimate(span.substring(0, body.length() + 1))).isGreaterThan(maxTokens);
+    }
+
+    @Test
+    @DisplayName("발췌가 원문 전체이면 (…) 표시 없이 원문을 그대로 보낸다")
+    void excerpt_whenWindowCoversWholeText_shouldReturnFullText() {
+        // Given
+        CoverLetterWindower windower = newWindower(true, 10, 10, 1200);
+
+        // When
+        String excerpt = windower.excerpt(OPERATION, COVER_LETTER, selected(3));
+
+        // Then
+        assertThat(excerpt).isEqualTo(COVER_LETTER);
+        assertThat(savedTokens().count()).isEqualTo(1);
+        assertThat(savedTokens().totalAmount()).isZero();
+    }
+
+    @Test
+    @DisplayName("원문 대비 줄어든 추정 토큰 수를 작업별 분포 메트릭에 기록한다")
+    void excerpt_shouldRecordSavedTokens() {
+        // Given
+        CoverLetterWindower windower = newWindower(true, 1, 1, 1200);
+
+        // When
+        String excerpt = windower.excerpt(OPERATION, COVER_LETTER, selected(3));
+
+        // Then
+        DistributionSummary saved = savedTokens();
+        assertThat(saved.count()).isEqualTo(1);
+        assertThat(saved.totalAmount())
+                .isEqualTo(TokenEstimator.estimate(COVER_LETTER) - TokenEstimator.estimate(excerpt));
+        assertThat(saved.totalAmount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("인덱스가 비었거나 원문 범위를 벗어나도 원문 범위로 잘라 발췌한다")
+    void excerpt_withOutOfRangeIndices_shouldClamp() {
+        // Given
+        CoverLetterWindower windower = newWindower(true, 0, 1, 1200);
+        Experience nullIndices = new Experience(1L, "경험", null, null, 0.9, true);
+        Experience beyondEnd = new Experience(1L, "경험", COVER_LETTER.length() - 3, COVER_LETTER.length() + 50, 0.9, true);
+
+        // When
+        String fromStart = windower.excerpt(OPERATION, COVER_LETTER, nullIndices);
+        String atEnd = windower.excerpt(OPERATION, COVER_LETTER, beyondEnd);
+
+        // Then
+        assertThat(fromStart).isEqualTo(join(0, 1) + "\n(…)");
+        assertThat(atEnd).isEqualTo("(…)\n" + SENTENCES.get(6));
+    }
+
+    // =========================================================
+    // helper
+    // =========================================================
+
+    private CoverLetterWindower newWindower(boolean enabled, int before, int after, int maxTokens) {
+        return new CoverLetterWindower(new ContextWindowProperties(enabled, before, after, maxTokens), meterRegistry);
+    }
+
+    private DistributionSummary savedTokens() {
+        return meterRegistry.get("clue.prompt.context_tokens_saved").tag("operation", OPERATION.tag()).summary();
+    }
+
+    /**
+     * SENTENCES[index] 한 문장 전체를 선택한 경험
+     */
+    private static Experience selected(int index) {
+        int start = COVER_LETTER.indexOf(SENTENCES.get(index));
+        return new Experience(1L, "경험", start, start + SENTENCES.get(index).length(), 0.9, true);
+    }
+
+    private static String join(int from, int toInclusive) {
+        return String.join(" ", SENTENCES.subList(from, toInclusive + 1));
+    }
+}
@@ -0,0 +1,253 @@
+package com.khuda.khuda_clue_api.prompt;
+
+import com.khuda.khuda_clue_api.domain.QuestionType;
+import com.khuda.khuda_clue_api.entity.FollowupQuestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PromptTemplatesTest {
+
+    private static final String COVER_LETTER = "동아리 회장으로 50명 규모 해커톤을 기획해 참가 신청을 2배로 늘렸습니다.";
+
+    private PromptTemplates templates;
+
+    @BeforeEach
+    void setUp() {
+        templates = new PromptTemplates();
+    }
+
+    // =========================================================
+    // 사용자 프롬프트 (골든 문자열)
+    // =========================================================
+
+    @Test
+    @DisplayName("경험 추출 사용자 프롬프트는 자소서만 담은 고정 형식으로 렌더링된다")
+    void experienceUserPrompt_shouldMatchGolden() {
+        // When
+        String prompt = templates.experienceUserPrompt(COVER_LETTER);
+
+        // Then
+        assertThat(prompt).isEqualTo("""
+                [입력 자소서]
+                동아리 회장으로 50명 규모 해커톤을 기획해 참가 신청을 2배로 늘렸습니다.
+                """);
+    }
+
+    @Test
+    @DisplayName("STAR 질문 사용자 프롬프트는 경험 제목과 자소서를 고정 형식으로 렌더링한다")
+    void questionUserPrompt_shouldMatchGolden() {
+        // When
+        String prompt = templates.questionUserPrompt("해커톤 기획", COVER_LETTER);
+
+        // Then
+        assertThat(prompt).isEqualTo("""
+                [선택된 경험]
+                해커톤 기획
+
+                [자소서 원문]
+                동아리 회장으로 50명 규모 해커톤을 기획해 참가 신청을 2배로 늘렸습니다.
+                """);
+    }
+
+    @Test
+    @DisplayName("면접 추천 사용자 프롬프트는 질문 순서대로 Q&A를 나열하고 답변이 없으면 (답변 없음)으로 채운다")
+    void recommendationUserPrompt_shouldMatchGolden() {
+        // Given
+        List<FollowupQuestion> questions = List.of(
+                question(1L, QuestionType.S, "해커톤은 언제 열렸나요?"),
+                question(2L, QuestionType.R, "참가 신청은 몇 명에서 몇 명으로 늘었나요?"));
+        Map<Long, String> answers = new HashMap<>();
+        answers.put(1L, "작년 11월입니다.");
+
+        // When
+        String prompt = templates.recommendationUserPrompt(COVER_LETTER, questions, answers);
+
+        // Then
+        assertThat(prompt).isEqualTo("""
+                [자소서 원문]
+                동아리 회장으로 50명 규모 해커톤을 기획해 참가 신청을 2배로 늘렸습니다.
+
+                [STAR Q&A]
+                [S]
+                질문: 해커톤은 언제 열렸나요?
+                답변: 작년 11월입니다.
+
+                [R]
+                질문: 참가 신청은 몇 명에서 몇 명으로 늘었나요?
+                답변: (답변 없음)
+                """);
+    }
+
+    // =========================================================
+    // 기존 인라인 프롬프트(String.formatted)와의 동등성
+    // =========================================================
+
+    @Test
+    @DisplayName("경험 추출 시스템 프롬프트의 1-shot 예시는 기존 인라인 formatted 구성과 같다")
+    void experienceSystemPrompt_shouldEmbedLegacyOneShotExample() {
+        // Given - 템플릿 도입 전 buildOneShotExampleSection과 같은 방식으로 구성
+        String example = loadResource("experience-extraction-example-coverletter.txt");
+        int[] e1 = legacyBoundaries(example, "1인 브랜드 운영자였던 만큼", "극대화하겠습니다.");
+        int[] e2 = legacyBoundaries(example,
+                "콘텐츠팀 인턴으로 근무하며 신규 사업체의 SNS 콘텐츠를 제작했던 경험이 있습니다.", "SNS 콘텐츠를 제작했습니다.");
+        int[] e3 = legacyBoundaries(example,
+                "인턴십 종료 후에는 직접 촬영한 사진을 기반으로 하는 브랜드 론칭에 도전했습니다.", "매출을 신장할 수 있었습니다.");
+        String legacyOneShot = """
+                [예시 - 1 shot]
+                아래는 "입력 자소서 → 출력 JSON" 예시다. (형식/인덱스 기준을 그대로 따라라.)
+
+                [예시 입력 자소서]
+                %s
+
+                [예시 출력 JSON]
+                [
+                  {
+                    "title": "%s",
+                    "startIdx": %d,
+                    "endIdx": %d,
+                    "rankScore": 0.65
+                  },
+                  {
+                    "title": "%s",
+                    "startIdx": %d,
+                    "endIdx": %d,
+                    "rankScore": 0.75
+                  },
+                  {
+                    "title": "%s",
+                    "startIdx": %d,
+                    "endIdx": %d,
+                    "rankScore": 0.85
+                  }
+                ]
+                """.formatted(
+                example,
+                "개인브랜드 운영 및 트렌드 분석", e1[0], e1[1],
+                "콘텐츠팀 인턴 SNS 콘텐츠 제작", e2[0], e2[1],
+                "브랜드 론칭 및 매출 신장", e3[0], e3[1]);
+
+        // When
+        String systemPrompt = templates.experienceSystemPrompt();
+
+        // Then
+        assertThat(systemPrompt).contains("\n\n" + legacyOneShot + "\n\n[과제]\n");
+        assertThat(systemPrompt).startsWith("너는 JSON만 출력하는 정보 추출기다.\n");
+        assertThat(systemPrompt).doesNotContain("{{");
+    }
+
+    @Test
+    @DisplayName("면접 추천 Q&A 구간은 기존 String.format 반복 + trim 결과와 같다")
+    void recommendationUserPrompt_shouldMatchLegacyStarQnaFormatting() {
+        // Given
+        List<FollowupQuestion> questions = List.of(
+                question(1L, QuestionType.S, "상황 질문"),
+                question(2L, QuestionType.T, "과제 질문"),
+                question(3L, QuestionType.A, "행동 질문"),
+                question(4L, QuestionType.R, "결과 질문"));
+        Map<Long, String> answers = new HashMap<>();
+        answers.put(1L, "상황 답변");
+        answers.put(3L, "행동 답변\n두 줄째");
+        answers.put(4L, "결과 답변   ");
+
+        StringBuilder legacyQnA = new StringBuilder();
+        for (FollowupQuestion q : questions) {
+            String answerText = answers.getOrDefault(q.getId(), "(답변 없음)");
+            legacyQnA.append(String.format("""
+                    [%s]
+                    질문: %s
+                    답변: %s
+
+                    """, q.getType().name(), q.getQuestionText(), answerText));
+        }
+        String legacy = """
+                [자소서 원문]
+                %s
+
+                [STAR Q&A]
+                %s
+                """.formatted(COVER_LETTER, legacyQnA.toString().trim());
+
+        // When
+        String prompt = templates.recommendationUserPrompt(COVER_LETTER, questions, answers);
+
+        // Then
+        assertThat(prompt).isEqualTo(legacy);
+    }
+
+    @Test
+    @DisplayName("리소스를 String.formatted로 채운 결과와 템플릿 렌더링 결과가 같다")
+    void userPrompts_shouldMatchFormattedRendering() {
+        // Given
+        String title = "해커톤 기획";
+
+        // When & Then
+        assertThat(templates.experienceUserPrompt(COVER_LETTER))
+                .isEqualTo(formatted("experience-user.txt", List.of("coverLetter"), COVER_LETTER));
+        assertThat(templates.questionUserPrompt(title, COVER_LETTER))
+                .isEqualTo(formatted("question-user.txt", List.of("experienceTitle", "coverLetter"), title, COVER_LETTER));
+    }
+
+    @Test
+    @DisplayName("값 안의 자리표시자나 서식 문자는 다시 해석하지 않고 그대로 넣는다")
+    void userPrompts_withPlaceholderLikeValues_shouldNotReexpand() {
+        // Given
+        String coverLetter = "전환율을 100% 올렸고 {{coverLetter}} 와 %s 같은 문자열도 그대로 둡니다.";
+
+        // When
+        String experience = templates.experienceUserPrompt(coverLetter);
+        String question = templates.questionUserPrompt("{{experienceTitle}}", coverLetter);
+
+        // Then
+        assertThat(experience).isEqualTo("[입력 자소서]\n" + coverLetter + "\n");
+        assertThat(question).isEqualTo("[선택된 경험]\n{{experienceTitle}}\n\n[자소서 원문]\n" + coverLetter + "\n");
+    }
+
+    // =========================================================
+    // helper
+    // =========================================================
+
+    private static FollowupQuestion question(Long id, QuestionType type, String text) {
+        FollowupQuestion question = new FollowupQuestion(10L, type, text);
+        ReflectionTestUtils.setField(question, "id", id);
+        return question;
+    }
+
+    private static int[] legacyBoundaries(String fullText, String startAnchor, String endAnchor) {
+        int start = fullText.indexOf(startAnchor);
+        int endAnchorIdx = fullText.indexOf(endAnchor, start);
+        assertThat(start).isNotNegative();
+        assertThat(endAnchorIdx).isNotNegative();
+        return new int[]{start, endAnchorIdx + endAnchor.length()};
+    }
+
+    /**
+     * {{name}} 자리표시자를 위치 지정 서식(%N$s)으로 바꿔 String.formatted로 채운다 (템플릿 도입 전 방식)
+     */
+    private static String formatted(String fileName, List<String> parameters, Object... values) {
+        String format = loadResource(fileName).replace("%", "%%");
+        for (int i = 0; i < parameters.size(); i++) {
+            format = format.replace("{{" + parameters.get(i) + "}}", "%" + (i + 1) + "$s");
+        }
+        return format.formatted(values);
+    }
+
+    private static String loadResource(String fileName) {
+        try (InputStream is = PromptTemplatesTest.class.getResourceAsStream("/prompt/" + fileName)) {
+            assertThat(is).as("prompt resource %s", fileName).isNotNull();
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.khuda.khuda_clue_api.prompt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SentenceSegmenterTest {
+
+    @Test
+    @DisplayName("종결 부호 뒤에 공백이 오면 문장을 나누고, 각 문장은 앞뒤 공백 없이 원문 구간을 가리킨다")
+    void split_shouldSplitOnTerminalFollowedByWhitespace() {
+        // Given
+        String text = "  팀장을 맡았습니다.   일정을 다시 짰습니다! 결과는 어땠을까요?  ";
+
+        // When
+        List<String> sentences = texts(text);
+
+        // Then
+        assertThat(sentences).containsExactly("팀장을 맡았습니다.", "일정을 다시 짰습니다!", "결과는 어땠을까요?");
+    }
+
+    @Test
+    @DisplayName("부호 뒤에 공백이 없는 소수점·버전 표기는 문장 경계가 아니다")
+    void split_withDecimalAndVersion_shouldNotSplit() {
+        // Given
+        String text = "학점은 3.5점이었고 v1.2 배포를 맡았습니다. 다음 문장입니다.";
+
+        // When
+        List<String> sentences = texts(text);
+
+        // Then
+        assertThat(sentences).containsExactly("학점은 3.5점이었고 v1.2 배포를 맡았습니다.", "다음 문장입니다.");
+    }
+
+    @Test
+    @DisplayName("종결 부호 뒤의 닫는 따옴표·괄호와 연속 부호는 앞 문장에 포함된다")
+    void split_withClosersAndRepeatedTerminals_shouldKeepThemInSentence() {
+        // Given
+        String text = "\"끝까지 해보자.\" 라고 말했습니다(정말로!) 그래서... 해냈습니다.";
+
+        // When
+        List<String> sentences = texts(text);
+
+        // Then
+        assertThat(sentences).containsExactly("\"끝까지 해보자.\"", "라고 말했습니다(정말로!)", "그래서...", "해냈습니다.");
+    }
+
+    @Test
+    @DisplayName("줄바꿈은 종결 부호가 없어도 문장 경계이고 빈 줄은 문장이 되지 않는다")
+    void split_withNewlines_shouldAlwaysSplit() {
+        // Given
+        String text = "[지원 동기]\r\n\r\n저는 데이터를 좋아합니다\n- 항목 하나";
+
+        // When
+        List<String> sentences = texts(text);
+
+        // Then
+        assertThat(sentences).containsExactly("[지원 동기]", "저는 데이터를 좋아합니다", "- 항목 하나");
+    }
+
+    @Test
+    @DisplayName("빈 문자열이나 공백뿐인 텍스트는 문장이 없다")
+    void split_withBlankText_shouldReturnEmpty() {
+        // When & Then
+        assertThat(SentenceSegmenter.split("")).isEmpty();
+        assertThat(SentenceSegmenter.split(" \n\t ")).isEmpty();
+    }
+
+    private static List<String> texts(String text) {
+        return SentenceSegmenter.split(text).stream()
+                .map(sentence -> text.substring(sentence.start(), sentence.end()))
+                .toList();
+    }
+}
@@ -0,0 +1,194 @@
+package com.khuda.khuda_clue_api.service;
+
+import com.khuda.khuda_clue_api.config.ContextWindowProperties;
+import com.khuda.khuda_clue_api.domain.ApplicationStatus;
+import com.khuda.khuda_clue_api.domain.ClaimStage;
+import com.khuda.khuda_clue_api.domain.QuestionEngine;
+import com.khuda.khuda_clue_api.domain.QuestionType;
+import com.khuda.khuda_clue_api.dto.response.GenerateFollowupQuestionsResponse;
+import com.khuda.khuda_clue_api.entity.Application;
+import com.khuda.khuda_clue_api.entity.Experience;
+import com.khuda.khuda_clue_api.entity.FollowupQuestion;
+import com.khuda.khuda_clue_api.llm.LlmTimeoutException;
+import com.khuda.khuda_clue_api.llm.LlmUnavailableException;
+import com.khuda.khuda_clue_api.outbox.OutboxPublisher;
+import com.khuda.khuda_clue_api.prompt.CoverLetterWindower;
+import com.khuda.khuda_clue_api.repository.ApplicationRepository;
+import com.khuda.khuda_clue_api.repository.ExperienceRepository;
+import com.khuda.khuda_clue_api.repository.FollowupAnswerRepository;
+import com.khuda.khuda_clue_api.repository.FollowupQuestionRepository;
+import com.khuda.khuda_clue_api.repository.PipelineJobRepository;
+import com.khuda.khuda_clue_api.similarity.NearDuplicateExtractionReuser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LLM STAR 질문 생성이 503·504로 실패했을 때 템플릿 질문으로 대체하는 경로 (clue.template-questions.enabled=true)
+ */
+class ApplicationServiceQuestionFallbackTest {
+
+    private static final Long APPLICATION_ID = 1L;
+    private static final Long EXPERIENCE_ID = 10L;
+    private static final String COVER_LETTER =
+            "저는 마케팅 인턴으로 일하며 SNS 캠페인을 기획했습니다. 그 결과 참여율을 30% 높였습니다.";
+
+    private MeterRegistry meterRegistry;
+    private Application application;
+    private FollowupQuestionGenerationService llmQuestionService;
+    private FollowupQuestionRepository followupQuestionRepository;
+    private ApplicationService applicationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        application = new Application("applicant-1", COVER_LETTER);
+        ReflectionTestUtils.setField(application, "id", APPLICATION_ID);
+        application.updateStatus(ApplicationStatus.EXPERIENCE_SELECTED);
+        Experience experience = new Experience(APPLICATION_ID, "마케팅 인턴", 0, COVER_LETTER.length(), 0.9, true);
+        ReflectionTestUtils.setField(experience, "id", EXPERIENCE_ID);
+
+        ApplicationRepository applicationRepository = Mockito.mock(ApplicationRepository.class);
+        Mockito.when(applicationRepository.findById(APPLICATION_ID)).thenReturn(Optional.of(application));
+        Mockito.when(applicationRepository.findByIdForUpdate(APPLICATION_ID)).thenReturn(Optional.of(application));
+        ExperienceRepository experienceRepository = Mockito.mock(ExperienceRepository.class);
+        Mockito.when(experienceRepository.findByApplicationIdAndIsSelectedTrue(APPLICATION_ID))
+                .thenReturn(Optional.of(experience));
+        followupQuestionRepository = Mockito.mock(FollowupQuestionRepository.class);
+        Mockito.when(followupQuestionRepository.saveAll(Mockito.anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // 단일 실행 합치기와 트랜잭션은 이 테스트의 관심사가 아니므로 바로 실행
+        StageSingleFlight stageSingleFlight = Mockito.mock(StageSingleFlight.class);
+        Mockito.when(stageSingleFlight.execute(Mockito.eq(APPLICATION_ID), Mockito.eq(ClaimStage.GENERATE_FOLLOWUP_QUESTIONS),
+                        Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(3).get());
+        TransactionTemplate transactionTemplate = Mockito.mock(TransactionTemplate.class);
+        Mockito.when(transactionTemplate.execute(Mockito.any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        llmQuestionService = Mockito.mock(FollowupQuestionGenerationService.class);
+        applicationService = new ApplicationService(
+                applicationRepository,
+                experienceRepository,
+                followupQuestionRepository,
+                Mockito.mock(FollowupAnswerRepository.class),
+                Mockito.mock(PipelineJobRepository.class),
+                Mockito.mock(ExperienceExtractionService.class),
+                Optional.empty(),
+                llmQuestionService,
+                Optional.of(new TemplateFollowupQuestionGenerationService(meterRegistry)),
+                Mockito.mock(InterviewRecommendationService.class),
+                Optional.empty(),
+                Mockito.mock(NearDuplicateExtractionReuser.class),
+                stageSingleFlight,
+                Mockito.mock(OutboxPublisher.class),
+                new CoverLetterWindower(new ContextWindowProperties(false, 2, 2, 1200), meterRegistry),
+                transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("LLM 질문 생성이 타임아웃(504)이면 템플릿 질문 4개를 저장하고 reason=timeout으로 집계한다")
+    void generateFollowupQuestions_whenLlmTimesOut_shouldFallBackToTemplate() {
+        // Given
+        Mockito.when(llmQuestionService.generateFollowupQuestions(Mockito.eq(EXPERIENCE_ID), Mockito.any(), Mockito.any()))
+                .thenThrow(new LlmTimeoutException("LLM call timed out"));
+
+        // When
+        GenerateFollowupQuestionsResponse response = applicationService.generateFollowupQuestions(APPLICATION_ID);
+
+        // Then
+        assertThat(response.status()).isEqualTo(ApplicationStatus.QUESTIONS_SENT);
+        assertThat(response.questions()).hasSize(4);
+        assertThat(application.getStatus()).isEqualTo(ApplicationStatus.QUESTIONS_SENT);
+        assertThat(fallbacks("timeout")).isEqualTo(1);
+        assertThat(meterRegistry.find("clue.template_questions.fallbacks").tag("reason", "llm_unavailable").counter())
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("스트리밍 질문 생성이 타임아웃이면 템플릿 질문을 콜백으로 전달하고 reason=timeout으로 집계한다")
+    void streamFollowupQuestions_whenLlmTimesOut_shouldStreamTemplateQuestions() {
+        // Given
+        Mockito.when(llmQuestionService.streamFollowupQuestions(
+                        Mockito.eq(EXPERIENCE_ID), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenThrow(new LlmTimeoutException("LLM call timed out"));
+        List<FollowupQuestion> streamed = new ArrayList<>();
+
+        // When
+        applicationService.streamFollowupQuestions(APPLICATION_ID, streamed::add);
+
+        // Then
+        assertThat(streamed).extracting(FollowupQuestion::getType)
+                .containsExactly(QuestionType.S, QuestionType.T, QuestionType.A, QuestionType.R);
+        assertThat(streamed).extracting(FollowupQuestion::getEngine).containsOnly(QuestionEngine.TEMPLATE);
+        assertThat(fallbacks("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스트리밍 중 질문 2개를 보낸 뒤 503으로 끊기면 템플릿 질문을 덧붙이지 않고 저장 없이 실패한다")
+    void streamFollowupQuestions_whenLlmFailsAfterQuestionsSent_shouldNotFallBack() {
+        // Given - S·T 질문을 보낸 뒤 유량 제어 거절
+        Mockito.when(llmQuestionService.streamFollowupQuestions(
+                        Mockito.eq(EXPERIENCE_ID), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> {
+                    Consumer<FollowupQuestion> onQuestion = invocation.getArgument(3);
+                    onQuestion.accept(new FollowupQuestion(EXPERIENCE_ID, QuestionType.S, "LLM S 질문"));
+                    onQuestion.accept(new FollowupQuestion(EXPERIENCE_ID, QuestionType.T, "LLM T 질문"));
+                    throw new LlmUnavailableException("LLM rate limited", Duration.ofSeconds(5));
+                });
+        List<FollowupQuestion> streamed = new ArrayList<>();
+
+        // When & Then - 503 그대로 전달 (error 이벤트로 종료)
+        assertThatThrownBy(() -> applicationService.streamFollowupQuestions(APPLICATION_ID, streamed::add))
+                .isInstanceOf(LlmUnavailableException.class);
+        assertThat(streamed).extracting(FollowupQuestion::getQuestionText)
+                .containsExactly("LLM S 질문", "LLM T 질문");
+        assertThat(meterRegistry.find("clue.template_questions.fallbacks").counter()).isNull();
+        Mockito.verify(followupQuestionRepository, Mockito.never()).saveAll(Mockito.anyList());
+        assertThat(application.getStatus()).isEqualTo(ApplicationStatus.EXPERIENCE_SELECTED);
+    }
+
+    @Test
+    @DisplayName("한도·브레이커(503)로 실패하면 reason=llm_unavailable로 집계한다")
+    void generateFollowupQuestions_whenLlmUnavailable_shouldTagLlmUnavailable() {
+        // Given
+        Mockito.when(llmQuestionService.generateFollowupQuestions(Mockito.eq(EXPERIENCE_ID), Mockito.any(), Mockito.any()))
+                .thenThrow(new LlmUnavailableException("LLM circuit open", Duration.ofSeconds(5)));
+
+        // When
+        applicationService.generateFollowupQuestions(APPLICATION_ID);
+
+        // Then
+        assertThat(fallbacks("llm_unavailable")).isEqualTo(1);
+        assertThat(meterRegistry.find("clue.template_questions.fallbacks").tag("reason", "timeout").counter())
+                .isNull();
+    }
+
+    // =========================================================
+    // helper
+    // =========================================================
+
+    private double fallbacks(String reason) {
+        Counter counter = meterRegistry.find("clue.template_questions.fallbacks").tag("reason", reason).counter();
+        assertThat(counter).isNotNull();
+        return counter.count();
+    }
+}
@@ -0,0 +1,277 @@
+package com.khuda.khuda_clue_api.service;
+
+import com.khuda.khuda_clue_api.domain.QuestionType;
+import com.khuda.khuda_clue_api.entity.FollowupAnswer;
+import com.khuda.khuda_clue_api.entity.FollowupQuestion;
+import com.khuda.khuda_clue_api.llm.LlmClient;
+import com.khuda.khuda_clue_api.llm.LlmOperation;
+import com.khuda.khuda_clue_api.llm.LlmTimeoutException;
+import com.khuda.khuda_clue_api.llm.TokenEstimator;
+import com.khuda.khuda_clue_api.prompt.PromptTemplates;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatGptServiceTest {
+
+    private static final String COVER_LETTER = "팀 프로젝트에서 백엔드를 맡아 처리 시간을 30% 줄였습니다.";
+
+    private static final String OTHER_COVER_LETTER = "카페 아르바이트에서 재고 관리표를 만들어 폐기율을 절반으로 줄였습니다.";
+
+    private LlmClient llmClient;
+    private PromptTemplates promptTemplates;
+    private ChatGptService chatGptService;
+
+    @BeforeEach
+    void setUp() {
+        llmClient = Mockito.mock(LlmClient.class);
+        promptTemplates = new PromptTemplates();
+        chatGptService = new ChatGptService(llmClient, promptTemplates);
+    }
+
+    // =========================================================
+    // STAR 질문 스트리밍
+    // =========================================================
+
+    @Test
+    @DisplayName("스트리밍 중 알 수 없는 유형의 원소는 건너뛰고 나머지 질문을 계속 전달한다")
+    void streamFollowupQuestions_withUnknownType_shouldSkipElementAndContinue() {
+        // Given - 청크 경계가 원소 중간에 걸친 응답
+        givenStream(
+                "```json\n[{\"type\": \"S\", \"questionText\": \"상황\"}, {\"type\": \"X\", \"quest",
+                "ionText\": \"잘못된 유형\"}, {\"type\": \"T\", \"questionText\": \"과제\"},",
+                " {\"type\": \"A\", \"questionText\": \"행동\"}, {\"type\": \"R\", \"questionText\": \"결과\"}]\n```");
+        List<FollowupQuestion> streamed = new ArrayList<>();
+
+        // When
+        List<FollowupQuestion> questions = chatGptService.streamFollowupQuestions(1L, "경험", COVER_LETTER, streamed::add);
+
+        // Then
+        assertThat(questions).extracting(FollowupQuestion::getType)
+                .containsExactly(QuestionType.S, QuestionType.T, QuestionType.A, QuestionType.R);
+        assertThat(streamed).containsExactlyElementsOf(questions);
+    }
+
+    @Test
+    @DisplayName("스트리밍으로 받은 질문이 S/T/A/R 4유형을 갖추지 못하면 대체하지 않고 500을 던진다")
+    void streamFollowupQuestions_withMissingStarType_shouldThrowInsteadOfReturningEmpty() {
+        // Given - R 유형 누락
+        givenStream("[{\"type\": \"S\", \"questionText\": \"상황\"}, {\"type\": \"T\", \"questionText\": \"과제\"},"
+                + " {\"type\": \"A\", \"questionText\": \"행동\"}]");
+        List<FollowupQuestion> streamed = new ArrayList<>();
+
+        // When & Then
+        assertThatThrownBy(() -> chatGptService.streamFollowupQuestions(1L, "경험", COVER_LETTER, streamed::add))
+                .isInstanceOfSatisfying(ResponseStatusException.class, e ->
+                        assertThat(e.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR));
+        assertThat(streamed).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("질문을 전달한 뒤 스트림이 실패하면 빈 목록 대신 500을 던진다")
+    void streamFollowupQuestions_whenStreamFailsAfterQuestions_shouldThrow() {
+        // Given
+        Mockito.when(llmClient.stream(Mockito.eq(LlmOperation.FOLLOWUP_QUESTIONS), Mockito.any(Prompt.class)))
+                .thenReturn(Flux.concat(
+                        Flux.just("[{\"type\": \"S\", \"questionText\": \"상황\"},"),
+                        Flux.error(new IllegalStateException("connection reset"))));
+
+        // When & Then
+        assertThatThrownBy(() -> chatGptService.streamFollowupQuestions(1L, "경험", COVER_LETTER, question -> { }))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    @DisplayName("질문을 하나도 전달하지 못한 스트림은 빈 목록을 반환해 템플릿 대체 대상이 된다")
+    void streamFollowupQuestions_withNoValidElement_shouldReturnEmpty() {
+        // Given
+        givenStream("죄송합니다. 질문을 생성할 수 없습니다.");
+        List<FollowupQuestion> streamed = new ArrayList<>();
+
+        // When
+        List<FollowupQuestion> questions = chatGptService.streamFollowupQuestions(1L, "경험", COVER_LETTER, streamed::add);
+
+        // Then
+        assertThat(questions).isEmpty();
+        assertThat(streamed).isEmpty();
+    }
+
+    // =========================================================
+    // 타임아웃 전달
+    // =========================================================
+
+    @Test
+    @DisplayName("마지막 모델 프로파일까지 타임아웃이면 경험 추출은 빈 목록 대신 504를 던진다")
+    void extractExperiences_whenLlmTimesOut_shouldThrowGatewayTimeout() {
+        // Given
+        givenTimeout(LlmOperation.EXPERIENCE_EXTRACTION);
+
+        // When & Then
+        assertGatewayTimeout(() -> chatGptService.extractExperiences(1L, COVER_LETTER));
+    }
+
+    @Test
+    @DisplayName("마지막 모델 프로파일까지 타임아웃이면 STAR 질문 생성은 빈 목록 대신 504를 던진다")
+    void generateFollowupQuestions_whenLlmTimesOut_shouldThrowGatewayTimeout() {
+        // Given
+        givenTimeout(LlmOperation.FOLLOWUP_QUESTIONS);
+
+        // When & Then
+        assertGatewayTimeout(() -> chatGptService.generateFollowupQuestions(1L, "경험", COVER_LETTER));
+    }
+
+    @Test
+    @DisplayName("마지막 모델 프로파일까지 타임아웃이면 면접 추천 생성·재생성은 빈 목록 대신 504를 던진다")
+    void interviewRecommendations_whenLlmTimesOut_shouldThrowGatewayTimeout() {
+        // Given
+        givenTimeout(LlmOperation.INTERVIEW_RECOMMENDATIONS);
+        List<FollowupQuestion> questions = List.of(new FollowupQuestion(1L, QuestionType.S, "상황 질문"));
+
+        // When & Then
+        assertGatewayTimeout(() -> chatGptService.generateInterviewRecommendations(
+                1L, COVER_LETTER, questions, List.of()));
+        assertGatewayTimeout(() -> chatGptService.regenerateInterviewRecommendations(
+                1L, COVER_LETTER, questions, List.of()));
+    }
+
+    private void givenTimeout(LlmOperation operation) {
+        LlmTimeoutException timeout = new LlmTimeoutException("LLM " + operation.tag() + " profile strong timed out");
+        Mockito.when(llmClient.call(Mockito.eq(operation), Mockito.anyString(), Mockito.any(Prompt.class), Mockito.any()))
+                .thenThrow(timeout);
+        Mockito.when(llmClient.callFresh(Mockito.eq(operation), Mockito.anyString(), Mockito.any(Prompt.class), Mockito.any()))
+                .thenThrow(timeout);
+    }
+
+    private static void assertGatewayTimeout(ThrowingCallable call) {
+        assertThatThrownBy(call)
+                .isInstanceOfSatisfying(ResponseStatusException.class, e ->
+                        assertThat(e.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT));
+    }
+
+    // =========================================================
+    // 프롬프트 접두 구성 (공급자 접두 캐시)
+    // =========================================================
+
+    @Test
+    @DisplayName("경험 추출 프롬프트는 정적 시스템 메시지가 먼저 오고, 자소서는 마지막 사용자 메시지에만 담긴다")
+    void extractExperiences_shouldPutStaticContentBeforeCoverLetter() {
+        // Given
+        givenEmptyResponses();
+
+        // When
+        chatGptService.extractExperiences(1L, COVER_LETTER);
+        chatGptService.extractExperiences(2L, OTHER_COVER_LETTER);
+
+        // Then
+        List<Prompt> prompts = capturedPrompts(LlmOperation.EXPERIENCE_EXTRACTION, 2);
+        assertStablePrefix(prompts, COVER_LETTER, OTHER_COVER_LETTER);
+        assertThat(userText(prompts.get(0))).isEqualTo(promptTemplates.experienceUserPrompt(COVER_LETTER));
+        assertThat(userText(prompts.get(1))).isEqualTo(promptTemplates.experienceUserPrompt(OTHER_COVER_LETTER));
+        // 1-shot 예시를 포함한 고정 접두가 OpenAI 접두 캐시 최소 길이(1,024토큰)를 넘는다
+        assertThat(TokenEstimator.estimate(systemText(prompts.get(0)))).isGreaterThanOrEqualTo(1024);
+    }
+
+    @Test
+    @DisplayName("STAR 질문 프롬프트는 동기·스트리밍 모두 같은 시스템 메시지를 접두로 쓰고, 경험 제목과 자소서는 사용자 메시지에만 담긴다")
+    void followupQuestions_shouldShareStaticPrefixAcrossCallAndStream() {
+        // Given
+        givenEmptyResponses();
+        Mockito.when(llmClient.stream(Mockito.eq(LlmOperation.FOLLOWUP_QUESTIONS), Mockito.any(Prompt.class)))
+                .thenReturn(Flux.empty());
+
+        // When
+        chatGptService.generateFollowupQuestions(1L, "백엔드 개발", COVER_LETTER);
+        chatGptService.streamFollowupQuestions(2L, "재고 관리", OTHER_COVER_LETTER, question -> { });
+
+        // Then
+        Prompt called = capturedPrompts(LlmOperation.FOLLOWUP_QUESTIONS, 1).get(0);
+        ArgumentCaptor<Prompt> streamed = ArgumentCaptor.forClass(Prompt.class);
+        Mockito.verify(llmClient).stream(Mockito.eq(LlmOperation.FOLLOWUP_QUESTIONS), streamed.capture());
+        assertStablePrefix(List.of(called, streamed.getValue()), COVER_LETTER, OTHER_COVER_LETTER);
+        assertThat(systemText(called)).doesNotContain("백엔드 개발", "재고 관리");
+        assertThat(userText(called)).isEqualTo(promptTemplates.questionUserPrompt("백엔드 개발", COVER_LETTER));
+    }
+
+    @Test
+    @DisplayName("면접 추천 프롬프트는 생성·재생성 모두 같은 시스템 메시지를 접두로 쓰고, STAR Q&A는 사용자 메시지에만 담긴다")
+    void interviewRecommendations_shouldPutStarQnaAfterStaticPrefix() {
+        // Given
+        givenEmptyResponses();
+        FollowupQuestion question = new FollowupQuestion(10L, QuestionType.R, "폐기율은 어떻게 측정했나요?");
+        ReflectionTestUtils.setField(question, "id", 100L);
+        FollowupAnswer answer = new FollowupAnswer(100L, "주간 폐기 수량을 입고 수량으로 나눴습니다.",
+                LocalDateTime.now(), LocalDateTime.now());
+
+        // When
+        chatGptService.generateInterviewRecommendations(1L, COVER_LETTER, List.of(question), List.of(answer));
+        chatGptService.regenerateInterviewRecommendations(2L, OTHER_COVER_LETTER, List.of(question), List.of(answer));
+
+        // Then
+        ArgumentCaptor<Prompt> regenerated = ArgumentCaptor.forClass(Prompt.class);
+        Mockito.verify(llmClient).callFresh(Mockito.eq(LlmOperation.INTERVIEW_RECOMMENDATIONS), Mockito.anyString(),
+                regenerated.capture(), Mockito.any());
+        Prompt generated = capturedPrompts(LlmOperation.INTERVIEW_RECOMMENDATIONS, 1).get(0);
+        assertStablePrefix(List.of(generated, regenerated.getValue()), COVER_LETTER, OTHER_COVER_LETTER);
+        assertThat(systemText(generated)).doesNotContain("폐기율은 어떻게 측정했나요?", "주간 폐기 수량");
+        assertThat(userText(generated)).endsWith("답변: 주간 폐기 수량을 입고 수량으로 나눴습니다.\n");
+    }
+
+    private void givenEmptyResponses() {
+        Mockito.when(llmClient.call(Mockito.any(LlmOperation.class), Mockito.anyString(), Mockito.any(Prompt.class), Mockito.any()))
+                .thenReturn(List.of());
+        Mockito.when(llmClient.callFresh(Mockito.any(LlmOperation.class), Mockito.anyString(), Mockito.any(Prompt.class), Mockito.any()))
+                .thenReturn(List.of());
+    }
+
+    private List<Prompt> capturedPrompts(LlmOperation operation, int times) {
+        ArgumentCaptor<Prompt> captor = ArgumentCaptor.forClass(Prompt.class);
+        Mockito.verify(llmClient, Mockito.times(times))
+                .call(Mockito.eq(operation), Mockito.anyString(), captor.capture(), Mockito.any());
+        return captor.getAllValues();
+    }
+
+    /**
+     * 시스템 메시지 → 사용자 메시지 순서이고, 입력이 달라도 시스템 메시지(고정 접두)는 글자 단위로 같으며 요청별 값을 담지 않는다.
+     */
+    private static void assertStablePrefix(List<Prompt> prompts, String... requestValues) {
+        for (Prompt prompt : prompts) {
+            assertThat(prompt.getInstructions()).extracting(Message::getMessageType)
+                    .containsExactly(MessageType.SYSTEM, MessageType.USER);
+            assertThat(systemText(prompt)).isEqualTo(systemText(prompts.get(0)));
+            assertThat(systemText(prompt)).doesNotContain(requestValues);
+        }
+        for (int i = 0; i < prompts.size(); i++) {
+            assertThat(userText(prompts.get(i))).contains(requestValues[i]);
+        }
+    }
+
+    private static String systemText(Prompt prompt) {
+        return prompt.getInstructions().get(0).getText();
+    }
+
+    private static String userText(Prompt prompt) {
+        return prompt.getInstructions().get(1).getText();
+    }
+
+    private void givenStream(String... chunks) {
+        Mockito.when(llmClient.stream(Mockito.eq(LlmOperation.FOLLOWUP_QUESTIONS), Mockito.any(Prompt.class)))
+                .thenReturn(Flux.just(chunks));
+    }
+}
@@ -0,0 +1,111 @@
+package com.khuda.khuda_clue_api.service;
+
+import com.khuda.khuda_clue_api.config.HeuristicExtractionProperties;
+import com.khuda.khuda_clue_api.entity.Experience;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * STAR 단서 기반 로컬 경험 추출 (clue.heuristic-extraction.enabled=true)
+ */
+class HeuristicExperienceExtractionServiceTest {
+
+    private static final Long APPLICATION_ID = 1L;
+
+    private static final String MARKETING_STORY =
+            "대학 시절 마케팅 동아리에서 신입 모집 문제를 맡았습니다. "
+                    + "SNS 채널을 분석하고 홍보 영상을 기획해 제작했습니다. "
+                    + "그 결과 지원자가 40% 증가했습니다.";
+    private static final String CAFE_STORY =
+            "카페 아르바이트 당시 재고 관리가 어려움이었습니다. "
+                    + "발주 기준을 설계하고 체크리스트를 도입했습니다. "
+                    + "폐기량을 월 20% 절감했습니다.";
+    private static final String COVER_LETTER =
+            "저는 취미로 요리를 좋아합니다. "
+                    + MARKETING_STORY
+                    + "\n주말에는 산책을 합니다. 강아지와 함께 공원을 걷습니다. 날씨가 좋으면 오래 머뭅니다. 저녁에는 책을 읽습니다. "
+                    + CAFE_STORY;
+
+    @Test
+    @DisplayName("STAR 단서가 모인 문장 구간을 원문 오프셋 그대로 추출한다")
+    void extractExperiences_shouldReturnStarWindowsWithSourceOffsets() {
+        // Given
+        HeuristicExperienceExtractionService service = service(3);
+
+        // When
+        List<Experience> experiences = service.extractExperiences(APPLICATION_ID, COVER_LETTER);
+
+        // Then
+        assertThat(experiences).hasSize(2);
+        assertThat(slice(experiences.get(0))).isEqualTo(MARKETING_STORY);
+        assertThat(slice(experiences.get(1))).isEqualTo(CAFE_STORY);
+        assertThat(experiences.get(0).getTitle()).isEqualTo("대학 시절 마케팅 동아리에서 신입 모집 문제를 맡았습니다.");
+    }
+
+    @Test
+    @DisplayName("추출 결과는 rankScore 내림차순이며 구간끼리 겹치지 않는다")
+    void extractExperiences_shouldReturnNonOverlappingWindowsByDescendingScore() {
+        // Given
+        HeuristicExperienceExtractionService service = service(3);
+
+        // When
+        List<Experience> experiences = service.extractExperiences(APPLICATION_ID, COVER_LETTER);
+
+        // Then
+        assertThat(experiences)
+                .extracting(Experience::getRankScore)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+        for (int i = 0; i < experiences.size(); i++) {
+            for (int j = i + 1; j < experiences.size(); j++) {
+                Experience a = experiences.get(i);
+                Experience b = experiences.get(j);
+                assertThat(a.getEndIdx() <= b.getStartIdx() || b.getEndIdx() <= a.getStartIdx())
+                        .as("window %d [%d,%d) overlaps window %d [%d,%d)",
+                                i, a.getStartIdx(), a.getEndIdx(), j, b.getStartIdx(), b.getEndIdx())
+                        .isTrue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("maxResults를 넘는 후보는 점수가 높은 순으로 잘린다")
+    void extractExperiences_shouldCapResultsAtMaxResults() {
+        // Given
+        HeuristicExperienceExtractionService service = service(1);
+
+        // When
+        List<Experience> experiences = service.extractExperiences(APPLICATION_ID, COVER_LETTER);
+
+        // Then
+        assertThat(experiences).hasSize(1);
+        assertThat(slice(experiences.get(0))).isEqualTo(MARKETING_STORY);
+    }
+
+    @Test
+    @DisplayName("빈 본문이나 STAR 단서가 없는 본문은 빈 목록을 반환한다")
+    void extractExperiences_whenBlankOrCueFree_shouldReturnEmpty() {
+        // Given
+        HeuristicExperienceExtractionService service = service(3);
+
+        // When & Then
+        assertThat(service.extractExperiences(APPLICATION_ID, null)).isEmpty();
+        assertThat(service.extractExperiences(APPLICATION_ID, "   \n ")).isEmpty();
+        assertThat(service.extractExperiences(APPLICATION_ID,
+                "저는 취미로 요리를 좋아합니다. 주말에는 산책을 합니다. 저녁에는 책을 읽습니다.")).isEmpty();
+    }
+
+    private static HeuristicExperienceExtractionService service(int maxResults) {
+        return new HeuristicExperienceExtractionService(
+                new HeuristicExtractionProperties(true, true, 2, 5, maxResults), new SimpleMeterRegistry());
+    }
+
+    private static String slice(Experience experience) {
+        return COVER_LETTER.substring(experience.getStartIdx(), experience.getEndIdx());
+    }
+}
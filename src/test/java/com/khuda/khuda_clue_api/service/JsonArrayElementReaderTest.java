@@ -0,0 +1,125 @@
+package com.khuda.khuda_clue_api.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonArrayElementReaderTest {
+
+    private JsonArrayElementReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new JsonArrayElementReader(new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("코드펜스와 앞뒤 설명 문장이 섞여 있어도 첫 JSON 배열의 원소를 읽는다")
+    void readElements_withProseAndCodeFence_shouldReadFirstArray() {
+        // Given
+        String content = """
+                다음은 추출한 경험입니다.
+                ```json
+                [
+                  {"title": "백엔드 개발", "startIdx": 0, "endIdx": 12, "rankScore": 0.9},
+                  {"title": "동아리 운영", "startIdx": 20, "endIdx": 41, "rankScore": 0.7}
+                ]
+                ```
+                추가 설명이 필요하면 말씀해 주세요.
+                """;
+
+        // When
+        List<Item> items = reader.readElements(content, Item.class);
+
+        // Then
+        assertThat(items).extracting(item -> item.title).containsExactly("백엔드 개발", "동아리 운영");
+        assertThat(items).extracting(item -> item.endIdx).containsExactly(12, 41);
+    }
+
+    @Test
+    @DisplayName("원소를 읽지 못한 '['([참고], [1] 등)는 건너뛰고 다음 '['에서 다시 시도한다")
+    void readElements_withBracketedProse_shouldRetryNextBracket() {
+        // Given
+        String content = "[참고] 인덱스는 0부터 셉니다. [1] 번 형식을 따릅니다.\n"
+                + "[{\"title\": \"경험\", \"startIdx\": 3, \"endIdx\": 9}]";
+
+        // When
+        List<Item> items = reader.readElements(content, Item.class);
+
+        // Then
+        assertThat(items).extracting(item -> item.title).containsExactly("경험");
+    }
+
+    @Test
+    @DisplayName("타입이 맞지 않는 원소만 그 원소 끝까지 건너뛰고 나머지 원소는 계속 읽는다")
+    void readElements_withMistypedElements_shouldSkipOnlyThoseElements() {
+        // Given
+        String content = """
+                [
+                  {"title": "첫째", "startIdx": 1, "endIdx": 2},
+                  {"title": "숫자 아님", "startIdx": "처음", "endIdx": 5},
+                  {"title": {"nested": [1, {"deep": true}]}, "startIdx": 3, "endIdx": 4},
+                  "문자열 원소",
+                  {"title": "넷째", "startIdx": 7, "endIdx": 8}
+                ]
+                """;
+
+        // When
+        List<Item> items = reader.readElements(content, Item.class);
+
+        // Then
+        assertThat(items).extracting(item -> item.title).containsExactly("첫째", "넷째");
+    }
+
+    @Test
+    @DisplayName("응답이 배열 중간에서 잘리면 그 앞까지 완성된 원소만 반환한다")
+    void readElements_withTruncatedArray_shouldKeepCompleteElements() {
+        // Given
+        String truncatedInElement = "```json\n[{\"title\": \"a\", \"startIdx\": 0, \"endIdx\": 1}, "
+                + "{\"title\": \"b\", \"startIdx\": 2, \"endIdx\": 3}, {\"title\": \"c\", \"sta";
+        String truncatedAfterComma = "[\"질문 1\", \"질문 2\",";
+
+        // When
+        List<Item> items = reader.readElements(truncatedInElement, Item.class);
+        List<String> strings = reader.readElements(truncatedAfterComma, String.class);
+
+        // Then
+        assertThat(items).extracting(item -> item.title).containsExactly("a", "b");
+        assertThat(strings).containsExactly("질문 1", "질문 2");
+    }
+
+    @Test
+    @DisplayName("배열이 없거나 응답이 null이면 빈 목록을 반환한다")
+    void readElements_withoutArray_shouldReturnEmpty() {
+        // When & Then
+        assertThat(reader.readElements(null, Item.class)).isEmpty();
+        assertThat(reader.readElements("죄송합니다. 요청을 처리할 수 없습니다.", Item.class)).isEmpty();
+        assertThat(reader.readElements("[]", String.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스트리밍 원소 1개는 같은 판독기로 바인딩하고, 실패하면 IllegalStateException을 던진다")
+    void readElement_shouldBindSingleElement() {
+        // When
+        Item item = reader.readElement("{\"title\": \"경험\", \"startIdx\": 1, \"endIdx\": 2, \"extra\": 0}", Item.class);
+
+        // Then
+        assertThat(item.title).isEqualTo("경험");
+        assertThatThrownBy(() -> reader.readElement("{\"title\": ", Item.class))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class Item {
+        public String title;
+        public int startIdx;
+        public int endIdx;
+    }
+}
@@ -0,0 +1,87 @@
+package com.khuda.khuda_clue_api.similarity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.khuda.khuda_clue_api.similarity.SimilarityFixtures.COVER_LETTER;
+import static com.khuda.khuda_clue_api.similarity.SimilarityFixtures.UNRELATED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimHashIndexTest {
+
+    private static final int MAX_DISTANCE = 3;
+
+    @Test
+    @DisplayName("같은 문서와 일부만 고친 문서는 후보로 찾고, 자기 자신은 제외한다")
+    void query_shouldFindIdenticalAndEditedDocuments() {
+        // Given
+        SimHashIndex index = new SimHashIndex(100);
+        index.add(1L, SimHash.fingerprint(COVER_LETTER));
+        index.add(2L, SimHash.fingerprint(COVER_LETTER.replace("500건", "600건")));
+        index.add(3L, SimHash.fingerprint(UNRELATED));
+
+        // When
+        List<SimHashIndex.Match> matches = index.query(SimHash.fingerprint(COVER_LETTER), MAX_DISTANCE, 99L, 10);
+        List<SimHashIndex.Match> withoutSelf = index.query(SimHash.fingerprint(COVER_LETTER), MAX_DISTANCE, 1L, 10);
+
+        // Then - 해밍 거리 오름차순
+        assertThat(matches).extracting(SimHashIndex.Match::applicationId).containsExactly(1L, 2L);
+        assertThat(matches.get(0).distance()).isZero();
+        assertThat(withoutSelf).extracting(SimHashIndex.Match::applicationId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("같은 밴드를 공유해도 해밍 거리가 임계를 넘으면 후보에서 제외한다")
+    void query_withDistanceOverThreshold_shouldMiss() {
+        // Given - 첫 밴드 안에서 4비트만 다른 지문 (나머지 밴드는 같아 같은 버킷에서 만남)
+        long fingerprint = SimHash.fingerprint(COVER_LETTER);
+        SimHashIndex index = new SimHashIndex(100);
+        index.add(1L, fingerprint ^ 0b1111L);
+
+        // When & Then
+        assertThat(index.query(fingerprint, MAX_DISTANCE, 99L, 10)).isEmpty();
+        assertThat(index.query(fingerprint, 4, 99L, 10))
+                .containsExactly(new SimHashIndex.Match(1L, 4));
+    }
+
+    @Test
+    @DisplayName("같은 id는 한 번만 기록하고, 후보 수는 limit으로 자른다")
+    void add_withDuplicateId_shouldBeIgnored() {
+        // Given
+        long fingerprint = SimHash.fingerprint(COVER_LETTER);
+        SimHashIndex index = new SimHashIndex(100);
+
+        // When
+        boolean first = index.add(1L, fingerprint);
+        boolean duplicate = index.add(1L, fingerprint);
+        index.add(2L, fingerprint);
+        index.add(3L, fingerprint);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(duplicate).isFalse();
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.query(fingerprint, MAX_DISTANCE, 99L, 2)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래된 엔트리를 버킷에서도 제거한다")
+    void add_overCapacity_shouldEvictOldestEntry() {
+        // Given
+        long fingerprint = SimHash.fingerprint(COVER_LETTER);
+        SimHashIndex index = new SimHashIndex(2);
+
+        // When
+        index.add(1L, fingerprint);
+        index.add(2L, fingerprint);
+        index.add(3L, fingerprint);
+
+        // Then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.query(fingerprint, MAX_DISTANCE, 99L, 10))
+                .extracting(SimHashIndex.Match::applicationId)
+                .containsExactlyInAnyOrder(2L, 3L);
+    }
+}
@@ -0,0 +1,60 @@
+package com.khuda.khuda_clue_api.similarity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.khuda.khuda_clue_api.similarity.SimilarityFixtures.COVER_LETTER;
+import static com.khuda.khuda_clue_api.similarity.SimilarityFixtures.UNRELATED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimHashTest {
+
+    @Test
+    @DisplayName("공백·문장부호·대소문자만 다른 문서는 같은 지문과 자카드 1.0을 갖는다")
+    void fingerprint_withFormattingOnlyDifferences_shouldBeIdentical() {
+        // Given
+        String reformatted = COVER_LETTER.replace(" ", "  ").replace(".", "!").replace("API", "api");
+
+        // When & Then
+        assertThat(SimHash.fingerprint(reformatted)).isEqualTo(SimHash.fingerprint(COVER_LETTER));
+        assertThat(SimHash.jaccard(SimHash.shingles(COVER_LETTER), SimHash.shingles(reformatted))).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("일부만 고친 문서는 해밍 거리가 작고 자카드 유사도가 재사용 임계(0.9) 이상이다")
+    void fingerprint_withSmallEdit_shouldStayClose() {
+        // Given
+        String edited = COVER_LETTER.replace("500건", "600건");
+
+        // When
+        int distance = SimHash.distance(SimHash.fingerprint(COVER_LETTER), SimHash.fingerprint(edited));
+        double jaccard = SimHash.jaccard(SimHash.shingles(COVER_LETTER), SimHash.shingles(edited));
+
+        // Then
+        assertThat(distance).isBetween(1, 3);
+        assertThat(jaccard).isGreaterThanOrEqualTo(0.9).isLessThan(1.0);
+    }
+
+    @Test
+    @DisplayName("다른 내용의 문서는 해밍 거리가 크고 자카드 유사도가 임계에 한참 못 미친다")
+    void fingerprint_withUnrelatedText_shouldBeFar() {
+        // When
+        int distance = SimHash.distance(SimHash.fingerprint(COVER_LETTER), SimHash.fingerprint(UNRELATED));
+        double jaccard = SimHash.jaccard(SimHash.shingles(COVER_LETTER), SimHash.shingles(UNRELATED));
+
+        // Then
+        assertThat(distance).isGreaterThan(10);
+        assertThat(jaccard).isLessThan(0.1);
+    }
+
+    @Test
+    @DisplayName("shingle 집합은 정렬·중복 제거되어 반복 문구가 유사도를 부풀리지 않는다")
+    void shingles_shouldBeSortedAndDistinct() {
+        // When
+        long[] shingles = SimHash.shingles("가나다가나다가나다");
+
+        // Then - 가나다 / 나다가 / 다가나 3종
+        assertThat(shingles).hasSize(3).isSorted();
+        assertThat(SimHash.jaccard(shingles, SimHash.shingles("가나다가나다"))).isEqualTo(1.0);
+    }
+}
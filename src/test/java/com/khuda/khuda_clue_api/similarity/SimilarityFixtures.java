@@ -0,0 +1,19 @@
+package com.khuda.khuda_clue_api.similarity;
+
+/**
+ * 유사도 테스트 공용 자소서 문장
+ */
+final class SimilarityFixtures {
+
+    static final String COVER_LETTER = "대학 동아리에서 백엔드 개발을 맡아 주문 API 응답 시간을 1.2초에서 300ms로 줄였습니다. "
+            + "캐시 계층을 도입하고 N+1 쿼리를 제거했으며, 부하 테스트로 초당 500건 처리를 검증했습니다. "
+            + "이 경험으로 병목을 수치로 찾는 습관을 얻었습니다.";
+
+    static final String EXPERIENCE = "캐시 계층을 도입하고 N+1 쿼리를 제거했으며, 부하 테스트로 초당 500건 처리를 검증했습니다.";
+
+    static final String UNRELATED = "해외 봉사활동에서 현지 아이들에게 코딩을 가르치며 교육 자료를 직접 만들었고, "
+            + "수업 만족도 설문에서 4.8점을 받았습니다.";
+
+    private SimilarityFixtures() {
+    }
+}
@@ -0,0 +1,73 @@
+package com.khuda.khuda_clue_api.similarity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.khuda.khuda_clue_api.similarity.SimilarityFixtures.COVER_LETTER;
+import static com.khuda.khuda_clue_api.similarity.SimilarityFixtures.EXPERIENCE;
+import static com.khuda.khuda_clue_api.similarity.SimilarityFixtures.UNRELATED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpanAlignerTest {
+
+    private static final int START = COVER_LETTER.indexOf(EXPERIENCE);
+    private static final int END = START + EXPERIENCE.length();
+
+    @Test
+    @DisplayName("같은 자소서에서는 원래 구간을 그대로 돌려준다")
+    void align_withIdenticalText_shouldKeepSpan() {
+        // When
+        Optional<SpanAligner.Span> span = SpanAligner.align(COVER_LETTER, START, END, COVER_LETTER);
+
+        // Then
+        assertThat(span).contains(new SpanAligner.Span(START, END));
+    }
+
+    @Test
+    @DisplayName("앞에 문장이 추가된 자소서에서는 구간을 추가된 길이만큼 옮긴다")
+    void align_withShiftedText_shouldMoveSpan() {
+        // Given
+        String prefix = "[지원 동기 생략] ";
+
+        // When
+        Optional<SpanAligner.Span> span = SpanAligner.align(COVER_LETTER, START, END, prefix + COVER_LETTER);
+
+        // Then
+        assertThat(span).contains(new SpanAligner.Span(START + prefix.length(), END + prefix.length()));
+    }
+
+    @Test
+    @DisplayName("구간 중간이 조금 고쳐진 자소서에서는 앞/뒤 앵커로 새 구간을 찾는다")
+    void align_withEditInsideSpan_shouldUseAnchors() {
+        // Given - 구간 안에 "모두 " 3자 추가
+        String edited = COVER_LETTER.replace("제거했으며,", "모두 제거했으며,");
+
+        // When
+        Optional<SpanAligner.Span> span = SpanAligner.align(COVER_LETTER, START, END, edited);
+
+        // Then
+        assertThat(span).contains(new SpanAligner.Span(START, END + 3));
+        assertThat(edited.substring(START, END + 3)).isEqualTo(EXPERIENCE.replace("제거했으며,", "모두 제거했으며,"));
+    }
+
+    @Test
+    @DisplayName("앵커 사이에 긴 내용이 끼어들어 길이가 20% 넘게 달라지면 정렬하지 않는다")
+    void align_withLengthDriftOverLimit_shouldFail() {
+        // Given
+        String rewritten = COVER_LETTER.replace("제거했으며,",
+                "제거했으며, 이후 팀원들과 함께 모니터링 대시보드와 알림 규칙을 새로 설계하고 장애 대응 문서까지 정리해");
+
+        // When & Then
+        assertThat(SpanAligner.align(COVER_LETTER, START, END, rewritten)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구간 내용이 없는 자소서나 빈 구간은 정렬하지 않는다")
+    void align_withMissingContent_shouldFail() {
+        // When & Then
+        assertThat(SpanAligner.align(COVER_LETTER, START, END, UNRELATED)).isEmpty();
+        assertThat(SpanAligner.align(COVER_LETTER, START, START, COVER_LETTER)).isEmpty();
+    }
+}
@@ -0,0 +1,214 @@
+package com.khuda.khuda_clue_api.warmup;
+
+import com.khuda.khuda_clue_api.config.WarmupProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기동 워밍업 실행기 (stub 단계로 순서·실패 격리·메트릭·readiness 검증)
+ */
+class StartupWarmupTest {
+
+    private static final int ITERATIONS = 3;
+
+    private MeterRegistry meterRegistry;
+    private DefaultListableBeanFactory beanFactory;
+    private List<String> executed;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        beanFactory = new DefaultListableBeanFactory();
+        beanFactory.setDependencyComparator(AnnotationAwareOrderComparator.INSTANCE);
+        executed = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    @DisplayName("WarmupTask 빈을 등록 순서와 관계없이 order 순서대로 실행한다")
+    void run_shouldExecuteTasksInOrder() {
+        // Given - order 역순으로 등록
+        register(new StubTask("llm-transport", 30, null));
+        register(new StubTask("jpa", 20, null));
+        register(new StubTask("llm-parsers", 10, null));
+
+        // When
+        warmup(true).run(new DefaultApplicationArguments());
+
+        // Then
+        assertThat(executed).containsExactly("llm-parsers:" + ITERATIONS, "jpa:" + ITERATIONS,
+                "llm-transport:" + ITERATIONS);
+    }
+
+    @Test
+    @DisplayName("한 단계가 실패해도 예외를 전파하지 않고 다음 단계를 실행한다")
+    void run_whenStepFails_shouldContinueWithNextStep() {
+        // Given
+        register(new StubTask("llm-parsers", 10, null));
+        register(new StubTask("jpa", 20, new IllegalStateException("connection refused")));
+        register(new StubTask("llm-transport", 30, null));
+
+        // When
+        warmup(true).run(new DefaultApplicationArguments());
+
+        // Then
+        assertThat(executed).containsExactly("llm-parsers:" + ITERATIONS, "jpa:" + ITERATIONS,
+                "llm-transport:" + ITERATIONS);
+    }
+
+    @Test
+    @DisplayName("단계마다 clue.warmup.duration{step,outcome} 타이머를 1회 기록한다")
+    void run_shouldRecordDurationPerStepAndOutcome() {
+        // Given
+        register(new StubTask("llm-parsers", 10, null));
+        register(new StubTask("jpa", 20, new IllegalStateException("connection refused")));
+
+        // When
+        warmup(true).run(new DefaultApplicationArguments());
+
+        // Then
+        assertThat(timerCount("llm-parsers", "ok")).isEqualTo(1);
+        assertThat(timerCount("jpa", "failed")).isEqualTo(1);
+        assertThat(meterRegistry.find("clue.warmup.duration").tags("step", "jpa", "outcome", "ok").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 어떤 단계도 실행하지 않는다")
+    void run_whenDisabled_shouldSkipAllSteps() {
+        // Given
+        register(new StubTask("llm-parsers", 10, null));
+
+        // When
+        warmup(false).run(new DefaultApplicationArguments());
+
+        // Then
+        assertThat(executed).isEmpty();
+        assertThat(meterRegistry.find("clue.warmup.duration").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("워밍업이 끝날 때까지 readiness는 REFUSING_TRAFFIC(OUT_OF_SERVICE)이고, 끝난 뒤 ACCEPTING_TRAFFIC이 된다")
+    void run_shouldKeepReadinessRefusingTrafficUntilWarmupFinishes() {
+        // Given - 워밍업 단계 안에서 현재 readiness를 기록하는 최소 컨텍스트
+        ReadinessProbeConfig.observed.set(null);
+
+        // When
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ReadinessProbeConfig.class)
+                .web(WebApplicationType.NONE)
+                .run()) {
+
+            // Then
+            assertThat(ReadinessProbeConfig.observed.get()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+            assertThat(context.getBean(ApplicationAvailability.class).getReadinessState())
+                    .isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+        }
+    }
+
+    private StartupWarmup warmup(boolean enabled) {
+        WarmupProperties properties = properties(enabled);
+        return new StartupWarmup(properties, beanFactory.getBeanProvider(WarmupTask.class), meterRegistry);
+    }
+
+    private void register(StubTask task) {
+        beanFactory.registerSingleton(task.warmupName(), task);
+    }
+
+    private long timerCount(String step, String outcome) {
+        Timer timer = meterRegistry.find("clue.warmup.duration").tags("step", step, "outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private static WarmupProperties properties(boolean enabled) {
+        return new WarmupProperties(enabled, ITERATIONS, false, 1, Duration.ofSeconds(1), false);
+    }
+
+    private class StubTask implements WarmupTask, Ordered {
+
+        private final String name;
+        private final int order;
+        private final RuntimeException failure;
+
+        StubTask(String name, int order, RuntimeException failure) {
+            this.name = name;
+            this.order = order;
+            this.failure = failure;
+        }
+
+        @Override
+        public String warmupName() {
+            return name;
+        }
+
+        @Override
+        public void warmUp(int iterations) {
+            executed.add(name + ":" + iterations);
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class ReadinessProbeConfig {
+
+        static final AtomicReference<ReadinessState> observed = new AtomicReference<>();
+
+        @Bean
+        ApplicationAvailabilityBean applicationAvailability() {
+            return new ApplicationAvailabilityBean();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        WarmupTask readinessProbeTask(ApplicationAvailability availability) {
+            return new WarmupTask() {
+                @Override
+                public String warmupName() {
+                    return "readiness-probe";
+                }
+
+                @Override
+                public void warmUp(int iterations) {
+                    observed.set(availability.getReadinessState());
+                }
+            };
+        }
+
+        @Bean
+        StartupWarmup startupWarmup(ObjectProvider<WarmupTask> tasks, MeterRegistry meterRegistry) {
+            return new StartupWarmup(properties(true), tasks, meterRegistry);
+        }
+    }
+}